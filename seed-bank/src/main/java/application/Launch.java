@@ -1,14 +1,22 @@
 package application;
 
+import java.util.Arrays;
+
+import application.migration.DatabaseMigrator;
 import javafx.application.Application;
 
 
 /**
- * Launch pad for the application.
+ * Launch pad for the application. Launched with migrate as the first argument, copies the tables 
+ * between databases with the {@link DatabaseMigrator} instead.
  */
 public class Launch {
 
-    public static void main(final String[] args) {
+    public static void main(final String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals(DatabaseMigrator.COMMAND)) {
+            DatabaseMigrator.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Application.launch(Main.class, args);
     }
 }
\ No newline at end of file
@@ -1,23 +1,59 @@
 package application;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import application.startup.InitialDataLoader;
+import application.startup.SplashScreen;
+import application.startup.StartupTimings;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 
+/**
+ * The entry point of the application. Startup is pipelined so that a splash screen is shown at once: 
+ * the Spring context is booted on a background thread while the JavaFX classes used by the FXML are 
+ * loaded, then the FXML is loaded while the initial data is fetched, and finally the main window 
+ * replaces the splash screen. The tabs are enabled once the initial data arrives.
+ */
+@EnableScheduling
 @EnableTransactionManagement
 @SpringBootApplication
 public class Main extends Application {
 
-	private ConfigurableApplicationContext springContext;
-	private Parent rootNode;
+	/*
+	 * The JavaFX classes used by the FXML, initialised while the Spring context boots so that 
+	 * loading the FXML does not wait on the class loader.
+	 */
+	private static final String[] FXML_CLASSES = {
+			"javafx.fxml.FXMLLoader",
+			"javafx.scene.layout.AnchorPane", "javafx.scene.layout.GridPane", "javafx.scene.layout.HBox", 
+			"javafx.scene.layout.VBox", "javafx.scene.control.TabPane", "javafx.scene.control.Tab", 
+			"javafx.scene.control.TableView", "javafx.scene.control.TableColumn", "javafx.scene.control.ListView", 
+			"javafx.scene.control.ComboBox", "javafx.scene.control.DatePicker", "javafx.scene.control.TextField", 
+			"javafx.scene.control.TextArea", "javafx.scene.control.CheckBox", "javafx.scene.control.RadioButton", 
+			"javafx.scene.control.ButtonBar", "javafx.scene.control.ProgressIndicator" };
+
+	private final StartupTimings startupTimings = new StartupTimings();
+	private final Executor startupThread = task -> new Thread(task, "seedbank-startup").start();
+
+	private CompletableFuture<ConfigurableApplicationContext> springContext;
+
+	private Logger logger = LoggerFactory.getLogger(Main.class);
 
 	
 	public static void main(final String[] args) {
@@ -25,26 +61,93 @@ public class Main extends Application {
 	}
 
 	
+	/**
+	 * Starts booting the Spring context in the background, and initialises the JavaFX classes used 
+	 * by the FXML in the meantime. Returns without waiting for the context, so that the splash screen 
+	 * can be shown.
+	 */
 	@Override
 	public void init() throws Exception {
-		springContext = SpringApplication.run(Main.class);
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/Main.fxml"));
-		fxmlLoader.setControllerFactory(springContext::getBean);
-		rootNode = fxmlLoader.load();
+		springContext = CompletableFuture.supplyAsync(() -> startupTimings.time("spring", this::bootSpring), startupThread);
+		startupTimings.time("fxml classes", () -> {
+			initialiseFxmlClasses();
+			return null;
+		});
 	}
 
 	
+	/**
+	 * Shows the splash screen, then replaces it with the main window once the FXML has been loaded.
+	 */
 	@Override
 	public void start(Stage stage) throws Exception {
-		stage.setScene(new Scene(rootNode));
-		stage.setTitle("SeedBank");
-		stage.show();
+		SplashScreen splashScreen = new SplashScreen();
+		splashScreen.show();
+		startupTimings.mark("splash");
+		
+		springContext.thenApplyAsync(context -> {
+			Platform.runLater(() -> splashScreen.setStatus("Loading..."));
+			context.getBean(InitialDataLoader.class).load()
+					.whenComplete((data, failure) -> logger.info("{}", startupTimings));
+			return startupTimings.time("fxml", () -> loadFxml(context));
+		}, startupThread).whenCompleteAsync((rootNode, failure) -> {
+			splashScreen.close();
+			if (failure != null) {
+				logger.error("Failed to start SeedBank", failure);
+				Platform.exit();
+				return;
+			}
+			stage.setScene(new Scene(rootNode));
+			stage.setTitle("SeedBank");
+			stage.show();
+			startupTimings.mark("first window");
+		}, Platform::runLater);
 	}
 	
 
 	@Override
 	public void stop() throws Exception {
-		springContext.close();
+		springContext.thenAccept(ConfigurableApplicationContext::close);
+	}
+
+
+	/*
+	 * Private helper method to boot the Spring context, sharing the startup timings with its beans. 
+	 * The command line arguments are passed on, e.g. --spring.profiles.active=embedded.
+	 */
+	private ConfigurableApplicationContext bootSpring() {
+		SpringApplication application = new SpringApplication(Main.class);
+		application.addInitializers(context -> context.getBeanFactory().registerSingleton("startupTimings", startupTimings));
+		return application.run(getParameters().getRaw().toArray(new String[0]));
+	}
+
+
+	/*
+	 * Private helper method to load the main window, creating the controllers from the Spring context.
+	 * Nodes may be created away from the JavaFX Application Thread until they are added to a shown scene.
+	 */
+	private Parent loadFxml(ConfigurableApplicationContext context) {
+		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/Main.fxml"));
+		fxmlLoader.setControllerFactory(context::getBean);
+		try {
+			return fxmlLoader.load();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	/*
+	 * Private helper method to load and initialise the JavaFX classes used by the FXML.
+	 */
+	private void initialiseFxmlClasses() {
+		for (String className : FXML_CLASSES) {
+			try {
+				Class.forName(className, true, getClass().getClassLoader());
+			} catch (ClassNotFoundException e) {
+				logger.warn("Could not initialise {}", className);
+			}
+		}
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package application.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Runs CPU bound work, such as filtering a large catalog held in memory, away from both the JavaFX
+ * Application Thread and the {@link DatabaseExecutor}'s thread, so that it neither holds up the UI
+ * nor queues saves and queries behind it. The work must not use the database.
+ *
+ * Results are handed back to the UI with {@link DatabaseExecutor#onFxThread}, as for database work.
+ */
+@Component
+public class ComputeExecutor implements Executor {
+
+	private final Executor computeThreads;
+
+
+	/**
+	 * Creates the executor, with a pool of dedicated threads leaving one processor for the UI.
+	 */
+	@Autowired
+	public ComputeExecutor() {
+		this(newComputeThreads(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)));
+	}
+
+
+	/**
+	 * Creates the executor.
+	 * @param computeThreads The executor on which the work is run
+	 */
+	public ComputeExecutor(Executor computeThreads) {
+		this.computeThreads = computeThreads;
+	}
+
+
+	/**
+	 * Queues a task on the compute threads.
+	 * @param task The task
+	 */
+	@Override
+	public void execute(Runnable task) {
+		computeThreads.execute(task);
+	}
+
+
+	/**
+	 * Queues a computation on the compute threads.
+	 * @param computation The computation, e.g. matching a copy of the catalog against a filter
+	 * @return A future completed with the result of the computation
+	 */
+	public <T> CompletableFuture<T> supply(Supplier<T> computation) {
+		return CompletableFuture.supplyAsync(computation, computeThreads);
+	}
+
+
+	/**
+	 * Stops the compute threads once any queued work has finished.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if (computeThreads instanceof ExecutorService) {
+			((ExecutorService) computeThreads).shutdown();
+		}
+	}
+
+
+	/*
+	 * Private helper method to create the pool of daemon compute threads.
+	 */
+	private static ExecutorService newComputeThreads(int threads) {
+		AtomicInteger count = new AtomicInteger();
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "seedbank-compute-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+}
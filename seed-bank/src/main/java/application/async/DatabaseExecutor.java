@@ -0,0 +1,181 @@
+package application.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javafx.application.Platform;
+
+
+/**
+ * Runs database work away from the JavaFX Application Thread, so that the UI stays responsive 
+ * however slow the database is. Work is queued on a single dedicated thread, so saves are applied 
+ * in the order they were made, and the results are handed back on the JavaFX Application Thread.
+ *
+ * Controllers should call the services via {@link #supply(Supplier)} or {@link #run(Runnable)}, and 
+ * update the UI from the callbacks given to {@link #onFxThread(CompletableFuture, Consumer, Consumer)}.
+ *
+ * While a query or update runs, {@link #getCaller()} names the class which queued it, e.g. the 
+ * controller of a screen, so that the database work can be attributed to the screens causing it. 
+ * This holds for tasks queued through {@link #execute(Runnable)} as much as those queued through 
+ * {@link #supply(Supplier)} and {@link #run(Runnable)}.
+ */
+@Component
+public class DatabaseExecutor implements Executor {
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+	private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+	private static final String UNKNOWN_CALLER = "unknown";
+
+	private final Executor databaseThread;
+	private final Executor fxThread;
+
+	private Logger logger = LoggerFactory.getLogger(DatabaseExecutor.class);
+
+
+	/**
+	 * Creates the executor, with a dedicated database thread.
+	 */
+	@Autowired
+	public DatabaseExecutor() {
+		this(Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "seedbank-database");
+			thread.setDaemon(true);
+			return thread;
+		}), Platform::runLater);
+	}
+
+
+	/**
+	 * Creates the executor.
+	 * @param databaseThread The executor on which the database is queried and updated
+	 * @param fxThread The executor on which the results are handed back to the UI
+	 */
+	public DatabaseExecutor(Executor databaseThread, Executor fxThread) {
+		this.databaseThread = databaseThread;
+		this.fxThread = fxThread;
+	}
+
+
+	/**
+	 * Queues a task on the database thread.
+	 * @param task The task, e.g. a call to a service
+	 */
+	@Override
+	public void execute(Runnable task) {
+		databaseThread.execute(attributed(callerName(STACK_WALKER.getCallerClass()), task));
+	}
+
+
+	/**
+	 * Queues a query on the database thread.
+	 * @param query The query, e.g. a call to a service which loads something
+	 * @return A future completed with the result of the query
+	 */
+	public <T> CompletableFuture<T> supply(Supplier<T> query) {
+		String caller = callerName(STACK_WALKER.getCallerClass());
+		return CompletableFuture.supplyAsync(query, task -> databaseThread.execute(attributed(caller, task)));
+	}
+
+
+	/**
+	 * Queues an update on the database thread.
+	 * @param update The update, e.g. a call to a service which saves something
+	 * @return A future completed once the update has been made
+	 */
+	public CompletableFuture<Void> run(Runnable update) {
+		String caller = callerName(STACK_WALKER.getCallerClass());
+		return CompletableFuture.runAsync(update, task -> databaseThread.execute(attributed(caller, task)));
+	}
+
+
+	/**
+	 * Handles the outcome of a future on the JavaFX Application Thread.
+	 * @param future The future, e.g. from {@link #supply(Supplier)}
+	 * @param onSuccess Called with the result if the future completes normally
+	 * @param onFailure Called with the cause if the future fails, e.g. a ConstraintViolationException. 
+	 * If null, the failure is logged
+	 */
+	public <T> void onFxThread(CompletableFuture<T> future, Consumer<? super T> onSuccess, Consumer<Throwable> onFailure) {
+		future.whenCompleteAsync((result, failure) -> {
+			if (failure == null) {
+				onSuccess.accept(result);
+			} else {
+				Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+				if (onFailure != null) {
+					onFailure.accept(cause);
+				} else {
+					logger.error("Database task failed", cause);
+				}
+			}
+		}, fxThread);
+	}
+
+
+	/**
+	 * @return The executor which runs tasks on the JavaFX Application Thread
+	 */
+	public Executor getFxExecutor() {
+		return fxThread;
+	}
+
+
+	/**
+	 * @return The simple name of the class which queued the query or update running on this thread, 
+	 * e.g. SowNewController, or "unknown" if the work was not queued on this executor
+	 */
+	public static String getCaller() {
+		String caller = CALLER.get();
+		return caller != null ? caller : UNKNOWN_CALLER;
+	}
+
+
+	/*
+	 * Private helper method to wrap a task so that the class which queued it is known while it runs.
+	 */
+	private static Runnable attributed(String caller, Runnable task) {
+		return () -> {
+			CALLER.set(caller);
+			try {
+				task.run();
+			} finally {
+				CALLER.remove();
+			}
+		};
+	}
+
+
+	/*
+	 * Private helper method to name the class queuing a task. Lambdas are named after the class they 
+	 * are declared in, and anonymous classes after the class enclosing them.
+	 */
+	private static String callerName(Class<?> caller) {
+		while (caller.isAnonymousClass() && caller.getEnclosingClass() != null) {
+			caller = caller.getEnclosingClass();
+		}
+		return caller.getSimpleName();
+	}
+
+
+	/**
+	 * Stops the database thread once any queued work has finished.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if (databaseThread instanceof ExecutorService) {
+			((ExecutorService) databaseThread).shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+package application.cache;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import application.manufacturer.Manufacturer;
+import application.manufacturer.ManufacturerRepository;
+import application.type.Type;
+import application.type.TypeRepository;
+
+
+/**
+ * Gives access to the regions of the Hibernate second-level and query caches which hold the 
+ * reference data, i.e. the {@link Type}s and {@link Manufacturer}s. Allows the regions to be evicted 
+ * when the reference data is saved, and their hit, miss and put counts to be read at runtime.
+ */
+@Component
+public class ReferenceDataCache {
+
+	private static final String[] REGIONS = { 
+			Type.CACHE_REGION, TypeRepository.FIND_ALL_CACHE_REGION, 
+			Manufacturer.CACHE_REGION, ManufacturerRepository.FIND_ALL_CACHE_REGION };
+
+	@Autowired private EntityManagerFactory entityManagerFactory;
+
+
+	/**
+	 * Evicts the cached entities of the specified class, and the cached query results in the region.
+	 * @param entityClass The class of entity, e.g. Type
+	 * @param queryRegion The query cache region, e.g. TypeRepository.FIND_ALL_CACHE_REGION
+	 */
+	public void evict(Class<?> entityClass, String queryRegion) {
+		org.hibernate.Cache cache = getSessionFactory().getCache();
+		cache.evictEntityData(entityClass);
+		cache.evictQueryRegion(queryRegion);
+	}
+
+
+	/**
+	 * Gets the statistics for a region of the second-level or query cache.
+	 * @param region The name of the region, e.g. Type.CACHE_REGION
+	 * @return The statistics, or null if the region has not yet been used or statistics are not being gathered
+	 */
+	public CacheRegionStatistics getStatistics(String region) {
+		Statistics statistics = getSessionFactory().getStatistics();
+		if (!statistics.isStatisticsEnabled()) {
+			return null;
+		}
+		try {
+			CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+			return regionStatistics != null ? regionStatistics : statistics.getQueryRegionStatistics(region);
+		} catch (IllegalArgumentException e) {
+			return null; // Query regions are only created when first used
+		}
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("ReferenceDataCache [");
+		for (int i = 0; i < REGIONS.length; i++) {
+			CacheRegionStatistics statistics = getStatistics(REGIONS[i]);
+			builder.append(i > 0 ? ", " : "").append(REGIONS[i]).append("=");
+			if (statistics != null) {
+				builder.append("[hits=").append(statistics.getHitCount())
+						.append(", misses=").append(statistics.getMissCount())
+						.append(", puts=").append(statistics.getPutCount()).append("]");
+			} else {
+				builder.append("n/a");
+			}
+		}
+		return builder.append("]").toString();
+	}
+
+
+	/*
+	 * Private helper method to get the Hibernate session factory underlying the entity manager factory.
+	 */
+	private SessionFactory getSessionFactory() {
+		return entityManagerFactory.unwrap(SessionFactory.class);
+	}
+
+}
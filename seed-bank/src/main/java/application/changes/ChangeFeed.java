@@ -0,0 +1,222 @@
+package application.changes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import application.async.DatabaseExecutor;
+import application.clock.ClockService;
+import application.events.BulkChangeEvent;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
+import application.events.Identifiable;
+
+
+/**
+ * Shares changes between the clients of a database, so that each client sees the changes made by the
+ * others without reloading.
+ *
+ * Each change made by this client is recorded in the change_log table, in the transaction making the
+ * change where there is one. The log is polled for the changes made by other clients since the last
+ * poll, which are handed to the {@link RemoteChangeHandler} for the class of entity to apply. Changes
+ * made to many entities at once, e.g. by an import, are logged as a single entry against
+ * {@link ChangeLogEntry#ALL_ENTITIES}, on which the handler reloads everything it holds.
+ *
+ * Log entries are read in ID order. As entries can be committed out of ID order by concurrent
+ * clients, any IDs skipped over are looked for again for a number of polls before being given up on,
+ * e.g. as rolled back.
+ */
+@Component
+public class ChangeFeed {
+
+	private static final int MAX_GAP = 100;
+	private static final int GAP_POLLS = 12;
+
+	@Autowired private ChangeLogRepository changeLogRepository;
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private ClockService clockService;
+	@Autowired(required = false) private List<RemoteChangeHandler> handlers = Collections.emptyList();
+
+	@Value("${seedbank.changes.enabled:true}") private boolean enabled;
+	@Value("${seedbank.changes.retention-days:7}") private int retentionDays;
+
+	private final String clientId = UUID.randomUUID().toString();
+	private final Map<String, RemoteChangeHandler> handlersByType = new HashMap<>();
+	private final Map<Long, Integer> gaps = new HashMap<>();
+	private final AtomicBoolean polling = new AtomicBoolean();
+	private long cursor;
+
+	private Logger logger = LoggerFactory.getLogger(ChangeFeed.class);
+
+
+	/**
+	 * Starts the feed from the end of the log, as the data loaded at startup already includes every
+	 * change made so far.
+	 */
+	@PostConstruct
+	public void initialise() {
+		handlers.forEach(handler -> handlersByType.put(handler.getEntityType().getSimpleName(), handler));
+		if (enabled) {
+			cursor = changeLogRepository.findMaxId();
+		}
+	}
+
+
+	/**
+	 * Records a change made by this client in the change log. Changes made by other clients are not
+	 * recorded again.
+	 * @param event The change
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	public void onEntityChanged(EntityChangedEvent<?> event) {
+		if (!enabled || event.isRemote() || !(event.getEntity() instanceof Identifiable)) {
+			return;
+		}
+		Long id = ((Identifiable) event.getEntity()).getId();
+		if (id == null) {
+			return;
+		}
+
+		log(event.getEntityType(), id, event.getChangeType());
+	}
+
+
+	/**
+	 * Records a change made by this client to many entities at once in the change log, as a single
+	 * entry against {@link ChangeLogEntry#ALL_ENTITIES}. Changes made by other clients are not recorded
+	 * again.
+	 * @param event The change
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	public void onEntitiesChanged(BulkChangeEvent<?> event) {
+		if (!enabled || event.isRemote()) {
+			return;
+		}
+		log(event.getEntityType(), ChangeLogEntry.ALL_ENTITIES, ChangeType.UPDATED);
+	}
+
+
+	/**
+	 * Queues a poll of the change log on the database thread, unless the previous poll is still queued.
+	 */
+	@Scheduled(fixedDelayString = "${seedbank.changes.poll-millis:5000}", initialDelayString = "${seedbank.changes.poll-millis:5000}")
+	public void poll() {
+		if (!enabled || !polling.compareAndSet(false, true)) {
+			return;
+		}
+		databaseExecutor.supply(this::applyRemoteChanges).whenComplete((applied, failure) -> {
+			polling.set(false);
+			if (failure != null) {
+				logger.warn("Failed to read the change log", failure);
+			}
+		});
+	}
+
+
+	/**
+	 * Reads the changes made by other clients since the last poll, and applies them. Where an entity
+	 * has been changed more than once, it is only reloaded once.
+	 * @return The number of entities changed
+	 */
+	public synchronized int applyRemoteChanges() {
+		List<ChangeLogEntry> entries = new ArrayList<>();
+		if (!gaps.isEmpty()) {
+			entries.addAll(changeLogRepository.findByIdIn(new ArrayList<>(gaps.keySet())));
+			entries.forEach(entry -> gaps.remove(entry.getId()));
+			gaps.replaceAll((id, polls) -> polls - 1);
+			gaps.values().removeIf(polls -> polls <= 0);
+		}
+
+		for (ChangeLogEntry entry : changeLogRepository.findTop500ByIdGreaterThanOrderById(cursor)) {
+			if (entry.getId() - cursor <= MAX_GAP) {
+				for (long skipped = cursor + 1; skipped < entry.getId(); skipped++) {
+					gaps.put(skipped, GAP_POLLS);
+				}
+			}
+			cursor = entry.getId();
+			entries.add(entry);
+		}
+
+		Map<String, ChangeLogEntry> latest = new LinkedHashMap<>();
+		for (ChangeLogEntry entry : entries) {
+			if (!clientId.equals(entry.getClientId())) {
+				String key = entry.getEntityType() + "#" + entry.getEntityId();
+				latest.remove(key);
+				latest.put(key, entry);
+			}
+		}
+
+		int applied = 0;
+		for (ChangeLogEntry entry : latest.values()) {
+			RemoteChangeHandler handler = handlersByType.get(entry.getEntityType());
+			if (handler != null) {
+				if (entry.getEntityId() == ChangeLogEntry.ALL_ENTITIES) {
+					handler.applyRemoteBulkChange();
+				} else {
+					handler.applyRemoteChange(entry.getEntityId(), entry.getChangeType());
+				}
+				applied++;
+			}
+		}
+		if (applied > 0) {
+			logger.info(applied + " changes made by other clients have been applied");
+		}
+		return applied;
+	}
+
+
+	/**
+	 * Deletes the entries older than the retention period from the change log. Clients which have been
+	 * closed for longer reload everything when next started, so do not need them.
+	 */
+	@Scheduled(cron = "${seedbank.changes.prune-cron:0 15 3 * * *}")
+	public void prune() {
+		if (!enabled) {
+			return;
+		}
+		databaseExecutor.run(() -> {
+			int pruned = changeLogRepository.deleteOlderThan(LocalDateTime.now(clockService.getClock()).minusDays(retentionDays));
+			logger.info(pruned + " entries have been pruned from the change log");
+		});
+	}
+
+
+	/**
+	 * @return The ID identifying this client in the change log
+	 */
+	public String getClientId() {
+		return clientId;
+	}
+
+
+	/*
+	 * Private helper method to record a change made by this client in the change log.
+	 */
+	private void log(Class<?> entityType, long entityId, ChangeType changeType) {
+		ChangeLogEntry entry = new ChangeLogEntry();
+		entry.setEntityType(entityType.getSimpleName());
+		entry.setEntityId(entityId);
+		entry.setChangeType(changeType);
+		entry.setClientId(clientId);
+		entry.setChangedAt(LocalDateTime.now(clockService.getClock()));
+		changeLogRepository.save(entry);
+	}
+
+}
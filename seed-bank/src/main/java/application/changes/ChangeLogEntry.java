@@ -0,0 +1,94 @@
+package application.changes;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.*;
+
+import application.events.ChangeType;
+
+/**
+ * Entity class defining an entry in the change log. This is mapped to the change_log table of the 
+ * SeedBank database, and records which entity was changed, how, and by which client, so that the 
+ * other clients of the database can apply the change.
+ */
+@Entity
+@Table(name = "change_log")
+public class ChangeLogEntry {
+
+	/** The entity ID logged for a change to many entities of a class at once, e.g. an import. IDs start at 1 */
+	public static final long ALL_ENTITIES = 0L;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id") private Long id;
+
+	@Column(name = "entity_type") private String entityType;
+	@Column(name = "entity_id") private Long entityId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "change_type") private ChangeType changeType;
+
+	@Column(name = "client_id") private String clientId;
+	@Column(name = "changed_at") private LocalDateTime changedAt;
+
+
+	public Long getId() {
+		return id;
+	}
+
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+
+	public String getEntityType() {
+		return entityType;
+	}
+
+
+	public void setEntityType(String entityType) {
+		this.entityType = entityType;
+	}
+
+
+	public Long getEntityId() {
+		return entityId;
+	}
+
+
+	public void setEntityId(Long entityId) {
+		this.entityId = entityId;
+	}
+
+
+	public ChangeType getChangeType() {
+		return changeType;
+	}
+
+
+	public void setChangeType(ChangeType changeType) {
+		this.changeType = changeType;
+	}
+
+
+	public String getClientId() {
+		return clientId;
+	}
+
+
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
+
+
+	public LocalDateTime getChangedAt() {
+		return changedAt;
+	}
+
+
+	public void setChangedAt(LocalDateTime changedAt) {
+		this.changedAt = changedAt;
+	}
+
+}
@@ -0,0 +1,34 @@
+package application.changes;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+
+/**
+ * The repository for storing {@link ChangeLogEntry}s. Corresponds to the change_log table of the 
+ * SeedBank database.
+ */
+@Repository
+public interface ChangeLogRepository extends CrudRepository<ChangeLogEntry, Long> {
+
+	List<ChangeLogEntry> findTop500ByIdGreaterThanOrderById(Long id);
+
+	List<ChangeLogEntry> findByIdIn(Collection<Long> ids);
+
+	@Query("select coalesce(max(c.id), 0) from ChangeLogEntry c")
+	long findMaxId();
+
+	@Transactional
+	@Modifying
+	@Query("delete from ChangeLogEntry c where c.changedAt < :before")
+	int deleteOlderThan(@Param("before") LocalDateTime before);
+
+}
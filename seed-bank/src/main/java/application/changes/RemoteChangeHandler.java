@@ -0,0 +1,37 @@
+package application.changes;
+
+import application.events.ChangeType;
+
+
+/**
+ * Applies the changes made to one class of entity by the other clients of the database, as read from 
+ * the change log by the {@link ChangeFeed}. Implemented by the service for the entity, which reloads 
+ * the entity, brings its caches up to date, and publishes the change as a remote 
+ * {@link application.events.EntityChangedEvent}.
+ */
+public interface RemoteChangeHandler {
+
+	/**
+	 * @return The class of entity handled
+	 */
+	Class<?> getEntityType();
+
+
+	/**
+	 * Applies a change made by another client.
+	 * @param id The ID of the entity
+	 * @param changeType How the entity was changed. The entity is reloaded, so if it has since been 
+	 * deleted it is treated as deleted whatever the change
+	 */
+	void applyRemoteChange(Long id, ChangeType changeType);
+
+
+	/**
+	 * Applies a change made by another client to many entities at once, e.g. an import, by reloading 
+	 * whatever is held of the entities and publishing a remote 
+	 * {@link application.events.BulkChangeEvent}. Does nothing by default.
+	 */
+	default void applyRemoteBulkChange() {
+	}
+
+}
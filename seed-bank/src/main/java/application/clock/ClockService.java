@@ -0,0 +1,83 @@
+package application.clock;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * The source of today's date for the application, and of a {@link DateChangedEvent} whenever it 
+ * changes, so that views derived from the date do not go stale when the application is left running 
+ * past midnight.
+ *
+ * The date is checked at the top of every hour, so the change is noticed at midnight, or within the 
+ * hour if the computer was asleep at midnight or its clock has been changed. Tests can drive the 
+ * service with their own {@link Clock}, calling {@link #checkDate()} after moving it on.
+ */
+@Component
+public class ClockService {
+
+	private final Clock clock;
+	private LocalDate today;
+
+	@Autowired private ApplicationEventPublisher eventPublisher;
+
+	private Logger logger = LoggerFactory.getLogger(ClockService.class);
+
+
+	/**
+	 * Creates the service, using the system clock in the default time zone.
+	 */
+	@Autowired
+	public ClockService() {
+		this(Clock.systemDefaultZone());
+	}
+
+
+	/**
+	 * Creates the service.
+	 * @param clock The clock from which the date is read
+	 */
+	public ClockService(Clock clock) {
+		this.clock = clock;
+		this.today = LocalDate.now(clock);
+	}
+
+
+	/**
+	 * @return Today's date
+	 */
+	public LocalDate today() {
+		return LocalDate.now(clock);
+	}
+
+
+	/**
+	 * @return The clock from which the date is read
+	 */
+	public Clock getClock() {
+		return clock;
+	}
+
+
+	/**
+	 * Publishes a {@link DateChangedEvent} if the date has changed since it was last checked.
+	 */
+	@Scheduled(cron = "0 0 * * * *")
+	public synchronized void checkDate() {
+		LocalDate date = today();
+		if (!date.equals(today)) {
+			LocalDate previousDate = today;
+			today = date;
+			logger.info("The date has changed from " + previousDate + " to " + date);
+			eventPublisher.publishEvent(new DateChangedEvent(this, previousDate, date));
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+package application.clock;
+
+import java.time.LocalDate;
+
+import org.springframework.context.ApplicationEvent;
+
+
+/**
+ * Published by the {@link ClockService} when the date changes, e.g. at midnight, so that anything 
+ * derived from today's date can be brought up to date. Listeners are called on the scheduler thread, 
+ * so UI listeners should hand the event over to the JavaFX Application Thread.
+ */
+public class DateChangedEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	private final LocalDate previousDate;
+	private final LocalDate date;
+
+
+	/**
+	 * Creates the event.
+	 * @param source The clock service which noticed the change
+	 * @param previousDate The date before the change
+	 * @param date The new date
+	 */
+	public DateChangedEvent(Object source, LocalDate previousDate, LocalDate date) {
+		super(source);
+		this.previousDate = previousDate;
+		this.date = date;
+	}
+
+
+	public LocalDate getPreviousDate() {
+		return previousDate;
+	}
+
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+
+	/**
+	 * @return true if the date has moved into a different month, and false if not
+	 */
+	public boolean isNewMonth() {
+		return previousDate.getMonth() != date.getMonth() || isNewYear();
+	}
+
+
+	/**
+	 * @return true if the date has moved into a different year, and false if not
+	 */
+	public boolean isNewYear() {
+		return previousDate.getYear() != date.getYear();
+	}
+
+
+	@Override
+	public String toString() {
+		return "DateChangedEvent [previousDate=" + previousDate + ", date=" + date + "]";
+	}
+
+}
@@ -20,7 +20,7 @@ import javafx.scene.input.KeyCombination;
  */
 @Controller
 @Scope("prototype")
-public class AddNewManufacturerController {
+public class AddNewManufacturerController implements PopupController {
 
 	@FXML private TextField nameField;
 	@FXML private TextField urlField;
@@ -44,6 +44,18 @@ public class AddNewManufacturerController {
 	}
 
 
+	/**
+	 * Reset the pop up, clearing the fields so that a new manufacturer is created when next opened.
+	 */
+	@Override
+	public void reset() {
+		manufacturer = new Manufacturer();
+		manufacturerCombo = null;
+		nameField.clear();
+		urlField.clear();
+	}
+
+
 	/*
 	 * Method to save the manufacturer and close the window, triggered when the user presses 
 	 * the relevant button.
@@ -23,7 +23,7 @@ import javafx.scene.text.FontPosture;
  */
 @Controller
 @Scope("prototype")
-public class AddNewTypeController {
+public class AddNewTypeController implements PopupController {
 
 	@FXML private TextField nameField;
 	@FXML private TextField familyField;
@@ -50,6 +50,20 @@ public class AddNewTypeController {
 	}
 
 
+	/**
+	 * Reset the pop up, clearing the fields so that a new type is created when next opened.
+	 */
+	@Override
+	public void reset() {
+		type = new Type();
+		typeCombo = null;
+		nameField.clear();
+		familyField.clear();
+		edibleCheckbox.setSelected(false);
+		ornamentalCheckbox.setSelected(false);
+	}
+
+
 	/*
 	 * Method to save the type and close the window, triggered when the user presses 
 	 * the relevant button.
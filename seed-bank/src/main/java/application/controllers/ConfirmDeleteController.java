@@ -1,11 +1,14 @@
 package application.controllers;
 
+import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Controller;
 
-import application.seeds.SeedPacket;
+import application.async.DatabaseExecutor;
 import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -18,26 +21,27 @@ import javafx.scene.control.TableView;
  */
 @Controller
 @Scope("prototype")
-public class ConfirmDeleteController {
+public class ConfirmDeleteController implements PopupController {
 
 	@FXML private Label labelConfirmDelete;
 	@FXML private Button confirmButton;
 	@FXML private Button cancelButton;
 
-	private TableView<SeedPacket> seedPackets;
-	private SeedPacket seedPacket;
+	private TableView<SeedPacketSummary> seedPackets;
+	private SeedPacketSummary seedPacket;
 
 	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private DatabaseExecutor databaseExecutor;
 
 
 	/**
 	 * Initialise the data.
 	 * @param seedPackets The table of seed packets being passed in
 	 */
-	void initData(TableView<SeedPacket> seedPackets) {
+	void initData(TableView<SeedPacketSummary> seedPackets) {
 
 		this.seedPackets = seedPackets;
-		seedPacket = (SeedPacket) seedPackets.getSelectionModel().getSelectedItem();					
+		seedPacket = seedPackets.getSelectionModel().getSelectedItem();					
 
 		setLabel();
 
@@ -46,15 +50,30 @@ public class ConfirmDeleteController {
 	}
 
 
+	/**
+	 * Reset the pop up, releasing the seed packet it was opened for.
+	 */
+	@Override
+	public void reset() {
+		seedPackets = null;
+		seedPacket = null;
+		confirmButton.setDisable(false);
+	}
+
+
 	/*
 	 * Method to delete the relevant seed packet and close the window, triggered when the user presses 
 	 * the relevant button.
 	 */
 	@FXML
 	private void confirm() {
-		seedPacketService.delete(seedPacket);	
-		seedPackets.getItems().remove(seedPacket);								
-		confirmButton.getScene().getWindow().hide();
+		confirmButton.setDisable(true);
+		databaseExecutor.onFxThread(databaseExecutor.run(() -> seedPacketService.loadById(seedPacket.getId()).ifPresent(seedPacketService::delete)), 
+				deleted -> confirmButton.getScene().getWindow().hide(), 
+				failure -> {
+					confirmButton.setDisable(false);
+					Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to delete the seed packet.", failure);
+				});
 	}
 
 
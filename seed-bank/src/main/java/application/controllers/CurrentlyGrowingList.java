@@ -0,0 +1,153 @@
+package application.controllers;
+
+import static java.util.Arrays.asList;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import application.async.DatabaseExecutor;
+import application.currentlygrowing.CurrentlyGrowing;
+import application.events.EntityChangedEvent;
+import javafx.beans.Observable;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+
+/**
+ * The currently growing records shown in the Today and Currently Growing tabs, held in one list 
+ * which each tab filters and sorts in place.
+ *
+ * {@link CurrentlyGrowing} records are plain entities, so cannot tell the list when they change. 
+ * Instead, the list watches the placement of each record: its dates sown, germinated and 
+ * established, and whether it is indoors, which together decide which phase table it belongs in 
+ * and where it sorts. Calling {@link #updated(CurrentlyGrowing)} after a record is saved fires an 
+ * update for just that record if its placement has changed, so that the filtered and sorted views 
+ * over the list move it between tables without being rebuilt.
+ *
+ * The list follows the {@link EntityChangedEvent}s published as records are saved and deleted, so 
+ * the pop ups which make the changes do not need to update it themselves.
+ */
+@Component
+public class CurrentlyGrowingList {
+
+	private final Map<CurrentlyGrowing, ObjectProperty<List<Object>>> placements = new IdentityHashMap<>();
+	private final ObservableList<CurrentlyGrowing> records = 
+			FXCollections.observableArrayList(record -> new Observable[] { placementProperty(record) });
+
+	@Autowired private DatabaseExecutor databaseExecutor;
+
+
+	/**
+	 * Creates the list, initially empty.
+	 */
+	public CurrentlyGrowingList() {
+		records.addListener((ListChangeListener<CurrentlyGrowing>) change -> {
+			while (change.next()) {
+				if (change.wasRemoved()) {
+					change.getRemoved().stream()
+							.filter(record -> !records.contains(record))
+							.forEach(placements::remove);
+				}
+			}
+		});
+	}
+
+
+	/**
+	 * Gets the records. Records may be added to and removed from the list directly.
+	 * @return The shared list of currently growing records
+	 */
+	public ObservableList<CurrentlyGrowing> getRecords() {
+		return records;
+	}
+
+
+	/**
+	 * Replaces the records in the list.
+	 * @param currentlyGrowing The currently growing records
+	 */
+	public void setAll(Collection<CurrentlyGrowing> currentlyGrowing) {
+		records.setAll(currentlyGrowing);
+	}
+
+
+	/**
+	 * Notifies the list that a record has been changed, e.g. progressed to the next phase or planted 
+	 * out. Views over the list are only updated if the record has moved.
+	 * @param record The record which has changed
+	 */
+	public void updated(CurrentlyGrowing record) {
+		ObjectProperty<List<Object>> placement = placements.get(record);
+		if (placement != null) {
+			List<Object> newPlacement = placementOf(record);
+			if (!newPlacement.equals(placement.get())) {
+				placement.set(newPlacement);
+				placement.get(); // Revalidate, so that the next change is also reported
+			}
+		}
+	}
+
+
+	/**
+	 * Applies a change to a record on the JavaFX Application Thread, once it has been committed.
+	 * @param event The change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCurrentlyGrowingChanged(EntityChangedEvent<CurrentlyGrowing> event) {
+		CurrentlyGrowing record = event.getEntity();
+		switch (event.getChangeType()) {
+		case DELETED:
+			databaseExecutor.getFxExecutor().execute(() -> records.removeIf(r -> record.getId().equals(r.getId())));
+			break;
+		default:
+			databaseExecutor.getFxExecutor().execute(() -> put(record));
+		}
+	}
+
+
+	/*
+	 * Private helper method to add a record, or update or replace the copy of a record already in 
+	 * the list.
+	 */
+	private void put(CurrentlyGrowing record) {
+		for (int i = 0; i < records.size(); i++) {
+			CurrentlyGrowing existing = records.get(i);
+			if (existing == record) {
+				updated(record);
+				return;
+			}
+			if (existing.getId() != null && existing.getId().equals(record.getId())) {
+				records.set(i, record);
+				return;
+			}
+		}
+		records.add(record);
+	}
+
+
+	/*
+	 * Private helper method to get the property holding the placement of a record, creating it 
+	 * when the record is first added to the list.
+	 */
+	private ObjectProperty<List<Object>> placementProperty(CurrentlyGrowing record) {
+		return placements.computeIfAbsent(record, r -> new SimpleObjectProperty<>(placementOf(r)));
+	}
+
+
+	/*
+	 * Private helper method to capture the fields of a record which decide where it is shown.
+	 */
+	private static List<Object> placementOf(CurrentlyGrowing record) {
+		return asList(record.getDateSown(), record.getDateGerminated(), record.getDateEstablished(), record.isIndoors());
+	}
+
+}
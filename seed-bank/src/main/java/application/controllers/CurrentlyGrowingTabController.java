@@ -1,34 +1,44 @@
 package application.controllers;
 
 import static java.util.Arrays.asList;
-import static javafx.collections.FXCollections.observableArrayList;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import application.Mode;
+import application.async.DatabaseExecutor;
+import application.clock.ClockService;
 import application.currentlygrowing.CurrentlyGrowing;
 import application.currentlygrowing.CurrentlyGrowingService;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
 import application.seeds.SeedPacket;
+import application.seeds.SeedPacketName;
+import application.seeds.SeedPacketNameResolver;
 import application.seeds.SeedPacketService;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
@@ -39,10 +49,7 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
-import javafx.stage.Stage;
-import javafx.stage.WindowEvent;
 
 
 /**
@@ -78,14 +85,19 @@ public class CurrentlyGrowingTabController {
 	@FXML private Button progressOutdoorsPhase1;
 	@FXML private Button progressOutdoorsPhase2;
 
-	@Autowired private ApplicationContext applicationContext;
+	@Autowired private PopupManager popupManager;
 	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private SeedPacketNameResolver seedPacketNameResolver;
 	@Autowired private CurrentlyGrowingService currentlyGrowingService;
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private ClockService clockService;
+
+	private final Map<Long, StringProperty> seedPacketNames = new HashMap<>();
+	private final Set<Long> pendingSeedPacketIds = new LinkedHashSet<>();
 
 	private TableView<CurrentlyGrowing> mostRecentlySelectedTable;
 	private List<TableView<CurrentlyGrowing>> tables;
 	private Button callingButton;
-	private ObservableList<CurrentlyGrowing> currentlyGrowing;
 
 
 	/**
@@ -93,7 +105,6 @@ public class CurrentlyGrowingTabController {
 	 * @param currentlyGrowing The currently growing record to be used
 	 */
 	void initialise(ObservableList<CurrentlyGrowing> currentlyGrowing) {
-		this.currentlyGrowing = currentlyGrowing;
 
 		initialiseCellValueFactories();
 		initialiseData(currentlyGrowing);
@@ -122,34 +133,28 @@ public class CurrentlyGrowingTabController {
 
 
 	/*
-	 * Private helper method to initialise the data.
+	 * Private helper method to show each phase of the currently growing records in its table. The 
+	 * tables are views over the one shared list, so records move between them as they progress 
+	 * without the tables being rebuilt, and each table keeps its selection and sort order.
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private void initialiseData(List<CurrentlyGrowing> currentlyGrowingRecords) {
-
-		SortedList<CurrentlyGrowing> sownIndoors = new SortedList<>(new FilteredList(observableArrayList(currentlyGrowingRecords), getSownIndoors()));
-		sownIndoorsTable.setItems(sownIndoors);
-		sownIndoors.comparatorProperty().bind(sownIndoorsTable.comparatorProperty());
-
-		SortedList<CurrentlyGrowing> germinatedIndoors = new SortedList<>(new FilteredList(observableArrayList(currentlyGrowingRecords), getGerminatedIndoors()));
-		germinatedIndoorsTable.setItems(germinatedIndoors);
-		germinatedIndoors.comparatorProperty().bind(germinatedIndoorsTable.comparatorProperty());
-
-		SortedList<CurrentlyGrowing> establishedIndoors = new SortedList<>(new FilteredList(observableArrayList(currentlyGrowingRecords), getEstablishedIndoors()));
-		establishedIndoorsTable.setItems(establishedIndoors);
-		establishedIndoors.comparatorProperty().bind(establishedIndoorsTable.comparatorProperty());
-
-		SortedList<CurrentlyGrowing> sownOutdoors = new SortedList<>(new FilteredList(observableArrayList(currentlyGrowingRecords), getSownOutdoors()));	
-		sownOutdoorsTable.setItems(sownOutdoors);
-		sownOutdoors.comparatorProperty().bind(sownOutdoorsTable.comparatorProperty());
+	private void initialiseData(ObservableList<CurrentlyGrowing> currentlyGrowingRecords) {
+		setItems(sownIndoorsTable, currentlyGrowingRecords, getSownIndoors());
+		setItems(germinatedIndoorsTable, currentlyGrowingRecords, getGerminatedIndoors());
+		setItems(establishedIndoorsTable, currentlyGrowingRecords, getEstablishedIndoors());
+		setItems(sownOutdoorsTable, currentlyGrowingRecords, getSownOutdoors());
+		setItems(germinatedOutdoorsTable, currentlyGrowingRecords, getGerminatedOutdoors());
+		setItems(establishedOutdoorsTable, currentlyGrowingRecords, getEstablishedOutdoors());
+	}
 
-		SortedList<CurrentlyGrowing> germinatedOutdoors = new SortedList<>(new FilteredList(observableArrayList(currentlyGrowingRecords), getGerminatedOutdoors()));
-		germinatedOutdoorsTable.setItems(germinatedOutdoors);
-		germinatedOutdoors.comparatorProperty().bind(germinatedOutdoorsTable.comparatorProperty());
 
-		SortedList<CurrentlyGrowing> establishedOutdoors = new SortedList<>(new FilteredList(observableArrayList(currentlyGrowingRecords), getEstablishedOutdoors()));
-		establishedOutdoorsTable.setItems(establishedOutdoors);	
-		establishedOutdoors.comparatorProperty().bind(establishedOutdoorsTable.comparatorProperty());
+	/*
+	 * Private helper method to show the records matching the predicate in a table, sorted by the table.
+	 */
+	private void setItems(TableView<CurrentlyGrowing> table, ObservableList<CurrentlyGrowing> currentlyGrowingRecords, 
+			Predicate<CurrentlyGrowing> predicate) {
+		SortedList<CurrentlyGrowing> items = new SortedList<>(new FilteredList<>(currentlyGrowingRecords, predicate));
+		table.setItems(items);
+		items.comparatorProperty().bind(table.comparatorProperty());
 	}
 
 
@@ -177,9 +182,7 @@ public class CurrentlyGrowingTabController {
 
 		TableColumn<CurrentlyGrowing, String> nameColumn = (TableColumn<CurrentlyGrowing, String>) columns.get(0);
 
-		nameColumn.setCellValueFactory(cellData 
-				-> new SimpleStringProperty(seedPacketService.loadById(
-						cellData.getValue().getSeedPacket()).get().getName()));
+		nameColumn.setCellValueFactory(cellData -> getSeedPacketName(cellData.getValue().getSeedPacket()));
 
 		TableColumn<CurrentlyGrowing, LocalDate> dateColumn = (TableColumn<CurrentlyGrowing, LocalDate>) columns.get(1);
 
@@ -187,6 +190,79 @@ public class CurrentlyGrowingTabController {
 	}
 
 
+	/*
+	 * Private helper method to get the name of a seed packet for display, from the 
+	 * {@link SeedPacketNameResolver}. Names it does not know read as "Loading..." until they have 
+	 * been fetched. Names requested during the same pulse, e.g. while a table is being laid out, are 
+	 * fetched together on the database thread.
+	 */
+	private StringProperty getSeedPacketName(Long seedPacketId) {
+		StringProperty name = seedPacketNames.get(seedPacketId);
+		if (name == null) {
+			name = new SimpleStringProperty("Loading...");
+			seedPacketNames.put(seedPacketId, name);
+			resolveSeedPacketName(seedPacketId, name);
+		}
+		return name;
+	}
+
+
+	/**
+	 * Re-resolves the name of a seed packet once it has been saved, in case it has been renamed.
+	 * @param event The change to the seed packet
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeedPacketChanged(EntityChangedEvent<SeedPacket> event) {
+		Long seedPacketId = event.getEntity().getId();
+		if (event.getChangeType() == ChangeType.UPDATED) {
+			databaseExecutor.getFxExecutor().execute(() -> {
+				StringProperty name = seedPacketNames.get(seedPacketId);
+				if (name != null) {
+					resolveSeedPacketName(seedPacketId, name);
+				}
+			});
+		}
+	}
+
+
+	/*
+	 * Private helper method to set a displayed name from the resolver, or queue it to be fetched if 
+	 * the resolver does not know it. The current name is shown until the new one arrives.
+	 */
+	private void resolveSeedPacketName(Long seedPacketId, StringProperty name) {
+		Optional<String> resolved = seedPacketNameResolver.getName(seedPacketId);
+		if (resolved.isPresent()) {
+			name.set(resolved.get());
+		} else {
+			if (pendingSeedPacketIds.isEmpty()) {
+				Platform.runLater(this::loadSeedPacketNames);
+			}
+			pendingSeedPacketIds.add(seedPacketId);
+		}
+	}
+
+
+	/*
+	 * Private helper method to fetch the names of any seed packets awaiting them. The fetched names 
+	 * are added to the resolver, so are only fetched once.
+	 */
+	private void loadSeedPacketNames() {
+		List<Long> ids = new ArrayList<>(pendingSeedPacketIds);
+		pendingSeedPacketIds.clear();
+
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> seedPacketService.loadNamesById(ids)), 
+				names -> {
+					for (SeedPacketName name : names) {
+						seedPacketNames.get(name.getId()).set(name.getName());
+					}
+				}, 
+				failure -> {
+					Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to load seed packet names.", failure);
+					ids.forEach(seedPacketNames::remove); // Allow the names to be retried
+				});
+	}
+
+
 	/*
 	 * Private helper method to initialise the event handling.
 	 */
@@ -335,17 +411,26 @@ public class CurrentlyGrowingTabController {
 
 		TableView<CurrentlyGrowing> table = mostRecentlySelectedTable;
 
-		CurrentlyGrowing recordToBeProgressed = table.getSelectionModel().getSelectedItem();
+		// A copy is progressed, so that the record shown in the tables is only replaced once saved
+		CurrentlyGrowing recordToBeProgressed = table.getSelectionModel().getSelectedItem().copy();
 
 		if (table.equals(sownIndoorsTable) || table.equals(sownOutdoorsTable)) {
-			recordToBeProgressed.setDateGerminated(LocalDate.now());
+			recordToBeProgressed.setDateGerminated(clockService.today());
 			recordToBeProgressed.setNumberGerminated(recordToBeProgressed.getNumberSown());
 		} else {
-			recordToBeProgressed.setDateEstablished(LocalDate.now());
+			recordToBeProgressed.setDateEstablished(clockService.today());
 			recordToBeProgressed.setNumberEstablished(recordToBeProgressed.getNumberGerminated());
 		}
-		currentlyGrowingService.save(recordToBeProgressed);	
-		initialiseData(currentlyGrowing);
+		databaseExecutor.onFxThread(databaseExecutor.run(() -> currentlyGrowingService.save(recordToBeProgressed)), 
+				saved -> { }, // The shared list moves the record to its new table once saved
+				failure -> {
+					Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to progress the record.", failure);
+					String failureMessage = failure instanceof OptimisticLockingFailureException 
+							? ValidationFailureController.changedElsewhereMessage("This record") 
+							: "Failed to progress the record: " + failure.getMessage() + "\n";
+					popupManager.open(Popup.VALIDATION_FAILURE, "Progress Failed!", 
+							validationFailureController -> validationFailureController.initData(failureMessage));
+				});
 	}
 
 
@@ -371,27 +456,8 @@ public class CurrentlyGrowingTabController {
 	 * Open the pop up window in the relevant mode.
 	 */
 	private void openSowNewPopup(Mode mode) {
-
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/SowNew.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			SowNewController sowNewController = fxmlLoader.getController();
-
-			sowNewController.initData(currentlyGrowing, mostRecentlySelectedTable, mode);
-			refreshStage(stage);
-
-			stage.setTitle(mode == Mode.ADD_NEW ? "Sow New Seeds" : mode.toString()); 
-			stage.show();
-
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
+		popupManager.open(Popup.SOW_NEW, mode == Mode.ADD_NEW ? "Sow New Seeds" : mode.toString(), 
+				sowNewController -> sowNewController.initData(mostRecentlySelectedTable, mode));
 	}
 
 
@@ -399,27 +465,13 @@ public class CurrentlyGrowingTabController {
 	 * Open the pop up window to display the seed packet info
 	 */
 	private void openViewSeedPacketPopup() {
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/EditSeedPacket.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			EditSeedPacketController editSeedPacketController = fxmlLoader.getController();
-
-			CurrentlyGrowing currentlyGrowingRecord = mostRecentlySelectedTable.getSelectionModel().getSelectedItem();
-			SeedPacket seedPacket = seedPacketService.loadById(currentlyGrowingRecord.getSeedPacket()).get();
 
-			editSeedPacketController.initData(seedPacket);
-			stage.setTitle("View Seed Packet"); 
-			stage.show();
+		CurrentlyGrowing currentlyGrowingRecord = mostRecentlySelectedTable.getSelectionModel().getSelectedItem();
 
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> seedPacketService.loadById(currentlyGrowingRecord.getSeedPacket())), 
+				seedPacket -> seedPacket.ifPresent(loadedSeedPacket -> popupManager.open(Popup.EDIT_SEED_PACKET, "View Seed Packet", 
+						editSeedPacketController -> editSeedPacketController.initData(loadedSeedPacket))), 
+				failure -> Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to load the seed packet.", failure));
 	}
 
 
@@ -427,26 +479,7 @@ public class CurrentlyGrowingTabController {
 	 * Open the progress pop up window to move the currently growing record to the next phase
 	 */
 	private void openProgressPopup(TableView<CurrentlyGrowing> table) {
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/Progress.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			ProgressController progressController = fxmlLoader.getController();		
-
-			progressController.initData(table);
-			refreshStage(stage);
-
-			stage.setTitle("Progress"); 
-			stage.show();
-
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
+		popupManager.open(Popup.PROGRESS, "Progress", progressController -> progressController.initData(table));
 	}
 	
 	
@@ -454,26 +487,7 @@ public class CurrentlyGrowingTabController {
 	 * Open the Finish pop up window to progress the record to finished
 	 */
 	private void openFinishPopup() {
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/Finished.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			FinishedController finishedController = fxmlLoader.getController();		
-
-			finishedController.initData(mostRecentlySelectedTable);
-			refreshStage(stage);
-
-			stage.setTitle("Finish"); 
-			stage.show();
-
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
+		popupManager.open(Popup.FINISHED, "Finish", finishedController -> finishedController.initData(mostRecentlySelectedTable));
 	}
 
 
@@ -500,18 +514,6 @@ public class CurrentlyGrowingTabController {
 	}
 
 
-	/*
-	 * Private helper method to set up stage refresh when a pop-up is closed.
-	 */
-	private void refreshStage(Stage stage) {
-		stage.setOnHidden(new EventHandler<WindowEvent>() {
-			public void handle(WindowEvent we) {
-				initialiseData(currentlyGrowing);
-			}
-		});
-	}
-
-
 	/*
 	 * Predicates for list filtering
 	 */
@@ -1,19 +1,17 @@
 package application.controllers;
 
-import static java.lang.Integer.valueOf;
 import static java.util.Arrays.asList;
 import static java.util.Collections.sort;
-import static java.util.regex.Pattern.compile;
 import static javafx.scene.input.MouseEvent.MOUSE_PRESSED;
 
-import java.io.IOException;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -21,20 +19,23 @@ import javax.validation.ConstraintViolationException;
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Scope;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 
 import application.Mode;
+import application.async.DatabaseExecutor;
 import application.manufacturer.Manufacturer;
 import application.manufacturer.ManufacturerService;
 import application.seeds.SeedPacket;
+import application.seeds.SeedPacketInput;
+import application.seeds.SeedPacketName;
 import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+import application.seeds.SeedPacketValidator;
 import application.type.Type;
 import application.type.TypeService;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.ListCell;
@@ -46,10 +47,8 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
-import javafx.scene.layout.Pane;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontPosture;
-import javafx.stage.Stage;
 
 
 /**
@@ -57,7 +56,7 @@ import javafx.stage.Stage;
  */
 @Controller
 @Scope("prototype")
-public class EditSeedPacketController {
+public class EditSeedPacketController implements PopupController {
 
 	@FXML private TextField name;
 	@FXML private TextField latinName;
@@ -83,40 +82,41 @@ public class EditSeedPacketController {
 	@FXML private Button cancelButton;
 
 	private SeedPacket seedPacket = new SeedPacket();
-	private TableView<SeedPacket> seedPackets = new TableView<SeedPacket>();
+	private TableView<SeedPacketSummary> seedPackets = new TableView<SeedPacketSummary>();
 	private String failureMessage = "";
 	private Mode mode;
 
 	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private SeedPacketValidator seedPacketValidator;
 	@Autowired private ManufacturerService manufacturerService;
 	@Autowired private TypeService typeService;
-	@Autowired private ApplicationContext applicationContext;
+	@Autowired private PopupManager popupManager;
+	@Autowired private DatabaseExecutor databaseExecutor;
 
 
 	/**
-	 * Initialise the data when entering from a table view
-	 * @param seedPackets The {@link TableView} of {@link SeedPacket}s
+	 * Initialise the data when entering from a table view. The selected seed packet, if any, is loaded 
+	 * on the database thread, with the fields disabled until it arrives.
+	 * @param seedPackets The {@link TableView} of {@link SeedPacketSummary}s
 	 * @param mode The mode the application is to be run in
 	 */
-	public void initData(TableView<SeedPacket> seedPackets, Mode mode) {
+	public void initData(TableView<SeedPacketSummary> seedPackets, Mode mode) {
 		this.seedPackets = seedPackets;
+		setUpComboBoxes();
 		setMode(mode, seedPackets);
-		mapModelToFields();			
 		initializeEventHandling();
 	}
 
 
 	/**
-	 * Initialise the data when entering from a list view.
-	 * @param seedPacketList The {@link ListView} of {@link SeedPacket}s.
+	 * Initialise the data when entering from a list view. The selected seed packet is loaded on the 
+	 * database thread.
+	 * @param seedPacketList The {@link ListView} of {@link SeedPacketName}s.
 	 */
-	public void initData(ListView<SeedPacket> seedPacketList) {
-		Long seedPacketId = seedPacketList.getSelectionModel().getSelectedItem().getId(); /* Ensure we get the
-																							 most up to date 
-																							 version. */
-		seedPacket = seedPacketService.loadById(seedPacketId).get();
-		setEditable(false, false, true);
-		mapModelToFields();			
+	public void initData(ListView<SeedPacketName> seedPacketList) {
+		Long seedPacketId = seedPacketList.getSelectionModel().getSelectedItem().getId();
+		setUpComboBoxes();
+		loadSeedPacket(seedPacketId, false, false, true);
 		initializeEventHandling();
 	}
 
@@ -127,12 +127,25 @@ public class EditSeedPacketController {
 	 */
 	public void initData(SeedPacket seedPacket) {
 		this.seedPacket = seedPacket;
+		setUpComboBoxes();
 		setEditable(false, false, true);
 		mapModelToFields();			
 		initializeEventHandling();
 	}
 
 
+	/**
+	 * Reset the pop up, so that it starts from a new seed packet when next opened.
+	 */
+	@Override
+	public void reset() {
+		seedPacket = new SeedPacket();
+		seedPackets = new TableView<SeedPacketSummary>();
+		failureMessage = "";
+		mode = null;
+	}
+
+
 	/**
 	 * Method to map the values displayed in the fields to the model.
 	 */
@@ -164,24 +177,53 @@ public class EditSeedPacketController {
 
 	/*
 	 * Private helper method which saves the seed packet to the database and closes the window. 
-	 * Triggered when the user presses the relevant button.
+	 * Triggered when the user presses the relevant button. Whether a new seed packet's name is 
+	 * already taken is checked on the database thread, with the save button disabled until done.
 	 */
 	@FXML
 	private void save() {
-		if (isValid()) {
-			try {
-				mapFieldsToModel();
-				seedPacketService.save(seedPacket);
-				refreshTableView();	
-				saveButton.getScene().getWindow().hide();
-			} catch (ConstraintViolationException e) {
-				populateConstraintViolationMessages(e);
-			}
+		if (saveButton.isDisabled()) {
+			return; // Still loading, viewing, or already saving
 		}
+		saveButton.setDisable(true);
+
+		String newName = mode == Mode.ADD_NEW ? name.getText() : null;
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> newName != null && seedPacketService.exists(newName)), 
+				alreadyExists -> {
+					if (isValid(alreadyExists)) {
+						mapFieldsToModel();
+						saveValidSeedPacket();
+					} else {
+						saveButton.setDisable(false);
+						openValidationFailurePopup(failureMessage);
+					}
+				}, 
+				failure -> {
+					saveButton.setDisable(false);
+					failureMessage = "Failed to save: " + failure.getMessage() + "\n";
+					openValidationFailurePopup(failureMessage);
+				});
+	}
 
-		if (failureMessage.length() > 0) {
-			openValidationFailurePopup(failureMessage);
-		}
+
+	/*
+	 * Private helper method to save the validated seed packet on the database thread, and close the 
+	 * window once saved.
+	 */
+	private void saveValidSeedPacket() {
+		databaseExecutor.onFxThread(databaseExecutor.run(() -> seedPacketService.save(seedPacket)), 
+				saved -> saveButton.getScene().getWindow().hide(), 
+				failure -> {
+					saveButton.setDisable(false);
+					if (failure instanceof ConstraintViolationException) {
+						populateConstraintViolationMessages((ConstraintViolationException) failure);
+					} else if (failure instanceof OptimisticLockingFailureException) {
+						failureMessage += ValidationFailureController.changedElsewhereMessage("This seed packet");
+					} else {
+						failureMessage += "Failed to save: " + failure.getMessage() + "\n";
+					}
+					openValidationFailurePopup(failureMessage);
+				});
 	}
 
 
@@ -210,12 +252,22 @@ public class EditSeedPacketController {
 		description.setText(seedPacket.getDescription());
 		keywords.setText(seedPacket.getKeywords());
 
-		setUpComboBoxes();
+		manufacturerCombo.setValue(seedPacket.getManufacturer());
+		typeCombo.setValue(seedPacket.getType());
+		sowingIndoorFromCombo.setValue(seedPacket.getSowingIndoorsStartMonth());
+		sowingIndoorUntilCombo.setValue(seedPacket.getSowingIndoorsEndMonth());
+		sowingOutdoorFromCombo.setValue(seedPacket.getSowingOutdoorsStartMonth());
+		sowingOutdoorUntilCombo.setValue(seedPacket.getSowingOutdoorsEndMonth());	
+		harvestFromCombo.setValue(seedPacket.getHarvestStartMonth());
+		harvestUntilCombo.setValue(seedPacket.getHarvestEndMonth());
+		floweringFromCombo.setValue(seedPacket.getFloweringStartMonth());
+		floweringUntilCombo.setValue(seedPacket.getFloweringEndMonth());
 	}
 
 
 	/*
-	 * Private helper method to set up the combo boxes and map the model values to the fields displayed.
+	 * Private helper method to set up the combo boxes. The values are mapped from the model by 
+	 * mapModelToFields.
 	 */
 	private void setUpComboBoxes() {
 		setUpManufacturerComboBox();
@@ -225,18 +277,62 @@ public class EditSeedPacketController {
 
 
 	/*
-	 * Private helper method to set up the behaviour of the manufacturer combo box.
+	 * Private helper method to load the seed packet on the database thread, with the fields disabled 
+	 * until it arrives, then map it to the fields and make them editable as specified.
 	 */
-	private void setUpManufacturerComboBox() {
-		List<Manufacturer> manufacturers = manufacturerService.loadAll();
-		List<String> manufacturerNames = new ArrayList<String>(asList("")); // Base case for adding new ones
+	private void loadSeedPacket(Long seedPacketId, boolean editable, boolean nameFieldEditable, boolean saveButtonDisabled) {
+		setEditable(false, false, true);
+		mapModelToFields(); // Clear the fields of any seed packet shown before
+		String promptText = name.getPromptText();
+		name.setPromptText("Loading...");
+
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> seedPacketService.loadById(seedPacketId)), loaded -> {
+			if (loaded.isPresent()) {
+				name.setPromptText(promptText);
+				seedPacket = loaded.get();
+				mapModelToFields();
+				setEditable(editable, nameFieldEditable, saveButtonDisabled);
+			} else {
+				name.setPromptText("Seed packet has been deleted");
+			}
+		}, failure -> {
+			name.setPromptText("Failed to load");
+			Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to load the seed packet.", failure);
+		});
+	}
 
-		for (Manufacturer manufacturer : manufacturers) {
-			manufacturerNames.add(manufacturer.getName());
-		}
 
-		sort(manufacturerNames); 
-		manufacturerCombo.getItems().setAll(manufacturerNames);
+	/*
+	 * Private helper method to fill a combo box with names loaded on the database thread, showing that 
+	 * they are loading until they arrive. The base case for adding new names is always offered, and 
+	 * any value already mapped from the model is kept.
+	 */
+	private void loadComboBoxNames(ComboBox<String> comboBox, Supplier<List<String>> query) {
+		String promptText = comboBox.getPromptText();
+		comboBox.setPromptText("Loading...");
+
+		databaseExecutor.onFxThread(databaseExecutor.supply(query), names -> {
+			List<String> namesWithAddNew = new ArrayList<String>(asList("")); // Base case for adding new ones
+			namesWithAddNew.addAll(names);
+			sort(namesWithAddNew);
+
+			String value = comboBox.getValue();
+			comboBox.getItems().setAll(namesWithAddNew);
+			comboBox.setValue(value);
+			comboBox.setPromptText(promptText);
+		}, failure -> {
+			comboBox.setPromptText("Failed to load");
+			Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to load the names.", failure);
+		});
+	}
+
+
+	/*
+	 * Private helper method to set up the behaviour of the manufacturer combo box.
+	 */
+	private void setUpManufacturerComboBox() {
+		loadComboBoxNames(manufacturerCombo, () -> manufacturerService.loadAll().stream()
+				.map(Manufacturer::getName).collect(Collectors.toList()));
 
 		// Allow a new manufacturer to be added from within the combo box
 		manufacturerCombo.setCellFactory(factory -> {
@@ -265,8 +361,6 @@ public class EditSeedPacketController {
 			});
 			return addNewCell ;
 		});
-
-		manufacturerCombo.setValue(seedPacket.getManufacturer());
 	}
 
 
@@ -274,16 +368,8 @@ public class EditSeedPacketController {
 	 * Private helper method to set up the behaviour of the type combo box.
 	 */
 	private void setUpTypeComboBox() {
-
-		List<Type> types = typeService.loadAll();
-		List<String> typeNames = new ArrayList<String>(asList("")); // Base case for adding new ones
-
-		for (Type type : types) {
-			typeNames.add(type.getName());
-		}
-
-		sort(typeNames);
-		typeCombo.getItems().setAll(typeNames);
+		loadComboBoxNames(typeCombo, () -> typeService.loadAll().stream()
+				.map(Type::getName).collect(Collectors.toList()));
 
 		// Allow a new type to be added from within the combo box
 		typeCombo.setCellFactory(factory -> {
@@ -312,8 +398,6 @@ public class EditSeedPacketController {
 			});
 			return addNewCell ;
 		});
-
-		typeCombo.setValue(seedPacket.getType());	
 	}
 
 
@@ -321,25 +405,8 @@ public class EditSeedPacketController {
 	 * Private helper method to open the Add New Manufacturer pop-up
 	 */
 	private void openAddNewManufacturerPopup(ComboBox<String> manufacturerCombo){
-
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/AddNewManufacturer.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			AddNewManufacturerController addNewManufacturerController = fxmlLoader.getController();
-			addNewManufacturerController.initData(manufacturerCombo);
-
-			stage.setTitle("Add New Manufacturer"); 
-			stage.show();
-
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
+		popupManager.open(Popup.ADD_NEW_MANUFACTURER, "Add New Manufacturer", 
+				addNewManufacturerController -> addNewManufacturerController.initData(manufacturerCombo));
 	}
 
 
@@ -347,30 +414,13 @@ public class EditSeedPacketController {
 	 * Private helper method to open the Add New Type pop-up
 	 */
 	private void openAddNewTypePopup(ComboBox<String> typeCombo){
-
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/AddNewType.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			AddNewTypeController addNewTypeController = fxmlLoader.getController();
-			addNewTypeController.initData(typeCombo);
-
-			stage.setTitle("Add New Type"); 
-			stage.show();
-
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
+		popupManager.open(Popup.ADD_NEW_TYPE, "Add New Type", 
+				addNewTypeController -> addNewTypeController.initData(typeCombo));
 	}
 
 
 	/*
-	 * Private helper method to set up the combo boxes containing months, and map any values from the model.
+	 * Private helper method to set up the combo boxes containing months.
 	 */
 	private void setUpMonthComboBoxes() {
 
@@ -381,22 +431,14 @@ public class EditSeedPacketController {
 		for (ComboBox<Month> comboBox : comboBoxes) {
 			comboBox.getItems().setAll(Month.values());
 		}
-
-		sowingIndoorFromCombo.setValue(seedPacket.getSowingIndoorsStartMonth());
-		sowingIndoorUntilCombo.setValue(seedPacket.getSowingIndoorsEndMonth());
-		sowingOutdoorFromCombo.setValue(seedPacket.getSowingOutdoorsStartMonth());
-		sowingOutdoorUntilCombo.setValue(seedPacket.getSowingOutdoorsEndMonth());	
-		harvestFromCombo.setValue(seedPacket.getHarvestStartMonth());
-		harvestUntilCombo.setValue(seedPacket.getHarvestEndMonth());
-		floweringFromCombo.setValue(seedPacket.getFloweringStartMonth());
-		floweringUntilCombo.setValue(seedPacket.getFloweringEndMonth());
 	}
 
 
 	/*
-	 * Private helper method to apply settings dependent on the application mode.
+	 * Private helper method to apply settings dependent on the application mode. The seed packet to be 
+	 * edited or viewed is loaded on the database thread.
 	 */
-	private void setMode(Mode mode, TableView<SeedPacket> seedPackets) {
+	private void setMode(Mode mode, TableView<SeedPacketSummary> seedPackets) {
 
 		boolean editable = false; 
 		boolean nameFieldEditable = false;
@@ -413,27 +455,21 @@ public class EditSeedPacketController {
 			break;
 
 		case EDIT : 
-			// Ensure we get the most up to date version, not just what's in the table on startup
 			Long seedPacketId = seedPackets.getSelectionModel().getSelectedItem().getId();
-			seedPacket = seedPacketService.loadById(seedPacketId).get();
-			editable = true;
-			nameFieldEditable = false;
-			saveButtonDisabled = false;
-			break;
+			loadSeedPacket(seedPacketId, true, false, false);
+			return;
 
 		case VIEW : 
 			seedPacketId = seedPackets.getSelectionModel().getSelectedItem().getId();
-			seedPacket = seedPacketService.loadById(seedPacketId).get();
-			editable = false;
-			nameFieldEditable = false;
-			saveButtonDisabled = true;
-			break;
+			loadSeedPacket(seedPacketId, false, false, true);
+			return;
 
 		case DELETE:
 			break;
 		}
 
 		setEditable(editable, nameFieldEditable, saveButtonDisabled);
+		mapModelToFields();
 	}
 
 
@@ -490,8 +526,8 @@ public class EditSeedPacketController {
 		});
 
 
-		// Handles when a user presses escape to close the window
-		saveButton.getScene().addEventHandler(KeyEvent.KEY_RELEASED, (KeyEvent event) -> {
+		// Handles when a user presses escape to close the window. Set rather than added, as the pop up is reused
+		saveButton.getScene().setOnKeyReleased((KeyEvent event) -> {
 			if (KeyCode.ESCAPE == event.getCode()) {
 				cancel();
 			}
@@ -503,108 +539,39 @@ public class EditSeedPacketController {
 	 * Open the pop up window detailing the validation failure.
 	 */
 	private void openValidationFailurePopup(String failureMessage) {
-
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/ValidationFailure.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			ValidationFailureController validationFailureController = fxmlLoader.getController();
-			validationFailureController.initData(failureMessage);
-
-			stage.setTitle("Invalid Input!"); 
-			stage.show();
-
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
+		popupManager.open(Popup.VALIDATION_FAILURE, "Invalid Input!", 
+				validationFailureController -> validationFailureController.initData(failureMessage));
 	}
 
 
 	/*
 	 * Private helper method to apply validation (not related to constraint violations on the SeedPacket 
-	 * domain object) prior to saving it in the database. 
+	 * domain object) prior to saving it in the database. Whether the name is already taken is checked 
+	 * by the caller, on the database thread.
 	 */
-	private boolean isValid() {
+	private boolean isValid(boolean alreadyExists) {
 
 		failureMessage = ""; // Ensure message is wiped from any previous validation attempts
 
-		// Checks that the seed packet does not already exist in the database
-		if (mode == Mode.ADD_NEW && seedPacketService.exists(name.getText())) {
-			failureMessage += (name.getText() + " already exists in the database.\n");
-		}
-
-		// Checks that the pack size (if set) is a valid numeric value
-		String packSizeInput = packSize.getText();
-		if (packSizeInput != null && !isNumeric(packSizeInput)) {
-			failureMessage += packSizeInput + " is not a valid pack size.\n";
-		}
-
-		// Checks that the number of seeds remaining (if set) is a valid numeric value
-		String numberRemainingInput = numberRemaining.getText();
-		if (numberRemainingInput != null && !isNumeric(numberRemainingInput)) {
-			failureMessage += numberRemainingInput + " is not a valid number remaining.\n";
+		SeedPacketInput input = new SeedPacketInput();
+		input.setName(name.getText());
+		input.setPackSize(packSize.getText());
+		input.setNumberRemaining(numberRemaining.getText());
+		input.setExpirationDate(expirationDate.getText());
+		input.setSowingIndoorsStartMonth(sowingIndoorFromCombo.getValue());
+		input.setSowingIndoorsEndMonth(sowingIndoorUntilCombo.getValue());
+		input.setSowingOutdoorsStartMonth(sowingOutdoorFromCombo.getValue());
+		input.setSowingOutdoorsEndMonth(sowingOutdoorUntilCombo.getValue());
+		input.setHarvestStartMonth(harvestFromCombo.getValue());
+		input.setHarvestEndMonth(harvestUntilCombo.getValue());
+		input.setFloweringStartMonth(floweringFromCombo.getValue());
+		input.setFloweringEndMonth(floweringUntilCombo.getValue());
+
+		for (String failure : seedPacketValidator.validate(input, alreadyExists)) {
+			failureMessage += failure + "\n";
 		}
 
-		// Checks that the number of seeds remaining is not greater than the initial pack size
-		if (isNumeric(packSizeInput) && isNumeric(numberRemainingInput)
-				&& valueOf(numberRemainingInput) > valueOf(packSizeInput)) {
-			failureMessage += "There are more seeds remaining than the pack should contain!\n";
-		}
-
-		// Checks that the expiration year is valid (YYYY, 2000 or greater)
-		String expirationDateInput = expirationDate.getText();
-		if (expirationDateInput != null && !isYear(expirationDateInput)) {
-			failureMessage += expirationDateInput + " is not a valid year.\n";
-		}
-
-		/* Checks that if a 'from' combobox is selected, the corresponding 'until' box 
-		 * is also selected, and vice versa */
-		if(sowingIndoorFromCombo.getSelectionModel().isEmpty() != sowingIndoorUntilCombo.getSelectionModel().isEmpty()) {
-			failureMessage += "Sowing indoor times are incomplete.\n";
-		}
-
-		if(sowingOutdoorFromCombo.getSelectionModel().isEmpty() != sowingOutdoorUntilCombo.getSelectionModel().isEmpty()) {
-			failureMessage += "Sowing outdoor times are incomplete.\n";
-		}
-
-		if(harvestFromCombo.getSelectionModel().isEmpty() != harvestUntilCombo.getSelectionModel().isEmpty()) {
-			failureMessage += "Harvesting times are incomplete.\n";
-		}
-
-		if(floweringFromCombo.getSelectionModel().isEmpty() != floweringUntilCombo.getSelectionModel().isEmpty()) {
-			failureMessage += "Flowering times are incomplete.\n";
-		}
-
-		if (failureMessage.isBlank()) {
-			return true;
-		} else {
-			return false;
-		}
-	}
-
-
-	/*
-	 * Private helper method to check whether a string is a positive integer
-	 */
-	private boolean isNumeric(String string) {
-		if (string == null || string.isBlank()) {
-			return false;
-		}
-		return string.matches("^\\d*$");
-	}
-
-
-	/*
-	 * Private helper method to check whether a string is a valid year (YYYY) or zero
-	 */
-	private boolean isYear(String string) {
-		Pattern pattern = compile("(20[0-9]{2}$)|0");
-		return pattern.matcher(string).matches();
+		return failureMessage.isBlank();
 	}
 
 
@@ -620,19 +587,4 @@ public class EditSeedPacketController {
 		}
 	}
 
-
-	/*
-	 * Private helper method to refresh the TableView to add any new seed packets, and update 
-	 * any existing seed packets that have changed.
-	 */
-	private void refreshTableView() {
-		/*  As we re-load on entering to make sure we have the most up-to-date copy from the DB, we 
-		 *  need to be sure to delete the version already in the backing list and replace it with the 
-		 *  new copy if running in edit mode. */
-		if (mode == Mode.EDIT) { 
-			seedPackets.getItems().removeIf(p -> p.getId() == seedPacket.getId());
-		}
-		seedPackets.getItems().add(seedPacket);
-	}
-
 }
@@ -1,17 +1,18 @@
 package application.controllers;
 
-import static javafx.stage.WindowEvent.WINDOW_CLOSE_REQUEST;
 
-import java.time.LocalDate;
 
+import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Controller;
 
+import application.async.DatabaseExecutor;
+import application.clock.ClockService;
 import application.currentlygrowing.CurrentlyGrowing;
-import application.currentlygrowing.CurrentlyGrowingService;
-import application.previouslygrowing.PreviouslyGrowing;
-import application.previouslygrowing.PreviouslyGrowingService;
+import application.growing.GrowingLifecycleService;
+import application.growing.GrowingOutcome;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.TableView;
@@ -19,8 +20,6 @@ import javafx.scene.control.TextArea;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
-import javafx.stage.Stage;
-import javafx.stage.WindowEvent;
 
 
 /**
@@ -28,7 +27,7 @@ import javafx.stage.WindowEvent;
  */
 @Controller
 @Scope("prototype")
-public class FinishedController {
+public class FinishedController implements PopupController {
 
 	@FXML private TextArea performanceNotes;
 
@@ -36,18 +35,16 @@ public class FinishedController {
 	@FXML private Button cancelButton;
 
 	private CurrentlyGrowing currentlyGrowingRecord;
-	private PreviouslyGrowing previouslyGrowingRecord = new PreviouslyGrowing();
-	private TableView<CurrentlyGrowing> table;
 
-	@Autowired private PreviouslyGrowingService previouslyGrowingService;
-	@Autowired private CurrentlyGrowingService currentlyGrowingService;
+	@Autowired private GrowingLifecycleService growingLifecycleService;
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private ClockService clockService;
 
 
 	/**
 	 * Initialise the data.
 	 */
 	void initData(TableView<CurrentlyGrowing> table) {
-		this.table = table;
 		currentlyGrowingRecord = table.getSelectionModel().getSelectedItem();
 
 		saveFinishedButton.defaultButtonProperty().bind(saveFinishedButton.focusedProperty());
@@ -56,18 +53,34 @@ public class FinishedController {
 	}
 
 
+	/**
+	 * Reset the pop up, so that it is empty when next opened.
+	 */
+	@Override
+	public void reset() {
+		currentlyGrowingRecord = null;
+		performanceNotes.clear();
+		saveFinishedButton.setDisable(false);
+	}
+
+
 	/*
-	 * Method to save the previously growing record and close the window, triggered when the user presses 
-	 * the relevant button.
+	 * Method to finish the currently growing record, moving it to the previously growing records, and close 
+	 * the window, triggered when the user presses the relevant button.
 	 */
 	@FXML
 	private void save() {
-		mapFieldsToModel();
-		previouslyGrowingService.save(previouslyGrowingRecord);
-		currentlyGrowingService.delete(currentlyGrowingRecord);
-		table.refresh();
-		fireCloseEvent();
-		saveFinishedButton.getScene().getWindow().hide();
+		Long id = currentlyGrowingRecord.getId();
+		GrowingOutcome outcome = new GrowingOutcome(clockService.today(), true, null, performanceNotes.getText(), null); // TODO star rating
+
+		// Moved in one transaction on the database thread, with the save button disabled until done
+		saveFinishedButton.setDisable(true);
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> growingLifecycleService.finish(id, outcome)), 
+		finished -> saveFinishedButton.getScene().getWindow().hide(), 
+		failure -> {
+			saveFinishedButton.setDisable(false);
+			Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to finish the record.", failure);
+		});
 	}
 
 
@@ -80,30 +93,6 @@ public class FinishedController {
 	}
 
 
-	/*
-	 * Private helper method to map the values displayed in the fields to the model.
-	 */
-	private void mapFieldsToModel() {
-
-		previouslyGrowingRecord.setDateClosed(LocalDate.now());
-		previouslyGrowingRecord.setSuccessful(true);
-		previouslyGrowingRecord.setStarRating(null); // TODO
-		previouslyGrowingRecord.setPerformanceNotes(performanceNotes.getText());
-
-		previouslyGrowingRecord.setId(currentlyGrowingRecord.getId());
-		previouslyGrowingRecord.setSeedPacket(currentlyGrowingRecord.getSeedPacket());
-		previouslyGrowingRecord.setIndoors(currentlyGrowingRecord.isIndoors());
-		previouslyGrowingRecord.setLocation(currentlyGrowingRecord.getLocation());
-		previouslyGrowingRecord.setNotes(currentlyGrowingRecord.getNotes());
-		previouslyGrowingRecord.setDateSown(currentlyGrowingRecord.getDateSown());
-		previouslyGrowingRecord.setDateGerminated(currentlyGrowingRecord.getDateGerminated());
-		previouslyGrowingRecord.setDateEstablished(currentlyGrowingRecord.getDateEstablished());	
-		previouslyGrowingRecord.setNumberSown(currentlyGrowingRecord.getNumberSown());
-		previouslyGrowingRecord.setNumberGerminated(currentlyGrowingRecord.getNumberGerminated());
-		previouslyGrowingRecord.setNumberEstablished(currentlyGrowingRecord.getNumberEstablished());	
-	}
-
-
 	/*
 	 * Private helper method to initialise the event handling.
 	 */
@@ -118,14 +107,4 @@ public class FinishedController {
 		});
 	}
 
-
-	/* 
-	 * Private helper method to fire an event when this pop up closes.
-	 */
-	private void fireCloseEvent() {
-		Stage stage = (Stage) saveFinishedButton.getScene().getWindow();
-		saveFinishedButton.setOnAction(event -> stage.fireEvent(new WindowEvent(stage, WINDOW_CLOSE_REQUEST)));
-		stage.hide();
-	}
-
 }
@@ -0,0 +1,242 @@
+package application.controllers;
+
+import static java.util.Collections.nCopies;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+
+import application.async.DatabaseExecutor;
+import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+
+/**
+ * A read-through {@link ObservableList} of {@link SeedPacketSummary}s which only holds the pages of the
+ * catalog that have recently been displayed. Rows are fetched in the background, a page at a time,
+ * when they are first requested by the table, and the sorting is carried out by the database.
+ *
+ * Until its page has been fetched, a row reads as null. Once the page arrives the rows are replaced,
+ * prompting the table to redraw them. The list is reloaded whenever the seed packets change, so is 
+ * unmodifiable: seed packets are added and removed through the {@link SeedPacketService}.
+ */
+class PagedSeedPacketList extends ObservableListBase<SeedPacketSummary> {
+
+	private static final int MAXIMUM_PAGES_HELD = 10;
+
+	private final SeedPacketService seedPacketService;
+	private final int pageSize;
+	private final Executor backgroundExecutor;
+	private final Executor fxExecutor;
+
+	private final Map<Integer, List<SeedPacketSummary>> pages = new LinkedHashMap<Integer, List<SeedPacketSummary>>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, List<SeedPacketSummary>> eldest) {
+			return size() > MAXIMUM_PAGES_HELD;
+		}
+	};
+	private final Set<Integer> pendingPages = new HashSet<>();
+
+	private Logger logger = LoggerFactory.getLogger(PagedSeedPacketList.class);
+
+	private Sort sort = Sort.unsorted();
+	private int size;
+	private int generation;
+
+
+	/**
+	 * Creates the list, loading pages on the database thread and publishing them on the JavaFX
+	 * Application Thread.
+	 * @param seedPacketService The service used to count and load the seed packets
+	 * @param changes A value which changes whenever the seed packets do, e.g. the revision of the 
+	 * {@link SeedPacketList}
+	 * @param pageSize The number of seed packets to fetch at a time
+	 * @param databaseExecutor The executor for database work
+	 */
+	PagedSeedPacketList(SeedPacketService seedPacketService, ObservableValue<?> changes, int pageSize,
+			DatabaseExecutor databaseExecutor) {
+		this(seedPacketService, changes, pageSize, databaseExecutor, databaseExecutor.getFxExecutor());
+	}
+
+
+	/**
+	 * Creates the list.
+	 * @param seedPacketService The service used to count and load the seed packets
+	 * @param changes A value which changes whenever the seed packets do, e.g. the revision of the 
+	 * {@link SeedPacketList}
+	 * @param pageSize The number of seed packets to fetch at a time
+	 * @param backgroundExecutor The executor on which the database is queried
+	 * @param fxExecutor The executor on which the results are published
+	 */
+	PagedSeedPacketList(SeedPacketService seedPacketService, ObservableValue<?> changes, int pageSize,
+			Executor backgroundExecutor, Executor fxExecutor) {
+		this.seedPacketService = seedPacketService;
+		this.pageSize = pageSize;
+		this.backgroundExecutor = backgroundExecutor;
+		this.fxExecutor = fxExecutor;
+		changes.addListener((observable, oldValue, newValue) -> refresh());
+		refresh();
+	}
+
+
+	@Override
+	public SeedPacketSummary get(int index) {
+		Objects.checkIndex(index, size);
+
+		int pageNumber = index / pageSize;
+		List<SeedPacketSummary> page = pages.get(pageNumber);
+
+		if (page == null) {
+			loadPage(pageNumber);
+			return null;
+		}
+
+		int offset = index % pageSize;
+		return offset < page.size() ? page.get(offset) : null;
+	}
+
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+
+	/**
+	 * Sets the order in which the database should sort the seed packets, and reloads the list.
+	 * @param sort The sort order
+	 */
+	void sort(Sort sort) {
+		this.sort = sort;
+		refresh();
+	}
+
+
+	/**
+	 * Discards all of the pages held, and re-counts the seed packets in the database. Pages are
+	 * fetched again as they are requested.
+	 */
+	void refresh() {
+		int requestGeneration = ++generation;
+		backgroundExecutor.execute(() -> {
+			try {
+				int count = (int) seedPacketService.count();
+				fxExecutor.execute(() -> reset(requestGeneration, count));
+			} catch (RuntimeException e) {
+				logger.error("Failed to count the seed packets in the database", e);
+			}
+		});
+	}
+
+
+	/**
+	 * Not supported, as the list is read from the database.
+	 * @throws UnsupportedOperationException Always
+	 */
+	@Override
+	public boolean add(SeedPacketSummary seedPacket) {
+		throw new UnsupportedOperationException("Seed packets must be saved through the SeedPacketService");
+	}
+
+
+	/**
+	 * Not supported, as the list is read from the database.
+	 * @throws UnsupportedOperationException Always
+	 */
+	@Override
+	public boolean remove(Object seedPacket) {
+		throw new UnsupportedOperationException("Seed packets must be deleted through the SeedPacketService");
+	}
+
+
+	/**
+	 * Not supported, as the list is read from the database, and applying the predicate would require 
+	 * every page to be fetched.
+	 * @throws UnsupportedOperationException Always
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super SeedPacketSummary> filter) {
+		throw new UnsupportedOperationException("Seed packets must be deleted through the SeedPacketService");
+	}
+
+
+	/*
+	 * Private helper method to fetch a page of seed packets in the background, unless it is
+	 * already being fetched.
+	 */
+	private void loadPage(int pageNumber) {
+		if (!pendingPages.add(pageNumber)) {
+			return;
+		}
+
+		int requestGeneration = generation;
+		Sort requestSort = sort;
+
+		backgroundExecutor.execute(() -> {
+			try {
+				List<SeedPacketSummary> page = seedPacketService.loadSummaryPage(pageNumber, pageSize, requestSort).getContent();
+				fxExecutor.execute(() -> pageLoaded(requestGeneration, pageNumber, page));
+			} catch (RuntimeException e) {
+				logger.error("Failed to load page " + pageNumber + " of the seed packets", e);
+				fxExecutor.execute(() -> pendingPages.remove(pageNumber)); // Allow the page to be retried
+			}
+		});
+	}
+
+
+	/*
+	 * Private helper method to store a fetched page, and notify listeners that its rows have
+	 * been replaced. Pages fetched before the list was last reloaded are discarded.
+	 */
+	private void pageLoaded(int requestGeneration, int pageNumber, List<SeedPacketSummary> page) {
+		if (requestGeneration != generation) {
+			return;
+		}
+
+		pendingPages.remove(pageNumber);
+		pages.put(pageNumber, page);
+
+		int from = pageNumber * pageSize;
+		int to = Math.min(from + page.size(), size);
+		if (from < to) {
+			beginChange();
+			nextReplace(from, to, nCopies(to - from, null));
+			endChange();
+		}
+	}
+
+
+	/*
+	 * Private helper method to discard the pages held and set the new size of the list.
+	 */
+	private void reset(int requestGeneration, int count) {
+		if (requestGeneration != generation) {
+			return;
+		}
+
+		List<SeedPacketSummary> removed = nCopies(size, null);
+		pages.clear();
+		pendingPages.clear();
+		size = count;
+
+		beginChange();
+		nextReplace(0, size, removed);
+		endChange();
+	}
+
+}
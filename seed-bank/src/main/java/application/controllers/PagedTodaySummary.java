@@ -0,0 +1,225 @@
+package application.controllers;
+
+import static application.seeds.CalendarWindow.SOWING_INDOORS;
+import static application.seeds.CalendarWindow.SOWING_OUTDOORS;
+import static java.util.Comparator.comparing;
+import static javafx.collections.FXCollections.observableArrayList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import application.async.DatabaseExecutor;
+import application.currentlygrowing.CurrentlyGrowing;
+import application.seeds.SeedPacketName;
+import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+
+/**
+ * The lists and counts shown on the today tab, for a catalog too large to hold in memory. Rather
+ * than following an in-memory list of every seed packet, the summary queries the database for just
+ * the seed packets in window this month, the names of those currently growing, and the counts.
+ * The queries are run on the database thread, and re-run whenever the seed packets change, the
+ * currently growing records change, or the month or year changes.
+ *
+ * Must be used on the JavaFX Application Thread.
+ */
+class PagedTodaySummary implements TodayTabSummary {
+
+	private final SeedPacketService seedPacketService;
+	private final DatabaseExecutor databaseExecutor;
+	private final ObservableList<CurrentlyGrowing> currentlyGrowing;
+
+	private final ObservableList<SeedPacketSummary> canBeSownIndoors = observableArrayList();
+	private final ObservableList<SeedPacketSummary> canBeSownOutdoors = observableArrayList();
+	private final ObservableList<SeedPacketName> currentlyGrowingSeedPackets = observableArrayList();
+
+	private final ReadOnlyIntegerWrapper seedPacketCount = new ReadOnlyIntegerWrapper();
+	private final ReadOnlyIntegerWrapper expiredCount = new ReadOnlyIntegerWrapper();
+	private final ReadOnlyIntegerWrapper emptyCount = new ReadOnlyIntegerWrapper();
+
+	private Logger logger = LoggerFactory.getLogger(PagedTodaySummary.class);
+
+	private LocalDate today;
+	private int generation;
+	private int currentlyGrowingGeneration;
+
+
+	/**
+	 * Creates the summary, and starts loading it.
+	 * @param seedPacketService The service used to query the seed packets
+	 * @param databaseExecutor The executor for database work
+	 * @param changes A value which changes whenever the seed packets do, e.g. the revision of the
+	 * {@link SeedPacketList}
+	 * @param currentlyGrowing The currently growing records
+	 * @param today Today's date
+	 */
+	PagedTodaySummary(SeedPacketService seedPacketService, DatabaseExecutor databaseExecutor, ObservableValue<?> changes,
+			ObservableList<CurrentlyGrowing> currentlyGrowing, LocalDate today) {
+		this.seedPacketService = seedPacketService;
+		this.databaseExecutor = databaseExecutor;
+		this.currentlyGrowing = currentlyGrowing;
+		this.today = today;
+
+		changes.addListener((observable, oldValue, newValue) -> refresh());
+		currentlyGrowing.addListener((ListChangeListener<CurrentlyGrowing>) change -> refreshCurrentlyGrowing());
+		refresh();
+	}
+
+
+	@Override
+	public void setToday(LocalDate date) {
+		LocalDate previous = today;
+		today = date;
+
+		if (previous.getMonth() != date.getMonth() || previous.getYear() != date.getYear()) {
+			refresh();
+		}
+	}
+
+
+	@Override
+	public LocalDate getToday() {
+		return today;
+	}
+
+
+	@Override
+	public ObservableList<SeedPacketSummary> getCanBeSownIndoors() {
+		return canBeSownIndoors;
+	}
+
+
+	@Override
+	public ObservableList<SeedPacketSummary> getCanBeSownOutdoors() {
+		return canBeSownOutdoors;
+	}
+
+
+	@Override
+	public ObservableList<SeedPacketName> getCurrentlyGrowingSeedPackets() {
+		return currentlyGrowingSeedPackets;
+	}
+
+
+	@Override
+	public ReadOnlyIntegerProperty seedPacketCount() {
+		return seedPacketCount.getReadOnlyProperty();
+	}
+
+
+	@Override
+	public IntegerBinding canBeSownIndoorsCount() {
+		return Bindings.size(canBeSownIndoors);
+	}
+
+
+	@Override
+	public IntegerBinding canBeSownOutdoorsCount() {
+		return Bindings.size(canBeSownOutdoors);
+	}
+
+
+	@Override
+	public IntegerBinding currentlyGrowingCount() {
+		return Bindings.size(currentlyGrowing);
+	}
+
+
+	@Override
+	public ReadOnlyIntegerProperty expiredCountProperty() {
+		return expiredCount.getReadOnlyProperty();
+	}
+
+
+	@Override
+	public ReadOnlyIntegerProperty emptyCountProperty() {
+		return emptyCount.getReadOnlyProperty();
+	}
+
+
+	/*
+	 * Private helper method to reload the lists and counts for today's date. Results of queries
+	 * overtaken by a later refresh are discarded.
+	 */
+	private void refresh() {
+		int requestGeneration = ++generation;
+		LocalDate date = today;
+
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> new Loaded(
+				seedPacketService.loadSummariesInWindow(SOWING_INDOORS, date.getMonth()),
+				seedPacketService.loadSummariesInWindow(SOWING_OUTDOORS, date.getMonth()),
+				seedPacketService.count(), seedPacketService.countExpired(date.getYear()), seedPacketService.countEmpty())),
+				loaded -> {
+					if (requestGeneration == generation) {
+						canBeSownIndoors.setAll(loaded.canBeSownIndoors);
+						canBeSownOutdoors.setAll(loaded.canBeSownOutdoors);
+						seedPacketCount.set((int) loaded.seedPacketCount);
+						expiredCount.set((int) loaded.expiredCount);
+						emptyCount.set((int) loaded.emptyCount);
+					}
+				},
+				failure -> logger.error("Failed to load the summary for " + date, failure));
+
+		refreshCurrentlyGrowing(); // Names may have changed too
+	}
+
+
+	/*
+	 * Private helper method to reload the names of the seed packets with at least one currently
+	 * growing record.
+	 */
+	private void refreshCurrentlyGrowing() {
+		int requestGeneration = ++currentlyGrowingGeneration;
+		Set<Long> ids = new LinkedHashSet<>();
+		currentlyGrowing.stream().map(CurrentlyGrowing::getSeedPacket).filter(Objects::nonNull).forEach(ids::add);
+
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> seedPacketService.loadNamesById(ids)),
+				names -> {
+					if (requestGeneration == currentlyGrowingGeneration) {
+						List<SeedPacketName> sorted = new ArrayList<>(names);
+						sorted.sort(comparing(SeedPacketName::getName));
+						currentlyGrowingSeedPackets.setAll(sorted);
+					}
+				},
+				failure -> logger.error("Failed to load the names of the seed packets currently growing", failure));
+	}
+
+
+	/*
+	 * The results of the queries made by a refresh, handed from the database thread to the JavaFX
+	 * Application Thread.
+	 */
+	private static class Loaded {
+
+		private final List<SeedPacketSummary> canBeSownIndoors;
+		private final List<SeedPacketSummary> canBeSownOutdoors;
+		private final long seedPacketCount;
+		private final long expiredCount;
+		private final long emptyCount;
+
+		private Loaded(List<SeedPacketSummary> canBeSownIndoors, List<SeedPacketSummary> canBeSownOutdoors,
+				long seedPacketCount, long expiredCount, long emptyCount) {
+			this.canBeSownIndoors = canBeSownIndoors;
+			this.canBeSownOutdoors = canBeSownOutdoors;
+			this.seedPacketCount = seedPacketCount;
+			this.expiredCount = expiredCount;
+			this.emptyCount = emptyCount;
+		}
+	}
+
+}
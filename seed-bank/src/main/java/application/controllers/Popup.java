@@ -0,0 +1,53 @@
+package application.controllers;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+
+/**
+ * The pop ups opened by the {@link PopupManager}, each typed by its controller.
+ * @param <C> The type of the controller of the pop up
+ */
+public final class Popup<C> {
+
+	public static final Popup<EditSeedPacketController> EDIT_SEED_PACKET = new Popup<>("/fxml/popups/EditSeedPacket.fxml");
+	public static final Popup<SowNewController> SOW_NEW = new Popup<>("/fxml/popups/SowNew.fxml");
+	public static final Popup<ProgressController> PROGRESS = new Popup<>("/fxml/popups/Progress.fxml");
+	public static final Popup<FinishedController> FINISHED = new Popup<>("/fxml/popups/Finished.fxml");
+	public static final Popup<ConfirmDeleteController> CONFIRM_DELETE = new Popup<>("/fxml/popups/ConfirmDelete.fxml");
+	public static final Popup<ValidationFailureController> VALIDATION_FAILURE = new Popup<>("/fxml/popups/ValidationFailure.fxml");
+	public static final Popup<AddNewManufacturerController> ADD_NEW_MANUFACTURER = new Popup<>("/fxml/popups/AddNewManufacturer.fxml");
+	public static final Popup<AddNewTypeController> ADD_NEW_TYPE = new Popup<>("/fxml/popups/AddNewType.fxml");
+
+	/**
+	 * Every pop up, in the order they are preloaded.
+	 */
+	public static final List<Popup<?>> ALL = unmodifiableList(asList(
+			EDIT_SEED_PACKET, SOW_NEW, PROGRESS, FINISHED, CONFIRM_DELETE, VALIDATION_FAILURE, 
+			ADD_NEW_MANUFACTURER, ADD_NEW_TYPE));
+
+	private final String fxml;
+
+
+	private Popup(String fxml) {
+		this.fxml = fxml;
+	}
+
+
+	/**
+	 * Gets the location of the FXML for the pop up.
+	 * @return The classpath location of the FXML file
+	 */
+	public String getFxml() {
+		return fxml;
+	}
+
+
+	@Override
+	public String toString() {
+		return fxml;
+	}
+
+}
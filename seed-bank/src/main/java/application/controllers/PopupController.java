@@ -0,0 +1,16 @@
+package application.controllers;
+
+
+/**
+ * A controller for a pop up which is kept by the {@link PopupManager} and reused, rather than 
+ * loaded afresh each time the pop up is opened.
+ */
+public interface PopupController {
+
+	/**
+	 * Resets the pop up to the state it was in when first loaded, ready to be initialised again. 
+	 * Called each time the pop up is hidden.
+	 */
+	void reset();
+
+}
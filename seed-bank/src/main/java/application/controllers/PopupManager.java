@@ -0,0 +1,174 @@
+package application.controllers;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+
+/**
+ * Opens the pop up windows. Each pop up is parsed from its FXML once, and its stage and controller 
+ * kept and reused when it is next opened, so that opening a pop up does not wait on the FXML being 
+ * parsed and the scene graph being built. Controllers implementing {@link PopupController} are reset 
+ * each time their pop up is hidden.
+ *
+ * A further instance is only loaded if a pop up is opened while every kept instance of it is still 
+ * showing, e.g. viewing one seed packet while editing another. All methods must be called on the 
+ * JavaFX Application Thread.
+ */
+@Component
+public class PopupManager {
+
+	@Autowired private ApplicationContext applicationContext;
+
+	private final Map<Popup<?>, Deque<Instance<?>>> idleInstances = new HashMap<>();
+
+
+	/**
+	 * Opens the pop up.
+	 * @param popup The pop up to open
+	 * @param title The title of the window
+	 * @param initialiser Initialises the controller before the window is shown, e.g. by calling its initData method
+	 */
+	public <C> void open(Popup<C> popup, String title, Consumer<C> initialiser) {
+		open(popup, title, initialiser, null);
+	}
+
+
+	/**
+	 * Opens the pop up, and runs the callback once it has been hidden.
+	 * @param popup The pop up to open
+	 * @param title The title of the window
+	 * @param initialiser Initialises the controller before the window is shown, e.g. by calling its initData method
+	 * @param onHidden Run when the window is hidden, e.g. to refresh the data behind the window that opened it. May be null
+	 */
+	public <C> void open(Popup<C> popup, String title, Consumer<C> initialiser, Runnable onHidden) {
+		Instance<C> instance = takeIdleInstance(popup);
+		if (instance == null) {
+			return;
+		}
+
+		try {
+			initialiser.accept(instance.controller);
+		} catch (RuntimeException e) {
+			release(instance);
+			throw e;
+		}
+
+		instance.onHidden = onHidden;
+		instance.stage.setTitle(title);
+		instance.stage.show();
+		instance.stage.toFront();
+	}
+
+
+	/**
+	 * Loads one instance of each pop up which does not already have one waiting, a pop up at a time 
+	 * so that the UI is not held up, ready to be opened instantly.
+	 */
+	public void preload() {
+		for (Popup<?> popup : Popup.ALL) {
+			Platform.runLater(() -> {
+				if (idleInstances(popup).isEmpty()) {
+					Instance<?> instance = load(popup);
+					if (instance != null) {
+						idleInstances(popup).push(instance);
+					}
+				}
+			});
+		}
+	}
+
+
+	/*
+	 * Private helper method to take a waiting instance of the pop up, or load a new one if there are none.
+	 */
+	@SuppressWarnings("unchecked")
+	private <C> Instance<C> takeIdleInstance(Popup<C> popup) {
+		Instance<C> instance = (Instance<C>) idleInstances(popup).poll();
+		return instance != null ? instance : load(popup);
+	}
+
+
+	/*
+	 * Private helper method to parse the FXML of the pop up, and build its stage.
+	 */
+	private <C> Instance<C> load(Popup<C> popup) {
+		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(popup.getFxml()));
+		fxmlLoader.setControllerFactory(applicationContext::getBean);
+
+		try {
+			Parent root = fxmlLoader.load();
+			Stage stage = new Stage();
+			stage.setScene(new Scene(root));
+
+			Instance<C> instance = new Instance<>(popup, stage, fxmlLoader.getController());
+			stage.setOnHidden(event -> {
+				Runnable onHidden = instance.onHidden;
+				release(instance);
+				if (onHidden != null) {
+					onHidden.run();
+				}
+			});
+			return instance;
+
+		} catch (IOException e) {
+			Logger logger = Logger.getLogger(getClass().getName());
+			logger.log(Level.ERROR, "Failed to create new Window.", e);
+			return null;
+		}
+	}
+
+
+	/*
+	 * Private helper method to reset an instance and return it to those waiting to be opened.
+	 */
+	private void release(Instance<?> instance) {
+		instance.onHidden = null;
+		if (instance.controller instanceof PopupController) {
+			((PopupController) instance.controller).reset();
+		}
+		idleInstances(instance.popup).push(instance);
+	}
+
+
+	/*
+	 * Private helper method to get the instances of the pop up waiting to be opened.
+	 */
+	private Deque<Instance<?>> idleInstances(Popup<?> popup) {
+		return idleInstances.computeIfAbsent(popup, p -> new ArrayDeque<>());
+	}
+
+
+	/*
+	 * A loaded pop up; its stage and controller.
+	 */
+	private static class Instance<C> {
+
+		private final Popup<C> popup;
+		private final Stage stage;
+		private final C controller;
+		private Runnable onHidden;
+
+		Instance(Popup<C> popup, Stage stage, C controller) {
+			this.popup = popup;
+			this.stage = stage;
+			this.controller = controller;
+		}
+	}
+
+}
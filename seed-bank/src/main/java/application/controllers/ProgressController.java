@@ -1,9 +1,7 @@
 package application.controllers;
 
 import static java.util.regex.Pattern.compile;
-import static javafx.stage.WindowEvent.WINDOW_CLOSE_REQUEST;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Iterator;
 import java.util.Set;
@@ -12,18 +10,16 @@ import java.util.regex.Pattern;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 
-import org.jboss.logging.Logger;
-import org.jboss.logging.Logger.Level;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Scope;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 
+import application.async.DatabaseExecutor;
+import application.clock.ClockService;
 import application.currentlygrowing.CurrentlyGrowing;
 import application.currentlygrowing.CurrentlyGrowingService;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.DatePicker;
@@ -34,9 +30,6 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
-import javafx.scene.layout.Pane;
-import javafx.stage.Stage;
-import javafx.stage.WindowEvent;
 
 
 /**
@@ -44,7 +37,7 @@ import javafx.stage.WindowEvent;
  */
 @Controller
 @Scope("prototype")
-public class ProgressController {
+public class ProgressController implements PopupController {
 
 	@FXML private Label progressDateLabel;
 	@FXML private Label progressNumberLabel;
@@ -56,7 +49,9 @@ public class ProgressController {
 	@FXML private Button cancelProgressButton;
 
 	@Autowired private CurrentlyGrowingService currentlyGrowingService;
-	@Autowired private ApplicationContext applicationContext;
+	@Autowired private PopupManager popupManager;
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private ClockService clockService;
 
 	private TableView<CurrentlyGrowing> table;
 	private CurrentlyGrowing currentlyGrowingRecord;
@@ -76,6 +71,18 @@ public class ProgressController {
 	}
 
 
+	/**
+	 * Reset the pop up, releasing the record it was opened for.
+	 */
+	@Override
+	public void reset() {
+		table = null;
+		currentlyGrowingRecord = null;
+		failureMessage = "";
+		saveProgressButton.setDisable(false);
+	}
+
+
 	/*
 	 * Method to save the progression and close the window, triggered when the user presses 
 	 * the relevant button.
@@ -83,18 +90,26 @@ public class ProgressController {
 	@FXML
 	private void save() {
 		if (isValid()) {
-			try {
-				mapFieldsToModel();
-				currentlyGrowingService.save(currentlyGrowingRecord);
-				table.refresh();;
-				fireCloseEvent();
-				saveProgressButton.getScene().getWindow().hide();
-			} catch (ConstraintViolationException e) {
-				populateConstraintViolationMessages(e);
-			}
-		}
-
-		if (failureMessage.length() > 0) {
+			// A copy is progressed, so that the record shown in the tables is only replaced once saved
+			CurrentlyGrowing progressedRecord = currentlyGrowingRecord.copy();
+			mapFieldsToModel(progressedRecord);
+
+			// Saved on the database thread, with the save button disabled until done
+			saveProgressButton.setDisable(true);
+			databaseExecutor.onFxThread(databaseExecutor.run(() -> currentlyGrowingService.save(progressedRecord)), 
+					saved -> saveProgressButton.getScene().getWindow().hide(), 
+					failure -> {
+						saveProgressButton.setDisable(false);
+						if (failure instanceof ConstraintViolationException) {
+							populateConstraintViolationMessages((ConstraintViolationException) failure);
+						} else if (failure instanceof OptimisticLockingFailureException) {
+							failureMessage += ValidationFailureController.changedElsewhereMessage("This record");
+						} else {
+							failureMessage += "Failed to save: " + failure.getMessage() + "\n";
+						}
+						openValidationFailurePopup(failureMessage);
+					});
+		} else {
 			openValidationFailurePopup(failureMessage);
 		}
 	}
@@ -110,20 +125,20 @@ public class ProgressController {
 
 
 	/*
-	 * Private helper method to map the values displayed in the fields to the model.
+	 * Private helper method to map the values displayed in the fields to the record to be saved.
 	 */
-	private void mapFieldsToModel() {
+	private void mapFieldsToModel(CurrentlyGrowing progressedRecord) {
 
 		if (isPhase1) {
-			currentlyGrowingRecord.setDateGerminated(progressDatePicker.getValue());
-			currentlyGrowingRecord.setNumberGerminated(Integer.valueOf(progressNumberField.getText()));
+			progressedRecord.setDateGerminated(progressDatePicker.getValue());
+			progressedRecord.setNumberGerminated(Integer.valueOf(progressNumberField.getText()));
 		} else {
-			currentlyGrowingRecord.setDateEstablished(progressDatePicker.getValue());
-			currentlyGrowingRecord.setNumberEstablished(Integer.valueOf(progressNumberField.getText()));
+			progressedRecord.setDateEstablished(progressDatePicker.getValue());
+			progressedRecord.setNumberEstablished(Integer.valueOf(progressNumberField.getText()));
 		}
 
 		if (plantOutCheckBox.isSelected()) { // Plant out if appropriate
-			currentlyGrowingRecord.setIndoors(false);		
+			progressedRecord.setIndoors(false);		
 		}
 	}
 
@@ -157,7 +172,7 @@ public class ProgressController {
 		progressNumberLabel.setText(isPhase1 ? "Number Germinated:" : "Number Established:");
 
 		// Set the defaults
-		progressDatePicker.setValue(LocalDate.now());
+		progressDatePicker.setValue(clockService.today());
 		progressNumberField.setText(isPhase1 ? 
 				currentlyGrowingRecord.getNumberSown().toString() : 
 					currentlyGrowingRecord.getNumberGerminated().toString());
@@ -178,8 +193,8 @@ public class ProgressController {
 			}
 		});
 		
-		// Handles when a user presses escape to close the window
-		saveProgressButton.getScene().addEventHandler(KeyEvent.KEY_RELEASED, (KeyEvent event) -> {
+		// Handles when a user presses escape to close the window. Set rather than added, as the pop up is reused
+		saveProgressButton.getScene().setOnKeyReleased((KeyEvent event) -> {
 			if (KeyCode.ESCAPE == event.getCode()) {
 				cancel();
 			}
@@ -221,7 +236,7 @@ public class ProgressController {
 
 		// Checks that the date used is not in the future
 		LocalDate dateInput = progressDatePicker.getValue();
-		if (dateInput != null && dateInput.isAfter(LocalDate.now())) {
+		if (dateInput != null && dateInput.isAfter(clockService.today())) {
 			failureMessage += "The date cannot be in the future\n";
 		}
 		
@@ -261,25 +276,8 @@ public class ProgressController {
 	 * Open the pop up window detailing the validation failure.
 	 */
 	private void openValidationFailurePopup(String failureMessage) {
-
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/ValidationFailure.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			ValidationFailureController validationFailureController = fxmlLoader.getController();
-			validationFailureController.initData(failureMessage);
-
-			stage.setTitle("Invalid Input!"); 
-			stage.show();
-
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
+		popupManager.open(Popup.VALIDATION_FAILURE, "Invalid Input!", 
+				validationFailureController -> validationFailureController.initData(failureMessage));
 	}
 
 
@@ -295,14 +293,4 @@ public class ProgressController {
 		return pattern.matcher(string).matches();
 	}
 
-
-	/* 
-	 * Private helper method to fire an event when this pop up closes.
-	 */
-	private void fireCloseEvent() {
-		Stage stage = (Stage) saveProgressButton.getScene().getWindow();
-		saveProgressButton.setOnAction(event -> stage.fireEvent(new WindowEvent(stage, WINDOW_CLOSE_REQUEST)));
-		stage.hide();
-	}
-
 }
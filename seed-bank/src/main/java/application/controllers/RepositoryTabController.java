@@ -1,15 +1,26 @@
 package application.controllers;
 
+import javafx.animation.PauseTransition;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumn.SortType;
 import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
@@ -17,22 +28,47 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.layout.Pane;
-import javafx.stage.Stage;
+import javafx.stage.FileChooser;
+import javafx.stage.FileChooser.ExtensionFilter;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.Predicate;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.stereotype.Controller;
 
 import application.Mode;
-import application.seeds.SeedPacket;
+import application.async.ComputeExecutor;
+import application.async.DatabaseExecutor;
+import application.clock.ClockService;
+import application.seeds.CalendarWindow;
+import application.seeds.SeedPacketFilter;
+import application.seeds.SeedPacketImportService;
+import application.seeds.SeedPacketSearchService;
+import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
 
 
 /**
@@ -41,48 +77,79 @@ import application.seeds.SeedPacket;
 @Controller
 public class RepositoryTabController {
 
-	@FXML private TableView<SeedPacket> seedPacketTable;
-	@FXML private TableColumn<SeedPacket, String> nameColumn;
-	@FXML private TableColumn<SeedPacket, String> typeColumn;
-	@FXML private TableColumn<SeedPacket, String> sowIndoorsFromColumn;
-	@FXML private TableColumn<SeedPacket, String> sowIndoorsUntilColumn;
-	@FXML private TableColumn<SeedPacket, String> sowOutdoorsFromColumn;
-	@FXML private TableColumn<SeedPacket, String> sowOutdoorsUntilColumn;
-	@FXML private TableColumn<SeedPacket, String> harvestFromColumn;
-	@FXML private TableColumn<SeedPacket, String> harvestUntilColumn;
-	@FXML private TableColumn<SeedPacket, String> floweringFromColumn;
-	@FXML private TableColumn<SeedPacket, String> floweringUntilColumn;
-	@FXML private TableColumn<SeedPacket, String> sowOutdoorsColumn;
-	@FXML private TableColumn<SeedPacket, String> sowIndoorsColumn;
-	@FXML private TableColumn<SeedPacket, String> harvestColumn;
-	@FXML private TableColumn<SeedPacket, String> floweringColumn;
+	@FXML private TableView<SeedPacketSummary> seedPacketTable;
+	@FXML private TableColumn<SeedPacketSummary, String> nameColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> typeColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> sowIndoorsFromColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> sowIndoorsUntilColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> sowOutdoorsFromColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> sowOutdoorsUntilColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> harvestFromColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> harvestUntilColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> floweringFromColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> floweringUntilColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> sowOutdoorsColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> sowIndoorsColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> harvestColumn;
+	@FXML private TableColumn<SeedPacketSummary, String> floweringColumn;
 
 	@FXML private Button deleteButton;
 	@FXML private Button viewButton;
 	@FXML private Button addButton;
 	@FXML private Button editButton;
+	@FXML private Button importButton;
 	@FXML private Label labelConfirmDelete;
-
-	@Autowired private ApplicationContext applicationContext;
+	@FXML private TextField searchField;
+	@FXML private ComboBox<String> typeFilter;
+	@FXML private ComboBox<String> manufacturerFilter;
+	@FXML private ComboBox<CalendarWindow> windowFilter;
+	@FXML private ComboBox<Month> monthFilter;
+	@FXML private CheckBox expiredFilter;
+	@FXML private CheckBox emptyFilter;
+	@FXML private Button clearFiltersButton;
+
+	@Autowired private PopupManager popupManager;
+	@Autowired private SeedPacketSearchService seedPacketSearchService;
+	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private SeedPacketImportService seedPacketImportService;
+	@Autowired private SeedPacketList seedPacketList;
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private ComputeExecutor computeExecutor;
+	@Autowired private ClockService clockService;
+
+	@Value("${seedbank.repository.filter.delay-millis:250}") private int filterDelayMillis;
+	@Value("${seedbank.repository.filter.background-threshold:10000}") private int backgroundFilterThreshold;
+	@Value("${seedbank.repository.filter.max-results:1000}") private int maximumPagedResults;
 	
-	private ObservableList<SeedPacket> seedPackets;
+	private ObservableList<SeedPacketSummary> seedPackets;
+	private ObservableList<SeedPacketSummary> catalog;
+	private Map<TableColumn<SeedPacketSummary, ?>, String> sortProperties = new HashMap<>();
+
+	private FilteredList<SeedPacketSummary> searchResults;
+	private SortedList<SeedPacketSummary> sortedSearchResults;
+	private ObjectProperty<Comparator<SeedPacketSummary>> rankComparator = new SimpleObjectProperty<>();
+	private PauseTransition filterDelay;
+	private Node defaultPlaceholder;
+	private int filterGeneration;
 	
 	/**
 	 * Gets the table view of seed packets
-	 * @return A {@link TableView} of {@link SeedPacket}s
+	 * @return A {@link TableView} of {@link SeedPacketSummary}s
 	 */
-	TableView<SeedPacket> getTable() {
+	TableView<SeedPacketSummary> getTable() {
 		return seedPacketTable;
 	}
 	
 	
 	/**
 	 * Initialise the controller.
-	 * @param seedPackets The seed packets to be used
+	 * @param seedPackets The seed packets to be used. If these are a {@link PagedSeedPacketList}, the 
+	 * table is sorted by the database
 	 */
-	void initialise(ObservableList<SeedPacket> seedPackets) {
+	void initialise(ObservableList<SeedPacketSummary> seedPackets) {
 		this.seedPackets = seedPackets;
 		initializeRepositoryTable();
+		initializeFilters();
 		initializeEventHandling();
 	}
 
@@ -92,18 +159,279 @@ public class RepositoryTabController {
 	 */
 	private void initializeRepositoryTable() {
 
-		nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-		typeColumn.setCellValueFactory(new PropertyValueFactory<>("type"));	
-		sowIndoorsFromColumn.setCellValueFactory(new PropertyValueFactory<>("sowingIndoorsStartMonth"));
-		sowIndoorsUntilColumn.setCellValueFactory(new PropertyValueFactory<>("sowingIndoorsEndMonth"));
-		sowOutdoorsFromColumn.setCellValueFactory(new PropertyValueFactory<>("sowingOutdoorsStartMonth"));
-		sowOutdoorsUntilColumn.setCellValueFactory(new PropertyValueFactory<>("sowingOutdoorsEndMonth"));
-		harvestFromColumn.setCellValueFactory(new PropertyValueFactory<>("harvestStartMonth"));
-		harvestUntilColumn.setCellValueFactory(new PropertyValueFactory<>("harvestEndMonth"));
-		floweringFromColumn.setCellValueFactory(new PropertyValueFactory<>("floweringStartMonth"));
-		floweringUntilColumn.setCellValueFactory(new PropertyValueFactory<>("floweringEndMonth"));
+		setCellValueFactory(nameColumn, "name");
+		setCellValueFactory(typeColumn, "type");	
+		setCellValueFactory(sowIndoorsFromColumn, "sowingIndoorsStartMonth");
+		setCellValueFactory(sowIndoorsUntilColumn, "sowingIndoorsEndMonth");
+		setCellValueFactory(sowOutdoorsFromColumn, "sowingOutdoorsStartMonth");
+		setCellValueFactory(sowOutdoorsUntilColumn, "sowingOutdoorsEndMonth");
+		setCellValueFactory(harvestFromColumn, "harvestStartMonth");
+		setCellValueFactory(harvestUntilColumn, "harvestEndMonth");
+		setCellValueFactory(floweringFromColumn, "floweringStartMonth");
+		setCellValueFactory(floweringUntilColumn, "floweringEndMonth");
 
 		seedPacketTable.setItems(seedPackets);
+
+		seedPacketTable.setSortPolicy(table -> {
+			// Search results are sorted by the table's comparator, or by relevance if no column is sorted
+			if (table.getItems() == sortedSearchResults) {
+				return true;
+			}
+			// When paging, push the sorting down to the database rather than sorting the rows held in memory
+			if (table.getItems() instanceof PagedSeedPacketList) {
+				((PagedSeedPacketList) table.getItems()).sort(getSort(table.getSortOrder()));
+				return true;
+			}
+			return TableView.DEFAULT_SORT_POLICY.call(table);
+		});
+	}
+
+
+	/*
+	 * Private helper method to initialise the search box and filter bar. Whilst searching or filtering, 
+	 * the table shows the matching seed packets from the in-memory catalog, rather than the seed 
+	 * packets it was given. When paging, there is no catalog in memory, so the matching seed packets 
+	 * are queried from the database instead. Changes to the search and filters are only applied once 
+	 * they pause, so that typing is not held up by filtering the catalog after every key.
+	 */
+	private void initializeFilters() {
+		catalog = isPaged() ? FXCollections.observableArrayList() : seedPackets;
+
+		searchResults = new FilteredList<>(catalog, seedPacket -> false);
+		sortedSearchResults = new SortedList<>(searchResults);
+		sortedSearchResults.comparatorProperty().bind(Bindings.createObjectBinding(
+				() -> seedPacketTable.getComparator() != null ? seedPacketTable.getComparator() : rankComparator.get(),
+				seedPacketTable.comparatorProperty(), rankComparator));
+
+		defaultPlaceholder = seedPacketTable.getPlaceholder();
+		filterDelay = new PauseTransition(Duration.millis(filterDelayMillis));
+		filterDelay.setOnFinished(event -> applyFilters());
+
+		windowFilter.getItems().setAll(CalendarWindow.values());
+		windowFilter.setConverter(new StringConverter<CalendarWindow>() {
+			@Override
+			public String toString(CalendarWindow window) {
+				return window == null ? null 
+						: window.name().charAt(0) + window.name().substring(1).toLowerCase().replace('_', ' ');
+			}
+
+			@Override
+			public CalendarWindow fromString(String string) {
+				return null;
+			}
+		});
+		monthFilter.getItems().setAll(Month.values());
+		monthFilter.disableProperty().bind(windowFilter.valueProperty().isNull());
+
+		// The types and manufacturers offered are those in the catalog when the list is opened
+		typeFilter.setOnShowing(event -> distinct(SeedPacketSummary::getType, 
+				seedPacketService::loadTypesInUse, typeFilter.getItems()::setAll));
+		manufacturerFilter.setOnShowing(event -> distinct(SeedPacketSummary::getManufacturer, 
+				seedPacketService::loadManufacturersInUse, manufacturerFilter.getItems()::setAll));
+
+		searchField.textProperty().addListener((observable, oldValue, newValue) -> filterDelay.playFromStart());
+		typeFilter.valueProperty().addListener((observable, oldValue, newValue) -> filterDelay.playFromStart());
+		manufacturerFilter.valueProperty().addListener((observable, oldValue, newValue) -> filterDelay.playFromStart());
+		windowFilter.valueProperty().addListener((observable, oldValue, newValue) -> filterDelay.playFromStart());
+		monthFilter.valueProperty().addListener((observable, oldValue, newValue) -> filterDelay.playFromStart());
+		expiredFilter.selectedProperty().addListener((observable, oldValue, newValue) -> filterDelay.playFromStart());
+		emptyFilter.selectedProperty().addListener((observable, oldValue, newValue) -> filterDelay.playFromStart());
+
+		clearFiltersButton.setOnAction(event -> {
+			searchField.clear();
+			typeFilter.setValue(null);
+			manufacturerFilter.setValue(null);
+			windowFilter.setValue(null);
+			monthFilter.setValue(null);
+			expiredFilter.setSelected(false);
+			emptyFilter.setSelected(false);
+		});
+
+		// Results filtered in the background are a fixed set of seed packets, so are refreshed as the catalog changes
+		if (isPaged()) {
+			seedPacketList.revisionProperty().addListener((observable, oldValue, newValue) -> {
+				if (seedPacketTable.getItems() == sortedSearchResults) {
+					filterDelay.playFromStart();
+				}
+			});
+		} else {
+			catalog.addListener((ListChangeListener<SeedPacketSummary>) change -> {
+				if (seedPacketTable.getItems() == sortedSearchResults && catalog.size() >= backgroundFilterThreshold) {
+					filterDelay.playFromStart();
+				}
+			});
+		}
+	}
+
+
+	/*
+	 * Private helper method to show the seed packets matching the search and filters, most relevant 
+	 * first, or all of the seed packets if neither is set. Large catalogs are matched on a compute 
+	 * thread, against a copy of the catalog, so that the database thread is left free for saves and 
+	 * queries, and the matches shown unless the filters have changed again in the meantime.
+	 */
+	private void applyFilters() {
+		int generation = ++filterGeneration;
+		seedPacketTable.setPlaceholder(defaultPlaceholder);
+
+		String query = searchField.getText() != null && !searchField.getText().trim().isEmpty() ? searchField.getText() : null;
+		SeedPacketFilter filter = new SeedPacketFilter(typeFilter.getValue(), manufacturerFilter.getValue(), 
+				windowFilter.getValue(), monthFilter.getValue(), expiredFilter.isSelected(), emptyFilter.isSelected());
+
+		if (query == null && filter.isEmpty()) {
+			seedPacketTable.setItems(seedPackets);
+			seedPacketTable.sort();
+			return;
+		}
+
+		if (query != null && !seedPacketSearchService.isReady()) {
+			showSearchNotReady(generation);
+			return;
+		}
+
+		if (isPaged()) {
+			applyFiltersToDatabase(generation, query, filter);
+			return;
+		}
+
+		Predicate<SeedPacketSummary> criteria = filter.compile(clockService.today());
+
+		if (catalog.size() < backgroundFilterThreshold) {
+			Map<Long, Integer> ranks = rank(query);
+			showResults(ranks, ranks == null ? criteria : criteria.and(seedPacket -> ranks.containsKey(seedPacket.getId())));
+			return;
+		}
+
+		List<SeedPacketSummary> snapshot = new ArrayList<>(catalog);
+		databaseExecutor.onFxThread(computeExecutor.supply(() -> {
+			Map<Long, Integer> ranks = rank(query);
+			Map<Long, Integer> matches = new HashMap<>();
+			for (SeedPacketSummary seedPacket : snapshot) {
+				if ((ranks == null || ranks.containsKey(seedPacket.getId())) && criteria.test(seedPacket)) {
+					matches.put(seedPacket.getId(), ranks == null ? 0 : ranks.get(seedPacket.getId()));
+				}
+			}
+			return matches;
+		}), matches -> {
+			if (generation == filterGeneration) {
+				showResults(query == null ? null : matches, seedPacket -> matches.containsKey(seedPacket.getId()));
+			}
+		}, failure -> Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to filter the seed packets.", failure));
+	}
+
+
+	/*
+	 * Private helper method to show no results whilst the search index is still being built at start 
+	 * up, rather than holding up the JavaFX Application Thread, and apply the filters again once it is ready.
+	 */
+	private void showSearchNotReady(int generation) {
+		seedPacketTable.setPlaceholder(new Label("Preparing search..."));
+		showResults(null, seedPacket -> false);
+		databaseExecutor.onFxThread(seedPacketSearchService.whenReady(), ready -> {
+			if (generation == filterGeneration) {
+				applyFilters();
+			}
+		}, null);
+	}
+
+
+	/*
+	 * Private helper method to query the database for the seed packets matching the search and filters, 
+	 * when paging. Only the most relevant matches, or the first by name if there is no search query, 
+	 * are shown, up to the maximum number of results.
+	 */
+	private void applyFiltersToDatabase(int generation, String query, SeedPacketFilter filter) {
+		LocalDate today = clockService.today();
+		Map<Long, Integer> ranks = new HashMap<>(); // Filled on the database thread, and read once the query has completed
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> {
+			List<Long> ids = null;
+			if (query != null) {
+				ids = seedPacketSearchService.search(query);
+				ids = ids.subList(0, Math.min(ids.size(), maximumPagedResults));
+				ids.forEach(id -> ranks.put(id, ranks.size()));
+			}
+			return seedPacketService.loadSummaries(filter, ids, today, maximumPagedResults);
+		}), matches -> {
+			if (generation == filterGeneration) {
+				catalog.setAll(matches);
+				showResults(query == null ? null : ranks, seedPacket -> true);
+			}
+		}, failure -> Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to filter the seed packets.", failure));
+	}
+
+
+	/*
+	 * Private helper method to rank the seed packets matching a search query, most relevant first.
+	 * Returns null if there is no query. Only called once the search index is ready.
+	 */
+	private Map<Long, Integer> rank(String query) {
+		if (query == null) {
+			return null;
+		}
+		Map<Long, Integer> ranks = new HashMap<>();
+		for (Long id : seedPacketSearchService.search(query)) {
+			ranks.put(id, ranks.size());
+		}
+		return ranks;
+	}
+
+
+	/*
+	 * Private helper method to show the matching seed packets in the table, ordered by rank if a 
+	 * search query was given and no column is sorted.
+	 */
+	private void showResults(Map<Long, Integer> ranks, Predicate<SeedPacketSummary> matches) {
+		rankComparator.set(ranks == null ? null : Comparator.comparing(seedPacket -> ranks.get(seedPacket.getId())));
+		searchResults.setPredicate(matches);
+		seedPacketTable.setItems(sortedSearchResults);
+	}
+
+
+	/*
+	 * Private helper method to list the distinct values of a field across the catalog, in order. When 
+	 * paging, the values are queried from the database instead.
+	 */
+	private void distinct(Function<SeedPacketSummary, String> field, Supplier<List<String>> query, Consumer<List<String>> onLoaded) {
+		if (isPaged()) {
+			databaseExecutor.onFxThread(databaseExecutor.supply(query), onLoaded, 
+					failure -> Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to load the filter values.", failure));
+			return;
+		}
+		List<String> values = new ArrayList<>();
+		catalog.stream().map(field).filter(Objects::nonNull).distinct().sorted().forEach(values::add);
+		onLoaded.accept(values);
+	}
+
+
+	/*
+	 * Private helper method to check whether the table is paged, rather than showing an in-memory catalog.
+	 */
+	private boolean isPaged() {
+		return seedPackets instanceof PagedSeedPacketList;
+	}
+
+
+	/*
+	 * Private helper method to set the cell value factory for a column, and record the seed packet 
+	 * property it displays so that the column can be sorted by the database.
+	 */
+	private void setCellValueFactory(TableColumn<SeedPacketSummary, String> column, String property) {
+		column.setCellValueFactory(new PropertyValueFactory<>(property));
+		sortProperties.put(column, property);
+	}
+
+
+	/*
+	 * Private helper method to convert the table's sort order into the equivalent database sort.
+	 */
+	private Sort getSort(List<TableColumn<SeedPacketSummary, ?>> sortOrder) {
+		List<Order> orders = new ArrayList<>();
+		for (TableColumn<SeedPacketSummary, ?> column : sortOrder) {
+			orders.add(new Order(
+					column.getSortType() == SortType.ASCENDING ? Direction.ASC : Direction.DESC, 
+					sortProperties.get(column)));
+		}
+		return Sort.by(orders);
 	}
 
 
@@ -122,7 +450,7 @@ public class RepositoryTabController {
 	private void initializeButtonEventHandling() {
 
 		List<Button> buttons = new ArrayList<>(
-				Arrays.asList(deleteButton, viewButton, addButton, editButton));
+				Arrays.asList(deleteButton, viewButton, addButton, editButton, importButton));
 
 		for (Button button : buttons) {
 			button.defaultButtonProperty().bind(button.focusedProperty());
@@ -162,6 +490,15 @@ public class RepositoryTabController {
 				openConfirmDeletionPopup();
 			}
 		});
+
+
+		// Handle when the import button is pressed
+		importButton.setOnAction(new EventHandler<ActionEvent>() {
+			@Override
+			public void handle(ActionEvent event) {
+				importCatalog();
+			}
+		});
 	}
 
 
@@ -214,24 +551,43 @@ public class RepositoryTabController {
 	 * Open the pop up window in the relevant mode.
 	 */
 	private void openEditSeedPacketPopup(Mode mode) {
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/EditSeedPacket.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-		
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-	
-			EditSeedPacketController editSeedPacketController = fxmlLoader.getController();
+		popupManager.open(Popup.EDIT_SEED_PACKET, mode.toString(), 
+				editSeedPacketController -> editSeedPacketController.initData(seedPacketTable, mode));
+	}
 
-			editSeedPacketController.initData(seedPacketTable, mode);
-			stage.setTitle(mode.toString()); 
-			stage.show();
 
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
+	/*
+	 * Choose a catalog of seed packets and import it on the database thread, then report the rows 
+	 * imported and rejected. The table is refreshed by the SeedPacketList once the import has been 
+	 * committed.
+	 */
+	private void importCatalog() {
+		FileChooser fileChooser = new FileChooser();
+		fileChooser.setTitle("Import Seed Packets");
+		fileChooser.getExtensionFilters().add(new ExtensionFilter("Seed packet catalogs", "*.csv", "*.json", "*.jsonl", "*.ndjson"));
+		File file = fileChooser.showOpenDialog(seedPacketTable.getScene().getWindow());
+		if (file == null) {
+			return;
 		}
+
+		importButton.setDisable(true);
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> {
+			try {
+				return seedPacketImportService.importCatalog(file.toPath());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}), report -> {
+			importButton.setDisable(false);
+			popupManager.open(Popup.VALIDATION_FAILURE, "Import", 
+					validationFailureController -> validationFailureController.initData(report.toString()));
+		}, failure -> {
+			importButton.setDisable(false);
+			Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to import " + file, failure);
+			popupManager.open(Popup.VALIDATION_FAILURE, "Import Failed!", 
+					validationFailureController -> validationFailureController.initData(
+							"Could not import " + file.getName() + ": " + failure.getMessage()));
+		});
 	}
 
 
@@ -240,24 +596,8 @@ public class RepositoryTabController {
 	 */
 	private void openConfirmDeletionPopup() {
 		if (seedPacketTable.getSelectionModel().getSelectedItem() != null) {
-
-			FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/ConfirmDelete.fxml"));			
-			fxmlLoader.setControllerFactory(applicationContext::getBean);
-			
-			Stage stage = new Stage();
-			try {
-				stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-				ConfirmDeleteController confirmDeleteController = fxmlLoader.getController();
-				confirmDeleteController.initData(seedPacketTable);
-
-				stage.setTitle("Delete"); 
-				stage.show();
-
-			} catch (IOException e) {
-				Logger logger = Logger.getLogger(getClass().getName());
-				logger.log(Level.ERROR, "Failed to create new Window.", e);		
-			}
+			popupManager.open(Popup.CONFIRM_DELETE, "Delete", 
+					confirmDeleteController -> confirmDeleteController.initData(seedPacketTable));
 		}
 	}
 
@@ -0,0 +1,150 @@
+package application.controllers;
+
+import java.util.Collection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import application.async.DatabaseExecutor;
+import application.events.BulkChangeEvent;
+import application.events.EntityChangedEvent;
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+
+/**
+ * The seed packets shown in the Seed Library and Today tabs, held in one list which each tab
+ * filters and sorts in place.
+ *
+ * The list follows the {@link EntityChangedEvent}s published as seed packets are saved and deleted,
+ * replacing just the summary of the packet which has changed, so that the tabs never need to
+ * reload the library or be patched by the pop ups which made the change. Only after a
+ * {@link BulkChangeEvent}, e.g. once a catalog has been imported, is the whole list reloaded.
+ *
+ * When the catalog is too large to hold in memory, the list is {@link #setPaged() paged}: it then 
+ * stays empty, and the tabs instead query the database, refreshing whenever the revision changes.
+ */
+@Component
+public class SeedPacketList {
+
+	private final ObservableList<SeedPacketSummary> seedPackets = FXCollections.observableArrayList();
+	private final ReadOnlyIntegerWrapper revision = new ReadOnlyIntegerWrapper();
+	private boolean paged;
+
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private SeedPacketService seedPacketService;
+
+	private Logger logger = LoggerFactory.getLogger(SeedPacketList.class);
+
+
+	/**
+	 * Gets the seed packets. Must only be used on the JavaFX Application Thread.
+	 * @return The shared list of seed packet summaries
+	 */
+	public ObservableList<SeedPacketSummary> getSeedPackets() {
+		return seedPackets;
+	}
+
+
+	/**
+	 * Replaces the seed packets in the list.
+	 * @param seedPacketSummaries The seed packet summaries
+	 */
+	public void setAll(Collection<SeedPacketSummary> seedPacketSummaries) {
+		seedPackets.setAll(seedPacketSummaries);
+	}
+
+
+	/**
+	 * Stops the list holding the seed packets, for a catalog too large to hold in memory. Changes are 
+	 * then only counted by the revision.
+	 */
+	public void setPaged() {
+		paged = true;
+		seedPackets.clear();
+	}
+
+
+	public boolean isPaged() {
+		return paged;
+	}
+
+
+	/**
+	 * Gets the revision of the seed packets, which is incremented on the JavaFX Application Thread 
+	 * each time a change is applied, whether or not the list is paged.
+	 * @return The revision
+	 */
+	public ReadOnlyIntegerProperty revisionProperty() {
+		return revision.getReadOnlyProperty();
+	}
+
+
+	/**
+	 * Applies a change to a seed packet on the JavaFX Application Thread, once it has been committed.
+	 * @param event The change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeedPacketChanged(EntityChangedEvent<SeedPacket> event) {
+		SeedPacketSummary seedPacket = SeedPacketSummary.of(event.getEntity());
+		switch (event.getChangeType()) {
+		case DELETED:
+			databaseExecutor.getFxExecutor().execute(() -> remove(seedPacket));
+			break;
+		default:
+			databaseExecutor.getFxExecutor().execute(() -> put(seedPacket));
+		}
+	}
+
+
+	/**
+	 * Reloads the seed packets once many have been changed at once, e.g. by an import. When paged, the
+	 * revision is simply incremented, so that the tabs query the database again.
+	 * @param event The change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeedPacketsChanged(BulkChangeEvent<SeedPacket> event) {
+		if (paged) {
+			databaseExecutor.getFxExecutor().execute(() -> revision.set(revision.get() + 1));
+			return;
+		}
+		databaseExecutor.onFxThread(databaseExecutor.supply(seedPacketService::loadAllSummaries), summaries -> {
+			seedPackets.setAll(summaries);
+			revision.set(revision.get() + 1);
+		}, failure -> logger.error("Failed to reload the seed packets", failure));
+	}
+
+
+	/*
+	 * Private helper method to add a seed packet, or replace the summary of a packet already in the list.
+	 */
+	private void put(SeedPacketSummary seedPacket) {
+		if (!paged) {
+			int index = seedPackets.indexOf(seedPacket); // Summaries are equal by ID
+			if (index < 0) {
+				seedPackets.add(seedPacket);
+			} else {
+				seedPackets.set(index, seedPacket);
+			}
+		}
+		revision.set(revision.get() + 1);
+	}
+
+
+	/*
+	 * Private helper method to remove a seed packet from the list.
+	 */
+	private void remove(SeedPacketSummary seedPacket) {
+		seedPackets.remove(seedPacket);
+		revision.set(revision.get() + 1);
+	}
+
+}
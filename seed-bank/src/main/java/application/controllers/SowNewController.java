@@ -4,10 +4,10 @@ import static application.Mode.ADD_NEW;
 import static application.Mode.EDIT;
 import static java.lang.String.CASE_INSENSITIVE_ORDER;
 import static java.util.Comparator.comparing;
-import static javafx.stage.WindowEvent.WINDOW_CLOSE_REQUEST;
 
-import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -18,19 +18,22 @@ import javax.validation.ConstraintViolationException;
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Scope;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 
 import application.Mode;
+import application.async.DatabaseExecutor;
+import application.clock.ClockService;
 import application.currentlygrowing.CurrentlyGrowing;
-import application.currentlygrowing.CurrentlyGrowingService;
+import application.growing.GrowingLifecycleService;
 import application.seeds.SeedPacket;
+import application.seeds.SeedPacketName;
 import application.seeds.SeedPacketService;
-import javafx.collections.ObservableList;
+import application.seeds.SeedPacketSummary;
+import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.DatePicker;
@@ -45,9 +48,7 @@ import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Pane;
-import javafx.stage.Stage;
-import javafx.stage.WindowEvent;
+import javafx.util.Duration;
 import javafx.util.StringConverter;
 
 
@@ -56,9 +57,9 @@ import javafx.util.StringConverter;
  */
 @Controller
 @Scope("prototype")
-public class SowNewController {
+public class SowNewController implements PopupController {
 
-	@FXML private ComboBox<SeedPacket> seedComboBox;
+	@FXML private ComboBox<SeedPacketName> seedComboBox;
 	@FXML private RadioButton indoorsRadio;
 	@FXML private RadioButton outdoorsRadio;
 	@FXML private DatePicker dateSown;
@@ -76,24 +77,30 @@ public class SowNewController {
 	@FXML private Button cancelButton;
 
 	@Autowired private SeedPacketService seedPacketService;
-	@Autowired private CurrentlyGrowingService currentlyGrowingService;
-	@Autowired private ApplicationContext applicationContext;
+	@Autowired private SeedPacketList seedPacketList;
+	@Autowired private GrowingLifecycleService growingLifecycleService;
+	@Autowired private PopupManager popupManager;
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private ClockService clockService;
 
 	private CurrentlyGrowing currentlyGrowingRecord = new CurrentlyGrowing();
 	private String failureMessage = "";
-	private LocalDate today = LocalDate.now();
-	private ObservableList<CurrentlyGrowing> currentlyGrowing;
+	private LocalDate today;
 	private TableView<CurrentlyGrowing> table;
 	private Mode mode;
 	private Integer priorNumberSown;
+	private PauseTransition typeAheadDelay;
+	private String typeAheadPrefix;
+
+	@Value("${seedbank.repository.filter.delay-millis:250}") private int typeAheadDelayMillis;
+	@Value("${seedbank.repository.picker.max-results:100}") private int maximumTypeAheadResults;
 
 
 	/**
 	 * Initialise the data.
 	 */
-	void initData(ObservableList<CurrentlyGrowing> currentlyGrowing, 
-			TableView<CurrentlyGrowing> table, Mode mode) {
-		this.currentlyGrowing = currentlyGrowing;
+	void initData(TableView<CurrentlyGrowing> table, Mode mode) {
+		today = clockService.today(); // Pop ups are reused, so may have been created on an earlier day
 		this.table = table;
 		this.mode = mode;
 		setMode(mode, table);
@@ -103,6 +110,32 @@ public class SowNewController {
 	}
 
 
+	/**
+	 * Reset the pop up, clearing the fields so that a new record is created when next opened.
+	 */
+	@Override
+	public void reset() {
+		currentlyGrowingRecord = new CurrentlyGrowing();
+		failureMessage = "";
+		table = null;
+		mode = null;
+		priorNumberSown = null;
+
+		seedComboBox.setValue(null);
+		seedComboBox.setEditable(false);
+		seedComboBox.getEditor().clear();
+		typeAheadPrefix = null;
+		numberRemaining.setText("");
+		locationStored.clear();
+		numberSown.clear();
+		dateGerminated.setValue(null);
+		numberGerminated.clear();
+		dateEstablished.setValue(null);
+		numberEstablished.clear();
+		notes.clear();
+	}
+
+
 	/**
 	 * Method to map the values displayed in the fields to the model.
 	 */
@@ -147,7 +180,7 @@ public class SowNewController {
 	 */
 	private void mapModelToFields() {
 		if (currentlyGrowingRecord.getSeedPacket() != null) {
-			seedComboBox.setValue(seedPacketService.loadById(currentlyGrowingRecord.getSeedPacket()).get());
+			selectSeedPacket();
 			indoorsRadio.setSelected(currentlyGrowingRecord.isIndoors());
 			outdoorsRadio.setSelected(!currentlyGrowingRecord.isIndoors());
 			locationStored.setText(currentlyGrowingRecord.getLocation());
@@ -171,18 +204,27 @@ public class SowNewController {
 	@FXML
 	private void save() {
 		if (isValid()) {
-			try {
-				mapFieldsToModel();
-				currentlyGrowingService.save(currentlyGrowingRecord);
-				deductSownSeedsFromPack();
-				refreshTableView();
-				saveNewButton.getScene().getWindow().hide();
-			} catch (ConstraintViolationException e) {
-				populateConstraintViolationMessages(e);
-			}
-		}
-
-		if (failureMessage.length() > 0) {
+			mapFieldsToModel();
+
+			int numberSownToDeduct = calculateNumberSownToDeduct();
+
+			// Saved on the database thread, with the save button disabled until done
+			saveNewButton.setDisable(true);
+			databaseExecutor.onFxThread(databaseExecutor.run(() -> 
+				growingLifecycleService.sow(currentlyGrowingRecord, numberSownToDeduct)
+			), saved -> saveNewButton.getScene().getWindow().hide(), 
+			failure -> {
+				saveNewButton.setDisable(false);
+				if (failure instanceof ConstraintViolationException) {
+					populateConstraintViolationMessages((ConstraintViolationException) failure);
+				} else if (failure instanceof OptimisticLockingFailureException) {
+					failureMessage += ValidationFailureController.changedElsewhereMessage("This record");
+				} else {
+					failureMessage += "Failed to save: " + failure.getMessage() + "\n";
+				}
+				openValidationFailurePopup(failureMessage);
+			});
+		} else {
 			openValidationFailurePopup(failureMessage);
 		}
 	}
@@ -198,17 +240,25 @@ public class SowNewController {
 
 
 	/*
-	 * Method to set the number remaining label from the seed packet once selected from the combobox.
+	 * Method to set the number remaining label from the seed packet once selected from the combobox. 
+	 * Only the seed packet selected is loaded in full, on the database thread.
 	 */
 	@FXML
 	private void seedSelected() {
 
 		numberRemaining.setText(""); // Default back to blank to prevent value being carried over
 
-		Integer numberRemainingValue = seedComboBox.getValue().getNumberRemaining();
-		if (numberRemainingValue > 0) {
-			numberRemaining.setText("~ " + numberRemainingValue.toString() + " remaining");
+		SeedPacketName selected = seedComboBox.getValue();
+		if (selected == null) {
+			return;
 		}
+
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> seedPacketService.loadById(selected.getId())), seedPacket -> {
+			Integer numberRemainingValue = seedPacket.map(SeedPacket::getNumberRemaining).orElse(null);
+			if (selected == seedComboBox.getValue() && numberRemainingValue != null && numberRemainingValue > 0) {
+				numberRemaining.setText("~ " + numberRemainingValue.toString() + " remaining");
+			}
+		}, failure -> Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to load the seed packet.", failure));
 	}
 
 
@@ -230,7 +280,8 @@ public class SowNewController {
 			break;
 
 		case EDIT : 
-			currentlyGrowingRecord = currentlyGrowing.getSelectionModel().getSelectedItem();
+			// A copy is edited, so that the record shown in the tables is only replaced once saved
+			currentlyGrowingRecord = currentlyGrowing.getSelectionModel().getSelectedItem().copy();
 			editable = true;
 			seedFieldEditable = false;
 			saveButtonDisabled = false;
@@ -277,30 +328,117 @@ public class SowNewController {
 
 
 	/*
-	 * Private helper method to set up the behaviour of the seed packet combo box.
+	 * Private helper method to set up the behaviour of the seed packet combo box, which lists just the 
+	 * names of the seed packets.
 	 */
 	private void setUpSeedPacketComboBox() {
-		List<SeedPacket> seedPackets = seedPacketService.loadAll();	
-
-		seedPackets.sort(comparing(SeedPacket::getName, CASE_INSENSITIVE_ORDER));
 
-		seedComboBox.getItems().setAll(seedPackets);
-
-		seedComboBox.setConverter(new StringConverter<SeedPacket>() {
+		seedComboBox.setConverter(new StringConverter<SeedPacketName>() {
 
 			@Override
-			public String toString(SeedPacket object) {
+			public String toString(SeedPacketName object) {
 				return (object == null ? null : object.getName());
 			}
 
 			@Override
-			public SeedPacket fromString(String string) {
-				return seedPacketService.loadByName(string);
+			public SeedPacketName fromString(String string) {
+				return seedComboBox.getItems().stream()
+						.filter(seedPacket -> seedPacket.getName().equalsIgnoreCase(string))
+						.findFirst()
+						.orElse(null);
+			}
+		});
+
+		// The summaries of the seed library are already held in memory, unless the catalog is paged
+		if (!seedPacketList.isPaged()) {
+			List<SeedPacketName> seedPackets = new ArrayList<>(seedPacketList.getSeedPackets());
+			seedPackets.sort(comparing(SeedPacketName::getName, CASE_INSENSITIVE_ORDER));
+			seedComboBox.getItems().setAll(seedPackets);
+			selectSeedPacket();
+			return;
+		}
+
+		// Otherwise the seed packet is found by typing the start of its name, listing a bounded number of 
+		// matches loaded on the database thread once typing pauses
+		seedComboBox.getItems().clear();
+		seedComboBox.setEditable(mode == ADD_NEW);
+		if (typeAheadDelay == null) {
+			typeAheadDelay = new PauseTransition(Duration.millis(typeAheadDelayMillis));
+			typeAheadDelay.setOnFinished(event -> findSeedPackets(seedComboBox.getEditor().getText()));
+			seedComboBox.getEditor().textProperty().addListener((observable, oldText, newText) -> {
+				SeedPacketName selected = seedComboBox.getValue();
+				if (!seedComboBox.isEditable() || (selected != null && selected.getName().equals(newText))) {
+					return;
+				}
+				if (typeAheadDelayMillis > 0) {
+					typeAheadDelay.playFromStart();
+				} else {
+					findSeedPackets(newText);
+				}
+			});
+		}
+	}
+
+
+	/*
+	 * Private helper method to list the seed packets whose names start with the text typed, when the 
+	 * seed library is paged.
+	 */
+	private void findSeedPackets(String prefix) {
+		if (prefix == null || prefix.isBlank() || prefix.equals(typeAheadPrefix)) {
+			return;
+		}
+		typeAheadPrefix = prefix;
+
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> seedPacketService.loadNamesStartingWith(prefix, maximumTypeAheadResults)), 
+				seedPackets -> {
+			if (!prefix.equals(seedComboBox.getEditor().getText())) {
+				return; // The text has changed since, so its own results will follow
 			}
+			seedComboBox.getItems().setAll(seedPackets);
+			if (!prefix.equals(seedComboBox.getEditor().getText())) { // Replacing the items may clear the text typed
+				seedComboBox.getEditor().setText(prefix);
+				seedComboBox.getEditor().positionCaret(prefix.length());
+			}
+			if (!seedPackets.isEmpty() && seedComboBox.getScene() != null && !seedComboBox.isShowing()) {
+				seedComboBox.show();
+			}
+		}, failure -> {
+			typeAheadPrefix = null;
+			Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to find the seed packets.", failure);
 		});
 	}
 
 
+	/*
+	 * Private helper method to select the seed packet of the currently growing record in the combo box, 
+	 * if it has one. When the seed library is paged, the seed packet is first loaded by its ID.
+	 */
+	private void selectSeedPacket() {
+		Long seedPacketId = currentlyGrowingRecord.getSeedPacket();
+		if (seedPacketId == null) {
+			return;
+		}
+
+		if (!seedPacketList.isPaged()) {
+			seedComboBox.getItems().stream()
+					.filter(seedPacket -> seedPacketId.equals(seedPacket.getId()))
+					.findFirst()
+					.ifPresent(seedComboBox::setValue);
+			return;
+		}
+
+		// When paged, just the seed packet of the record is loaded, on the database thread
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> seedPacketService.loadById(seedPacketId)), seedPacket -> 
+			seedPacket.filter(loaded -> seedPacketId.equals(currentlyGrowingRecord.getSeedPacket())).ifPresent(loaded -> {
+				SeedPacketName name = SeedPacketSummary.of(loaded);
+				seedComboBox.getItems().setAll(Collections.singletonList(name));
+				seedComboBox.setValue(name);
+			}), 
+		failure -> Logger.getLogger(getClass().getName()).log(Level.ERROR, "Failed to load the seed packet.", failure));
+	}
+
+
 	/*
 	 * Private helper method to apply validation (not related to constraint violations on the CurrentlyGrowing 
 	 * domain object) prior to saving it in the database. 
@@ -431,65 +569,34 @@ public class SowNewController {
 	 * Open the pop up window detailing the validation failure.
 	 */
 	private void openValidationFailurePopup(String failureMessage) {
-
-		// Grab the FXML file		
-		FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/ValidationFailure.fxml"));
-		fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-		Stage stage = new Stage();
-		try {
-			stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-			ValidationFailureController validationFailureController = fxmlLoader.getController();
-			validationFailureController.initData(failureMessage);
-
-			stage.setTitle("Invalid Input!"); 
-			stage.show();
-
-		} catch (IOException e) {
-			Logger logger = Logger.getLogger(getClass().getName());
-			logger.log(Level.ERROR, "Failed to create new Window.", e);		
-		}
-	}
-
-
-	/* 
-	 * Private helper method to fire an event when this pop up closes.
-	 */
-	private void fireCloseEvent() {
-		Stage stage = (Stage) saveNewButton.getScene().getWindow();
-		saveNewButton.setOnAction(event -> stage.fireEvent(new WindowEvent(stage, WINDOW_CLOSE_REQUEST)));
-		stage.hide();
+		popupManager.open(Popup.VALIDATION_FAILURE, "Invalid Input!", 
+				validationFailureController -> validationFailureController.initData(failureMessage));
 	}
 
 
 	/*
-	 * Private helper method to deduct the number of seeds sown from the total remaining for that pack.
+	 * Private helper method to calculate the number of seeds to deduct from the pack.
 	 * 
-	 * If in edit mode, add back the previously sown seeds before deducting those set this time round
+	 * If in edit mode, only the difference from the previously sown seeds is deducted, returning seeds to 
+	 * the pack if fewer have been sown this time round.
 	 * 
 	 * Note that some number remaining values may not be accurate (e.g. if a pack has ~1000 seeds and 
-	 * ~1/2 have been used, it's highly likely the exact number remaining is not 500. So default to 0 
-	 * if numberRemainingMinusSown is a negative value.
+	 * ~1/2 have been used, it's highly likely the exact number remaining is not 500. So the database 
+	 * defaults to 0 rather than going negative.
 	 */
-	private void deductSownSeedsFromPack() {
-
-		SeedPacket seedPacketSown = seedComboBox.getValue();
+	private int calculateNumberSownToDeduct() {
 
 		int numberSownToSet = Integer.valueOf(numberSown.getText());
-		int priorNumberRemaining = seedPacketSown.getNumberRemaining();
-		int numberRemainingToSet = priorNumberRemaining; // Default to prior
 
 		if (mode.equals(ADD_NEW)) {
-			numberRemainingToSet -= numberSownToSet;
+			return numberSownToSet;
 		}
 
-		if (mode.equals(EDIT) && numberSownToSet != priorNumberSown) {
-			numberRemainingToSet += priorNumberSown - numberSownToSet; 
+		if (mode.equals(EDIT)) {
+			return numberSownToSet - priorNumberSown;
 		}
 
-		seedPacketSown.setNumberRemaining(numberRemainingToSet > 0 ? numberRemainingToSet : 0);
-		seedPacketService.save(seedPacketSown);
+		return 0;
 	}
 
 
@@ -506,25 +613,12 @@ public class SowNewController {
 			}
 		});
 
-		// Handles when a user presses escape to close the window
-		saveNewButton.getScene().addEventHandler(KeyEvent.KEY_RELEASED, (KeyEvent event) -> {
+		// Handles when a user presses escape to close the window. Set rather than added, as the pop up is reused
+		saveNewButton.getScene().setOnKeyReleased((KeyEvent event) -> {
 			if (KeyCode.ESCAPE == event.getCode()) {
 				cancel();
 			}
 		});	
 	}
 
-
-	/*
-	 * Private helper method to refresh the TableView to add any new currently growing records, and update 
-	 * any existing currently growing records that have changed.
-	 */
-	private void refreshTableView() {
-		if (!currentlyGrowing.contains(currentlyGrowingRecord)) { // If adding a new record
-			currentlyGrowing.add(currentlyGrowingRecord); 
-			fireCloseEvent();;
-		} else {
-			table.refresh();
-		}
-	}
 }
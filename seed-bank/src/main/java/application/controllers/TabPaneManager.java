@@ -1,26 +1,42 @@
 package application.controllers;
 
-import static javafx.collections.FXCollections.observableArrayList;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import application.async.DatabaseExecutor;
 import application.currentlygrowing.CurrentlyGrowing;
-import application.currentlygrowing.CurrentlyGrowingService;
-import application.seeds.SeedPacket;
 import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+import application.startup.InitialData;
+import application.startup.InitialDataLoader;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TabPane;
 
 @Component
 public class TabPaneManager {
 
+	@FXML private TabPane tabPane;
+	@FXML private ProgressIndicator loadingIndicator;
+
 	private final RepositoryTabController repositoryTabController;
 	private final TodayTabController todayTabController;
 	private final CurrentlyGrowingTabController currentlyGrowingController;
 	
 	@Autowired private SeedPacketService seedPacketService;
-	@Autowired private CurrentlyGrowingService currentlyGrowingService;
+	@Autowired private InitialDataLoader initialDataLoader;
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private PopupManager popupManager;
+	@Autowired private CurrentlyGrowingList currentlyGrowingList;
+	@Autowired private SeedPacketList seedPacketList;
+	
+	@Value("${seedbank.repository.page-size:200}") private int repositoryPageSize;
+
+	private Logger logger = LoggerFactory.getLogger(TabPaneManager.class);
 
 
 	@Autowired
@@ -34,15 +50,45 @@ public class TabPaneManager {
 	}
 	
 	/**
-	 * Initialise the controller.
+	 * Initialise the controller. The tabs are disabled, with a loading indicator shown over them, 
+	 * until the {@link InitialDataLoader} has fetched the seed packets and currently growing records.
 	 */
 	@FXML
 	private void initialize() {
-		ObservableList<SeedPacket> seedPackets = observableArrayList(seedPacketService.loadAll());
-		ObservableList<CurrentlyGrowing> currentlyGrowing = observableArrayList(currentlyGrowingService.loadAll());
-		repositoryTabController.initialise(seedPackets);
-		todayTabController.initialise(seedPackets, currentlyGrowing);
+		databaseExecutor.onFxThread(
+				initialDataLoader.load(),
+				this::initialiseTabs,
+				failure -> {
+					logger.error("Failed to load the seed bank", failure);
+					loadingIndicator.setVisible(false);
+				});
+	}
+
+
+	/*
+	 * Private helper method to initialise each of the tabs once the data has been loaded. A catalog 
+	 * too large to hold in memory is paged from the database by the seed library and today tabs.
+	 */
+	private void initialiseTabs(InitialData initialData) {
+		currentlyGrowingList.setAll(initialData.getCurrentlyGrowing());
+		ObservableList<CurrentlyGrowing> currentlyGrowing = currentlyGrowingList.getRecords();
+		if (initialData.isPaged()) {
+			seedPacketList.setPaged();
+			repositoryTabController.initialise(new PagedSeedPacketList(
+					seedPacketService, seedPacketList.revisionProperty(), repositoryPageSize, databaseExecutor));
+			todayTabController.initialisePaged(currentlyGrowing);
+		} else {
+			seedPacketList.setAll(initialData.getSeedPackets());
+			ObservableList<SeedPacketSummary> seedPackets = seedPacketList.getSeedPackets();
+			repositoryTabController.initialise(seedPackets);
+			todayTabController.initialise(seedPackets, currentlyGrowing);
+		}
 		currentlyGrowingController.initialise(currentlyGrowing);
+
+		loadingIndicator.setVisible(false);
+		tabPane.setDisable(false);
+
+		popupManager.preload(); // So that the first pop up opens as quickly as later ones
 	}
 
-}
\ No newline at end of file
+}
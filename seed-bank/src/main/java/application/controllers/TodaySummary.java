@@ -0,0 +1,250 @@
+package application.controllers;
+
+import static application.seeds.CalendarWindow.SOWING_INDOORS;
+import static application.seeds.CalendarWindow.SOWING_OUTDOORS;
+import static java.util.Comparator.comparing;
+import static javafx.collections.FXCollections.observableArrayList;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.seeds.CalendarWindow;
+import application.seeds.SeedPacketCalendarIndex;
+import application.seeds.SeedPacketSummary;
+import application.statistics.SeedBankSnapshot;
+import application.statistics.SeedBankStatistics;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+
+/**
+ * The lists and counts shown on the today tab, derived from the shared lists of seed packets and 
+ * currently growing records. Listeners on the shared lists apply each addition and removal as it 
+ * happens, so the summary is always up to date and showing the tab costs nothing, however large 
+ * the library. Whether a seed packet can be sown this month is read from the 
+ * {@link SeedPacketCalendarIndex}, which the {@link application.seeds.SeedPacketService} updates 
+ * before the change reaches the shared list. When the month changes, the sowing lists are replaced 
+ * by the seed packets the index holds for the new month, and only a change of year re-evaluates 
+ * every seed packet, to count those which have expired.
+ *
+ * Must be used on the JavaFX Application Thread, as the shared lists are.
+ */
+public class TodaySummary implements TodayTabSummary {
+
+	private final ObservableList<SeedPacketSummary> seedPackets;
+	private final ObservableList<CurrentlyGrowing> currentlyGrowing;
+	private final SeedPacketCalendarIndex seedPacketCalendarIndex;
+
+	private final ObservableList<SeedPacketSummary> canBeSownIndoors = observableArrayList();
+	private final ObservableList<SeedPacketSummary> canBeSownOutdoors = observableArrayList();
+	private final ObservableList<SeedPacketSummary> currentlyGrowingSeedPackets = observableArrayList();
+
+	private final Map<Long, SeedPacketSummary> seedPacketsById = new HashMap<>();
+	private final Map<Long, Integer> sowingsBySeedPacketId = new HashMap<>();
+	private final ReadOnlyIntegerWrapper expiredCount = new ReadOnlyIntegerWrapper();
+	private final ReadOnlyIntegerWrapper emptyCount = new ReadOnlyIntegerWrapper();
+
+	private LocalDate today;
+
+
+	/**
+	 * Creates the summary, and starts listening for changes to the lists.
+	 * @param seedPackets The seed packets in the library
+	 * @param currentlyGrowing The currently growing records
+	 * @param seedPacketCalendarIndex The index of the seed packets in window each month
+	 * @param today Today's date
+	 */
+	public TodaySummary(ObservableList<SeedPacketSummary> seedPackets, ObservableList<CurrentlyGrowing> currentlyGrowing, 
+			SeedPacketCalendarIndex seedPacketCalendarIndex, LocalDate today) {
+		this.seedPackets = seedPackets;
+		this.currentlyGrowing = currentlyGrowing;
+		this.seedPacketCalendarIndex = seedPacketCalendarIndex;
+		this.today = today;
+
+		seedPackets.forEach(this::addSeedPacket);
+		currentlyGrowing.forEach(record -> addSowing(record.getSeedPacket()));
+
+		seedPackets.addListener((ListChangeListener<SeedPacketSummary>) change -> {
+			while (change.next()) {
+				if (!change.wasPermutated() && !change.wasUpdated()) {
+					change.getRemoved().forEach(this::removeSeedPacket);
+					change.getAddedSubList().forEach(this::addSeedPacket);
+				}
+			}
+		});
+
+		currentlyGrowing.addListener((ListChangeListener<CurrentlyGrowing>) change -> {
+			while (change.next()) {
+				if (!change.wasPermutated() && !change.wasUpdated()) {
+					change.getRemoved().forEach(record -> removeSowing(record.getSeedPacket()));
+					change.getAddedSubList().forEach(record -> addSowing(record.getSeedPacket()));
+				}
+			}
+		});
+	}
+
+
+	@Override
+	public void setToday(LocalDate date) {
+		LocalDate previous = today;
+		today = date;
+
+		if (previous.getMonth() != date.getMonth()) {
+			canBeSownIndoors.setAll(inWindow(SOWING_INDOORS, date.getMonth()));
+			canBeSownOutdoors.setAll(inWindow(SOWING_OUTDOORS, date.getMonth()));
+		}
+		if (previous.getYear() != date.getYear()) {
+			expiredCount.set(SeedBankStatistics.of(SeedBankSnapshot.of(seedPackets), date).getExpired());
+		}
+	}
+
+
+	@Override
+	public LocalDate getToday() {
+		return today;
+	}
+
+
+	@Override
+	public ObservableList<SeedPacketSummary> getCanBeSownIndoors() {
+		return canBeSownIndoors.sorted(comparing(SeedPacketSummary::getName));
+	}
+
+
+	@Override
+	public ObservableList<SeedPacketSummary> getCanBeSownOutdoors() {
+		return canBeSownOutdoors.sorted(comparing(SeedPacketSummary::getName));
+	}
+
+
+	@Override
+	public ObservableList<SeedPacketSummary> getCurrentlyGrowingSeedPackets() {
+		return currentlyGrowingSeedPackets.sorted(comparing(SeedPacketSummary::getName));
+	}
+
+
+	@Override
+	public IntegerBinding seedPacketCount() {
+		return Bindings.size(seedPackets);
+	}
+
+
+	@Override
+	public IntegerBinding canBeSownIndoorsCount() {
+		return Bindings.size(canBeSownIndoors);
+	}
+
+
+	@Override
+	public IntegerBinding canBeSownOutdoorsCount() {
+		return Bindings.size(canBeSownOutdoors);
+	}
+
+
+	@Override
+	public IntegerBinding currentlyGrowingCount() {
+		return Bindings.size(currentlyGrowing);
+	}
+
+
+	@Override
+	public ReadOnlyIntegerProperty expiredCountProperty() {
+		return expiredCount.getReadOnlyProperty();
+	}
+
+
+	@Override
+	public ReadOnlyIntegerProperty emptyCountProperty() {
+		return emptyCount.getReadOnlyProperty();
+	}
+
+
+	/*
+	 * Private helper method to count a seed packet added to the library.
+	 */
+	private void addSeedPacket(SeedPacketSummary seedPacket) {
+		seedPacketsById.put(seedPacket.getId(), seedPacket);
+		if (seedPacketCalendarIndex.isInWindow(seedPacket.getId(), SOWING_INDOORS, today.getMonth())) {
+			canBeSownIndoors.add(seedPacket);
+		}
+		if (seedPacketCalendarIndex.isInWindow(seedPacket.getId(), SOWING_OUTDOORS, today.getMonth())) {
+			canBeSownOutdoors.add(seedPacket);
+		}
+		if (seedPacket.isExpired(today.getYear())) {
+			expiredCount.set(expiredCount.get() + 1);
+		}
+		if (seedPacket.isEmpty()) {
+			emptyCount.set(emptyCount.get() + 1);
+		}
+		if (sowingsBySeedPacketId.containsKey(seedPacket.getId())) {
+			currentlyGrowingSeedPackets.add(seedPacket);
+		}
+	}
+
+
+	/*
+	 * Private helper method to stop counting a seed packet removed from the library, or replaced by 
+	 * a newer summary of itself.
+	 */
+	private void removeSeedPacket(SeedPacketSummary seedPacket) {
+		seedPacketsById.remove(seedPacket.getId());
+		canBeSownIndoors.remove(seedPacket); // Summaries are equal by ID
+		canBeSownOutdoors.remove(seedPacket);
+		if (seedPacket.isExpired(today.getYear())) {
+			expiredCount.set(expiredCount.get() - 1);
+		}
+		if (seedPacket.isEmpty()) {
+			emptyCount.set(emptyCount.get() - 1);
+		}
+		currentlyGrowingSeedPackets.remove(seedPacket);
+	}
+
+
+	/*
+	 * Private helper method to count a currently growing record against its seed packet.
+	 */
+	private void addSowing(Long seedPacketId) {
+		if (seedPacketId != null && sowingsBySeedPacketId.merge(seedPacketId, 1, Integer::sum) == 1) {
+			SeedPacketSummary seedPacket = seedPacketsById.get(seedPacketId);
+			if (seedPacket != null) {
+				currentlyGrowingSeedPackets.add(seedPacket);
+			}
+		}
+	}
+
+
+	/*
+	 * Private helper method to stop counting a currently growing record against its seed packet.
+	 */
+	private void removeSowing(Long seedPacketId) {
+		if (seedPacketId != null && sowingsBySeedPacketId.computeIfPresent(seedPacketId, (id, count) -> count > 1 ? count - 1 : null) == null) {
+			currentlyGrowingSeedPackets.removeIf(seedPacket -> seedPacketId.equals(seedPacket.getId()));
+		}
+	}
+
+
+	/*
+	 * Private helper method to list the seed packets in window in the month, looked up from the IDs 
+	 * the calendar index holds for the month rather than by testing every seed packet.
+	 */
+	private List<SeedPacketSummary> inWindow(CalendarWindow window, Month month) {
+		List<SeedPacketSummary> inWindow = new ArrayList<>();
+		for (Long id : seedPacketCalendarIndex.getIdsInWindow(window, month)) {
+			SeedPacketSummary seedPacket = seedPacketsById.get(id);
+			if (seedPacket != null) {
+				inWindow.add(seedPacket);
+			}
+		}
+		return inWindow;
+	}
+
+}
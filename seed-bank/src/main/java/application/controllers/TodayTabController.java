@@ -1,46 +1,33 @@
 package application.controllers;
 
-import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableValue;
-import javafx.collections.FXCollections;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
-import javafx.scene.control.Tab;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.layout.Pane;
-import javafx.stage.Stage;
 
 import static java.time.format.DateTimeFormatter.ofLocalizedDate;
 import static java.time.format.FormatStyle.FULL;
-import static java.util.stream.Collectors.toList;
-import static javafx.collections.FXCollections.observableArrayList;
 
-import java.io.IOException;
-import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-import java.util.function.Predicate;
 
-import org.jboss.logging.Logger;
-import org.jboss.logging.Logger.Level;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import application.async.DatabaseExecutor;
+import application.clock.ClockService;
+import application.clock.DateChangedEvent;
 import application.currentlygrowing.CurrentlyGrowing;
-import application.seeds.SeedPacket;
+import application.seeds.SeedPacketCalendarIndex;
+import application.seeds.SeedPacketName;
 import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
 
 /**
  * Controller for the today tab.
@@ -48,7 +35,6 @@ import application.seeds.SeedPacketService;
 @Component
 public class TodayTabController {
 
-	@FXML private Tab todayTab;
 	@FXML private Label date;
 	@FXML private Label weatherReport;
 	@FXML private Label seedsInRepository;
@@ -57,86 +43,81 @@ public class TodayTabController {
 	@FXML private Label numberCurrentlyGrowing;
 	@FXML private Label numberExpired;
 	@FXML private Label emptyPackets;
-	@FXML private ListView<SeedPacket> canBeSownIndoorsListView;
-	@FXML private ListView<SeedPacket> canBeSownOutdoorsListView;
-	@FXML private ListView<SeedPacket> currentlyGrowingListView;
+	@FXML private ListView<SeedPacketName> canBeSownIndoorsListView;
+	@FXML private ListView<SeedPacketName> canBeSownOutdoorsListView;
+	@FXML private ListView<SeedPacketName> currentlyGrowingListView;
 
-	@Autowired private ApplicationContext applicationContext;
+	@Autowired private PopupManager popupManager;
+	@Autowired private ClockService clockService;
 	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private SeedPacketCalendarIndex seedPacketCalendarIndex;
+	@Autowired private DatabaseExecutor databaseExecutor;
+	@Autowired private SeedPacketList seedPacketList;
 
-	private LocalDate now = LocalDate.now();
-	private ObservableList<SeedPacket> seedPackets;
-	private ObservableList<CurrentlyGrowing> currentlyGrowing;
+	private TodayTabSummary todaySummary;
 
 
 	/**
-	 * Initialise the controller.
+	 * Initialise the controller. The lists and counts are kept up to date as the seed packets and 
+	 * currently growing records change, and as the date changes, rather than recalculated each time 
+	 * the tab is shown.
 	 * @param seedPackets The seed packets to be used
+	 * @param currentlyGrowing The currently growing records to be used
 	 */
-	void initialise(ObservableList<SeedPacket> seedPackets, ObservableList<CurrentlyGrowing> currentlyGrowing) {
-		this.seedPackets = seedPackets;
-		this.currentlyGrowing = currentlyGrowing;
-		initialiseLists();
-		initialiseSummaries();
-		initialiseEventHandling(Arrays.asList(canBeSownIndoorsListView, canBeSownOutdoorsListView, currentlyGrowingListView));
+	void initialise(ObservableList<SeedPacketSummary> seedPackets, ObservableList<CurrentlyGrowing> currentlyGrowing) {
+		initialise(new TodaySummary(seedPackets, currentlyGrowing, seedPacketCalendarIndex, clockService.today()));
 	}
 
 
-	/*
-	 * Private helper method to initialise the lists displayed on the today tab.
+	/**
+	 * Initialise the controller for a catalog too large to hold in memory. The lists and counts are 
+	 * queried from the database, and queried again as the seed packets, currently growing records 
+	 * and date change.
+	 * @param currentlyGrowing The currently growing records to be used
 	 */
-	private void initialiseLists() {
-
-		setCellFactoriesForLists(Arrays.asList(canBeSownIndoorsListView, canBeSownOutdoorsListView, currentlyGrowingListView));
-		Comparator<SeedPacket> seedPacketComparator = Comparator.comparing(SeedPacket::getName);
+	void initialisePaged(ObservableList<CurrentlyGrowing> currentlyGrowing) {
+		initialise(new PagedTodaySummary(seedPacketService, databaseExecutor, seedPacketList.revisionProperty(), 
+				currentlyGrowing, clockService.today()));
+	}
 
-		// Sow indoors			
-		ObservableList<SeedPacket> sowIndoorsList = observableArrayList();
 
-		for (SeedPacket seed : seedPackets) {		
-			boolean canNowBeSownIndoors = false;
-			if (seed.getSowingIndoorsStartMonth() != null) {
-				canNowBeSownIndoors = 
-						seed.getSowingIndoorsStartMonth().compareTo(now.getMonth()) <= 0 
-						&&	seed.getSowingIndoorsEndMonth().compareTo(now.getMonth()) >= 0;
-			}
+	/*
+	 * Private helper method to show the lists and counts of a summary.
+	 */
+	private void initialise(TodayTabSummary todaySummary) {
+		this.todaySummary = todaySummary;
+		initialiseLists();
+		initialiseSummaries();
+		initialiseEventHandling(Arrays.asList(canBeSownIndoorsListView, canBeSownOutdoorsListView, currentlyGrowingListView));
+	}
 
-			if (canNowBeSownIndoors) {
-				sowIndoorsList.add(seed);
-			}
-		}			
-		canBeSownIndoorsListView.setItems(sowIndoorsList.sorted(seedPacketComparator));
-
-		// Sow outdoors			
-		ObservableList<SeedPacket> sowOutdoorsList = observableArrayList();
-
-		for (SeedPacket seed : seedPackets) {		
-			boolean canNowBeSownOutdoors = false;
-			if (seed.getSowingOutdoorsStartMonth() != null) {
-				canNowBeSownOutdoors = 
-						seed.getSowingOutdoorsStartMonth().compareTo(now.getMonth()) <= 0 
-						&&	seed.getSowingOutdoorsEndMonth().compareTo(now.getMonth()) >= 0;
-			}
 
-			if (canNowBeSownOutdoors) {
-				sowOutdoorsList.add(seed);
+	/**
+	 * Moves the lists, counts and date on to the new date. Only the state which depends on the date 
+	 * is re-evaluated: the sowing windows when the month changes, and the expired packets when the 
+	 * year changes.
+	 * @param event The change of date
+	 */
+	@EventListener
+	public void onDateChanged(DateChangedEvent event) {
+		Platform.runLater(() -> {
+			if (todaySummary != null) {
+				todaySummary.setToday(event.getDate());
+				date.setText(todaySummary.getToday().format(ofLocalizedDate(FULL)));
 			}
-		}	
-		canBeSownOutdoorsListView.setItems(sowOutdoorsList.sorted(seedPacketComparator));
-
-		// Currently growing		
-		List<SeedPacket> currentSeedPackets = new ArrayList<SeedPacket>();
+		});
+	}
 
-		for (CurrentlyGrowing currentlyGrowing : currentlyGrowing) {
-			currentSeedPackets.add(seedPacketService.loadById(currentlyGrowing.getSeedPacket()).get());
-		}
 
-		ObservableList<SeedPacket> currentlyGrowingList = FXCollections.observableArrayList(
-				currentSeedPackets.stream()
-				.filter(distinctByKey(SeedPacket::getId))
-				.collect(toList()));
+	/*
+	 * Private helper method to initialise the lists displayed on the today tab.
+	 */
+	private void initialiseLists() {
+		setCellFactoriesForLists(Arrays.asList(canBeSownIndoorsListView, canBeSownOutdoorsListView, currentlyGrowingListView));
 
-		currentlyGrowingListView.setItems(currentlyGrowingList.sorted(seedPacketComparator));
+		canBeSownIndoorsListView.setItems(asNames(todaySummary.getCanBeSownIndoors()));
+		canBeSownOutdoorsListView.setItems(asNames(todaySummary.getCanBeSownOutdoors()));
+		currentlyGrowingListView.setItems(asNames(todaySummary.getCurrentlyGrowingSeedPackets()));
 	}
 
 
@@ -144,95 +125,42 @@ public class TodayTabController {
 	 * Private helper method to initialise the daily summaries
 	 */
 	private void initialiseSummaries() {
+		date.setText(todaySummary.getToday().format(ofLocalizedDate(FULL)));
+
+		seedsInRepository.textProperty().bind(Bindings.format("%d seed packets in your library", todaySummary.seedPacketCount()));
+		readyToSowIndoors.textProperty().bind(Bindings.format("%d packets can now be sown indoors", todaySummary.canBeSownIndoorsCount()));
+		readyToSowOutdoors.textProperty().bind(Bindings.format("%d packets can now be sown outdoors", todaySummary.canBeSownOutdoorsCount()));
+		numberCurrentlyGrowing.textProperty().bind(Bindings.format("%d active sowings", todaySummary.currentlyGrowingCount()));
+		numberExpired.textProperty().bind(Bindings.format("%d packets are expired", todaySummary.expiredCountProperty()));
+		emptyPackets.textProperty().bind(Bindings.format("%d packets are empty", todaySummary.emptyCountProperty()));
+	}
 
-		date.setText(now.format(ofLocalizedDate(FULL)));
-
-		seedsInRepository.setText(seedPackets.size() + " seed packets in your library");
-
-		// Ready to sow indoors
-		long numberReadyToSowIndoors = seedPackets.stream()
-				.filter(s -> s.getSowingIndoorsStartMonth() != null) // exclude any where sowing times not set
-				.filter(s -> s.getSowingIndoorsStartMonth().compareTo(now.getMonth()) <= 0 	
-				&&	s.getSowingIndoorsEndMonth().compareTo(now.getMonth()) >= 0)
-				.count();
-
-		readyToSowIndoors.setText(numberReadyToSowIndoors + " packets can now be sown indoors");
-
-		// Ready to sow outdoors
-		long numberReadyToSowOutdoors = seedPackets.stream()
-				.filter(s -> s.getSowingOutdoorsStartMonth() != null) // exclude any where sowing times not set
-				.filter(s -> s.getSowingOutdoorsStartMonth().compareTo(now.getMonth()) <= 0 	
-				&&	s.getSowingOutdoorsEndMonth().compareTo(now.getMonth()) >= 0)
-				.count();
-
-		readyToSowOutdoors.setText(numberReadyToSowOutdoors + " packets can now be sown outdoors");
-
-		// Number currently growing
-		long numberOfSeedsCurrentlyGrowing = currentlyGrowing.size();
-
-		numberCurrentlyGrowing.setText(numberOfSeedsCurrentlyGrowing + " active sowings");
-
-		// Expired
-		long numberOfExpiredPacks = seedPackets.stream()
-				.filter(s -> s.getExpirationDate() != 0) // exclude any where expiration date not set
-				.filter(s -> s.getExpirationDate().compareTo(now.getYear()) < 0)
-				.count();
-
-		numberExpired.setText(numberOfExpiredPacks + " packets are expired");
-
-		// Empty
-		long numberOfEmptyPacks = seedPackets.stream()
-				.filter(s -> s.getPackSize() > 0 && s.getNumberRemaining() == 0)
-				.count();
-
-		emptyPackets.setText(numberOfEmptyPacks + " packets are empty");
 
+	/*
+	 * Private helper method to view a list of seed packet summaries as their names. The views are 
+	 * read only, so this is safe.
+	 */
+	@SuppressWarnings("unchecked")
+	private static ObservableList<SeedPacketName> asNames(ObservableList<? extends SeedPacketName> seedPackets) {
+		return (ObservableList<SeedPacketName>) seedPackets;
 	}
 
 
 	/*
 	 * Private helper method to initialise the event handling.
 	 */
-	private void initialiseEventHandling(List<ListView<SeedPacket>> listViews) {
+	private void initialiseEventHandling(List<ListView<SeedPacketName>> listViews) {
 
 		// Handle when a user double clicks on a seed packet in any of the list views
-		for (ListView<SeedPacket> listView : listViews) {
+		for (ListView<SeedPacketName> listView : listViews) {
 
 			listView.setOnMouseClicked((MouseEvent event) -> {
 				if (event.getButton().equals(MouseButton.PRIMARY) && event.getClickCount() == 2){
-
-					FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/popups/EditSeedPacket.fxml"));
-					fxmlLoader.setControllerFactory(applicationContext::getBean);
-
-					Stage stage = new Stage();
-					try {
-						stage.setScene(new Scene((Pane) fxmlLoader.load()));
-
-						EditSeedPacketController editSeedPacketController = fxmlLoader.getController();
-
-						editSeedPacketController.initData(listView);
-						stage.setTitle("View"); 
-						stage.show();
-
-					} catch (IOException e) {
-						Logger logger = Logger.getLogger(getClass().getName());
-						logger.log(Level.ERROR, "Failed to create new Window.", e);		
-					}
+					popupManager.open(Popup.EDIT_SEED_PACKET, "View", 
+							editSeedPacketController -> editSeedPacketController.initData(listView));
 				}
 			});
 		}
-
-		// Refresh the today tab every time the tab is clicked
-		todayTab.getTabPane().getSelectionModel().selectedItemProperty().addListener(new ChangeListener<Tab>() {
-
-			@Override
-			public void changed(ObservableValue<? extends Tab> observable, Tab oldTab, Tab newTab) {
-				if(newTab == todayTab) {
-					initialiseSummaries();
-					initialiseLists();
-				}
-			}
-		});
 	}
 
 
@@ -240,12 +168,12 @@ public class TodayTabController {
 	 * Private helper method to set the cell factories for each ListView so that the seed packet 
 	 * name is displayed rather than the objects default toString.
 	 */
-	private void setCellFactoriesForLists(List<ListView<SeedPacket>> lists) {
+	private void setCellFactoriesForLists(List<ListView<SeedPacketName>> lists) {
 
-		for (ListView<SeedPacket> list : lists) {
-			list.setCellFactory(lv -> new ListCell<SeedPacket>() {
+		for (ListView<SeedPacketName> list : lists) {
+			list.setCellFactory(lv -> new ListCell<SeedPacketName>() {
 				@Override
-				protected void updateItem(SeedPacket seedPacket, boolean empty) {
+				protected void updateItem(SeedPacketName seedPacket, boolean empty) {
 					super.updateItem(seedPacket, empty);
 					setText(seedPacket == null ? null : seedPacket.getName());
 				}
@@ -253,13 +181,4 @@ public class TodayTabController {
 		}
 	}
 
-
-	/*
-	 * Predicate for filtering a stream by a particular key
-	 */
-	private static <T> Predicate<T> distinctByKey(Function<? super T, ?> keyExtractor) {
-		Set<Object> seen = ConcurrentHashMap.newKeySet();
-		return t -> seen.add(keyExtractor.apply(t));
-	}
-
 }
\ No newline at end of file
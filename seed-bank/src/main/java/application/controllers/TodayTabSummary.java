@@ -0,0 +1,56 @@
+package application.controllers;
+
+import java.time.LocalDate;
+
+import application.seeds.SeedPacketName;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.collections.ObservableList;
+
+
+/**
+ * The lists and counts shown on the today tab. Held in memory by a {@link TodaySummary} for a catalog 
+ * which fits in memory, or queried from the database by a {@link PagedTodaySummary} for one which does not.
+ *
+ * Must be used on the JavaFX Application Thread.
+ */
+interface TodayTabSummary {
+
+	/**
+	 * Moves the summary on to a new date, if it has changed since the summary was created or last moved.
+	 * @param date Today's date
+	 */
+	void setToday(LocalDate date);
+
+	LocalDate getToday();
+
+	/**
+	 * Gets the seed packets which can be sown indoors this month.
+	 * @return A live view of the seed packets, sorted by name
+	 */
+	ObservableList<? extends SeedPacketName> getCanBeSownIndoors();
+
+	/**
+	 * Gets the seed packets which can be sown outdoors this month.
+	 * @return A live view of the seed packets, sorted by name
+	 */
+	ObservableList<? extends SeedPacketName> getCanBeSownOutdoors();
+
+	/**
+	 * Gets the seed packets with at least one currently growing record.
+	 * @return A live view of the seed packets, sorted by name
+	 */
+	ObservableList<? extends SeedPacketName> getCurrentlyGrowingSeedPackets();
+
+	ObservableIntegerValue seedPacketCount();
+
+	ObservableIntegerValue canBeSownIndoorsCount();
+
+	ObservableIntegerValue canBeSownOutdoorsCount();
+
+	ObservableIntegerValue currentlyGrowingCount();
+
+	ObservableIntegerValue expiredCountProperty();
+
+	ObservableIntegerValue emptyCountProperty();
+
+}
@@ -19,6 +19,18 @@ public class ValidationFailureController {
 	@FXML private Button okButton;
 
 
+	/**
+	 * Gets the message shown when a save fails as the record has been changed on another computer since 
+	 * it was opened, so that the wording is the same in every pop up.
+	 * @param record The record which could not be saved, e.g. "This seed packet"
+	 * @return The message, ending with a new line
+	 */
+	static String changedElsewhereMessage(String record) {
+		return record + " has been changed on another computer since it was opened. "
+				+ "Close it and open it again to see the changes, then make your edits again.\n";
+	}
+
+
 	/**
 	 * Initialise the data.
 	 * @param seedPackets The table of seed packets being passed in
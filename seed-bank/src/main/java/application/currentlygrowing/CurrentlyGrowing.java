@@ -5,12 +5,14 @@ import java.time.LocalDate;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 
+import application.events.Identifiable;
+
 /**
  * Entity class defining the currently growing seeds. This is mapped to the currently_growing table 
  * of the SeedBank database.
  */
 @Entity
-public class CurrentlyGrowing {
+public class CurrentlyGrowing implements Identifiable {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,6 +37,9 @@ public class CurrentlyGrowing {
 	@Column(name = "location") private String location;
 	@Column(name = "notes") private String notes;
 
+	@Version
+	@Column(name = "version") private Long version;
+
 	
 	public Long getId() {
 		return id;
@@ -145,4 +150,37 @@ public class CurrentlyGrowing {
 		this.notes = notes;
 	}
 
+
+	public Long getVersion() {
+		return version;
+	}
+
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+
+	/**
+	 * Creates a copy of the record, so that the copy can be changed and saved, e.g. when progressed, 
+	 * without changing the record shown in the tables until it has been saved.
+	 * @return A copy of the record, including its ID and version
+	 */
+	public CurrentlyGrowing copy() {
+		CurrentlyGrowing copy = new CurrentlyGrowing();
+		copy.id = id;
+		copy.seedPacket = seedPacket;
+		copy.indoors = indoors;
+		copy.numberSown = numberSown;
+		copy.dateSown = dateSown;
+		copy.numberGerminated = numberGerminated;
+		copy.dateGerminated = dateGerminated;
+		copy.numberEstablished = numberEstablished;
+		copy.dateEstablished = dateEstablished;
+		copy.location = location;
+		copy.notes = notes;
+		copy.version = version;
+		return copy;
+	}
+
 }
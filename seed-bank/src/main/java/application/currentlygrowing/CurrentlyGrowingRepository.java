@@ -1,6 +1,18 @@
 package application.currentlygrowing;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
@@ -13,4 +25,22 @@ public interface CurrentlyGrowingRepository extends CrudRepository<CurrentlyGrow
 	
 	boolean existsBySeedPacket(Long seedPacket);
 
+	@QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true") })
+	@Query("select c from CurrentlyGrowing c order by c.id")
+	Stream<CurrentlyGrowing> streamAll();
+
+	/**
+	 * Deletes the records in a single statement, without loading them first.
+	 * @return The number of records deleted
+	 */
+	@Modifying
+	@Query("delete from CurrentlyGrowing c where c.id in :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Writes the pending changes to the database, e.g. so that the version of a merged record is 
+	 * incremented before the transaction commits.
+	 */
+	void flush();
+
 }
\ No newline at end of file
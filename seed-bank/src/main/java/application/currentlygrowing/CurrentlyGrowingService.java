@@ -2,30 +2,48 @@ package application.currentlygrowing;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import application.changes.RemoteChangeHandler;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
 
 
 /**
- * The service for controlling the interaction of {@link CurrentlyGrowing} seeds with the underlying database.
+ * The service for controlling the interaction of {@link CurrentlyGrowing} seeds with the underlying database. 
+ * An {@link EntityChangedEvent} is published for each record saved or deleted, here or by other clients 
+ * of the database.
  */
 @Service
-public class CurrentlyGrowingService {
+public class CurrentlyGrowingService implements RemoteChangeHandler {
 
 	@Autowired private CurrentlyGrowingRepository currentlyGrowingRepository;
+	@Autowired private ApplicationEventPublisher eventPublisher;
 
 	private Logger logger = LoggerFactory.getLogger(CurrentlyGrowingService.class);
 
 
 	/**
-	 * Saves a {@link CurrentlyGrowing} record to the database.
+	 * Saves a {@link CurrentlyGrowing} record to the database. Within a wider transaction, e.g. when 
+	 * sowing, the record is written straight away rather than on commit.
 	 * @param currentlyGrowing The currently growing record to be saved
 	 */
+	@Transactional
 	public void save(CurrentlyGrowing currentlyGrowing) {
-		currentlyGrowingRepository.save(currentlyGrowing);
+		ChangeType changeType = currentlyGrowing.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED;
+		// Updates are merged into a copy, whose version is only incremented once flushed. The version is 
+		// then carried back for the next save of this record
+		CurrentlyGrowing saved = currentlyGrowingRepository.save(currentlyGrowing);
+		currentlyGrowingRepository.flush();
+		currentlyGrowing.setVersion(saved.getVersion());
+		eventPublisher.publishEvent(new EntityChangedEvent<>(CurrentlyGrowing.class, currentlyGrowing, changeType));
 	}
 
 
@@ -33,10 +51,36 @@ public class CurrentlyGrowingService {
 	 * Delete the {@link CurrentlyGrowing} record from the database.
 	 * @param currentlyGrowing The currently growing record to be deleted
 	 */
+	@Transactional
 	public void delete(CurrentlyGrowing currentlyGrowing) {
 		currentlyGrowingRepository.delete(currentlyGrowing);
 		logger.info("This record has been deleted from the database");
+		eventPublisher.publishEvent(new EntityChangedEvent<>(CurrentlyGrowing.class, currentlyGrowing, ChangeType.DELETED));
+
+	}
 
+
+	@Override
+	public Class<?> getEntityType() {
+		return CurrentlyGrowing.class;
+	}
+
+
+	/**
+	 * Reloads a {@link CurrentlyGrowing} record changed by another client.
+	 * @param id The ID of the record
+	 * @param changeType How the record was changed
+	 */
+	@Override
+	public void applyRemoteChange(Long id, ChangeType changeType) {
+		Optional<CurrentlyGrowing> changed = changeType == ChangeType.DELETED ? Optional.empty() : currentlyGrowingRepository.findById(id);
+		if (changed.isPresent()) {
+			eventPublisher.publishEvent(new EntityChangedEvent<>(CurrentlyGrowing.class, changed.get(), changeType, true));
+		} else {
+			CurrentlyGrowing deleted = new CurrentlyGrowing();
+			deleted.setId(id);
+			eventPublisher.publishEvent(new EntityChangedEvent<>(CurrentlyGrowing.class, deleted, ChangeType.DELETED, true));
+		}
 	}
 
 
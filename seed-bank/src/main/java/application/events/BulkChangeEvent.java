@@ -0,0 +1,78 @@
+package application.events;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+
+/**
+ * Published by the services once many entities of a type have been written to the database at once,
+ * other than one at a time through the service, e.g. by an import. Rather than an
+ * {@link EntityChangedEvent} for each entity, listeners are told only that the entities may have
+ * changed, and should reload whatever they hold.
+ *
+ * As with {@link EntityChangedEvent}s, listeners annotated with
+ * {@code @TransactionalEventListener(fallbackExecution = true)} taking a
+ * {@code BulkChangeEvent<SeedPacket>} are called once the changes have been committed, on the thread
+ * which made them. Bulk changes made by other clients are published as remote changes once read from
+ * the change log.
+ *
+ * @param <T> The class of the entities
+ */
+public class BulkChangeEvent<T> extends ApplicationEvent implements ResolvableTypeProvider {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Class<T> entityType;
+	private final boolean remote;
+
+
+	/**
+	 * Creates the event for changes made by this client.
+	 * @param entityType The class of the entities which have been changed
+	 */
+	public BulkChangeEvent(Class<T> entityType) {
+		this(entityType, false);
+	}
+
+
+	/**
+	 * Creates the event.
+	 * @param entityType The class of the entities which have been changed
+	 * @param remote Whether the changes were made by another client of the database
+	 */
+	public BulkChangeEvent(Class<T> entityType, boolean remote) {
+		super(entityType);
+		this.entityType = entityType;
+		this.remote = remote;
+	}
+
+
+	/**
+	 * @return The class of the entities which have been changed
+	 */
+	public Class<T> getEntityType() {
+		return entityType;
+	}
+
+
+	/**
+	 * @return Whether the changes were made by another client of the database
+	 */
+	public boolean isRemote() {
+		return remote;
+	}
+
+
+	@Override
+	public ResolvableType getResolvableType() {
+		return ResolvableType.forClassWithGenerics(getClass(), entityType);
+	}
+
+
+	@Override
+	public String toString() {
+		return "BulkChangeEvent [entityType=" + entityType.getSimpleName() + ", remote=" + remote + "]";
+	}
+
+}
@@ -0,0 +1,12 @@
+package application.events;
+
+/**
+ * Enum denoting how an entity has been changed in the database.
+ */
+public enum ChangeType {
+
+	CREATED,
+	UPDATED,
+	DELETED;
+
+}
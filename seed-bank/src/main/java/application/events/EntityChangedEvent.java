@@ -0,0 +1,101 @@
+package application.events;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+
+/**
+ * Published by the services once an entity has been created, updated or deleted in the database, 
+ * carrying the entity as it was saved, or as it was before being deleted. Changes made by other 
+ * clients of the same database are published as remote changes once read from the change log.
+ *
+ * Events are typed by the class of the entity, so listeners receive only the changes they are 
+ * interested in, e.g. a method annotated with 
+ * {@code @TransactionalEventListener(fallbackExecution = true)} taking an 
+ * {@code EntityChangedEvent<SeedPacket>}. Such listeners are called once the change has been 
+ * committed, on the thread which made it, i.e. the database thread, so UI listeners should hand 
+ * the event over to the JavaFX Application Thread.
+ *
+ * @param <T> The class of the entity
+ */
+public class EntityChangedEvent<T> extends ApplicationEvent implements ResolvableTypeProvider {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Class<T> entityType;
+	private final ChangeType changeType;
+	private final boolean remote;
+
+
+	/**
+	 * Creates the event for a change made by this client.
+	 * @param entityType The class of the entity
+	 * @param entity The entity which has been changed
+	 * @param changeType How the entity has been changed
+	 */
+	public EntityChangedEvent(Class<T> entityType, T entity, ChangeType changeType) {
+		this(entityType, entity, changeType, false);
+	}
+
+
+	/**
+	 * Creates the event.
+	 * @param entityType The class of the entity
+	 * @param entity The entity which has been changed. For remote deletions, only the ID may be set
+	 * @param changeType How the entity has been changed
+	 * @param remote Whether the change was made by another client of the database
+	 */
+	public EntityChangedEvent(Class<T> entityType, T entity, ChangeType changeType, boolean remote) {
+		super(entity);
+		this.entityType = entityType;
+		this.changeType = changeType;
+		this.remote = remote;
+	}
+
+
+	/**
+	 * @return The class of the entity
+	 */
+	public Class<T> getEntityType() {
+		return entityType;
+	}
+
+
+	/**
+	 * @return The entity which has been changed
+	 */
+	public T getEntity() {
+		return entityType.cast(getSource());
+	}
+
+
+	/**
+	 * @return How the entity has been changed
+	 */
+	public ChangeType getChangeType() {
+		return changeType;
+	}
+
+
+	/**
+	 * @return true if the change was made by another client of the database, and false if made by this one
+	 */
+	public boolean isRemote() {
+		return remote;
+	}
+
+
+	@Override
+	public ResolvableType getResolvableType() {
+		return ResolvableType.forClassWithGenerics(getClass(), entityType);
+	}
+
+
+	@Override
+	public String toString() {
+		return "EntityChangedEvent [entityType=" + entityType.getSimpleName() + ", changeType=" + changeType 
+				+ ", remote=" + remote + "]";
+	}
+
+}
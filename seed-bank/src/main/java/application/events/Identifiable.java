@@ -0,0 +1,15 @@
+package application.events;
+
+
+/**
+ * An entity with a Long ID, so that changes to it can be recorded by ID, e.g. in the change log 
+ * shared between the clients of a database.
+ */
+public interface Identifiable {
+
+	/**
+	 * @return The ID of the entity, or null if it has not yet been saved
+	 */
+	Long getId();
+
+}
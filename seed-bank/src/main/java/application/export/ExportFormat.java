@@ -0,0 +1,29 @@
+package application.export;
+
+/**
+ * Enum denoting the file formats the {@link ExportService} can write.
+ */
+public enum ExportFormat {
+
+	/** Comma separated values, with a header line of column names */
+	CSV("csv"),
+
+	/** Newline delimited JSON, with an object per line */
+	NDJSON("ndjson");
+
+	private final String extension;
+
+
+	ExportFormat(String extension) {
+		this.extension = extension;
+	}
+
+
+	/**
+	 * @return The file extension for the format, excluding the dot
+	 */
+	public String getExtension() {
+		return extension;
+	}
+
+}
@@ -0,0 +1,42 @@
+package application.export;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Runs the {@link ExportService} on a schedule, e.g. nightly. Disabled unless 
+ * seedbank.export.cron is set.
+ */
+@Component
+public class ExportScheduler {
+
+	@Autowired private ExportService exportService;
+
+	@Value("${seedbank.export.directory:export}") private String directory;
+	@Value("${seedbank.export.format:CSV}") private ExportFormat format;
+	@Value("${seedbank.export.gzip:true}") private boolean gzip;
+
+	private Logger logger = LoggerFactory.getLogger(ExportScheduler.class);
+
+
+	/**
+	 * Exports the catalog and growing history to the configured directory.
+	 */
+	@Scheduled(cron = "${seedbank.export.cron:-}")
+	public void export() {
+		try {
+			exportService.exportAll(Paths.get(directory), format, gzip);
+		} catch (IOException e) {
+			logger.error("Scheduled export to " + directory + " failed", e);
+		}
+	}
+
+}
@@ -0,0 +1,356 @@
+package application.export;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Arrays.asList;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.currentlygrowing.CurrentlyGrowingRepository;
+import application.previouslygrowing.PreviouslyGrowing;
+import application.previouslygrowing.PreviouslyGrowingRepository;
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketRepository;
+
+
+/**
+ * The service for exporting the seed packet catalog and growing history, e.g. for reporting. Rows 
+ * are streamed from the database with a cursor and written straight to the file, each being 
+ * discarded once written, so the memory used does not grow with the number of rows.
+ *
+ * Columns are named after the columns of the database tables. Exported seed packets can be 
+ * re-imported by the {@link application.seeds.SeedPacketImportService}.
+ */
+@Service
+public class ExportService {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final List<Column<SeedPacket>> SEED_PACKET_COLUMNS = asList(
+			new Column<>("id", SeedPacket::getId),
+			new Column<>("name", SeedPacket::getName),
+			new Column<>("latin_name", SeedPacket::getLatinName),
+			new Column<>("type", SeedPacket::getType),
+			new Column<>("variety", SeedPacket::getVariety),
+			new Column<>("manufacturer", SeedPacket::getManufacturer),
+			new Column<>("manufacturer_code", SeedPacket::getManufacturerCode),
+			new Column<>("pack_size", SeedPacket::getPackSize),
+			new Column<>("number_remaining", SeedPacket::getNumberRemaining),
+			new Column<>("expiration_date", SeedPacket::getExpirationDate),
+			new Column<>("sowing_indoors_start_month", SeedPacket::getSowingIndoorsStartMonth),
+			new Column<>("sowing_indoors_end_month", SeedPacket::getSowingIndoorsEndMonth),
+			new Column<>("sowing_outdoors_start_month", SeedPacket::getSowingOutdoorsStartMonth),
+			new Column<>("sowing_outdoors_end_month", SeedPacket::getSowingOutdoorsEndMonth),
+			new Column<>("harvest_start_month", SeedPacket::getHarvestStartMonth),
+			new Column<>("harvest_end_month", SeedPacket::getHarvestEndMonth),
+			new Column<>("flowering_start_month", SeedPacket::getFloweringStartMonth),
+			new Column<>("flowering_end_month", SeedPacket::getFloweringEndMonth),
+			new Column<>("keywords", SeedPacket::getKeywords),
+			new Column<>("description", SeedPacket::getDescription));
+
+	private static final List<Column<CurrentlyGrowing>> CURRENTLY_GROWING_COLUMNS = asList(
+			new Column<>("id", CurrentlyGrowing::getId),
+			new Column<>("seed_packet", CurrentlyGrowing::getSeedPacket),
+			new Column<>("indoors", CurrentlyGrowing::isIndoors),
+			new Column<>("number_sown", CurrentlyGrowing::getNumberSown),
+			new Column<>("date_sown", CurrentlyGrowing::getDateSown),
+			new Column<>("number_germinated", CurrentlyGrowing::getNumberGerminated),
+			new Column<>("date_germinated", CurrentlyGrowing::getDateGerminated),
+			new Column<>("number_established", CurrentlyGrowing::getNumberEstablished),
+			new Column<>("date_established", CurrentlyGrowing::getDateEstablished),
+			new Column<>("location", CurrentlyGrowing::getLocation),
+			new Column<>("notes", CurrentlyGrowing::getNotes));
+
+	private static final List<Column<PreviouslyGrowing>> PREVIOUSLY_GROWING_COLUMNS = asList(
+			new Column<>("id", PreviouslyGrowing::getId),
+			new Column<>("seed_packet", PreviouslyGrowing::getSeedPacket),
+			new Column<>("indoors", PreviouslyGrowing::isIndoors),
+			new Column<>("number_sown", PreviouslyGrowing::getNumberSown),
+			new Column<>("date_sown", PreviouslyGrowing::getDateSown),
+			new Column<>("number_germinated", PreviouslyGrowing::getNumberGerminated),
+			new Column<>("date_germinated", PreviouslyGrowing::getDateGerminated),
+			new Column<>("number_established", PreviouslyGrowing::getNumberEstablished),
+			new Column<>("date_established", PreviouslyGrowing::getDateEstablished),
+			new Column<>("location", PreviouslyGrowing::getLocation),
+			new Column<>("notes", PreviouslyGrowing::getNotes),
+			new Column<>("date_closed", PreviouslyGrowing::getDateClosed),
+			new Column<>("performance_notes", PreviouslyGrowing::getPerformanceNotes),
+			new Column<>("star_rating", PreviouslyGrowing::getStarRating),
+			new Column<>("was_successful", PreviouslyGrowing::wasSuccessful),
+			new Column<>("cause_of_failure", PreviouslyGrowing::getCauseOfFailure));
+
+	@Autowired private SeedPacketRepository seedPacketRepository;
+	@Autowired private CurrentlyGrowingRepository currentlyGrowingRepository;
+	@Autowired private PreviouslyGrowingRepository previouslyGrowingRepository;
+	@PersistenceContext private EntityManager entityManager;
+
+	private Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+
+	/**
+	 * A column of an export, and how its value is read from each row.
+	 */
+	private static class Column<T> {
+
+		private final String name;
+		private final Function<T, Object> value;
+
+		Column(String name, Function<T, Object> value) {
+			this.name = name;
+			this.value = value;
+		}
+	}
+
+
+	/**
+	 * Exports the seed_packet, currently_growing and previously_growing tables to a file each within 
+	 * the directory, e.g. seed_packet.csv.gz. The tables are read within a single transaction, so are 
+	 * consistent with each other.
+	 * @param directory The directory, which is created if it does not exist
+	 * @param format The format of the files
+	 * @param gzip Whether to compress the files
+	 * @return The files written
+	 * @throws IOException If the files cannot be written
+	 */
+	@Transactional(readOnly = true)
+	public List<Path> exportAll(Path directory, ExportFormat format, boolean gzip) throws IOException {
+		Files.createDirectories(directory);
+
+		List<Path> files = new ArrayList<>();
+		files.add(export(seedPacketRepository.streamAll(), SEED_PACKET_COLUMNS, 
+				file(directory, "seed_packet", format, gzip), format, gzip));
+		files.add(export(currentlyGrowingRepository.streamAll(), CURRENTLY_GROWING_COLUMNS, 
+				file(directory, "currently_growing", format, gzip), format, gzip));
+		files.add(export(previouslyGrowingRepository.streamAll(), PREVIOUSLY_GROWING_COLUMNS, 
+				file(directory, "previously_growing", format, gzip), format, gzip));
+		return files;
+	}
+
+
+	/**
+	 * Exports the seed_packet table.
+	 * @param file The file to be written, which is replaced if it exists
+	 * @param format The format of the file
+	 * @param gzip Whether to compress the file
+	 * @return The file written
+	 * @throws IOException If the file cannot be written
+	 */
+	@Transactional(readOnly = true)
+	public Path exportSeedPackets(Path file, ExportFormat format, boolean gzip) throws IOException {
+		return export(seedPacketRepository.streamAll(), SEED_PACKET_COLUMNS, file, format, gzip);
+	}
+
+
+	/**
+	 * Exports the currently_growing table.
+	 * @param file The file to be written, which is replaced if it exists
+	 * @param format The format of the file
+	 * @param gzip Whether to compress the file
+	 * @return The file written
+	 * @throws IOException If the file cannot be written
+	 */
+	@Transactional(readOnly = true)
+	public Path exportCurrentlyGrowing(Path file, ExportFormat format, boolean gzip) throws IOException {
+		return export(currentlyGrowingRepository.streamAll(), CURRENTLY_GROWING_COLUMNS, file, format, gzip);
+	}
+
+
+	/**
+	 * Exports the previously_growing table.
+	 * @param file The file to be written, which is replaced if it exists
+	 * @param format The format of the file
+	 * @param gzip Whether to compress the file
+	 * @return The file written
+	 * @throws IOException If the file cannot be written
+	 */
+	@Transactional(readOnly = true)
+	public Path exportPreviouslyGrowing(Path file, ExportFormat format, boolean gzip) throws IOException {
+		return export(previouslyGrowingRepository.streamAll(), PREVIOUSLY_GROWING_COLUMNS, file, format, gzip);
+	}
+
+
+	/*
+	 * Private helper method to write each of the rows to the file, detaching each entity from the 
+	 * persistence context once written so that it can be garbage collected.
+	 */
+	private <T> Path export(Stream<T> rows, List<Column<T>> columns, Path file, ExportFormat format, boolean gzip) 
+			throws IOException {
+
+		long count = 0;
+		try (Stream<T> stream = rows; 
+				FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+				Writer writer = writer(channel, gzip);
+				RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer)) {
+
+			List<String> names = new ArrayList<>(columns.size());
+			columns.forEach(column -> names.add(column.name));
+			rowWriter.start(names);
+
+			List<Object> values = new ArrayList<>(columns.size());
+			for (T row : (Iterable<T>) stream::iterator) {
+				values.clear();
+				for (Column<T> column : columns) {
+					values.add(column.value.apply(row));
+				}
+				rowWriter.write(values);
+				entityManager.detach(row);
+				count++;
+			}
+		}
+
+		logger.info("Exported " + count + " rows to " + file);
+		return file;
+	}
+
+
+	/*
+	 * Private helper method to open a buffered writer on the channel, compressing if required.
+	 */
+	private Writer writer(FileChannel channel, boolean gzip) throws IOException {
+		OutputStream out = Channels.newOutputStream(channel);
+		if (gzip) {
+			out = new GZIPOutputStream(out, BUFFER_SIZE);
+		}
+		return new BufferedWriter(new OutputStreamWriter(out, UTF_8), BUFFER_SIZE);
+	}
+
+
+	/*
+	 * Private helper method to name the file for a table.
+	 */
+	private Path file(Path directory, String table, ExportFormat format, boolean gzip) {
+		return directory.resolve(table + "." + format.getExtension() + (gzip ? ".gz" : ""));
+	}
+
+
+	/*
+	 * Writes rows in a particular format.
+	 */
+	private interface RowWriter extends AutoCloseable {
+
+		void start(List<String> columns) throws IOException;
+
+		void write(List<Object> values) throws IOException;
+
+		@Override
+		void close() throws IOException;
+	}
+
+
+	/*
+	 * Writes a header line of column names, then a line per row. Values containing commas, quotes 
+	 * or line breaks are quoted.
+	 */
+	private static class CsvRowWriter implements RowWriter {
+
+		private final Writer writer;
+
+		CsvRowWriter(Writer writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		public void start(List<String> columns) throws IOException {
+			write(new ArrayList<>(columns));
+		}
+
+		@Override
+		public void write(List<Object> values) throws IOException {
+			for (int i = 0; i < values.size(); i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				Object value = values.get(i);
+				if (value != null) {
+					String text = value.toString();
+					if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+						text = '"' + text.replace("\"", "\"\"") + '"';
+					}
+					writer.write(text);
+				}
+			}
+			writer.write('\n');
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.flush();
+		}
+	}
+
+
+	/*
+	 * Writes an object per row, keyed by column name, each on its own line.
+	 */
+	private static class NdjsonRowWriter implements RowWriter {
+
+		private final JsonGenerator generator;
+		private List<String> columns;
+
+		NdjsonRowWriter(Writer writer) throws IOException {
+			generator = new JsonFactory().createGenerator(writer);
+			generator.setRootValueSeparator(new SerializedString("\n"));
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		}
+
+		@Override
+		public void start(List<String> columns) {
+			this.columns = columns;
+		}
+
+		@Override
+		public void write(List<Object> values) throws IOException {
+			generator.writeStartObject();
+			for (int i = 0; i < values.size(); i++) {
+				Object value = values.get(i);
+				generator.writeFieldName(columns.get(i));
+				if (value == null) {
+					generator.writeNull();
+				} else if (value instanceof Long || value instanceof Integer) {
+					generator.writeNumber(((Number) value).longValue());
+				} else if (value instanceof Boolean) {
+					generator.writeBoolean((Boolean) value);
+				} else {
+					generator.writeString(value.toString());
+				}
+			}
+			generator.writeEndObject();
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.writeRaw('\n');
+			generator.flush();
+		}
+	}
+
+}
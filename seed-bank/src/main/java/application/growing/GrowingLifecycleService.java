@@ -0,0 +1,116 @@
+package application.growing;
+
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.currentlygrowing.CurrentlyGrowingRepository;
+import application.currentlygrowing.CurrentlyGrowingService;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
+import application.previouslygrowing.PreviouslyGrowing;
+import application.previouslygrowing.PreviouslyGrowingRepository;
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketService;
+
+
+/**
+ * The service for moving seeds through their growing lifecycle, from being sown out of a seed packet 
+ * into the currently_growing table, to the previously_growing table once finished.
+ *
+ * Sowing saves the record and deducts the seeds from the packet in a single transaction, so the count
+ * of seeds remaining always matches the records saved.
+ *
+ * Finished records are moved in a single transaction, copied across by one {@code INSERT ... SELECT} 
+ * and then removed by one {@code DELETE}, so a record is never left in both tables or in neither. Once
+ * committed, an {@link EntityChangedEvent} is published for each record deleted and each record created.
+ */
+@Service
+public class GrowingLifecycleService {
+
+	private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+	@Autowired private CurrentlyGrowingRepository currentlyGrowingRepository;
+	@Autowired private PreviouslyGrowingRepository previouslyGrowingRepository;
+	@Autowired private CurrentlyGrowingService currentlyGrowingService;
+	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private ApplicationEventPublisher eventPublisher;
+
+	private Logger logger = LoggerFactory.getLogger(GrowingLifecycleService.class);
+
+
+	/**
+	 * Saves a new or edited {@link CurrentlyGrowing} record, and deducts the seeds sown from its 
+	 * {@link SeedPacket}, in the same transaction. If either fails, neither is saved.
+	 * @param currentlyGrowing The currently growing record to be saved
+	 * @param numberSown The number of seeds to deduct from the packet, i.e. the number sown, less any 
+	 * sown previously when editing the record. Negative to return seeds to the packet
+	 */
+	@Transactional
+	public void sow(CurrentlyGrowing currentlyGrowing, int numberSown) {
+		currentlyGrowingService.save(currentlyGrowing);
+		if (numberSown != 0) {
+			seedPacketService.deductSeeds(currentlyGrowing.getSeedPacket(), numberSown);
+		}
+	}
+
+
+	/**
+	 * Finishes a {@link CurrentlyGrowing} record, moving it to the previously growing records.
+	 * @param id The ID of the currently growing record
+	 * @param outcome How the sowing turned out
+	 * @return true if the record was finished, and false if there is no such currently growing record
+	 */
+	@Transactional
+	public boolean finish(Long id, GrowingOutcome outcome) {
+		return finishAll(singletonList(id), outcome) == 1;
+	}
+
+
+	/**
+	 * Finishes many {@link CurrentlyGrowing} records with the same outcome, moving them to the
+	 * previously growing records in a single commit. If any record cannot be moved, none are.
+	 * @param ids The IDs of the currently growing records. IDs with no currently growing record are ignored
+	 * @param outcome How the sowings turned out
+	 * @return The number of records finished
+	 */
+	@Transactional
+	public int finishAll(Collection<Long> ids, GrowingOutcome outcome) {
+		List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+		if (distinctIds.isEmpty()) {
+			return 0;
+		}
+
+		// Read for the change events, as the records are moved without being loaded
+		List<CurrentlyGrowing> finished = new ArrayList<>();
+		currentlyGrowingRepository.findAllById(distinctIds).forEach(finished::add);
+
+		int moved = 0;
+		for (int from = 0; from < distinctIds.size(); from += MAX_IDS_PER_STATEMENT) {
+			List<Long> chunk = distinctIds.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, distinctIds.size()));
+			moved += previouslyGrowingRepository.insertFromCurrentlyGrowing(chunk, outcome.getDateClosed(),
+					outcome.getPerformanceNotes(), outcome.getStarRating(), outcome.isSuccessful(),
+					outcome.getCauseOfFailure());
+			currentlyGrowingRepository.deleteByIdIn(chunk);
+		}
+		logger.info(moved + " currently growing records have been finished");
+
+		for (CurrentlyGrowing currentlyGrowing : finished) {
+			eventPublisher.publishEvent(new EntityChangedEvent<>(CurrentlyGrowing.class, currentlyGrowing, ChangeType.DELETED));
+			eventPublisher.publishEvent(new EntityChangedEvent<>(PreviouslyGrowing.class, outcome.close(currentlyGrowing), ChangeType.CREATED));
+		}
+		return moved;
+	}
+
+}
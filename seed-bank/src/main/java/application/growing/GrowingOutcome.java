@@ -0,0 +1,101 @@
+package application.growing;
+
+import java.time.LocalDate;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.previouslygrowing.PreviouslyGrowing;
+
+
+/**
+ * How a sowing turned out, recorded when a {@link CurrentlyGrowing} record is finished and moved to
+ * the previously growing records.
+ */
+public class GrowingOutcome {
+
+	private final LocalDate dateClosed;
+	private final boolean successful;
+	private final Integer starRating;
+	private final String performanceNotes;
+	private final String causeOfFailure;
+
+
+	/**
+	 * Creates the outcome.
+	 * @param dateClosed The date the sowing was finished
+	 * @param successful Whether the sowing was successful
+	 * @param starRating The rating out of five, or null if not rated
+	 * @param performanceNotes Notes on how the sowing performed
+	 * @param causeOfFailure The cause of failure, or null if successful
+	 */
+	public GrowingOutcome(LocalDate dateClosed, boolean successful, Integer starRating, String performanceNotes,
+			String causeOfFailure) {
+		this.dateClosed = dateClosed;
+		this.successful = successful;
+		this.starRating = starRating;
+		this.performanceNotes = performanceNotes;
+		this.causeOfFailure = causeOfFailure;
+	}
+
+
+	/**
+	 * Creates the previously growing record which the specified record becomes once finished with
+	 * this outcome. The record keeps the ID of the currently growing record.
+	 * @param currentlyGrowing The currently growing record
+	 * @return The previously growing record
+	 */
+	public PreviouslyGrowing close(CurrentlyGrowing currentlyGrowing) {
+		PreviouslyGrowing previouslyGrowing = new PreviouslyGrowing();
+
+		previouslyGrowing.setId(currentlyGrowing.getId());
+		previouslyGrowing.setSeedPacket(currentlyGrowing.getSeedPacket());
+		previouslyGrowing.setIndoors(currentlyGrowing.isIndoors());
+		previouslyGrowing.setLocation(currentlyGrowing.getLocation());
+		previouslyGrowing.setNotes(currentlyGrowing.getNotes());
+		previouslyGrowing.setDateSown(currentlyGrowing.getDateSown());
+		previouslyGrowing.setDateGerminated(currentlyGrowing.getDateGerminated());
+		previouslyGrowing.setDateEstablished(currentlyGrowing.getDateEstablished());
+		previouslyGrowing.setNumberSown(currentlyGrowing.getNumberSown());
+		previouslyGrowing.setNumberGerminated(currentlyGrowing.getNumberGerminated());
+		previouslyGrowing.setNumberEstablished(currentlyGrowing.getNumberEstablished());
+
+		previouslyGrowing.setDateClosed(dateClosed);
+		previouslyGrowing.setSuccessful(successful);
+		previouslyGrowing.setStarRating(starRating);
+		previouslyGrowing.setPerformanceNotes(performanceNotes);
+		previouslyGrowing.setCauseOfFailure(causeOfFailure);
+		return previouslyGrowing;
+	}
+
+
+	public LocalDate getDateClosed() {
+		return dateClosed;
+	}
+
+
+	public boolean isSuccessful() {
+		return successful;
+	}
+
+
+	public Integer getStarRating() {
+		return starRating;
+	}
+
+
+	public String getPerformanceNotes() {
+		return performanceNotes;
+	}
+
+
+	public String getCauseOfFailure() {
+		return causeOfFailure;
+	}
+
+
+	@Override
+	public String toString() {
+		return "GrowingOutcome [dateClosed=" + dateClosed + ", successful=" + successful + ", starRating="
+				+ starRating + ", performanceNotes=" + performanceNotes + ", causeOfFailure=" + causeOfFailure + "]";
+	}
+
+}
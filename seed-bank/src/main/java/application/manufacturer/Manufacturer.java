@@ -3,12 +3,22 @@ package application.manufacturer;
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import application.events.Identifiable;
+
 /**
  * Entity class defining the manufacturer. This is mapped to the manufacturer table 
- * of the SeedBank database.
+ * of the SeedBank database. Manufacturers are held in the second-level cache, as they are read every time 
+ * a seed packet is edited but rarely change.
  */
 @Entity
-public class Manufacturer {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Manufacturer.CACHE_REGION)
+public class Manufacturer implements Identifiable {
+
+	public static final String CACHE_REGION = "manufacturer";
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +28,9 @@ public class Manufacturer {
 	@Column(name = "name") private String name;
 	
 	@Column(name = "url") private String url;
+
+	@Version
+	@Column(name = "version") private Long version;
 	
 	public Long getId() {
 		return id;
@@ -47,4 +60,15 @@ public class Manufacturer {
 	public void setUrl(String url) {
 		this.url = url;
 	}
+
+
+	public Long getVersion() {
+		return version;
+	}
+
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 }
@@ -1,16 +1,28 @@
 package application.manufacturer;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 
 /**
  * The repository for storing {@link Manufacturer}s. Corresponds to the manufacturer 
- * table of the SeedBank database.
+ * table of the SeedBank database. The results of findAll are held in the query cache.
  */
 @Repository
 public interface ManufacturerRepository extends CrudRepository<Manufacturer, Long> {
 
+	String FIND_ALL_CACHE_REGION = "manufacturer.findAll";
+
+	@Override
+	@QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = FIND_ALL_CACHE_REGION) })
+	Iterable<Manufacturer> findAll();
+
 	boolean existsByName(String name);
 	
 }
\ No newline at end of file
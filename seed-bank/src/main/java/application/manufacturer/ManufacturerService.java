@@ -4,24 +4,57 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import application.cache.ReferenceDataCache;
+import application.changes.RemoteChangeHandler;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
 
 
 /**
- * The service for controlling the interaction of {@link Manufacturer}s with the underlying database.
+ * The service for controlling the interaction of {@link Manufacturer}s with the underlying database. 
+ * An {@link EntityChangedEvent} is published for each manufacturer saved.
  */
 @Service
-public class ManufacturerService {
+public class ManufacturerService implements RemoteChangeHandler {
 
 	@Autowired private ManufacturerRepository manufacturerRepository;
+	@Autowired private ReferenceDataCache referenceDataCache;
+	@Autowired private ApplicationEventPublisher eventPublisher;
 
 
 	/**
-	 * Saves a {@link Manufacturer} to the database.
+	 * Saves a {@link Manufacturer} to the database, and evicts the cached manufacturers so that it is included when
+	 * they are next loaded.
 	 * @param manufacturer The manufacturer to be saved
 	 */
+	@Transactional
 	public void save(Manufacturer manufacturer) {
+		ChangeType changeType = manufacturer.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED;
 		manufacturerRepository.save(manufacturer);
+		referenceDataCache.evict(Manufacturer.class, ManufacturerRepository.FIND_ALL_CACHE_REGION);
+		eventPublisher.publishEvent(new EntityChangedEvent<>(Manufacturer.class, manufacturer, changeType));
+	}
+
+
+	@Override
+	public Class<?> getEntityType() {
+		return Manufacturer.class;
+	}
+
+
+	/**
+	 * Evicts the cached manufacturers when one has been changed by another client, so that the change is 
+	 * included when they are next loaded.
+	 * @param id The ID of the manufacturer
+	 * @param changeType How the manufacturer was changed
+	 */
+	@Override
+	public void applyRemoteChange(Long id, ChangeType changeType) {
+		referenceDataCache.evict(Manufacturer.class, ManufacturerRepository.FIND_ALL_CACHE_REGION);
 	}
 
 
@@ -0,0 +1,98 @@
+package application.metrics;
+
+import static java.util.Arrays.asList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import application.async.DatabaseExecutor;
+import application.currentlygrowing.CurrentlyGrowingRepository;
+import application.previouslygrowing.PreviouslyGrowingRepository;
+import application.seeds.SeedPacketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+
+/**
+ * Times every call to the seed packet, currently growing and previously growing repositories, so that 
+ * the database load of each screen can be seen. The calls are recorded by a Micrometer timer named 
+ * {@value #TIMER_NAME}, tagged with the repository and method called, the caller, i.e. the class 
+ * which queued the call on the {@link DatabaseExecutor} such as SowNewController, or "unknown" for 
+ * calls made elsewhere, e.g. at startup, and the simple name of any exception thrown.
+ *
+ * Methods returning a stream are timed until the stream is returned, not until it is read.
+ */
+@Component
+public class RepositoryMetrics implements BeanPostProcessor {
+
+	public static final String TIMER_NAME = "seedbank.repository.calls";
+
+	private static final List<Class<?>> TIMED_REPOSITORIES = asList(SeedPacketRepository.class, 
+			CurrentlyGrowingRepository.class, PreviouslyGrowingRepository.class);
+
+	@Autowired private ObjectProvider<MeterRegistry> meterRegistry;
+
+
+	/**
+	 * Wraps each timed repository in a timer once it has been created.
+	 * @param bean The bean created
+	 * @param beanName The name of the bean
+	 * @return The repository with its calls timed, or the bean unchanged if it is not a timed repository
+	 */
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		for (Class<?> repository : TIMED_REPOSITORIES) {
+			if (repository.isInstance(bean)) {
+				return timed(bean, repository.getSimpleName());
+			}
+		}
+		return bean;
+	}
+
+
+	/*
+	 * Private helper method to add the timer to a repository. Spring Data repositories are already 
+	 * proxies, so the timer is added to the existing proxy where it can be, ahead of the transaction.
+	 */
+	private Object timed(Object repository, String repositoryName) {
+		MethodInterceptor timer = invocation -> {
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			if (registry == null || invocation.getMethod().getDeclaringClass() == Object.class) {
+				return invocation.proceed();
+			}
+
+			long start = System.nanoTime();
+			String exception = "none";
+			try {
+				return invocation.proceed();
+			} catch (Throwable failure) {
+				exception = failure.getClass().getSimpleName();
+				throw failure;
+			} finally {
+				Timer.builder(TIMER_NAME)
+						.description("Calls to the repositories, by the screen or job making them")
+						.tags("repository", repositoryName, "method", invocation.getMethod().getName(), 
+								"caller", DatabaseExecutor.getCaller(), "exception", exception)
+						.register(registry)
+						.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		};
+
+		if (repository instanceof Advised && !((Advised) repository).isFrozen()) {
+			((Advised) repository).addAdvice(0, timer);
+			return repository;
+		}
+		ProxyFactory proxyFactory = new ProxyFactory(repository);
+		proxyFactory.addAdvice(timer);
+		return proxyFactory.getProxy();
+	}
+
+}
@@ -0,0 +1,228 @@
+package application.migration;
+
+import static java.util.Arrays.asList;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+
+/**
+ * Copies the SeedBank tables from one database to another, e.g. from MySQL into the embedded database
+ * used on laptops, and back. Both schemas are first brought up to date by the Flyway migrations, then
+ * each table is streamed from the source with a cursor and written to the target in JDBC batches, each
+ * batch being committed, so the memory used does not grow with the number of rows.
+ *
+ * The target tables must be empty unless replacing, when their rows are deleted first. Rows keep their
+ * IDs, and the next seed packet ID is moved on by the {@link application.seeds.SeedPacketIdInitialiser}
+ * when SeedBank is next started. The change log is not copied, so no other client should be running
+ * against either database while migrating.
+ *
+ * Run from the command line with: migrate to-embedded|to-mysql [--replace]
+ */
+public class DatabaseMigrator {
+
+	public static final String COMMAND = "migrate";
+
+	/*
+	 * The tables copied, with the reference data first.
+	 */
+	static final List<String> TABLES = asList("type", "manufacturer", "seed_packet", "currently_growing", "previously_growing");
+
+	private static final int DEFAULT_BATCH_SIZE = 500;
+
+	private final DataSource source;
+	private final DataSource target;
+	private final int batchSize;
+
+	private static Logger logger = LoggerFactory.getLogger(DatabaseMigrator.class);
+
+
+	/**
+	 * Creates the migrator.
+	 * @param source The database copied from
+	 * @param target The database copied to
+	 * @param batchSize The number of rows fetched from the source, and written to the target, at a time
+	 */
+	public DatabaseMigrator(DataSource source, DataSource target, int batchSize) {
+		this.source = source;
+		this.target = target;
+		this.batchSize = batchSize;
+	}
+
+
+	/**
+	 * Copies every table from the source to the target.
+	 * @param replace Whether to delete the rows already in the target tables. If false, the target tables
+	 * must be empty
+	 * @return The number of rows copied, by table
+	 * @throws SQLException If either database cannot be read or written. Batches already committed are
+	 * kept, so the migration should be run again with replace
+	 * @throws IllegalStateException If the target tables are not empty and are not being replaced
+	 */
+	public Map<String, Long> migrate(boolean replace) throws SQLException {
+		migrateSchema(source);
+		migrateSchema(target);
+
+		Map<String, Long> copied = new LinkedHashMap<>();
+		try (Connection from = source.getConnection(); Connection to = target.getConnection()) {
+			from.setReadOnly(true);
+			to.setAutoCommit(false);
+			clear(to, replace);
+
+			for (String table : TABLES) {
+				long rows = copy(from, to, table);
+				logger.info("Copied " + rows + " rows of the " + table + " table");
+				copied.put(table, rows);
+			}
+		}
+		return copied;
+	}
+
+
+	/*
+	 * Private helper method to bring a schema up to date, baselining databases created before the
+	 * migrations were introduced, as SeedBank does at startup.
+	 */
+	private void migrateSchema(DataSource dataSource) {
+		Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+	}
+
+
+	/*
+	 * Private helper method to check that the target tables are empty, or empty them if replacing.
+	 * The tables are emptied in reverse order, so the growing records go before their seed packets.
+	 */
+	private void clear(Connection to, boolean replace) throws SQLException {
+		List<String> tables = new ArrayList<>(TABLES);
+		Collections.reverse(tables);
+
+		try (Statement statement = to.createStatement()) {
+			for (String table : tables) {
+				if (replace) {
+					statement.executeUpdate("delete from " + table);
+				} else {
+					try (ResultSet rows = statement.executeQuery("select count(*) from " + table)) {
+						rows.next();
+						if (rows.getLong(1) > 0) {
+							throw new IllegalStateException("The " + table + " table of the target database is not empty");
+						}
+					}
+				}
+			}
+		}
+		to.commit();
+	}
+
+
+	/*
+	 * Private helper method to stream the rows of a table from the source into the target. The columns
+	 * are read from the source, so both schemas must be at the same version.
+	 */
+	private long copy(Connection from, Connection to, String table) throws SQLException {
+		long count = 0;
+		try (Statement select = from.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+			select.setFetchSize(batchSize);
+
+			try (ResultSet rows = select.executeQuery("select * from " + table)) {
+				ResultSetMetaData metaData = rows.getMetaData();
+				int columns = metaData.getColumnCount();
+
+				StringBuilder names = new StringBuilder();
+				StringBuilder parameters = new StringBuilder();
+				for (int column = 1; column <= columns; column++) {
+					names.append(column > 1 ? ", " : "").append(metaData.getColumnName(column));
+					parameters.append(column > 1 ? ", ?" : "?");
+				}
+
+				try (PreparedStatement insert = to.prepareStatement(
+						"insert into " + table + " (" + names + ") values (" + parameters + ")")) {
+					while (rows.next()) {
+						for (int column = 1; column <= columns; column++) {
+							insert.setObject(column, rows.getObject(column));
+						}
+						insert.addBatch();
+
+						if (++count % batchSize == 0) {
+							insert.executeBatch();
+							to.commit();
+						}
+					}
+					insert.executeBatch();
+					to.commit();
+				}
+			} catch (SQLException e) {
+				to.rollback();
+				throw e;
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * Copies the tables between the MySQL database and the embedded database, as configured by
+	 * application.properties and application-embedded.properties respectively. Either may be overridden
+	 * by system properties, e.g. -Dseedbank.embedded.directory=/data/seedbank.
+	 * @param args to-embedded or to-mysql, optionally followed by --replace to replace the rows already
+	 * in the target
+	 * @throws Exception If the tables cannot be copied
+	 */
+	public static void main(String[] args) throws Exception {
+		List<String> options = asList(args);
+		if (options.isEmpty() || !asList("to-embedded", "to-mysql").contains(options.get(0))) {
+			System.err.println("Usage: " + COMMAND + " to-embedded|to-mysql [--replace]");
+			System.exit(2);
+			return;
+		}
+
+		DataSource mysql = dataSource("classpath:application.properties");
+		DataSource embedded = dataSource("classpath:application-embedded.properties", "classpath:application.properties");
+		boolean toEmbedded = options.get(0).equals("to-embedded");
+
+		DatabaseMigrator migrator = toEmbedded ? new DatabaseMigrator(mysql, embedded, DEFAULT_BATCH_SIZE)
+				: new DatabaseMigrator(embedded, mysql, DEFAULT_BATCH_SIZE);
+		Map<String, Long> copied = migrator.migrate(options.contains("--replace"));
+		logger.info("Migration " + options.get(0) + " complete: " + copied);
+	}
+
+
+	/*
+	 * Private helper method to create a data source from the spring.datasource properties, the first
+	 * properties file taking precedence.
+	 */
+	private static DataSource dataSource(String... propertiesFiles) throws IOException {
+		StandardEnvironment environment = new StandardEnvironment();
+		MutablePropertySources propertySources = environment.getPropertySources();
+		for (String propertiesFile : propertiesFiles) {
+			propertySources.addLast(new ResourcePropertySource(propertiesFile));
+		}
+
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				environment.getRequiredProperty("spring.datasource.url"),
+				environment.getProperty("spring.datasource.username", ""),
+				environment.getProperty("spring.datasource.password", ""));
+		dataSource.setDriverClassName(environment.getRequiredProperty("spring.datasource.driverClassName"));
+		return dataSource;
+	}
+
+}
@@ -6,6 +6,7 @@ import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 
 import application.currentlygrowing.CurrentlyGrowing;
+import application.events.Identifiable;
 
 /**
  * Entity class defining the previously growing seeds. This is mapped to the previously_growing table 
@@ -13,7 +14,7 @@ import application.currentlygrowing.CurrentlyGrowing;
  * additional fields relating to the growing record's final overall performance.
  */
 @Entity
-public class PreviouslyGrowing {
+public class PreviouslyGrowing implements Identifiable {
 
 	@Id
 	@Column(name = "id") public Long id;
@@ -44,6 +45,9 @@ public class PreviouslyGrowing {
 	@Column(name = "was_successful") private boolean wasSuccessful;
 	@Column(name = "cause_of_failure") private String causeOfFailure;
 
+	@Version
+	@Column(name = "version") private Long version;
+
 	
 	public Long getId() {
 		return id;
@@ -204,4 +208,14 @@ public class PreviouslyGrowing {
 		this.causeOfFailure = causeOfFailure;
 	}
 
+
+	public Long getVersion() {
+		return version;
+	}
+
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 }
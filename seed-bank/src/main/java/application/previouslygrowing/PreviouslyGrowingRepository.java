@@ -1,6 +1,19 @@
 package application.previouslygrowing;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
@@ -13,4 +26,25 @@ public interface PreviouslyGrowingRepository extends CrudRepository<PreviouslyGr
 	
 	boolean existsBySeedPacket(Long seedPacket);
 
+	@QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true") })
+	@Query("select p from PreviouslyGrowing p order by p.id")
+	Stream<PreviouslyGrowing> streamAll();
+
+	/**
+	 * Copies {@link application.currentlygrowing.CurrentlyGrowing} records into this table in a single 
+	 * statement, keeping their IDs and adding the outcome, without loading them into memory.
+	 * @return The number of records copied
+	 */
+	@Modifying
+	@Query(value = "insert into previously_growing (id, seed_packet, indoors, number_sown, date_sown, "
+			+ "number_germinated, date_germinated, number_established, date_established, location, notes, "
+			+ "date_closed, performance_notes, star_rating, was_successful, cause_of_failure) "
+			+ "select id, seed_packet, indoors, number_sown, date_sown, number_germinated, date_germinated, "
+			+ "number_established, date_established, location, notes, "
+			+ ":dateClosed, :performanceNotes, :starRating, :successful, :causeOfFailure "
+			+ "from currently_growing where id in (:ids)", nativeQuery = true)
+	int insertFromCurrentlyGrowing(@Param("ids") Collection<Long> ids, @Param("dateClosed") LocalDate dateClosed, 
+			@Param("performanceNotes") String performanceNotes, @Param("starRating") Integer starRating, 
+			@Param("successful") boolean successful, @Param("causeOfFailure") String causeOfFailure);
+
 }
\ No newline at end of file
@@ -2,26 +2,62 @@ package application.previouslygrowing;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import application.changes.RemoteChangeHandler;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
 
 
 /**
- * The service for controlling the interaction of {@link PreviouslyGrowing} seeds with the underlying database.
+ * The service for controlling the interaction of {@link PreviouslyGrowing} seeds with the underlying database. 
+ * An {@link EntityChangedEvent} is published for each record saved, here or by other clients of the database.
  */
 @Service
-public class PreviouslyGrowingService {
+public class PreviouslyGrowingService implements RemoteChangeHandler {
 
 	@Autowired private PreviouslyGrowingRepository previouslyGrowingRepository;
+	@Autowired private ApplicationEventPublisher eventPublisher;
 
 
 	/**
 	 * Saves a {@link PreviouslyGrowing} record to the database.
 	 * @param previouslyGrowing The previously growing record to be saved
 	 */
+	@Transactional
 	public void save(PreviouslyGrowing previouslyGrowing) {
+		ChangeType changeType = previouslyGrowing.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED;
 		previouslyGrowingRepository.save(previouslyGrowing);
+		eventPublisher.publishEvent(new EntityChangedEvent<>(PreviouslyGrowing.class, previouslyGrowing, changeType));
+	}
+
+
+	@Override
+	public Class<?> getEntityType() {
+		return PreviouslyGrowing.class;
+	}
+
+
+	/**
+	 * Reloads a {@link PreviouslyGrowing} record changed by another client.
+	 * @param id The ID of the record
+	 * @param changeType How the record was changed
+	 */
+	@Override
+	public void applyRemoteChange(Long id, ChangeType changeType) {
+		Optional<PreviouslyGrowing> changed = changeType == ChangeType.DELETED ? Optional.empty() : previouslyGrowingRepository.findById(id);
+		if (changed.isPresent()) {
+			eventPublisher.publishEvent(new EntityChangedEvent<>(PreviouslyGrowing.class, changed.get(), changeType, true));
+		} else {
+			PreviouslyGrowing deleted = new PreviouslyGrowing();
+			deleted.setId(id);
+			eventPublisher.publishEvent(new EntityChangedEvent<>(PreviouslyGrowing.class, deleted, ChangeType.DELETED, true));
+		}
 	}
 
 
@@ -0,0 +1,94 @@
+package application.seeds;
+
+import java.time.Month;
+import java.util.function.Function;
+
+/**
+ * Enum denoting the windows of the year recorded against each {@link SeedPacketCalendar}. Each window can be
+ * reduced to a 12-bit month mask, where bit 0 represents January and bit 11 represents December.
+ */
+public enum CalendarWindow {
+
+	SOWING_INDOORS(SeedPacketCalendar::getSowingIndoorsStartMonth, SeedPacketCalendar::getSowingIndoorsEndMonth, 
+			"sowingIndoorsStartMonth", "sowingIndoorsEndMonth"),
+	SOWING_OUTDOORS(SeedPacketCalendar::getSowingOutdoorsStartMonth, SeedPacketCalendar::getSowingOutdoorsEndMonth, 
+			"sowingOutdoorsStartMonth", "sowingOutdoorsEndMonth"),
+	HARVEST(SeedPacketCalendar::getHarvestStartMonth, SeedPacketCalendar::getHarvestEndMonth, 
+			"harvestStartMonth", "harvestEndMonth"),
+	FLOWERING(SeedPacketCalendar::getFloweringStartMonth, SeedPacketCalendar::getFloweringEndMonth, 
+			"floweringStartMonth", "floweringEndMonth");
+
+	private final Function<SeedPacketCalendar, Month> start;
+	private final Function<SeedPacketCalendar, Month> end;
+	private final String startAttribute;
+	private final String endAttribute;
+
+
+	CalendarWindow(Function<SeedPacketCalendar, Month> start, Function<SeedPacketCalendar, Month> end, 
+			String startAttribute, String endAttribute) {
+		this.start = start;
+		this.end = end;
+		this.startAttribute = startAttribute;
+		this.endAttribute = endAttribute;
+	}
+
+
+	/**
+	 * @return The name of the {@link SeedPacket} attribute holding the first month of this window, for queries
+	 */
+	public String getStartAttribute() {
+		return startAttribute;
+	}
+
+
+	/**
+	 * @return The name of the {@link SeedPacket} attribute holding the last month of this window, for queries
+	 */
+	public String getEndAttribute() {
+		return endAttribute;
+	}
+
+
+	/**
+	 * Calculates the month mask for this window of the specified seed packet.
+	 * @param seedPacket The seed packet, or its summary
+	 * @return The month mask, or zero if the window has not been set
+	 */
+	public int mask(SeedPacketCalendar seedPacket) {
+		return mask(start.apply(seedPacket), end.apply(seedPacket));
+	}
+
+
+	/**
+	 * Calculates the month mask for the window between the two months, inclusive. Windows which wrap
+	 * the new year (e.g. November to February) include the months at both ends of the year.
+	 * @param start The first month of the window
+	 * @param end The last month of the window
+	 * @return The month mask, or zero if either month is not set
+	 */
+	public static int mask(Month start, Month end) {
+		if (start == null || end == null) {
+			return 0;
+		}
+
+		int startBit = start.ordinal();
+		int endBit = end.ordinal();
+
+		if (startBit <= endBit) {
+			return ((1 << (endBit + 1)) - 1) & ~((1 << startBit) - 1);
+		}
+		return ((1 << (endBit + 1)) - 1) | (0xFFF & ~((1 << startBit) - 1));
+	}
+
+
+	/**
+	 * Checks whether a month mask includes the specified month.
+	 * @param mask The month mask
+	 * @param month The month
+	 * @return true if the month is within the mask, and false if not
+	 */
+	public static boolean includes(int mask, Month month) {
+		return (mask & (1 << month.ordinal())) != 0;
+	}
+
+}
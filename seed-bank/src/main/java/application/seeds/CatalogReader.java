@@ -0,0 +1,207 @@
+package application.seeds;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+
+/**
+ * Reads the rows of a seed packet catalog one at a time, so that only the current row is held in 
+ * memory however large the file. Each row is returned as its values keyed by column name.
+ */
+abstract class CatalogReader implements Closeable {
+
+	/**
+	 * Reads the next row.
+	 * @return The values of the row, keyed by column name, or null if there are no more rows
+	 * @throws IOException If the file cannot be read, or is malformed
+	 */
+	abstract Map<String, String> nextRow() throws IOException;
+
+
+	/**
+	 * Creates a reader for a CSV file. The first line must contain the column names. Values may be 
+	 * enclosed in double quotes, in which case they may contain commas, line breaks and doubled quotes.
+	 * @param reader The source of the file
+	 * @return The catalog reader
+	 */
+	static CatalogReader csv(Reader reader) {
+		return new CsvCatalogReader(reader);
+	}
+
+
+	/**
+	 * Creates a reader for a JSON file, containing either an array of objects or a sequence of objects 
+	 * such as newline delimited JSON. Each object is a row, and each of its fields a column.
+	 * @param reader The source of the file
+	 * @return The catalog reader
+	 * @throws IOException If the file cannot be read
+	 */
+	static CatalogReader json(Reader reader) throws IOException {
+		return new JsonCatalogReader(reader);
+	}
+
+
+	/*
+	 * Reads CSV files, a character at a time.
+	 */
+	private static class CsvCatalogReader extends CatalogReader {
+
+		private final Reader reader;
+		private List<String> columns;
+		private int next = -2; // Not yet read
+
+		CsvCatalogReader(Reader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		Map<String, String> nextRow() throws IOException {
+			if (columns == null) {
+				columns = readRecord();
+				if (columns == null) {
+					return null;
+				}
+			}
+
+			List<String> values;
+			do {
+				values = readRecord();
+				if (values == null) {
+					return null;
+				}
+			} while (values.size() == 1 && values.get(0).isEmpty()); // Skip blank lines
+
+			Map<String, String> row = new LinkedHashMap<>();
+			for (int i = 0; i < columns.size(); i++) {
+				row.put(columns.get(i), i < values.size() ? values.get(i) : null);
+			}
+			return row;
+		}
+
+		/*
+		 * Reads the values of the next record, or returns null at the end of the file.
+		 */
+		private List<String> readRecord() throws IOException {
+			int c = read();
+			if (c == -1) {
+				return null;
+			}
+
+			List<String> values = new ArrayList<>();
+			StringBuilder value = new StringBuilder();
+			boolean quoted = false;
+
+			while (true) {
+				if (quoted) {
+					if (c == -1) {
+						throw new IOException("Unterminated quoted value: " + value);
+					} else if (c == '"') {
+						c = read();
+						if (c == '"') {
+							value.append('"');
+						} else {
+							quoted = false;
+							continue;
+						}
+					} else {
+						value.append((char) c);
+					}
+				} else if (c == '"' && value.length() == 0) {
+					quoted = true;
+				} else if (c == ',') {
+					values.add(value.toString());
+					value.setLength(0);
+				} else if (c == '\r' || c == '\n' || c == -1) {
+					if (c == '\r') {
+						c = read();
+						if (c != '\n') {
+							next = c;
+						}
+					}
+					values.add(value.toString());
+					return values;
+				} else {
+					value.append((char) c);
+				}
+				c = read();
+			}
+		}
+
+		/*
+		 * Reads the next character, allowing for a single character of look ahead.
+		 */
+		private int read() throws IOException {
+			if (next != -2) {
+				int c = next;
+				next = -2;
+				return c;
+			}
+			return reader.read();
+		}
+
+		@Override
+		public void close() throws IOException {
+			reader.close();
+		}
+	}
+
+
+	/*
+	 * Reads JSON files, a top level object at a time.
+	 */
+	private static class JsonCatalogReader extends CatalogReader {
+
+		private final JsonParser parser;
+		private final ObjectMapper objectMapper = new ObjectMapper();
+		private final boolean array;
+
+		JsonCatalogReader(Reader reader) throws IOException {
+			parser = new JsonFactory().createParser(reader);
+			parser.nextToken();
+			array = parser.currentToken() == JsonToken.START_ARRAY;
+			if (array) {
+				parser.nextToken();
+			}
+		}
+
+		@Override
+		Map<String, String> nextRow() throws IOException {
+			JsonToken token = parser.currentToken();
+			if (token == null || token == JsonToken.END_ARRAY) {
+				return null;
+			}
+			if (token != JsonToken.START_OBJECT) {
+				throw new IOException("Expected an object at " + parser.getCurrentLocation());
+			}
+
+			JsonNode node = objectMapper.readTree(parser);
+			parser.nextToken();
+
+			Map<String, String> row = new LinkedHashMap<>();
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				row.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText());
+			}
+			return row;
+		}
+
+		@Override
+		public void close() throws IOException {
+			parser.close();
+		}
+	}
+
+}
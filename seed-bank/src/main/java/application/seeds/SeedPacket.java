@@ -5,15 +5,29 @@ import java.time.Month;
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import application.events.Identifiable;
+
 /**
  * Entity class defining the seed packet. This is mapped to the seed_packet table 
  * of the SeedBank database.
  */
 @Entity
-public class SeedPacket {
+public class SeedPacket implements SeedPacketCalendar, SeedPacketText, Identifiable {
 
+	/* IDs are allocated in blocks from the id_generator table, rather than by the database on insert,
+	 * so that Hibernate is able to batch inserts when importing catalogs. See SeedPacketIdInitialiser */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(generator = "seed_packet_id")
+	@GenericGenerator(name = "seed_packet_id", strategy = "org.hibernate.id.enhanced.TableGenerator", parameters = {
+			@Parameter(name = "table_name", value = "id_generator"),
+			@Parameter(name = "segment_column_name", value = "name"),
+			@Parameter(name = "value_column_name", value = "next_id"),
+			@Parameter(name = "segment_value", value = "seed_packet"),
+			@Parameter(name = "increment_size", value = "50"),
+			@Parameter(name = "optimizer", value = "pooled-lo") })
 	@Column(name = "id") public Long id;
 	
 	@NotEmpty(message = "Name must be set")
@@ -40,6 +54,11 @@ public class SeedPacket {
 		@Column(name = "keywords") private String keywords;
 	@Column(name = "description") private String description;
 
+	/* Incremented on every update, so that saving a stale copy of the packet fails rather than 
+	 * overwriting changes made since it was loaded, e.g. seeds deducted when sowing */
+	@Version
+	@Column(name = "version") private Long version;
+
 	
 	public Long getId() {
 		return id;
@@ -240,4 +259,46 @@ public class SeedPacket {
 		this.description = description;
 	}
 
+
+	public Long getVersion() {
+		return version;
+	}
+
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+
+	/**
+	 * Creates a copy of the seed packet, so that the copy can be changed, e.g. in the edit pop up, 
+	 * without changing the original.
+	 * @return A copy of the seed packet, including its ID and version
+	 */
+	public SeedPacket copy() {
+		SeedPacket copy = new SeedPacket();
+		copy.id = id;
+		copy.name = name;
+		copy.latinName = latinName;
+		copy.type = type;
+		copy.variety = variety;
+		copy.manufacturer = manufacturer;
+		copy.manufacturerCode = manufacturerCode;
+		copy.packSize = packSize;
+		copy.numberRemaining = numberRemaining;
+		copy.expirationDate = expirationDate;
+		copy.sowingIndoorsStartMonth = sowingIndoorsStartMonth;
+		copy.sowingIndoorsEndMonth = sowingIndoorsEndMonth;
+		copy.sowingOutdoorsStartMonth = sowingOutdoorsStartMonth;
+		copy.sowingOutdoorsEndMonth = sowingOutdoorsEndMonth;
+		copy.harvestStartMonth = harvestStartMonth;
+		copy.harvestEndMonth = harvestEndMonth;
+		copy.floweringStartMonth = floweringStartMonth;
+		copy.floweringEndMonth = floweringEndMonth;
+		copy.keywords = keywords;
+		copy.description = description;
+		copy.version = version;
+		return copy;
+	}
+
 }
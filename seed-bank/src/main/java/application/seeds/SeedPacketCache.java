@@ -0,0 +1,192 @@
+package application.seeds;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * A bounded, in-memory cache of {@link SeedPacket}s, indexed by both ID and name. The cache is
+ * kept up to date by the {@link SeedPacketService} as packets are saved and deleted, and evicts the
+ * least recently used packet once the maximum size is reached.
+ *
+ * Packets are copied on the way in and on the way out, so that a packet changed by its caller, e.g.
+ * in an edit which is then cancelled or fails to save, never changes the cached copy.
+ */
+@Component
+public class SeedPacketCache {
+
+	private final boolean enabled;
+	private final int maximumSize;
+
+	private final LinkedHashMap<Long, SeedPacket> byId;
+	private final Map<String, Long> idsByName = new HashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+
+	/**
+	 * Creates the cache.
+	 * @param enabled Whether or not the cache is switched on. When off, every lookup is a miss
+	 * @param maximumSize The maximum number of seed packets to hold before evicting
+	 */
+	@Autowired
+	public SeedPacketCache(
+			@Value("${seedbank.cache.catalog.enabled:true}") boolean enabled,
+			@Value("${seedbank.cache.catalog.maximum-size:50000}") int maximumSize) {
+		this.enabled = enabled;
+		this.maximumSize = maximumSize;
+		this.byId = new LinkedHashMap<Long, SeedPacket>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, SeedPacket> eldest) {
+				if (size() > SeedPacketCache.this.maximumSize) {
+					idsByName.remove(eldest.getValue().getName());
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+
+	/**
+	 * Looks up a {@link SeedPacket} by its ID.
+	 * @param id The ID of the seed packet
+	 * @return A copy of the cached seed packet, or empty if it is not in the cache
+	 */
+	public synchronized Optional<SeedPacket> getById(Long id) {
+		return record(enabled && id != null ? byId.get(id) : null);
+	}
+
+
+	/**
+	 * Looks up a {@link SeedPacket} by its name.
+	 * @param name The name of the seed packet
+	 * @return A copy of the cached seed packet, or empty if it is not in the cache
+	 */
+	public synchronized Optional<SeedPacket> getByName(String name) {
+		Long id = enabled && name != null ? idsByName.get(name) : null;
+		return record(id != null ? byId.get(id) : null);
+	}
+
+
+	/**
+	 * Adds a copy of a {@link SeedPacket} to the cache, replacing any previous copy. Packets which have 
+	 * not yet been assigned an ID are ignored.
+	 * @param seedPacket The seed packet to be cached
+	 */
+	public synchronized void put(SeedPacket seedPacket) {
+		if (!enabled || seedPacket == null || seedPacket.getId() == null) {
+			return;
+		}
+
+		SeedPacket previous = byId.put(seedPacket.getId(), seedPacket.copy());
+		if (previous != null && previous.getName() != null && !previous.getName().equals(seedPacket.getName())) {
+			idsByName.remove(previous.getName()); // The packet has been renamed
+		}
+		if (seedPacket.getName() != null) {
+			idsByName.put(seedPacket.getName(), seedPacket.getId());
+		}
+	}
+
+
+	/**
+	 * Removes a {@link SeedPacket} from the cache.
+	 * @param seedPacket The seed packet to be evicted
+	 */
+	public synchronized void evict(SeedPacket seedPacket) {
+		if (seedPacket == null) {
+			return;
+		}
+
+		SeedPacket cached = seedPacket.getId() != null ? byId.remove(seedPacket.getId()) : null;
+		if (cached != null && cached.getName() != null) {
+			idsByName.remove(cached.getName());
+		}
+		if (seedPacket.getName() != null) {
+			idsByName.remove(seedPacket.getName());
+		}
+	}
+
+
+	/**
+	 * Empties the cache. The hit and miss counters are left untouched.
+	 */
+	public synchronized void clear() {
+		byId.clear();
+		idsByName.clear();
+	}
+
+
+	/**
+	 * @return true if the cache is switched on, and false if not
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+
+	/**
+	 * @return The number of seed packets currently held in the cache
+	 */
+	public synchronized int size() {
+		return byId.size();
+	}
+
+
+	/**
+	 * @return The number of lookups answered from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+
+	/**
+	 * @return The number of lookups which had to fall through to the database
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+
+	/**
+	 * @return The number of seed packets evicted to keep the cache within its maximum size
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+
+	@Override
+	public String toString() {
+		return "SeedPacketCache [enabled=" + enabled + ", size=" + size() + "/" + maximumSize
+				+ ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+	}
+
+
+	/*
+	 * Private helper method to update the hit and miss counters for a lookup, and copy the packet found.
+	 */
+	private Optional<SeedPacket> record(SeedPacket seedPacket) {
+		if (seedPacket != null) {
+			hits.incrementAndGet();
+			return Optional.of(seedPacket.copy());
+		}
+		misses.incrementAndGet();
+		return Optional.empty();
+	}
+
+}
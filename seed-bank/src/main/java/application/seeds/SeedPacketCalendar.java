@@ -0,0 +1,31 @@
+package application.seeds;
+
+import java.time.Month;
+
+
+/**
+ * The months of the year recorded against a seed packet. Implemented by both the {@link SeedPacket}
+ * entity and the {@link SeedPacketSummary} projection, so that either can be placed in the 
+ * {@link SeedPacketCalendarIndex}.
+ */
+public interface SeedPacketCalendar {
+
+	Long getId();
+
+	Month getSowingIndoorsStartMonth();
+
+	Month getSowingIndoorsEndMonth();
+
+	Month getSowingOutdoorsStartMonth();
+
+	Month getSowingOutdoorsEndMonth();
+
+	Month getHarvestStartMonth();
+
+	Month getHarvestEndMonth();
+
+	Month getFloweringStartMonth();
+
+	Month getFloweringEndMonth();
+
+}
@@ -0,0 +1,143 @@
+package application.seeds;
+
+import java.time.Month;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+
+/**
+ * An index of the seed packets in window for each month of the year, for each of the
+ * {@link CalendarWindow}s. The month masks of each packet are calculated once, when the packet is
+ * indexed, so that finding the packets in window for a given month is a direct lookup.
+ *
+ * The index is populated by the {@link SeedPacketService} when the catalog is loaded, and kept up
+ * to date as seed packets are saved and deleted, before the change is published. The today tab reads 
+ * it to list the seed packets which can be sown this month.
+ */
+@Component
+public class SeedPacketCalendarIndex {
+
+	private static final CalendarWindow[] WINDOWS = CalendarWindow.values();
+	private static final Month[] MONTHS = Month.values();
+
+	private final Map<Long, int[]> masksById = new HashMap<>();
+	private final Map<CalendarWindow, Map<Month, Set<Long>>> idsByWindowAndMonth = new EnumMap<>(CalendarWindow.class);
+
+
+	/**
+	 * Creates an empty index.
+	 */
+	public SeedPacketCalendarIndex() {
+		for (CalendarWindow window : WINDOWS) {
+			Map<Month, Set<Long>> idsByMonth = new EnumMap<>(Month.class);
+			for (Month month : MONTHS) {
+				idsByMonth.put(month, new HashSet<>());
+			}
+			idsByWindowAndMonth.put(window, idsByMonth);
+		}
+	}
+
+
+	/**
+	 * Discards the current contents of the index and indexes the specified seed packets.
+	 * @param seedPackets The seed packets, or their summaries, to be indexed
+	 */
+	public synchronized void rebuild(Iterable<? extends SeedPacketCalendar> seedPackets) {
+		masksById.clear();
+		idsByWindowAndMonth.values().forEach(idsByMonth -> idsByMonth.values().forEach(Set::clear));
+		seedPackets.forEach(this::update);
+	}
+
+
+	/**
+	 * Adds the seed packet to the index, or re-indexes it if its windows have changed. Packets
+	 * which have not yet been assigned an ID are ignored.
+	 * @param seedPacket The seed packet, or its summary, to be indexed
+	 */
+	public synchronized void update(SeedPacketCalendar seedPacket) {
+		if (seedPacket == null || seedPacket.getId() == null) {
+			return;
+		}
+
+		int[] masks = new int[WINDOWS.length];
+		for (CalendarWindow window : WINDOWS) {
+			masks[window.ordinal()] = window.mask(seedPacket);
+		}
+
+		int[] previousMasks = masksById.put(seedPacket.getId(), masks);
+
+		for (CalendarWindow window : WINDOWS) {
+			int previousMask = previousMasks != null ? previousMasks[window.ordinal()] : 0;
+			int mask = masks[window.ordinal()];
+			if (previousMask != mask) {
+				reindex(seedPacket.getId(), window, previousMask, mask);
+			}
+		}
+	}
+
+
+	/**
+	 * Removes the seed packet from the index.
+	 * @param seedPacket The seed packet, or its summary, to be removed
+	 */
+	public synchronized void remove(SeedPacketCalendar seedPacket) {
+		if (seedPacket == null || seedPacket.getId() == null) {
+			return;
+		}
+
+		int[] previousMasks = masksById.remove(seedPacket.getId());
+		if (previousMasks != null) {
+			for (CalendarWindow window : WINDOWS) {
+				reindex(seedPacket.getId(), window, previousMasks[window.ordinal()], 0);
+			}
+		}
+	}
+
+
+	/**
+	 * Gets the IDs of the {@link SeedPacket}s whose window includes the specified month.
+	 * @param window The window, e.g. sowing indoors
+	 * @param month The month
+	 * @return An unmodifiable copy of the IDs of the seed packets in window
+	 */
+	public synchronized Set<Long> getIdsInWindow(CalendarWindow window, Month month) {
+		return Collections.unmodifiableSet(new HashSet<>(idsByWindowAndMonth.get(window).get(month)));
+	}
+
+
+	/**
+	 * Checks whether the window of the specified {@link SeedPacket} includes the month.
+	 * @param id The ID of the seed packet
+	 * @param window The window, e.g. sowing indoors
+	 * @param month The month
+	 * @return true if the seed packet is indexed and in window, and false if not
+	 */
+	public synchronized boolean isInWindow(Long id, CalendarWindow window, Month month) {
+		int[] masks = masksById.get(id);
+		return masks != null && CalendarWindow.includes(masks[window.ordinal()], month);
+	}
+
+
+	/*
+	 * Private helper method to move a seed packet between the months of a window when its mask changes.
+	 */
+	private void reindex(Long id, CalendarWindow window, int previousMask, int mask) {
+		Map<Month, Set<Long>> idsByMonth = idsByWindowAndMonth.get(window);
+		for (Month month : MONTHS) {
+			boolean wasInWindow = CalendarWindow.includes(previousMask, month);
+			boolean isInWindow = CalendarWindow.includes(mask, month);
+			if (wasInWindow && !isInWindow) {
+				idsByMonth.get(month).remove(id);
+			} else if (isInWindow && !wasInWindow) {
+				idsByMonth.get(month).add(id);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+package application.seeds;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+
+/**
+ * The criteria chosen in the filter bar of the seed library. Each criterion is optional, and a seed
+ * packet must match all of those set.
+ *
+ * The criteria are compiled into a single {@link Predicate} once per query, so that only the criteria
+ * set are tested, and the values which depend only on the query, e.g. the bit of the month and the
+ * current year, are worked out once rather than for each seed packet. Expired and empty seed packets
+ * are those defined by {@link SeedPacketSummary#isExpired(int)} and {@link SeedPacketSummary#isEmpty()}.
+ */
+public class SeedPacketFilter {
+
+	private final String type;
+	private final String manufacturer;
+	private final CalendarWindow window;
+	private final Month month;
+	private final boolean expired;
+	private final boolean empty;
+
+
+	/**
+	 * Creates the filter.
+	 * @param type The type to match exactly, or null for any type
+	 * @param manufacturer The manufacturer to match exactly, or null for any manufacturer
+	 * @param window The window, e.g. sowing indoors, which must include the month, or null for any window
+	 * @param month The month the window must include. If null, the current month is used
+	 * @param expired Whether to show only the seed packets which have expired
+	 * @param empty Whether to show only the seed packets which have been used up
+	 */
+	public SeedPacketFilter(String type, String manufacturer, CalendarWindow window, Month month,
+			boolean expired, boolean empty) {
+		this.type = type;
+		this.manufacturer = manufacturer;
+		this.window = window;
+		this.month = month;
+		this.expired = expired;
+		this.empty = empty;
+	}
+
+
+	/**
+	 * @return true if no criteria are set, so that every seed packet matches, and false if not
+	 */
+	public boolean isEmpty() {
+		return type == null && manufacturer == null && window == null && !expired && !empty;
+	}
+
+
+	public String getType() {
+		return type;
+	}
+
+
+	public String getManufacturer() {
+		return manufacturer;
+	}
+
+
+	public CalendarWindow getWindow() {
+		return window;
+	}
+
+
+	/**
+	 * Gets the month the window must include.
+	 * @param today Today's date, whose month is used if no month was chosen
+	 * @return The month
+	 */
+	public Month getMonth(LocalDate today) {
+		return month != null ? month : today.getMonth();
+	}
+
+
+	public boolean isExpiredOnly() {
+		return expired;
+	}
+
+
+	public boolean isEmptyOnly() {
+		return empty;
+	}
+
+
+	/**
+	 * Compiles the criteria into a predicate.
+	 * @param today Today's date, which decides the current month and which seed packets have expired
+	 * @return The predicate, which tests only the criteria which are set
+	 */
+	public Predicate<SeedPacketSummary> compile(LocalDate today) {
+		List<Predicate<SeedPacketSummary>> criteria = new ArrayList<>();
+
+		if (type != null) {
+			criteria.add(seedPacket -> type.equals(seedPacket.getType()));
+		}
+		if (manufacturer != null) {
+			criteria.add(seedPacket -> manufacturer.equals(seedPacket.getManufacturer()));
+		}
+		if (window != null) {
+			int monthBit = 1 << getMonth(today).ordinal();
+			criteria.add(seedPacket -> (window.mask(seedPacket) & monthBit) != 0);
+		}
+		if (expired) {
+			int year = today.getYear();
+			criteria.add(seedPacket -> seedPacket.isExpired(year));
+		}
+		if (empty) {
+			criteria.add(SeedPacketSummary::isEmpty);
+		}
+
+		return criteria.stream().reduce(Predicate::and).orElse(seedPacket -> true);
+	}
+
+
+	@Override
+	public String toString() {
+		return "SeedPacketFilter [type=" + type + ", manufacturer=" + manufacturer + ", window=" + window
+				+ ", month=" + month + ", expired=" + expired + ", empty=" + empty + "]";
+	}
+
+}
@@ -0,0 +1,61 @@
+package application.seeds;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Ensures that the block of {@link SeedPacket} IDs handed out by the id_generator table starts above
+ * any ID already in use. Seed packets saved before IDs were allocated from the table were numbered by
+ * the database on insert, so without this the first block allocated would clash with them.
+ */
+@Component
+public class SeedPacketIdInitialiser {
+
+	private static final String SEGMENT = "seed_packet";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private Logger logger = LoggerFactory.getLogger(SeedPacketIdInitialiser.class);
+
+
+	/**
+	 * Creates the initialiser.
+	 * @param jdbcTemplate The template used to query and update the tables
+	 * @param entityManagerFactory Not used directly, but ensures that the schema has been migrated 
+	 * before the initialiser runs
+	 */
+	@Autowired
+	public SeedPacketIdInitialiser(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+
+	/**
+	 * Moves the next ID on past the highest ID in the seed_packet table, if required.
+	 */
+	@PostConstruct
+	public void initialise() {
+		long nextId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from seed_packet", Long.class);
+
+		int updated = jdbcTemplate.update(
+				"update id_generator set next_id = ? where name = ? and next_id < ?", nextId, SEGMENT, nextId);
+
+		if (updated == 0 && jdbcTemplate.queryForObject(
+				"select count(*) from id_generator where name = ?", Integer.class, SEGMENT) == 0) {
+			jdbcTemplate.update("insert into id_generator (name, next_id) values (?, ?)", SEGMENT, nextId);
+			updated = 1;
+		}
+
+		if (updated > 0) {
+			logger.info("Seed packet IDs will be allocated from " + nextId);
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+package application.seeds;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * The outcome of importing a seed packet catalog: how many rows were read and imported, and the 
+ * reasons each rejected row was not imported.
+ */
+public class SeedPacketImportReport {
+
+	private int rowsRead;
+	private int rowsImported;
+	private final List<RowError> errors = new ArrayList<>();
+
+
+	/**
+	 * The reasons a single row of the catalog was not imported.
+	 */
+	public static class RowError {
+
+		private final int row;
+		private final List<String> messages;
+
+		RowError(int row, List<String> messages) {
+			this.row = row;
+			this.messages = Collections.unmodifiableList(new ArrayList<>(messages));
+		}
+
+		/**
+		 * @return The number of the row within the catalog, starting from 1 for the first row after any header
+		 */
+		public int getRow() {
+			return row;
+		}
+
+		public List<String> getMessages() {
+			return messages;
+		}
+
+		@Override
+		public String toString() {
+			return "Row " + row + ": " + String.join(" ", messages);
+		}
+	}
+
+
+	void rowRead() {
+		rowsRead++;
+	}
+
+
+	void rowsImported(int count) {
+		rowsImported += count;
+	}
+
+
+	void rowRejected(int row, List<String> messages) {
+		errors.add(new RowError(row, messages));
+	}
+
+
+	public int getRowsRead() {
+		return rowsRead;
+	}
+
+
+	public int getRowsImported() {
+		return rowsImported;
+	}
+
+
+	public int getRowsRejected() {
+		return errors.size();
+	}
+
+
+	public List<RowError> getErrors() {
+		return Collections.unmodifiableList(errors);
+	}
+
+
+	/**
+	 * Writes the report as CSV, with a line for each problem found with each rejected row.
+	 * @param writer The destination of the report
+	 * @throws IOException If the report cannot be written
+	 */
+	public void write(Writer writer) throws IOException {
+		writer.write("row,message\n");
+		for (RowError error : errors) {
+			for (String message : error.getMessages()) {
+				writer.write(error.getRow() + ",\"" + message.replace("\"", "\"\"") + "\"\n");
+			}
+		}
+		writer.flush();
+	}
+
+
+	@Override
+	public String toString() {
+		return rowsImported + " of " + rowsRead + " rows imported, " + errors.size() + " rejected";
+	}
+
+}
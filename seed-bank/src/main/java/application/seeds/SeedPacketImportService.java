@@ -0,0 +1,240 @@
+package application.seeds;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+
+/**
+ * The service for importing catalogs of {@link SeedPacket}s from CSV or JSON files, such as those 
+ * supplied by manufacturers. The file is read a row at a time, and each row is validated with the 
+ * same rules as the edit form. Valid rows are written in JDBC batches of the configured chunk size, 
+ * and committed at the configured interval, so that tens of thousands of packets can be imported 
+ * without holding them all in memory. Invalid rows are skipped, and recorded in the 
+ * {@link SeedPacketImportReport}.
+ *
+ * Names are compared ignoring case, as the database does for the unique key on the name. Should the 
+ * database still reject a commit, it is retried a chunk at a time and then a row at a time, so that 
+ * only the rows at fault are rejected.
+ */
+@Service
+public class SeedPacketImportService {
+
+	@Autowired private SeedPacketRepository seedPacketRepository;
+	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private SeedPacketValidator seedPacketValidator;
+	@Autowired private Validator validator;
+	@Autowired private PlatformTransactionManager transactionManager;
+	@PersistenceContext private EntityManager entityManager;
+
+	@Value("${seedbank.import.chunk-size:500}") private int chunkSize;
+	@Value("${seedbank.import.commit-interval:5000}") private int commitInterval;
+
+	private Logger logger = LoggerFactory.getLogger(SeedPacketImportService.class);
+
+
+	/**
+	 * Imports the seed packets in the catalog file.
+	 * @param file The catalog. Files ending .csv are read as CSV, and files ending .json, .jsonl or 
+	 * .ndjson as JSON
+	 * @return The report of the rows imported and rejected
+	 * @throws IOException If the file cannot be read, or is malformed. Any rows committed before the 
+	 * problem was found remain in the database
+	 */
+	public SeedPacketImportReport importCatalog(Path file) throws IOException {
+		String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+		boolean csv = fileName.endsWith(".csv");
+		if (!csv && !fileName.matches(".*\\.(json|jsonl|ndjson)$")) {
+			throw new IllegalArgumentException(file.getFileName() + " is not a CSV or JSON file");
+		}
+
+		try (Reader reader = Files.newBufferedReader(file, UTF_8);
+				CatalogReader catalogReader = csv ? CatalogReader.csv(reader) : CatalogReader.json(reader)) {
+			return importCatalog(catalogReader);
+		}
+	}
+
+
+	/**
+	 * Imports the seed packets read by the catalog reader.
+	 * @param catalogReader The reader
+	 * @return The report of the rows imported and rejected
+	 * @throws IOException If the catalog cannot be read
+	 */
+	SeedPacketImportReport importCatalog(CatalogReader catalogReader) throws IOException {
+
+		SeedPacketImportReport report = new SeedPacketImportReport();
+		Set<String> existingNames = namesIgnoringCase();
+		existingNames.addAll(seedPacketRepository.findAllNames());
+		Set<String> importedNames = namesIgnoringCase();
+
+		List<SeedPacket> pending = new ArrayList<>();
+		List<Integer> pendingRows = new ArrayList<>();
+
+		try {
+			int rowNumber = 0;
+			Map<String, String> row;
+			while ((row = catalogReader.nextRow()) != null) {
+				rowNumber++;
+				report.rowRead();
+
+				List<String> failures = new ArrayList<>();
+				SeedPacket seedPacket = toValidSeedPacket(row, existingNames, importedNames, failures);
+
+				if (seedPacket == null) {
+					report.rowRejected(rowNumber, failures);
+					continue;
+				}
+
+				importedNames.add(seedPacket.getName());
+				pending.add(seedPacket);
+				pendingRows.add(rowNumber);
+
+				if (pending.size() >= commitInterval) {
+					write(pending, pendingRows, report);
+				}
+			}
+			write(pending, pendingRows, report);
+
+		} finally {
+			if (report.getRowsImported() > 0) {
+				seedPacketService.refreshIndexes();
+			}
+			logger.info("Seed packet catalog import: " + report);
+		}
+		return report;
+	}
+
+
+	/*
+	 * Private helper method to convert a row into a seed packet, provided that it is valid. Otherwise,
+	 * the reasons it is not valid are added to the failures, and null is returned.
+	 */
+	private SeedPacket toValidSeedPacket(Map<String, String> row, Set<String> existingNames, 
+			Set<String> importedNames, List<String> failures) {
+
+		SeedPacketInput input = SeedPacketInput.fromRow(row, failures);
+		failures.addAll(seedPacketValidator.validate(input, existingNames.contains(input.getName())));
+
+		if (importedNames.contains(input.getName())) {
+			failures.add(input.getName() + " appears more than once in the catalog.");
+		}
+		if (!failures.isEmpty()) {
+			return null;
+		}
+
+		SeedPacket seedPacket;
+		try {
+			seedPacket = input.toSeedPacket();
+		} catch (NumberFormatException e) {
+			failures.add("The pack size, number remaining or expiration date is too large.");
+			return null;
+		}
+
+		// The constraints which would otherwise be checked by Hibernate on insert, e.g. that the name is set
+		for (ConstraintViolation<SeedPacket> violation : validator.validate(seedPacket)) {
+			failures.add(violation.getMessage());
+		}
+		return failures.isEmpty() ? seedPacket : null;
+	}
+
+
+	/*
+	 * Private helper method to write the pending seed packets, then clear them.
+	 */
+	private void write(List<SeedPacket> pending, List<Integer> pendingRows, SeedPacketImportReport report) {
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		write(pending, pendingRows, report, chunkSize);
+		pending.clear();
+		pendingRows.clear();
+	}
+
+
+	/*
+	 * Private helper method to write seed packets in a single transaction, flushing each chunk to the 
+	 * database as a JDBC batch. If the database rejects the transaction, the seed packets are retried in 
+	 * chunks, and then a row at a time, so that only the offending rows are reported as rejected. If no 
+	 * transaction could be run at all, e.g. as the database is unavailable, the rows are rejected without 
+	 * retrying.
+	 */
+	private void write(List<SeedPacket> seedPackets, List<Integer> rows, SeedPacketImportReport report, int retrySize) {
+		try {
+			new TransactionTemplate(transactionManager).execute(status -> {
+				entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+				for (int i = 0; i < seedPackets.size(); i++) {
+					entityManager.persist(seedPackets.get(i));
+					if ((i + 1) % chunkSize == 0) {
+						entityManager.flush();
+						entityManager.clear(); // Stop the persistence context growing with each chunk
+					}
+				}
+				entityManager.flush();
+				entityManager.clear();
+				return null;
+			});
+			report.rowsImported(seedPackets.size());
+
+		} catch (RuntimeException e) {
+			String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+			if (seedPackets.size() == 1 || e instanceof TransactionException) {
+				logger.error("Failed to import rows " + rows.get(0) + " to " + rows.get(rows.size() - 1) 
+						+ " of the seed packet catalog", e);
+				for (Integer row : rows) {
+					report.rowRejected(row, singletonList("Not imported as the database rejected it: " + message));
+				}
+				return;
+			}
+
+			int size = retrySize < seedPackets.size() ? retrySize : 1;
+			logger.warn("The database rejected rows " + rows.get(0) + " to " + rows.get(rows.size() - 1) 
+					+ " of the seed packet catalog, which are retried " + (size > 1 ? "a chunk" : "a row") + " at a time: " + message);
+			seedPackets.forEach(seedPacket -> {
+				// Assigned when persisted, but rolled back
+				seedPacket.setId(null);
+				seedPacket.setVersion(null);
+			});
+			for (int from = 0; from < seedPackets.size(); from += size) {
+				int to = Math.min(from + size, seedPackets.size());
+				write(seedPackets.subList(from, to), rows.subList(from, to), report, 1);
+			}
+		}
+	}
+
+
+	/*
+	 * Private helper method to create a set of seed packet names, compared ignoring case.
+	 */
+	private static Set<String> namesIgnoringCase() {
+		return new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+	}
+
+}
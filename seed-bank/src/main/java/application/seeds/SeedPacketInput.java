@@ -0,0 +1,315 @@
+package application.seeds;
+
+import java.time.Month;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * The unvalidated values entered for a {@link SeedPacket}, either in the edit form or as a row of an 
+ * imported catalog. The numeric fields are held as entered, so that they can be checked by the 
+ * {@link SeedPacketValidator} before being converted.
+ */
+public class SeedPacketInput {
+
+	private String name;
+	private String latinName;
+	private String type;
+	private String variety;
+	private String manufacturer;
+	private String manufacturerCode;
+	private String packSize;
+	private String numberRemaining;
+	private String expirationDate;
+	private Month sowingIndoorsStartMonth;
+	private Month sowingIndoorsEndMonth;
+	private Month sowingOutdoorsStartMonth;
+	private Month sowingOutdoorsEndMonth;
+	private Month harvestStartMonth;
+	private Month harvestEndMonth;
+	private Month floweringStartMonth;
+	private Month floweringEndMonth;
+	private String keywords;
+	private String description;
+
+
+	/**
+	 * Creates the input from a row of an imported catalog. Columns are matched to fields ignoring case, 
+	 * spaces and underscores, so both "packSize" and "pack_size" are accepted. Blank values are treated 
+	 * as not set.
+	 * @param row The values of the row, keyed by column name
+	 * @param errors The list to which a message is added for each month which cannot be read
+	 * @return The input
+	 */
+	public static SeedPacketInput fromRow(Map<String, String> row, List<String> errors) {
+		SeedPacketInput input = new SeedPacketInput();
+		row.forEach((column, value) -> {
+			if (value == null || value.trim().isEmpty()) {
+				return;
+			}
+			value = value.trim();
+
+			switch (column.replaceAll("[\\s_]", "").toLowerCase(Locale.ROOT)) {
+			case "name" : input.name = value; break;
+			case "latinname" : input.latinName = value; break;
+			case "type" : input.type = value; break;
+			case "variety" : input.variety = value; break;
+			case "manufacturer" : input.manufacturer = value; break;
+			case "manufacturercode" : input.manufacturerCode = value; break;
+			case "packsize" : input.packSize = value; break;
+			case "numberremaining" : input.numberRemaining = value; break;
+			case "expirationdate" : input.expirationDate = value; break;
+			case "sowingindoorsstartmonth" : input.sowingIndoorsStartMonth = toMonth(value, errors); break;
+			case "sowingindoorsendmonth" : input.sowingIndoorsEndMonth = toMonth(value, errors); break;
+			case "sowingoutdoorsstartmonth" : input.sowingOutdoorsStartMonth = toMonth(value, errors); break;
+			case "sowingoutdoorsendmonth" : input.sowingOutdoorsEndMonth = toMonth(value, errors); break;
+			case "harveststartmonth" : input.harvestStartMonth = toMonth(value, errors); break;
+			case "harvestendmonth" : input.harvestEndMonth = toMonth(value, errors); break;
+			case "floweringstartmonth" : input.floweringStartMonth = toMonth(value, errors); break;
+			case "floweringendmonth" : input.floweringEndMonth = toMonth(value, errors); break;
+			case "keywords" : input.keywords = value; break;
+			case "description" : input.description = value; break;
+			default : break; // Ignore any columns we don't recognise, e.g. the ID from an export
+			}
+		});
+		return input;
+	}
+
+
+	/**
+	 * Creates a new {@link SeedPacket} from the input. Should only be called once the input has been
+	 * validated. As with the edit form, numeric values which have not been set are saved as zero.
+	 * @return The seed packet
+	 */
+	public SeedPacket toSeedPacket() {
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setName(name);
+		seedPacket.setLatinName(latinName);
+		seedPacket.setType(type);
+		seedPacket.setVariety(variety);
+		seedPacket.setManufacturer(manufacturer);
+		seedPacket.setManufacturerCode(manufacturerCode);
+		seedPacket.setPackSize(packSize != null ? Integer.valueOf(packSize) : 0);
+		seedPacket.setNumberRemaining(numberRemaining != null ? Integer.valueOf(numberRemaining) : 0);
+		seedPacket.setExpirationDate(expirationDate != null ? Integer.valueOf(expirationDate) : 0);
+		seedPacket.setSowingIndoorsStartMonth(sowingIndoorsStartMonth);
+		seedPacket.setSowingIndoorsEndMonth(sowingIndoorsEndMonth);
+		seedPacket.setSowingOutdoorsStartMonth(sowingOutdoorsStartMonth);
+		seedPacket.setSowingOutdoorsEndMonth(sowingOutdoorsEndMonth);
+		seedPacket.setHarvestStartMonth(harvestStartMonth);
+		seedPacket.setHarvestEndMonth(harvestEndMonth);
+		seedPacket.setFloweringStartMonth(floweringStartMonth);
+		seedPacket.setFloweringEndMonth(floweringEndMonth);
+		seedPacket.setKeywords(keywords);
+		seedPacket.setDescription(description);
+		return seedPacket;
+	}
+
+
+	/*
+	 * Private helper method to read a month, either by name (e.g. March) or number (e.g. 3).
+	 */
+	private static Month toMonth(String value, List<String> errors) {
+		try {
+			if (value.matches("^\\d{1,2}$")) {
+				return Month.of(Integer.parseInt(value));
+			}
+			return Month.valueOf(value.toUpperCase(Locale.ROOT));
+		} catch (RuntimeException e) {
+			errors.add(value + " is not a valid month.");
+			return null;
+		}
+	}
+
+
+	public String getName() {
+		return name;
+	}
+
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+
+	public String getLatinName() {
+		return latinName;
+	}
+
+
+	public void setLatinName(String latinName) {
+		this.latinName = latinName;
+	}
+
+
+	public String getType() {
+		return type;
+	}
+
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+
+	public String getVariety() {
+		return variety;
+	}
+
+
+	public void setVariety(String variety) {
+		this.variety = variety;
+	}
+
+
+	public String getManufacturer() {
+		return manufacturer;
+	}
+
+
+	public void setManufacturer(String manufacturer) {
+		this.manufacturer = manufacturer;
+	}
+
+
+	public String getManufacturerCode() {
+		return manufacturerCode;
+	}
+
+
+	public void setManufacturerCode(String manufacturerCode) {
+		this.manufacturerCode = manufacturerCode;
+	}
+
+
+	public String getPackSize() {
+		return packSize;
+	}
+
+
+	public void setPackSize(String packSize) {
+		this.packSize = packSize;
+	}
+
+
+	public String getNumberRemaining() {
+		return numberRemaining;
+	}
+
+
+	public void setNumberRemaining(String numberRemaining) {
+		this.numberRemaining = numberRemaining;
+	}
+
+
+	public String getExpirationDate() {
+		return expirationDate;
+	}
+
+
+	public void setExpirationDate(String expirationDate) {
+		this.expirationDate = expirationDate;
+	}
+
+
+	public Month getSowingIndoorsStartMonth() {
+		return sowingIndoorsStartMonth;
+	}
+
+
+	public void setSowingIndoorsStartMonth(Month sowingIndoorsStartMonth) {
+		this.sowingIndoorsStartMonth = sowingIndoorsStartMonth;
+	}
+
+
+	public Month getSowingIndoorsEndMonth() {
+		return sowingIndoorsEndMonth;
+	}
+
+
+	public void setSowingIndoorsEndMonth(Month sowingIndoorsEndMonth) {
+		this.sowingIndoorsEndMonth = sowingIndoorsEndMonth;
+	}
+
+
+	public Month getSowingOutdoorsStartMonth() {
+		return sowingOutdoorsStartMonth;
+	}
+
+
+	public void setSowingOutdoorsStartMonth(Month sowingOutdoorsStartMonth) {
+		this.sowingOutdoorsStartMonth = sowingOutdoorsStartMonth;
+	}
+
+
+	public Month getSowingOutdoorsEndMonth() {
+		return sowingOutdoorsEndMonth;
+	}
+
+
+	public void setSowingOutdoorsEndMonth(Month sowingOutdoorsEndMonth) {
+		this.sowingOutdoorsEndMonth = sowingOutdoorsEndMonth;
+	}
+
+
+	public Month getHarvestStartMonth() {
+		return harvestStartMonth;
+	}
+
+
+	public void setHarvestStartMonth(Month harvestStartMonth) {
+		this.harvestStartMonth = harvestStartMonth;
+	}
+
+
+	public Month getHarvestEndMonth() {
+		return harvestEndMonth;
+	}
+
+
+	public void setHarvestEndMonth(Month harvestEndMonth) {
+		this.harvestEndMonth = harvestEndMonth;
+	}
+
+
+	public Month getFloweringStartMonth() {
+		return floweringStartMonth;
+	}
+
+
+	public void setFloweringStartMonth(Month floweringStartMonth) {
+		this.floweringStartMonth = floweringStartMonth;
+	}
+
+
+	public Month getFloweringEndMonth() {
+		return floweringEndMonth;
+	}
+
+
+	public void setFloweringEndMonth(Month floweringEndMonth) {
+		this.floweringEndMonth = floweringEndMonth;
+	}
+
+
+	public String getKeywords() {
+		return keywords;
+	}
+
+
+	public void setKeywords(String keywords) {
+		this.keywords = keywords;
+	}
+
+
+	public String getDescription() {
+		return description;
+	}
+
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+}
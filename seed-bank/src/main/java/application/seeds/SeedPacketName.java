@@ -0,0 +1,14 @@
+package application.seeds;
+
+
+/**
+ * Projection of a {@link SeedPacket} containing only its ID and name, for lists which display 
+ * nothing else.
+ */
+public interface SeedPacketName {
+
+	Long getId();
+
+	String getName();
+
+}
@@ -0,0 +1,86 @@
+package application.seeds;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+
+/**
+ * An in-memory lookup of the name of each {@link SeedPacket} by its ID, for tables and lists which
+ * display records referring to seed packets by ID. Names are resolved without touching the database,
+ * so are safe to look up while cells are being rendered.
+ *
+ * The names are loaded in bulk by the {@link SeedPacketService} whenever it loads the whole catalog,
+ * and kept up to date as seed packets are saved, renamed and deleted.
+ */
+@Component
+public class SeedPacketNameResolver {
+
+	private final Map<Long, String> namesById = new HashMap<>();
+
+
+	/**
+	 * Discards the current names and loads the names of the specified seed packets.
+	 * @param seedPackets The IDs and names of every seed packet
+	 */
+	public void rebuild(Iterable<? extends SeedPacketName> seedPackets) {
+		Map<Long, String> names = new HashMap<>();
+		seedPackets.forEach(seedPacket -> names.put(seedPacket.getId(), seedPacket.getName()));
+		rebuild(names);
+	}
+
+
+	/**
+	 * Discards the current names and loads the specified names.
+	 * @param names The name of every seed packet, keyed by ID
+	 */
+	public synchronized void rebuild(Map<Long, String> names) {
+		namesById.clear();
+		names.forEach(this::put);
+	}
+
+
+	/**
+	 * Records the name of a seed packet, replacing any previous name, e.g. when it has been renamed.
+	 * Packets which have not yet been assigned an ID are ignored.
+	 * @param id The ID of the seed packet
+	 * @param name The name of the seed packet
+	 */
+	public synchronized void put(Long id, String name) {
+		if (id != null) {
+			namesById.put(id, name);
+		}
+	}
+
+
+	/**
+	 * Removes the name of a deleted seed packet.
+	 * @param id The ID of the seed packet
+	 */
+	public synchronized void remove(Long id) {
+		if (id != null) {
+			namesById.remove(id);
+		}
+	}
+
+
+	/**
+	 * Looks up the name of a seed packet.
+	 * @param id The ID of the seed packet
+	 * @return The name of the seed packet, or empty if it is not known
+	 */
+	public synchronized Optional<String> getName(Long id) {
+		return Optional.ofNullable(id != null ? namesById.get(id) : null);
+	}
+
+
+	/**
+	 * @return The number of seed packets whose names are known
+	 */
+	public synchronized int size() {
+		return namesById.size();
+	}
+
+}
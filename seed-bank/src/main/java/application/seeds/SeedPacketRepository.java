@@ -1,6 +1,21 @@
 package application.seeds;
 
-import org.springframework.data.repository.CrudRepository;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
@@ -9,9 +24,69 @@ import org.springframework.stereotype.Repository;
  * table of the SeedBank database.
  */
 @Repository
-public interface SeedPacketRepository extends CrudRepository<SeedPacket, Long> {
+public interface SeedPacketRepository extends PagingAndSortingRepository<SeedPacket, Long>, SeedPacketRepositoryCustom {
+
+	String SELECT_SUMMARIES = "select new application.seeds.SeedPacketSummary(s.id, s.name, s.type, s.manufacturer, "
+			+ "s.packSize, s.numberRemaining, s.expirationDate, "
+			+ "s.sowingIndoorsStartMonth, s.sowingIndoorsEndMonth, s.sowingOutdoorsStartMonth, s.sowingOutdoorsEndMonth, "
+			+ "s.harvestStartMonth, s.harvestEndMonth, s.floweringStartMonth, s.floweringEndMonth) "
+			+ "from SeedPacket s";
 
 	boolean existsByName(String name);
 	
 	SeedPacket findByName(String name);
-}
\ No newline at end of file
+	
+	@Query(SELECT_SUMMARIES)
+	List<SeedPacketSummary> findAllSummaries();
+
+	@Query("select count(s) from SeedPacket s where s.expirationDate <> 0 and s.expirationDate < :year")
+	long countExpiredBefore(@Param("year") int year);
+
+	@Query("select count(s) from SeedPacket s where s.packSize > 0 and s.numberRemaining = 0")
+	long countEmpty();
+
+	@Query("select distinct s.type from SeedPacket s where s.type is not null order by s.type")
+	List<String> findDistinctTypes();
+
+	@Query("select distinct s.manufacturer from SeedPacket s where s.manufacturer is not null order by s.manufacturer")
+	List<String> findDistinctManufacturers();
+
+	@Query(value = SELECT_SUMMARIES, countQuery = "select count(s) from SeedPacket s")
+	Page<SeedPacketSummary> findAllSummaries(Pageable pageable);
+
+	List<SeedPacketName> findByIdIn(Collection<Long> ids);
+
+	@Query("select s.id as id, s.name as name, s.latinName as latinName, s.keywords as keywords, s.description as description "
+			+ "from SeedPacket s")
+	List<SeedPacketText> findAllText();
+
+	@Query("select s.name from SeedPacket s")
+	List<String> findAllNames();
+
+	@Query("select s.id as id, s.name as name from SeedPacket s where lower(s.name) like lower(:pattern) escape '!' order by s.name")
+	List<SeedPacketName> findNamesLike(@Param("pattern") String pattern, Pageable pageable);
+
+	@QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true") })
+	@Query("select s from SeedPacket s order by s.id")
+	Stream<SeedPacket> streamAll();
+
+	/**
+	 * Deducts seeds from the number remaining in a single statement, against the current value in the 
+	 * database rather than a copy held in memory, so concurrent deductions are never lost. The number 
+	 * remaining is not taken below zero, and is left unset if not known.
+	 * @param id The ID of the seed packet
+	 * @param numberSown The number of seeds to deduct. Negative to return seeds to the packet
+	 * @return The number of seed packets updated
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "update seed_packet set number_remaining = greatest(number_remaining - :numberSown, 0), "
+			+ "version = version + 1 where id = :id and number_remaining is not null", nativeQuery = true)
+	int deductNumberRemaining(@Param("id") Long id, @Param("numberSown") int numberSown);
+
+	/**
+	 * Writes the pending changes to the database, e.g. so that the version of a merged seed packet is 
+	 * incremented before the transaction commits.
+	 */
+	void flush();
+
+}
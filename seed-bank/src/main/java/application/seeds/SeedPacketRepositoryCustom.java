@@ -0,0 +1,34 @@
+package application.seeds;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Collection;
+import java.util.List;
+
+
+/**
+ * The queries of the {@link SeedPacketRepository} which are built from the criteria given, rather 
+ * than declared up front. Implemented by {@link SeedPacketRepositoryImpl}.
+ */
+public interface SeedPacketRepositoryCustom {
+
+	/**
+	 * Finds the summaries of the seed packets matching a filter, sorted by name.
+	 * @param filter The criteria chosen in the filter bar of the seed library
+	 * @param ids The IDs to choose from, e.g. those of the seed packets matching a search, or null for 
+	 * any seed packet
+	 * @param today Today's date, which decides the current month and which seed packets have expired
+	 * @param limit The maximum number of summaries to return
+	 * @return The summaries of the matching seed packets
+	 */
+	List<SeedPacketSummary> findSummaries(SeedPacketFilter filter, Collection<Long> ids, LocalDate today, int limit);
+
+	/**
+	 * Finds the summaries of the seed packets whose window includes the specified month, sorted by name.
+	 * @param window The window, e.g. sowing indoors
+	 * @param month The month
+	 * @return The summaries of the seed packets in window
+	 */
+	List<SeedPacketSummary> findSummariesInWindow(CalendarWindow window, Month month);
+
+}
@@ -0,0 +1,116 @@
+package application.seeds;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+
+/**
+ * Builds the queries of the {@link SeedPacketRepositoryCustom} with the Criteria API, testing only the 
+ * criteria which are set. Like the constructor expression in {@link SeedPacketRepository}, the 
+ * summaries are selected without loading the full entities.
+ */
+class SeedPacketRepositoryImpl implements SeedPacketRepositoryCustom {
+
+	private static final String[] SUMMARY_ATTRIBUTES = { "id", "name", "type", "manufacturer", "packSize", 
+			"numberRemaining", "expirationDate", "sowingIndoorsStartMonth", "sowingIndoorsEndMonth", 
+			"sowingOutdoorsStartMonth", "sowingOutdoorsEndMonth", "harvestStartMonth", "harvestEndMonth", 
+			"floweringStartMonth", "floweringEndMonth" };
+
+	@PersistenceContext private EntityManager entityManager;
+
+
+	@Override
+	public List<SeedPacketSummary> findSummaries(SeedPacketFilter filter, Collection<Long> ids, LocalDate today, int limit) {
+		if (ids != null && ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<SeedPacketSummary> query = builder.createQuery(SeedPacketSummary.class);
+		Root<SeedPacket> seedPacket = query.from(SeedPacket.class);
+
+		List<Predicate> criteria = new ArrayList<>();
+		if (ids != null) {
+			criteria.add(seedPacket.get("id").in(ids));
+		}
+		if (filter.getType() != null) {
+			criteria.add(builder.equal(seedPacket.get("type"), filter.getType()));
+		}
+		if (filter.getManufacturer() != null) {
+			criteria.add(builder.equal(seedPacket.get("manufacturer"), filter.getManufacturer()));
+		}
+		if (filter.getWindow() != null) {
+			criteria.add(inWindow(builder, seedPacket, filter.getWindow(), filter.getMonth(today)));
+		}
+		if (filter.isExpiredOnly()) {
+			Path<Integer> expirationDate = seedPacket.get("expirationDate");
+			criteria.add(builder.and(builder.notEqual(expirationDate, 0), builder.lessThan(expirationDate, today.getYear())));
+		}
+		if (filter.isEmptyOnly()) { // As SeedPacketSummary.isEmpty, so a number remaining which is not recorded is not empty
+			criteria.add(builder.and(builder.greaterThan(seedPacket.get("packSize"), 0), 
+					builder.equal(seedPacket.get("numberRemaining"), 0)));
+		}
+
+		return selectSummaries(builder, query, seedPacket, criteria).setMaxResults(limit).getResultList();
+	}
+
+
+	@Override
+	public List<SeedPacketSummary> findSummariesInWindow(CalendarWindow window, Month month) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<SeedPacketSummary> query = builder.createQuery(SeedPacketSummary.class);
+		Root<SeedPacket> seedPacket = query.from(SeedPacket.class);
+
+		return selectSummaries(builder, query, seedPacket, 
+				Collections.singletonList(inWindow(builder, seedPacket, window, month))).getResultList();
+	}
+
+
+	/*
+	 * Private helper method to select the summaries of the seed packets matching the criteria, sorted by name.
+	 */
+	private TypedQuery<SeedPacketSummary> selectSummaries(CriteriaBuilder builder, CriteriaQuery<SeedPacketSummary> query, 
+			Root<SeedPacket> seedPacket, List<Predicate> criteria) {
+		Selection<?>[] selections = new Selection<?>[SUMMARY_ATTRIBUTES.length];
+		for (int i = 0; i < SUMMARY_ATTRIBUTES.length; i++) {
+			selections[i] = seedPacket.get(SUMMARY_ATTRIBUTES[i]);
+		}
+
+		query.select(builder.construct(SeedPacketSummary.class, selections))
+				.where(criteria.toArray(new Predicate[0]))
+				.orderBy(builder.asc(seedPacket.get("name")));
+		return entityManager.createQuery(query);
+	}
+
+
+	/*
+	 * Private helper method to match the seed packets whose window includes the month. Windows which 
+	 * wrap the new year, e.g. November to February, include the months at both ends of the year, and 
+	 * windows without both months set include none.
+	 */
+	private static Predicate inWindow(CriteriaBuilder builder, Root<SeedPacket> seedPacket, CalendarWindow window, Month month) {
+		Path<Month> start = seedPacket.get(window.getStartAttribute());
+		Path<Month> end = seedPacket.get(window.getEndAttribute());
+
+		return builder.or(
+				builder.and(builder.lessThanOrEqualTo(start, end), 
+						builder.lessThanOrEqualTo(start, month), builder.greaterThanOrEqualTo(end, month)),
+				builder.and(builder.greaterThan(start, end), 
+						builder.or(builder.lessThanOrEqualTo(start, month), builder.greaterThanOrEqualTo(end, month))));
+	}
+
+}
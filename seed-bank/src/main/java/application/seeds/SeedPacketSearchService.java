@@ -0,0 +1,213 @@
+package application.seeds;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * The service for searching the free text of {@link SeedPacket}s. Searches are answered from an
+ * in-memory inverted index over the name, latin name, keywords and description of each packet,
+ * so do not touch the database.
+ *
+ * Every word of the query must match the start of a word in the packet, so "clim drou" will find a
+ * packet described as "climbing" and "drought tolerant". Results are ranked so that matches on the
+ * name outweigh matches on the latin name, keywords and then description, and whole word matches
+ * outweigh prefix matches.
+ *
+ * The index is built in the background when the application starts, from just the text of each
+ * packet, rebuilt whenever the {@link SeedPacketService} loads the whole catalog or refreshes its
+ * indexes, and kept up to date as seed packets are saved and deleted. Until it has first been built
+ * the index is not {@link #isReady() ready}, and searches find nothing, rather than holding up the
+ * caller while the catalog is read.
+ */
+@Service
+public class SeedPacketSearchService {
+
+	private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private static final int NAME_WEIGHT = 8;
+	private static final int LATIN_NAME_WEIGHT = 4;
+	private static final int KEYWORDS_WEIGHT = 2;
+	private static final int DESCRIPTION_WEIGHT = 1;
+
+	@Autowired private SeedPacketRepository seedPacketRepository;
+
+	private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+	private final Map<Long, Map<String, Integer>> termsById = new HashMap<>();
+	private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+
+	/**
+	 * Searches the seed packets for the specified query.
+	 * @param query The words to search for. The last word may be incomplete
+	 * @return The IDs of the matching seed packets, most relevant first. Empty if the query contains no 
+	 * words, or the index is not yet ready
+	 */
+	public synchronized List<Long> search(String query) {
+		List<String> words = tokenise(query);
+		if (words.isEmpty() || !isReady()) {
+			return Collections.emptyList();
+		}
+
+		Map<Long, Integer> scores = null;
+		for (String word : words) {
+			Map<Long, Integer> wordScores = score(word);
+			if (scores == null) {
+				scores = wordScores;
+			} else {
+				scores.keySet().retainAll(wordScores.keySet()); // Every word must match
+				scores.replaceAll((id, score) -> score + wordScores.get(id));
+			}
+			if (scores.isEmpty()) {
+				return Collections.emptyList();
+			}
+		}
+
+		List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(scores.entrySet());
+		ranked.sort(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+		List<Long> ids = new ArrayList<>(ranked.size());
+		ranked.forEach(entry -> ids.add(entry.getKey()));
+		return ids;
+	}
+
+
+	/**
+	 * Checks whether the index has been built, so that searches can be answered.
+	 * @return true if the index is ready, and false if it is still being built
+	 */
+	public boolean isReady() {
+		return ready.isDone();
+	}
+
+
+	/**
+	 * Gets a future which completes once the index has first been built.
+	 * @return The future
+	 */
+	public CompletableFuture<Void> whenReady() {
+		return ready.copy();
+	}
+
+
+	/**
+	 * Rebuilds the index from the database, reading just the text of each {@link SeedPacket}. The 
+	 * current index keeps answering searches until the text has been read.
+	 */
+	public void rebuild() {
+		rebuild(seedPacketRepository.findAllText());
+	}
+
+
+	/**
+	 * Discards the current contents of the index and indexes the specified {@link SeedPacket}s.
+	 * @param seedPackets The seed packets, or their text, to be indexed
+	 */
+	public synchronized void rebuild(Iterable<? extends SeedPacketText> seedPackets) {
+		postings.clear();
+		termsById.clear();
+		seedPackets.forEach(this::index);
+		ready.complete(null);
+	}
+
+
+	/**
+	 * Adds the {@link SeedPacket} to the index, replacing any previous entry for it. Packets which
+	 * have not yet been assigned an ID are ignored.
+	 * @param seedPacket The seed packet, or its text, to be indexed
+	 */
+	public synchronized void index(SeedPacketText seedPacket) {
+		if (seedPacket == null || seedPacket.getId() == null) {
+			return;
+		}
+
+		remove(seedPacket);
+
+		Map<String, Integer> terms = new HashMap<>();
+		addTerms(terms, seedPacket.getName(), NAME_WEIGHT);
+		addTerms(terms, seedPacket.getLatinName(), LATIN_NAME_WEIGHT);
+		addTerms(terms, seedPacket.getKeywords(), KEYWORDS_WEIGHT);
+		addTerms(terms, seedPacket.getDescription(), DESCRIPTION_WEIGHT);
+
+		termsById.put(seedPacket.getId(), terms);
+		terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(seedPacket.getId(), weight));
+	}
+
+
+	/**
+	 * Removes the {@link SeedPacket} from the index.
+	 * @param seedPacket The seed packet, or its text, to be removed
+	 */
+	public synchronized void remove(SeedPacketText seedPacket) {
+		if (seedPacket == null || seedPacket.getId() == null) {
+			return;
+		}
+
+		Map<String, Integer> terms = termsById.remove(seedPacket.getId());
+		if (terms != null) {
+			for (String term : terms.keySet()) {
+				Map<Long, Integer> ids = postings.get(term);
+				ids.remove(seedPacket.getId());
+				if (ids.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Splits text into lower case words, discarding punctuation and whitespace.
+	 * @param text The text to be split
+	 * @return The words in the text, in order
+	 */
+	static List<String> tokenise(String text) {
+		List<String> words = new ArrayList<>();
+		if (text != null) {
+			for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+				if (!word.isEmpty()) {
+					words.add(word);
+				}
+			}
+		}
+		return words;
+	}
+
+
+	/*
+	 * Private helper method to score each seed packet containing a word starting with the prefix.
+	 * Whole word matches score double.
+	 */
+	private Map<Long, Integer> score(String prefix) {
+		Map<Long, Integer> scores = new LinkedHashMap<>();
+		for (Map.Entry<String, Map<Long, Integer>> posting : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+			int multiplier = posting.getKey().equals(prefix) ? 2 : 1;
+			posting.getValue().forEach((id, weight) -> scores.merge(id, weight * multiplier, Math::max));
+		}
+		return scores;
+	}
+
+
+	/*
+	 * Private helper method to add the words of a field to the terms of a seed packet, keeping the
+	 * highest weight where a word appears in more than one field.
+	 */
+	private void addTerms(Map<String, Integer> terms, String text, int weight) {
+		for (String word : tokenise(text)) {
+			terms.merge(word, weight, Math::max);
+		}
+	}
+
+}
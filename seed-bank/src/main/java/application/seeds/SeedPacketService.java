@@ -1,48 +1,162 @@
 package application.seeds;
 
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import application.changes.RemoteChangeHandler;
+import application.events.BulkChangeEvent;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
 
 
 /**
- * The service for controlling the interaction of {@link SeedPacket}s with the underlying database.
+ * The service for controlling the interaction of {@link SeedPacket}s with the underlying database. 
+ * Lookups by ID and name are answered from the {@link SeedPacketCache} where possible. The cache, along 
+ * with the {@link SeedPacketCalendarIndex} used by the today tab, the {@link SeedPacketSearchService} 
+ * index and the {@link SeedPacketNameResolver}, is kept up to date as seed packets are saved and deleted, 
+ * here or by other clients of the database, and an {@link EntityChangedEvent} is published for each change.
  */
 @Service
-public class SeedPacketService {
+public class SeedPacketService implements RemoteChangeHandler {
 
 	@Autowired private SeedPacketRepository seedPacketRepository;
+	@Autowired private SeedPacketCache seedPacketCache;
+	@Autowired private SeedPacketCalendarIndex seedPacketCalendarIndex;
+	@Autowired private SeedPacketSearchService seedPacketSearchService;
+	@Autowired private SeedPacketNameResolver seedPacketNameResolver;
+	@Autowired private ApplicationEventPublisher eventPublisher;
 
 	private Logger logger = LoggerFactory.getLogger(SeedPacketService.class);
 
 
 	/**
-	 * Saves a {@link SeedPacket} to the database.
+	 * Saves a {@link SeedPacket} to the database. The change is recorded for other clients in the same 
+	 * transaction, and the in-memory copies are only updated once it has committed.
 	 * @param seedPacket The seed packet to be saved
 	 */
+	@Transactional
 	public void save(SeedPacket seedPacket) {
-		seedPacketRepository.save(seedPacket);
+		ChangeType changeType = seedPacket.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED;
+		try {
+			// Updates are merged into a copy, whose version is only incremented once flushed. The version is 
+			// then carried back for the next save of this packet
+			SeedPacket saved = seedPacketRepository.save(seedPacket);
+			seedPacketRepository.flush();
+			seedPacket.setVersion(saved.getVersion());
+		} catch (RuntimeException e) {
+			seedPacketCache.evict(seedPacket); // The cached copy may be stale, e.g. if another client has changed the packet
+			throw e;
+		}
+		afterCommit(() -> {
+			seedPacketCache.put(seedPacket);
+			seedPacketCalendarIndex.update(seedPacket);
+			seedPacketSearchService.index(seedPacket);
+			seedPacketNameResolver.put(seedPacket.getId(), seedPacket.getName());
+		});
+		eventPublisher.publishEvent(new EntityChangedEvent<>(SeedPacket.class, seedPacket, changeType));
+	}
+
+
+	/**
+	 * Deducts sown seeds from the number remaining in a {@link SeedPacket}. The deduction is made by the 
+	 * database, against the number currently stored, and the updated packet then replaces any cached copy 
+	 * once the transaction has committed, so a deduction rolled back by the caller is never cached.
+	 * @param id The ID of the seed packet
+	 * @param numberSown The number of seeds sown. Negative to return seeds to the packet
+	 * @return The updated seed packet, or empty if the number remaining in the packet is not known
+	 */
+	@Transactional
+	public Optional<SeedPacket> deductSeeds(Long id, int numberSown) {
+		if (seedPacketRepository.deductNumberRemaining(id, numberSown) == 0) {
+			return Optional.empty();
+		}
+
+		Optional<SeedPacket> seedPacket = seedPacketRepository.findById(id);
+		seedPacket.ifPresent(updated -> {
+			afterCommit(() -> seedPacketCache.put(updated));
+			eventPublisher.publishEvent(new EntityChangedEvent<>(SeedPacket.class, updated, ChangeType.UPDATED));
+		});
+		return seedPacket;
 	}
 
 
 	/**
-	 * Delete the {@link SeedPacket} from the database.
+	 * Delete the {@link SeedPacket} from the database. The deletion is recorded for other clients in the 
+	 * same transaction, and the in-memory copies are only updated once it has committed.
 	 * @param seedPacket The seed packet to be deleted
 	 */
+	@Transactional
 	public void delete(SeedPacket seedPacket) {
 		seedPacketRepository.delete(seedPacket);
+		afterCommit(() -> {
+			seedPacketCache.evict(seedPacket);
+			seedPacketCalendarIndex.remove(seedPacket);
+			seedPacketSearchService.remove(seedPacket);
+			seedPacketNameResolver.remove(seedPacket.getId());
+		});
 		logger.info(seedPacket.getName() + " has been deleted from the database");
+		eventPublisher.publishEvent(new EntityChangedEvent<>(SeedPacket.class, seedPacket, ChangeType.DELETED));
+
+	}
 
+
+	@Override
+	public Class<?> getEntityType() {
+		return SeedPacket.class;
 	}
 
 
 	/**
-	 * Load all of the {@link SeedPacket}s stored in the database.
+	 * Reloads a {@link SeedPacket} changed by another client, and brings the cache and indexes up to date.
+	 * @param id The ID of the seed packet
+	 * @param changeType How the seed packet was changed
+	 */
+	@Override
+	public void applyRemoteChange(Long id, ChangeType changeType) {
+		Optional<SeedPacket> changed = changeType == ChangeType.DELETED ? Optional.empty() : seedPacketRepository.findById(id);
+		if (changed.isPresent()) {
+			SeedPacket seedPacket = changed.get();
+			seedPacketCache.put(seedPacket);
+			seedPacketCalendarIndex.update(seedPacket);
+			seedPacketSearchService.index(seedPacket);
+			seedPacketNameResolver.put(seedPacket.getId(), seedPacket.getName());
+			eventPublisher.publishEvent(new EntityChangedEvent<>(SeedPacket.class, seedPacket, changeType, true));
+		} else {
+			SeedPacket seedPacket = seedPacketCache.getById(id).orElseGet(() -> {
+				SeedPacket deleted = new SeedPacket();
+				deleted.setId(id);
+				return deleted;
+			});
+			seedPacketCache.evict(seedPacket);
+			seedPacketCalendarIndex.remove(seedPacket);
+			seedPacketSearchService.remove(seedPacket);
+			seedPacketNameResolver.remove(id);
+			eventPublisher.publishEvent(new EntityChangedEvent<>(SeedPacket.class, seedPacket, ChangeType.DELETED, true));
+		}
+	}
+
+
+	/**
+	 * Load all of the {@link SeedPacket}s stored in the database. The cache and indexes are left as 
+	 * they are, as they are kept up to date as each seed packet is saved and deleted.
 	 * @return A list of seed packet models
 	 */
 	public List<SeedPacket> loadAll() {
@@ -52,6 +166,125 @@ public class SeedPacketService {
 	}
 	
 	
+	/**
+	 * Load a {@link SeedPacketSummary} of every seed packet stored in the database, without loading 
+	 * the full entities. The summaries are used to rebuild the calendar index and the names of the packets.
+	 * @return A list of seed packet summaries
+	 */
+	public List<SeedPacketSummary> loadAllSummaries() {
+		List<SeedPacketSummary> summaries = seedPacketRepository.findAllSummaries();
+		seedPacketCalendarIndex.rebuild(summaries);
+		seedPacketNameResolver.rebuild(summaries);
+		return summaries;
+	}
+	
+	
+	/**
+	 * Rebuilds the calendar index, the names and the search index from the database, then publishes a 
+	 * {@link BulkChangeEvent} so that the seed packets shown are reloaded. Required after seed packets 
+	 * have been written other than through this service, e.g. by the {@link SeedPacketImportService}.
+	 */
+	public void refreshIndexes() {
+		rebuildIndexes(false);
+	}
+
+
+	/**
+	 * Rebuilds the calendar index, the names and the search index once another client has written 
+	 * seed packets in bulk, e.g. by an import, then publishes a remote {@link BulkChangeEvent}.
+	 */
+	@Override
+	public void applyRemoteBulkChange() {
+		rebuildIndexes(true);
+	}
+	
+	
+	/**
+	 * Load a single page of {@link SeedPacketSummary}s from the database, sorted as specified.
+	 * @param page The zero-based index of the page to be loaded
+	 * @param size The number of seed packets per page
+	 * @param sort The order in which the seed packets are to be sorted by the database
+	 * @return The requested page of seed packet summaries
+	 */
+	public Page<SeedPacketSummary> loadSummaryPage(int page, int size, Sort sort) {
+		return seedPacketRepository.findAllSummaries(PageRequest.of(page, size, sort));
+	}
+	
+	
+	/**
+	 * Load the {@link SeedPacketSummary}s of the seed packets matching a filter, without holding the 
+	 * catalog in memory.
+	 * @param filter The criteria chosen in the filter bar of the seed library
+	 * @param ids The IDs to choose from, e.g. those of the seed packets matching a search, or null for 
+	 * any seed packet
+	 * @param today Today's date, which decides the current month and which seed packets have expired
+	 * @param limit The maximum number of summaries to load
+	 * @return The summaries of the matching seed packets, sorted by name
+	 */
+	public List<SeedPacketSummary> loadSummaries(SeedPacketFilter filter, Collection<Long> ids, LocalDate today, int limit) {
+		return seedPacketRepository.findSummaries(filter, ids, today, limit);
+	}
+
+
+	/**
+	 * Load the {@link SeedPacketSummary}s of the seed packets whose window includes the specified month, 
+	 * without holding the catalog in memory.
+	 * @param window The window, e.g. sowing indoors
+	 * @param month The month
+	 * @return The summaries of the seed packets in window, sorted by name
+	 */
+	public List<SeedPacketSummary> loadSummariesInWindow(CalendarWindow window, Month month) {
+		return seedPacketRepository.findSummariesInWindow(window, month);
+	}
+
+
+	/**
+	 * Load the types given to the {@link SeedPacket}s in the database.
+	 * @return The distinct types, in order
+	 */
+	public List<String> loadTypesInUse() {
+		return seedPacketRepository.findDistinctTypes();
+	}
+
+
+	/**
+	 * Load the manufacturers of the {@link SeedPacket}s in the database.
+	 * @return The distinct manufacturers, in order
+	 */
+	public List<String> loadManufacturersInUse() {
+		return seedPacketRepository.findDistinctManufacturers();
+	}
+
+
+	/**
+	 * Counts the {@link SeedPacket}s which passed their expiration year before the specified year. 
+	 * Packets without an expiration year never expire.
+	 * @param year The current year
+	 * @return The number of expired seed packets
+	 */
+	public long countExpired(int year) {
+		return seedPacketRepository.countExpiredBefore(year);
+	}
+
+
+	/**
+	 * Counts the {@link SeedPacket}s which have been used up.
+	 * @return The number of empty seed packets
+	 */
+	public long countEmpty() {
+		return seedPacketRepository.countEmpty();
+	}
+
+
+	/**
+	 * Counts the number of {@link SeedPacket}s stored in the database.
+	 * @return The number of seed packets
+	 */
+	public long count() {
+		return seedPacketRepository.count();
+	}
+	
+	
 	/**
 	 * Returns a boolean denoting whether or not a {@link SeedPacket} with the 
 	 * specified name exists in the database.
@@ -59,6 +292,9 @@ public class SeedPacketService {
 	 * @return true if the {@link SeedPacket} exists in the database, and false if not
 	 */
 	public boolean exists(String name) {
+		if (seedPacketCache.getByName(name).isPresent()) {
+			return true;
+		}
 		return seedPacketRepository.existsByName(name);
 	}
 	
@@ -69,7 +305,14 @@ public class SeedPacketService {
 	 * @return The required {@link SeedPacket}
 	 */
 	public SeedPacket loadByName(String name) {
-		return seedPacketRepository.findByName(name);
+		Optional<SeedPacket> cached = seedPacketCache.getByName(name);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		SeedPacket seedPacket = seedPacketRepository.findByName(name);
+		seedPacketCache.put(seedPacket);
+		return seedPacket;
 	}
 	
 	
@@ -79,7 +322,81 @@ public class SeedPacketService {
 	 * @return The required {@link SeedPacket}
 	 */
 	public Optional<SeedPacket> loadById(Long id) {
-		return seedPacketRepository.findById(id);
+		Optional<SeedPacket> cached = seedPacketCache.getById(id);
+		if (cached.isPresent()) {
+			return cached;
+		}
+
+		Optional<SeedPacket> seedPacket = seedPacketRepository.findById(id);
+		seedPacket.ifPresent(seedPacketCache::put);
+		return seedPacket;
+	}
+
+	
+	/**
+	 * Load just the IDs and names of the {@link SeedPacket}s whose names start with the specified text, 
+	 * ignoring case, e.g. to choose one from as the name is typed, without loading the full entities.
+	 * @param prefix The start of the name
+	 * @param limit The maximum number of names to load
+	 * @return The IDs and names of the matching seed packets, sorted by name
+	 */
+	public List<SeedPacketName> loadNamesStartingWith(String prefix, int limit) {
+		String pattern = prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%"; // Matched literally
+		return seedPacketRepository.findNamesLike(pattern, PageRequest.of(0, limit));
+	}
+
+	
+	/**
+	 * Uses the specified IDs to retrieve just the names of the required {@link SeedPacket}s, in a 
+	 * single query. The names are recorded with the {@link SeedPacketNameResolver}.
+	 * @param ids The IDs of the {@link SeedPacket}s
+	 * @return The IDs and names of the seed packets. IDs which do not exist in the database are omitted
+	 */
+	public List<SeedPacketName> loadNamesById(Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<SeedPacketName> names = seedPacketRepository.findByIdIn(ids);
+		names.forEach(name -> seedPacketNameResolver.put(name.getId(), name.getName()));
+		return names;
+	}
+
+
+	/*
+	 * Private helper method to rebuild the indexes from the database, then publish a bulk change so
+	 * that the seed packets shown are reloaded.
+	 */
+	private void rebuildIndexes(boolean remote) {
+		List<SeedPacketSummary> summaries = seedPacketRepository.findAllSummaries();
+		seedPacketCalendarIndex.rebuild(summaries);
+		seedPacketNameResolver.rebuild(summaries);
+		seedPacketSearchService.rebuild();
+		eventPublisher.publishEvent(new BulkChangeEvent<>(SeedPacket.class, remote));
+	}
+
+
+	/*
+	 * Private helper method to update the in-memory copies of the seed packets once the current 
+	 * transaction has committed, so that they never hold a change which is rolled back. The update is 
+	 * made ahead of the listeners to the events published in the transaction, which may read them, and 
+	 * outside of a transaction it is made straight away.
+	 */
+	private static void afterCommit(Runnable update) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+
+			@Override
+			public int getOrder() {
+				return Ordered.HIGHEST_PRECEDENCE;
+			}
+		});
 	}
 
 }
@@ -0,0 +1,205 @@
+package application.seeds;
+
+import java.time.Month;
+import java.util.Objects;
+
+
+/**
+ * Read-only projection of a {@link SeedPacket} containing the fields shown in the seed library table
+ * and the today tab summaries. The free text fields, such as the description and keywords, are not 
+ * loaded; the full entity should be fetched by ID when a seed packet is opened.
+ */
+public class SeedPacketSummary implements SeedPacketCalendar, SeedPacketName {
+
+	private final Long id;
+	private final String name;
+	private final String type;
+	private final String manufacturer;
+	private final Integer packSize;
+	private final Integer numberRemaining;
+	private final Integer expirationDate;
+	private final Month sowingIndoorsStartMonth;
+	private final Month sowingIndoorsEndMonth;
+	private final Month sowingOutdoorsStartMonth;
+	private final Month sowingOutdoorsEndMonth;
+	private final Month harvestStartMonth;
+	private final Month harvestEndMonth;
+	private final Month floweringStartMonth;
+	private final Month floweringEndMonth;
+
+
+	/**
+	 * Creates the summary. Called by the constructor expressions in {@link SeedPacketRepository}.
+	 */
+	public SeedPacketSummary(Long id, String name, String type, String manufacturer, Integer packSize, 
+			Integer numberRemaining, Integer expirationDate, Month sowingIndoorsStartMonth, Month sowingIndoorsEndMonth, 
+			Month sowingOutdoorsStartMonth, Month sowingOutdoorsEndMonth, Month harvestStartMonth, 
+			Month harvestEndMonth, Month floweringStartMonth, Month floweringEndMonth) {
+		this.id = id;
+		this.name = name;
+		this.type = type;
+		this.manufacturer = manufacturer;
+		this.packSize = packSize;
+		this.numberRemaining = numberRemaining;
+		this.expirationDate = expirationDate;
+		this.sowingIndoorsStartMonth = sowingIndoorsStartMonth;
+		this.sowingIndoorsEndMonth = sowingIndoorsEndMonth;
+		this.sowingOutdoorsStartMonth = sowingOutdoorsStartMonth;
+		this.sowingOutdoorsEndMonth = sowingOutdoorsEndMonth;
+		this.harvestStartMonth = harvestStartMonth;
+		this.harvestEndMonth = harvestEndMonth;
+		this.floweringStartMonth = floweringStartMonth;
+		this.floweringEndMonth = floweringEndMonth;
+	}
+
+
+	/**
+	 * Creates a summary of a seed packet which has already been loaded, e.g. after it has been saved.
+	 * @param seedPacket The seed packet
+	 * @return The summary of the seed packet
+	 */
+	public static SeedPacketSummary of(SeedPacket seedPacket) {
+		return new SeedPacketSummary(seedPacket.getId(), seedPacket.getName(), seedPacket.getType(), 
+				seedPacket.getManufacturer(), seedPacket.getPackSize(), seedPacket.getNumberRemaining(), seedPacket.getExpirationDate(), 
+				seedPacket.getSowingIndoorsStartMonth(), seedPacket.getSowingIndoorsEndMonth(), 
+				seedPacket.getSowingOutdoorsStartMonth(), seedPacket.getSowingOutdoorsEndMonth(), 
+				seedPacket.getHarvestStartMonth(), seedPacket.getHarvestEndMonth(), 
+				seedPacket.getFloweringStartMonth(), seedPacket.getFloweringEndMonth());
+	}
+
+
+	@Override
+	public Long getId() {
+		return id;
+	}
+
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+
+	public String getType() {
+		return type;
+	}
+
+
+	public String getManufacturer() {
+		return manufacturer;
+	}
+
+
+	public Integer getPackSize() {
+		return packSize;
+	}
+
+
+	public Integer getNumberRemaining() {
+		return numberRemaining;
+	}
+
+
+	public Integer getExpirationDate() {
+		return expirationDate;
+	}
+
+
+	@Override
+	public Month getSowingIndoorsStartMonth() {
+		return sowingIndoorsStartMonth;
+	}
+
+
+	@Override
+	public Month getSowingIndoorsEndMonth() {
+		return sowingIndoorsEndMonth;
+	}
+
+
+	@Override
+	public Month getSowingOutdoorsStartMonth() {
+		return sowingOutdoorsStartMonth;
+	}
+
+
+	@Override
+	public Month getSowingOutdoorsEndMonth() {
+		return sowingOutdoorsEndMonth;
+	}
+
+
+	@Override
+	public Month getHarvestStartMonth() {
+		return harvestStartMonth;
+	}
+
+
+	@Override
+	public Month getHarvestEndMonth() {
+		return harvestEndMonth;
+	}
+
+
+	@Override
+	public Month getFloweringStartMonth() {
+		return floweringStartMonth;
+	}
+
+
+	@Override
+	public Month getFloweringEndMonth() {
+		return floweringEndMonth;
+	}
+
+
+	/**
+	 * Checks whether the seed packet has passed its expiration year. Packets without one never expire. 
+	 * The seed library filter, the today tab and the database counts all use this definition.
+	 * @param year The current year
+	 * @return true if the seed packet has expired, and false if not
+	 */
+	public boolean isExpired(int year) {
+		return expirationDate != null && expirationDate != 0 && expirationDate < year;
+	}
+
+
+	/**
+	 * Checks whether the seed packet has been used up, i.e. it has a pack size and none remain. Packets 
+	 * whose number remaining has not been recorded are not empty. The seed library filter, the today 
+	 * tab and the database counts all use this definition.
+	 * @return true if the seed packet is empty, and false if not
+	 */
+	public boolean isEmpty() {
+		return packSize != null && packSize > 0 && numberRemaining != null && numberRemaining == 0;
+	}
+
+
+	/**
+	 * Summaries are equal if they are of the same seed packet, so that a summary loaded in one page 
+	 * of the seed library can be found in a list loaded separately.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof SeedPacketSummary)) {
+			return false;
+		}
+		return id != null && id.equals(((SeedPacketSummary) other).id);
+	}
+
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(id);
+	}
+
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+}
@@ -0,0 +1,20 @@
+package application.seeds;
+
+
+/**
+ * Projection of a {@link SeedPacket} containing only its ID and the free text searched by the 
+ * {@link SeedPacketSearchService}, so that the search index can be built without loading the full entities.
+ */
+public interface SeedPacketText {
+
+	Long getId();
+
+	String getName();
+
+	String getLatinName();
+
+	String getKeywords();
+
+	String getDescription();
+
+}
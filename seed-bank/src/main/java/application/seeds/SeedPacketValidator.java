@@ -0,0 +1,93 @@
+package application.seeds;
+
+import static java.lang.Integer.valueOf;
+
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Validates the values entered for a {@link SeedPacket} before they are saved. Used by both the edit
+ * form and the catalog importer, so that a packet is accepted or rejected in the same way whichever 
+ * route it takes into the database.
+ */
+@Component
+public class SeedPacketValidator {
+
+	private static final Pattern NUMERIC = Pattern.compile("^\\d*$");
+	private static final Pattern YEAR = Pattern.compile("(20[0-9]{2}$)|0");
+
+
+	/**
+	 * Validates the input.
+	 * @param input The values entered for the seed packet
+	 * @param alreadyExists Whether a seed packet with the same name already exists in the database
+	 * @return A message for each problem found. Empty if the input is valid
+	 */
+	public List<String> validate(SeedPacketInput input, boolean alreadyExists) {
+
+		List<String> failures = new ArrayList<>();
+
+		// Checks that the seed packet does not already exist in the database
+		if (alreadyExists) {
+			failures.add(input.getName() + " already exists in the database.");
+		}
+
+		// Checks that the pack size (if set) is a valid numeric value
+		String packSize = input.getPackSize();
+		if (packSize != null && !isNumeric(packSize)) {
+			failures.add(packSize + " is not a valid pack size.");
+		}
+
+		// Checks that the number of seeds remaining (if set) is a valid numeric value
+		String numberRemaining = input.getNumberRemaining();
+		if (numberRemaining != null && !isNumeric(numberRemaining)) {
+			failures.add(numberRemaining + " is not a valid number remaining.");
+		}
+
+		// Checks that the number of seeds remaining is not greater than the initial pack size
+		if (isNumeric(packSize) && isNumeric(numberRemaining) && valueOf(numberRemaining) > valueOf(packSize)) {
+			failures.add("There are more seeds remaining than the pack should contain!");
+		}
+
+		// Checks that the expiration year is valid (YYYY, 2000 or greater)
+		String expirationDate = input.getExpirationDate();
+		if (expirationDate != null && !YEAR.matcher(expirationDate).matches()) {
+			failures.add(expirationDate + " is not a valid year.");
+		}
+
+		// Checks that if a 'from' month is set, the corresponding 'until' month is also set, and vice versa
+		checkWindow(failures, input.getSowingIndoorsStartMonth(), input.getSowingIndoorsEndMonth(), "Sowing indoor");
+		checkWindow(failures, input.getSowingOutdoorsStartMonth(), input.getSowingOutdoorsEndMonth(), "Sowing outdoor");
+		checkWindow(failures, input.getHarvestStartMonth(), input.getHarvestEndMonth(), "Harvesting");
+		checkWindow(failures, input.getFloweringStartMonth(), input.getFloweringEndMonth(), "Flowering");
+
+		return failures;
+	}
+
+
+	/*
+	 * Private helper method to check that both or neither of the months of a window are set.
+	 */
+	private void checkWindow(List<String> failures, Month from, Month until, String window) {
+		if ((from == null) != (until == null)) {
+			failures.add(window + " times are incomplete.");
+		}
+	}
+
+
+	/*
+	 * Private helper method to check whether a string is numeric
+	 */
+	private boolean isNumeric(String string) {
+		if (string == null || string.isBlank()) {
+			return false;
+		}
+		return NUMERIC.matcher(string).matches();
+	}
+
+}
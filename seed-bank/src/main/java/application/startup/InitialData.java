@@ -0,0 +1,68 @@
+package application.startup;
+
+import java.util.Collections;
+import java.util.List;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.seeds.SeedPacketSummary;
+
+
+/**
+ * The data fetched when the application starts, from which the tabs are initialised.
+ */
+public class InitialData {
+
+	private final List<SeedPacketSummary> seedPackets;
+	private final List<CurrentlyGrowing> currentlyGrowing;
+	private final boolean paged;
+
+
+	/**
+	 * Creates the initial data.
+	 * @param seedPackets The summaries of every seed packet in the catalog
+	 * @param currentlyGrowing Every currently growing record
+	 */
+	public InitialData(List<SeedPacketSummary> seedPackets, List<CurrentlyGrowing> currentlyGrowing) {
+		this(seedPackets, currentlyGrowing, false);
+	}
+
+
+	/**
+	 * Creates the initial data for a catalog too large to hold in memory, without any seed packets.
+	 * @param currentlyGrowing Every currently growing record
+	 * @return The initial data
+	 */
+	public static InitialData paged(List<CurrentlyGrowing> currentlyGrowing) {
+		return new InitialData(Collections.emptyList(), currentlyGrowing, true);
+	}
+
+
+	/*
+	 * Private constructor used by the public constructor and the paged factory method.
+	 */
+	private InitialData(List<SeedPacketSummary> seedPackets, List<CurrentlyGrowing> currentlyGrowing, boolean paged) {
+		this.seedPackets = seedPackets;
+		this.currentlyGrowing = currentlyGrowing;
+		this.paged = paged;
+	}
+
+
+	public List<SeedPacketSummary> getSeedPackets() {
+		return seedPackets;
+	}
+
+
+	public List<CurrentlyGrowing> getCurrentlyGrowing() {
+		return currentlyGrowing;
+	}
+
+
+	/**
+	 * @return true if the catalog is too large to hold in memory, so the seed packets are not included 
+	 * and must be paged from the database instead
+	 */
+	public boolean isPaged() {
+		return paged;
+	}
+
+}
@@ -0,0 +1,107 @@
+package application.startup;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.currentlygrowing.CurrentlyGrowingService;
+import application.seeds.SeedPacketSearchService;
+import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+
+
+/**
+ * Fetches the seed packets and currently growing records when the application starts. The two 
+ * queries are independent, so they are run concurrently, each on its own thread and connection, 
+ * rather than queued one after the other on the database thread.
+ *
+ * The fetch is started as soon as the Spring context is ready, so that it overlaps loading the 
+ * FXML, and is only run once; later calls to {@link #load()} return the same future.
+ *
+ * The search index is built alongside, from just the text of each seed packet, so that it is ready 
+ * by the time the user searches. The tabs are not held up waiting for it.
+ *
+ * Catalogs of at least the paged threshold are not loaded at all. The seed packets are instead 
+ * paged from the database by the tabs, so that memory and start up time do not grow with the catalog.
+ */
+@Component
+public class InitialDataLoader {
+
+	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private CurrentlyGrowingService currentlyGrowingService;
+	@Autowired private SeedPacketSearchService seedPacketSearchService;
+	@Autowired(required = false) private StartupTimings startupTimings = new StartupTimings();
+
+	@Value("${seedbank.repository.paged-threshold:50000}") private int pagedThreshold;
+
+	private CompletableFuture<InitialData> initialData;
+
+	private Logger logger = LoggerFactory.getLogger(InitialDataLoader.class);
+
+
+	/**
+	 * Starts fetching the initial data, if it has not already been started.
+	 * @return A future completed with the initial data
+	 */
+	public synchronized CompletableFuture<InitialData> load() {
+		if (initialData == null) {
+			AtomicInteger threadNumber = new AtomicInteger();
+			ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> {
+				Thread thread = new Thread(runnable, "seedbank-initial-data-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			CompletableFuture<List<SeedPacketSummary>> seedPackets = CompletableFuture.supplyAsync(
+					() -> startupTimings.time("seed packets", this::loadSeedPackets), executor);
+			CompletableFuture<List<CurrentlyGrowing>> currentlyGrowing = CompletableFuture.supplyAsync(
+					() -> startupTimings.time("currently growing", currentlyGrowingService::loadAll), executor);
+
+			initialData = seedPackets.thenCombine(currentlyGrowing, 
+					(summaries, records) -> summaries == null ? InitialData.paged(records) : new InitialData(summaries, records));
+			CompletableFuture<Void> searchIndex = CompletableFuture.runAsync(
+					() -> startupTimings.time("search index", () -> {
+						seedPacketSearchService.rebuild();
+						return null;
+					}), executor);
+			searchIndex.whenComplete((ignored, failure) -> {
+				if (failure != null) {
+					logger.error("Failed to build the search index", failure);
+				}
+			});
+
+			CompletableFuture.allOf(initialData, searchIndex).whenComplete((ignored, failure) -> executor.shutdown());
+			initialData.whenComplete((data, failure) -> {
+				if (failure == null && data.isPaged()) {
+					logger.info("Paging the seed packets, and loaded {} currently growing records", data.getCurrentlyGrowing().size());
+				} else if (failure == null) {
+					logger.info("Loaded {} seed packets and {} currently growing records", 
+							data.getSeedPackets().size(), data.getCurrentlyGrowing().size());
+				}
+			});
+		}
+		return initialData;
+	}
+
+
+	/*
+	 * Private helper method to load the summaries of the seed packets, unless there are at least the 
+	 * paged threshold of them, in which case null is returned. A threshold of 0 never pages.
+	 */
+	private List<SeedPacketSummary> loadSeedPackets() {
+		if (pagedThreshold > 0 && seedPacketService.count() >= pagedThreshold) {
+			return null;
+		}
+		return seedPacketService.loadAllSummaries();
+	}
+
+}
@@ -0,0 +1,73 @@
+package application.startup;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+
+
+/**
+ * A small undecorated window shown while the application starts. It is built in code rather than 
+ * FXML so that it can be shown before the Spring context, and the controller factory which depends 
+ * on it, are ready.
+ */
+public class SplashScreen {
+
+	private static final double ICON_SIZE = 128.0;
+
+	private final Stage stage;
+	private final Label statusLabel = new Label("Starting...");
+
+
+	/**
+	 * Creates the splash screen. Must be called on the JavaFX Application Thread.
+	 */
+	public SplashScreen() {
+		ImageView icon = new ImageView(new Image(SplashScreen.class.getResourceAsStream("/SeedBank.png"), 
+				ICON_SIZE, ICON_SIZE, true, true));
+		Label title = new Label("SeedBank");
+		title.setStyle("-fx-font-size: 18px; -fx-font-weight: bold;");
+		ProgressBar progress = new ProgressBar();
+		progress.setPrefWidth(ICON_SIZE * 2);
+
+		VBox root = new VBox(10.0, icon, title, progress, statusLabel);
+		root.setAlignment(Pos.CENTER);
+		root.setPadding(new Insets(20.0));
+
+		stage = new Stage(StageStyle.UNDECORATED);
+		stage.setTitle("SeedBank");
+		stage.setScene(new Scene(root));
+	}
+
+
+	/**
+	 * Shows the splash screen.
+	 */
+	public void show() {
+		stage.show();
+	}
+
+
+	/**
+	 * Updates the status shown beneath the progress bar. Must be called on the JavaFX Application Thread.
+	 * @param status The status, e.g. "Loading seed packets..."
+	 */
+	public void setStatus(String status) {
+		statusLabel.setText(status);
+	}
+
+
+	/**
+	 * Closes the splash screen.
+	 */
+	public void close() {
+		stage.close();
+	}
+
+}
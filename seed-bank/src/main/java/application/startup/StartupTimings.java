@@ -0,0 +1,92 @@
+package application.startup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+
+/**
+ * Records how long each phase of starting the application took, so that regressions in the time 
+ * to first window can be spotted in the log. Phases may run concurrently, so the durations are not 
+ * expected to add up to the total.
+ *
+ * The timings are shared between the JavaFX application and the Spring context, in which they are 
+ * registered as a singleton when the context is booted.
+ */
+public class StartupTimings {
+
+	private final long startNanos;
+	private final Map<String, Long> durations = new LinkedHashMap<>();
+
+
+	/**
+	 * Creates the timings, measured from now.
+	 */
+	public StartupTimings() {
+		this(System.nanoTime());
+	}
+
+
+	/**
+	 * Creates the timings.
+	 * @param startNanos The {@link System#nanoTime()} at which startup began
+	 */
+	public StartupTimings(long startNanos) {
+		this.startNanos = startNanos;
+	}
+
+
+	/**
+	 * Runs a phase of startup, and records how long it took.
+	 * @param phase The name of the phase, e.g. "spring"
+	 * @param work The work done in the phase
+	 * @return The result of the work
+	 */
+	public <T> T time(String phase, Supplier<T> work) {
+		long phaseStartNanos = System.nanoTime();
+		try {
+			return work.get();
+		} finally {
+			record(phase, phaseStartNanos);
+		}
+	}
+
+
+	/**
+	 * Records the duration of a phase which started at the specified time and has just ended.
+	 * @param phase The name of the phase
+	 * @param phaseStartNanos The {@link System#nanoTime()} at which the phase started
+	 */
+	public synchronized void record(String phase, long phaseStartNanos) {
+		durations.put(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStartNanos));
+	}
+
+
+	/**
+	 * Records the time since startup began against a milestone, e.g. the first window being shown.
+	 * @param milestone The name of the milestone
+	 */
+	public void mark(String milestone) {
+		record(milestone, startNanos);
+	}
+
+
+	/**
+	 * Gets the recorded durations.
+	 * @return A copy of the duration of each phase in milliseconds, in the order they were recorded
+	 */
+	public synchronized Map<String, Long> getDurations() {
+		return new LinkedHashMap<>(durations);
+	}
+
+
+	@Override
+	public synchronized String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "Startup timings [", "]");
+		durations.forEach((phase, millis) -> joiner.add(phase + "=" + millis + "ms"));
+		return joiner.toString();
+	}
+
+}
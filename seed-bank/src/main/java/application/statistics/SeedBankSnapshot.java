@@ -0,0 +1,73 @@
+package application.statistics;
+
+import static application.seeds.CalendarWindow.SOWING_INDOORS;
+import static application.seeds.CalendarWindow.SOWING_OUTDOORS;
+
+import java.util.Collection;
+
+import application.seeds.SeedPacketSummary;
+
+
+/**
+ * A primitive copy of the fields of each seed packet which the {@link SeedBankStatistics} are 
+ * calculated from, held column by column in arrays. The sowing windows are reduced to month masks, 
+ * unset expiration years to zero, and whether each packet is empty to a flag, as defined by 
+ * {@link SeedPacketSummary#isEmpty()}, so that the statistics can be counted in a single pass 
+ * without unboxing or null checks.
+ *
+ * The snapshot does not change if the seed packets it was taken from do.
+ */
+public final class SeedBankSnapshot {
+
+	final int size;
+	final int[] sowingIndoorsMasks;
+	final int[] sowingOutdoorsMasks;
+	final int[] expirationYears;
+	final boolean[] empty;
+
+
+	private SeedBankSnapshot(int size) {
+		this.size = size;
+		sowingIndoorsMasks = new int[size];
+		sowingOutdoorsMasks = new int[size];
+		expirationYears = new int[size];
+		empty = new boolean[size];
+	}
+
+
+	/**
+	 * Takes a snapshot of the seed packets.
+	 * @param seedPackets The summaries of the seed packets
+	 * @return The snapshot
+	 */
+	public static SeedBankSnapshot of(Collection<? extends SeedPacketSummary> seedPackets) {
+		SeedBankSnapshot snapshot = new SeedBankSnapshot(seedPackets.size());
+		int i = 0;
+		for (SeedPacketSummary seedPacket : seedPackets) {
+			snapshot.sowingIndoorsMasks[i] = SOWING_INDOORS.mask(seedPacket);
+			snapshot.sowingOutdoorsMasks[i] = SOWING_OUTDOORS.mask(seedPacket);
+			snapshot.expirationYears[i] = valueOf(seedPacket.getExpirationDate());
+			snapshot.empty[i] = seedPacket.isEmpty();
+			i++;
+		}
+		return snapshot;
+	}
+
+
+	/**
+	 * Gets the number of seed packets in the snapshot.
+	 * @return The number of seed packets
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/*
+	 * Private helper method to treat unset values as zero.
+	 */
+	private static int valueOf(Integer value) {
+		return value != null ? value : 0;
+	}
+
+}
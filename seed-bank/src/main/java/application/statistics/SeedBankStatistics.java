@@ -0,0 +1,145 @@
+package application.statistics;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+
+/**
+ * The headline statistics of the seed bank shown on the today tab: how many seed packets there 
+ * are, how many can be sown indoors and outdoors this month, and how many are expired or empty.
+ *
+ * Every statistic is counted in a single pass over a {@link SeedBankSnapshot}. Large snapshots can 
+ * be counted in parallel, split into chunks which are counted on the common fork join pool and 
+ * then added together. The statistics do not depend on Spring or JavaFX, so can be calculated 
+ * anywhere, e.g. from the UI, a command line tool or a test.
+ */
+public final class SeedBankStatistics {
+
+	/**
+	 * The number of seed packets in each chunk counted in parallel. Smaller snapshots are always 
+	 * counted sequentially, as splitting them costs more than it saves.
+	 */
+	static final int PARALLEL_CHUNK_SIZE = 1 << 16;
+
+	private final int seedPackets;
+	private final int canBeSownIndoors;
+	private final int canBeSownOutdoors;
+	private final int expired;
+	private final int empty;
+
+
+	private SeedBankStatistics(int seedPackets, int canBeSownIndoors, int canBeSownOutdoors, int expired, int empty) {
+		this.seedPackets = seedPackets;
+		this.canBeSownIndoors = canBeSownIndoors;
+		this.canBeSownOutdoors = canBeSownOutdoors;
+		this.expired = expired;
+		this.empty = empty;
+	}
+
+
+	/**
+	 * Counts the statistics of the snapshot, sequentially.
+	 * @param snapshot The snapshot of the seed packets
+	 * @param today Today's date, which decides the sowing windows and expiry
+	 * @return The statistics
+	 */
+	public static SeedBankStatistics of(SeedBankSnapshot snapshot, LocalDate today) {
+		return of(snapshot, today, false);
+	}
+
+
+	/**
+	 * Counts the statistics of the snapshot.
+	 * @param snapshot The snapshot of the seed packets
+	 * @param today Today's date, which decides the sowing windows and expiry
+	 * @param parallel Whether to count in parallel, if the snapshot is large enough to benefit
+	 * @return The statistics
+	 */
+	public static SeedBankStatistics of(SeedBankSnapshot snapshot, LocalDate today, boolean parallel) {
+		int monthBit = 1 << today.getMonth().ordinal();
+		int year = today.getYear();
+
+		if (!parallel || snapshot.size <= PARALLEL_CHUNK_SIZE) {
+			return count(snapshot, monthBit, year, 0, snapshot.size);
+		}
+
+		int chunks = (snapshot.size + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+		return IntStream.range(0, chunks).parallel()
+				.mapToObj(chunk -> count(snapshot, monthBit, year, 
+						chunk * PARALLEL_CHUNK_SIZE, Math.min(snapshot.size, (chunk + 1) * PARALLEL_CHUNK_SIZE)))
+				.reduce(SeedBankStatistics::plus)
+				.get();
+	}
+
+
+	public int getSeedPackets() {
+		return seedPackets;
+	}
+
+
+	public int getCanBeSownIndoors() {
+		return canBeSownIndoors;
+	}
+
+
+	public int getCanBeSownOutdoors() {
+		return canBeSownOutdoors;
+	}
+
+
+	public int getExpired() {
+		return expired;
+	}
+
+
+	public int getEmpty() {
+		return empty;
+	}
+
+
+	@Override
+	public String toString() {
+		return "SeedBankStatistics [seedPackets=" + seedPackets + ", canBeSownIndoors=" + canBeSownIndoors 
+				+ ", canBeSownOutdoors=" + canBeSownOutdoors + ", expired=" + expired + ", empty=" + empty + "]";
+	}
+
+
+	/*
+	 * Private helper method to count the statistics of a range of the snapshot in one pass. Packets 
+	 * without an expiration year never expire.
+	 */
+	private static SeedBankStatistics count(SeedBankSnapshot snapshot, int monthBit, int year, int from, int to) {
+		int canBeSownIndoors = 0;
+		int canBeSownOutdoors = 0;
+		int expired = 0;
+		int empty = 0;
+
+		for (int i = from; i < to; i++) {
+			if ((snapshot.sowingIndoorsMasks[i] & monthBit) != 0) {
+				canBeSownIndoors++;
+			}
+			if ((snapshot.sowingOutdoorsMasks[i] & monthBit) != 0) {
+				canBeSownOutdoors++;
+			}
+			int expirationYear = snapshot.expirationYears[i];
+			if (expirationYear != 0 && expirationYear < year) {
+				expired++;
+			}
+			if (snapshot.empty[i]) {
+				empty++;
+			}
+		}
+
+		return new SeedBankStatistics(to - from, canBeSownIndoors, canBeSownOutdoors, expired, empty);
+	}
+
+
+	/*
+	 * Private helper method to add together the statistics of two ranges of a snapshot.
+	 */
+	private SeedBankStatistics plus(SeedBankStatistics other) {
+		return new SeedBankStatistics(seedPackets + other.seedPackets, canBeSownIndoors + other.canBeSownIndoors, 
+				canBeSownOutdoors + other.canBeSownOutdoors, expired + other.expired, empty + other.empty);
+	}
+
+}
@@ -3,12 +3,22 @@ package application.type;
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import application.events.Identifiable;
+
 /**
  * Entity class defining the type. This is mapped to the type table 
- * of the SeedBank database.
+ * of the SeedBank database. Types are held in the second-level cache, as they are read every time 
+ * a seed packet is edited but rarely change.
  */
 @Entity
-public class Type {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Type.CACHE_REGION)
+public class Type implements Identifiable {
+
+	public static final String CACHE_REGION = "type";
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +32,9 @@ public class Type {
 	@Column(name = "edible") private boolean edible;
 	
 	@Column(name = "ornamental") private boolean ornamental;
+
+	@Version
+	@Column(name = "version") private Long version;
 	
 	
 	public Long getId() {
@@ -72,5 +85,15 @@ public class Type {
 	public void setOrnamental(boolean ornamental) {
 		this.ornamental = ornamental;
 	}
-	
+
+
+	public Long getVersion() {
+		return version;
+	}
+
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 }
@@ -1,16 +1,28 @@
 package application.type;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 
 /**
  * The repository for storing {@link Type}s. Corresponds to the type 
- * table of the SeedBank database.
+ * table of the SeedBank database. The results of findAll are held in the query cache.
  */
 @Repository
 public interface TypeRepository extends CrudRepository<Type, Long> {
 
+	String FIND_ALL_CACHE_REGION = "type.findAll";
+
+	@Override
+	@QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = FIND_ALL_CACHE_REGION) })
+	Iterable<Type> findAll();
+
 	boolean existsByName(String name);
 	
 }
\ No newline at end of file
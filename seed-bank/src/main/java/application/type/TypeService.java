@@ -4,24 +4,57 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import application.cache.ReferenceDataCache;
+import application.changes.RemoteChangeHandler;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
 
 
 /**
- * The service for controlling the interaction of {@link Type}s with the underlying database.
+ * The service for controlling the interaction of {@link Type}s with the underlying database. 
+ * An {@link EntityChangedEvent} is published for each type saved.
  */
 @Service
-public class TypeService {
+public class TypeService implements RemoteChangeHandler {
 
 	@Autowired private TypeRepository typeRepository;
+	@Autowired private ReferenceDataCache referenceDataCache;
+	@Autowired private ApplicationEventPublisher eventPublisher;
 
 
 	/**
-	 * Saves a {@link Type} to the database.
+	 * Saves a {@link Type} to the database, and evicts the cached types so that it is included when
+	 * they are next loaded.
 	 * @param type The type to be saved
 	 */
+	@Transactional
 	public void save(Type type) {
+		ChangeType changeType = type.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED;
 		typeRepository.save(type);
+		referenceDataCache.evict(Type.class, TypeRepository.FIND_ALL_CACHE_REGION);
+		eventPublisher.publishEvent(new EntityChangedEvent<>(Type.class, type, changeType));
+	}
+
+
+	@Override
+	public Class<?> getEntityType() {
+		return Type.class;
+	}
+
+
+	/**
+	 * Evicts the cached types when one has been changed by another client, so that the change is 
+	 * included when they are next loaded.
+	 * @param id The ID of the type
+	 * @param changeType How the type was changed
+	 */
+	@Override
+	public void applyRemoteChange(Long id, ChangeType changeType) {
+		referenceDataCache.evict(Type.class, TypeRepository.FIND_ALL_CACHE_REGION);
 	}
 
 
@@ -0,0 +1,17 @@
+-- Indexes for the lookups made by the repositories.
+
+-- existsByName and findByName. Seed packet names are already kept unique by validation when saving
+create unique index uk_seed_packet_name on seed_packet (name);
+create index ix_type_name on type (name);
+create index ix_manufacturer_name on manufacturer (name);
+
+-- existsBySeedPacket, checked before a seed packet is deleted
+create index ix_currently_growing_seed_packet on currently_growing (seed_packet);
+create index ix_previously_growing_seed_packet on previously_growing (seed_packet);
+
+-- The sowing, harvest and flowering windows, and expiry, filtered on by the Today tab
+create index ix_seed_packet_sowing_indoors on seed_packet (sowing_indoors_start_month, sowing_indoors_end_month);
+create index ix_seed_packet_sowing_outdoors on seed_packet (sowing_outdoors_start_month, sowing_outdoors_end_month);
+create index ix_seed_packet_harvest on seed_packet (harvest_start_month, harvest_end_month);
+create index ix_seed_packet_flowering on seed_packet (flowering_start_month, flowering_end_month);
+create index ix_seed_packet_expiration_date on seed_packet (expiration_date);
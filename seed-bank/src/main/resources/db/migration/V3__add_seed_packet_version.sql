@@ -0,0 +1,3 @@
+-- The optimistic locking version of each seed packet, incremented on every update.
+
+alter table seed_packet add column version bigint default 0 not null;
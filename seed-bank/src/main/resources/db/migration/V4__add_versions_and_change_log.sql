@@ -0,0 +1,21 @@
+-- The optimistic locking version of each of the remaining entities, incremented on every update.
+
+alter table currently_growing add column version bigint default 0 not null;
+alter table previously_growing add column version bigint default 0 not null;
+alter table type add column version bigint default 0 not null;
+alter table manufacturer add column version bigint default 0 not null;
+
+-- The changes made by each client, polled by the other clients of the database so they can apply them.
+-- Entries are pruned once older than seedbank.changes.retention-days
+
+create table change_log (
+	id bigint not null auto_increment,
+	entity_type varchar(64) not null,
+	entity_id bigint not null,
+	change_type varchar(16) not null,
+	client_id varchar(36) not null,
+	changed_at timestamp not null,
+	primary key (id)
+);
+
+create index ix_change_log_changed_at on change_log (changed_at);
@@ -0,0 +1,8 @@
+-- The table from which blocks of seed packet IDs are allocated, instead of seed packets being numbered by the database on insert.
+-- Databases run with ddl-auto=update after seed packet IDs moved to the table already have it. The next ID is set by the SeedPacketIdInitialiser at startup
+
+create table if not exists id_generator (
+	name varchar(255) not null,
+	next_id bigint,
+	primary key (name)
+);
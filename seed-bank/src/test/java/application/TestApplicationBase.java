@@ -2,7 +2,9 @@ package application;
 
 import static org.testfx.api.FxToolkit.hideStage;
 import static org.testfx.api.FxToolkit.registerPrimaryStage;
+import static org.testfx.util.WaitForAsyncUtils.waitFor;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.After;
@@ -15,7 +17,8 @@ import javafx.scene.input.MouseButton;
 import javafx.stage.Stage;
 
 /**
- * Runs the application for integration testing.
+ * Runs the application for integration testing. Startup is asynchronous, so each test waits until 
+ * the main window has been shown and its tabs enabled.
  */
 public class TestApplicationBase extends ApplicationTest {
 
@@ -23,6 +26,7 @@ public class TestApplicationBase extends ApplicationTest {
 	public void setUpClass() throws Exception {
 		launch(Main.class);
 		registerPrimaryStage();
+		waitFor(30, TimeUnit.SECONDS, () -> lookup("#tabPane").tryQuery().map(tabPane -> !tabPane.isDisabled()).orElse(false));
 	}
 
 	@Override
@@ -0,0 +1,137 @@
+package application.async;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.validation.ConstraintViolationException;
+
+import org.junit.Test;
+
+
+/**
+ * Tests for the {@link DatabaseExecutor}.
+ */
+public class TestDatabaseExecutor {
+
+	private final List<Runnable> databaseTasks = new ArrayList<>();
+	private final List<Runnable> fxTasks = new ArrayList<>();
+
+	private DatabaseExecutor databaseExecutor = new DatabaseExecutor(databaseTasks::add, fxTasks::add);
+
+
+	/**
+	 * Tests that a query is run on the database thread, and its result handed back on the FX thread.
+	 */
+	@Test
+	public void testResultIsHandedBackOnFxThread() {
+
+		// Given
+		AtomicReference<String> result = new AtomicReference<>();
+
+		// When
+		databaseExecutor.onFxThread(databaseExecutor.supply(() -> "loaded"), result::set, null);
+
+		// Then
+		assertEquals("Expect the query to be queued on the database thread", 1, databaseTasks.size());
+		assertTrue("Expect nothing on the FX thread until the query has run", fxTasks.isEmpty());
+
+		// When
+		databaseTasks.remove(0).run();
+
+		// Then
+		assertEquals("Expect the result to be queued on the FX thread", 1, fxTasks.size());
+		assertNull("Expect no result until the FX thread runs", result.get());
+
+		// When
+		fxTasks.remove(0).run();
+
+		// Then
+		assertEquals("loaded", result.get());
+	}
+
+
+	/**
+	 * Tests that failures are unwrapped before being handed back, so that controllers can check their type.
+	 */
+	@Test
+	public void testFailureIsUnwrapped() {
+
+		// Given
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		ConstraintViolationException exception = new ConstraintViolationException("Invalid", null);
+
+		// When
+		databaseExecutor.onFxThread(databaseExecutor.run(() -> { throw exception; }), 
+				result -> { throw new AssertionError("Expect the update to fail"); }, failure::set);
+		databaseTasks.remove(0).run();
+		fxTasks.remove(0).run();
+
+		// Then
+		assertEquals(exception, failure.get());
+	}
+
+
+	/**
+	 * Tests that tasks are queued on the database thread in the order they were submitted.
+	 */
+	@Test
+	public void testTasksRunInOrder() {
+
+		// Given
+		List<Integer> order = new ArrayList<>();
+
+		// When
+		databaseExecutor.run(() -> order.add(1));
+		databaseExecutor.execute(() -> order.add(2));
+		databaseExecutor.supply(() -> order.add(3));
+		databaseTasks.forEach(Runnable::run);
+
+		// Then
+		assertEquals(asList(1, 2, 3), order);
+	}
+
+
+	/**
+	 * Tests that the class which queued a task is known while the task runs, and only then.
+	 */
+	@Test
+	public void testCallerIsKnownWhileTaskRuns() {
+
+		// Given
+		AtomicReference<String> caller = new AtomicReference<>();
+
+		// When
+		databaseExecutor.run(() -> caller.set(DatabaseExecutor.getCaller()));
+		databaseTasks.remove(0).run();
+
+		// Then
+		assertEquals("Expect the queuing class to be the caller", "TestDatabaseExecutor", caller.get());
+		assertEquals("Expect the caller to be unknown once the task is done", "unknown", DatabaseExecutor.getCaller());
+	}
+
+
+	/**
+	 * Tests that the class which queued a task is known while it runs when queued as a plain
+	 * {@link java.util.concurrent.Executor}, e.g. by the paged seed library.
+	 */
+	@Test
+	public void testCallerIsKnownForExecutedTasks() {
+
+		// Given
+		AtomicReference<String> caller = new AtomicReference<>();
+
+		// When
+		databaseExecutor.execute(() -> caller.set(DatabaseExecutor.getCaller()));
+		databaseTasks.remove(0).run();
+
+		// Then
+		assertEquals("Expect the queuing class to be the caller", "TestDatabaseExecutor", caller.get());
+	}
+
+}
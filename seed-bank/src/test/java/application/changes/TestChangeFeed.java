@@ -0,0 +1,217 @@
+package application.changes;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+
+import application.clock.ClockService;
+import application.currentlygrowing.CurrentlyGrowing;
+import application.events.BulkChangeEvent;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
+import application.seeds.SeedPacket;
+
+
+/**
+ * Tests for the {@link ChangeFeed}.
+ */
+public class TestChangeFeed {
+
+	private static final String OTHER_CLIENT = "other-client";
+
+	@Mock private ChangeLogRepository changeLogRepository;
+	@Mock private RemoteChangeHandler seedPacketHandler;
+	@Mock private RemoteChangeHandler currentlyGrowingHandler;
+	@Spy private ClockService clockService = new ClockService();
+
+	@InjectMocks private ChangeFeed changeFeed;
+
+
+	@Before
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void init() {
+		initMocks(this);
+		when(seedPacketHandler.getEntityType()).thenReturn((Class) SeedPacket.class);
+		when(currentlyGrowingHandler.getEntityType()).thenReturn((Class) CurrentlyGrowing.class);
+		when(changeLogRepository.findMaxId()).thenReturn(10L);
+		setField(changeFeed, "handlers", asList(seedPacketHandler, currentlyGrowingHandler));
+		setField(changeFeed, "enabled", true);
+		changeFeed.initialise();
+	}
+
+
+	/**
+	 * Tests that a change made by this client is recorded in the change log.
+	 */
+	@Test
+	public void testChangesAreLogged() {
+
+		// Given
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(5L);
+
+		// When
+		changeFeed.onEntityChanged(new EntityChangedEvent<>(SeedPacket.class, seedPacket, ChangeType.UPDATED));
+
+		// Then
+		ArgumentCaptor<ChangeLogEntry> entry = ArgumentCaptor.forClass(ChangeLogEntry.class);
+		verify(changeLogRepository).save(entry.capture());
+		assertEquals("Expect the class of entity to be logged", "SeedPacket", entry.getValue().getEntityType());
+		assertEquals("Expect the ID to be logged", Long.valueOf(5), entry.getValue().getEntityId());
+		assertEquals("Expect the change to be logged", ChangeType.UPDATED, entry.getValue().getChangeType());
+		assertEquals("Expect this client to be logged", changeFeed.getClientId(), entry.getValue().getClientId());
+	}
+
+
+	/**
+	 * Tests that changes made by other clients are not logged again when applied.
+	 */
+	@Test
+	public void testRemoteChangesAreNotLogged() {
+
+		// Given
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(5L);
+
+		// When
+		changeFeed.onEntityChanged(new EntityChangedEvent<>(SeedPacket.class, seedPacket, ChangeType.UPDATED, true));
+
+		// Then
+		verify(changeLogRepository, never()).save(any());
+	}
+
+
+	/**
+	 * Tests that only the changes made by other clients since startup are applied, and that an entity
+	 * changed more than once is only reloaded once, with its latest change.
+	 */
+	@Test
+	public void testRemoteChangesAreApplied() {
+
+		// Given
+		when(changeLogRepository.findTop500ByIdGreaterThanOrderById(10L)).thenReturn(asList(
+				entry(11, "SeedPacket", 5, ChangeType.UPDATED, OTHER_CLIENT),
+				entry(12, "SeedPacket", 6, ChangeType.UPDATED, changeFeed.getClientId()),
+				entry(13, "CurrentlyGrowing", 7, ChangeType.CREATED, OTHER_CLIENT),
+				entry(14, "SeedPacket", 5, ChangeType.DELETED, OTHER_CLIENT)));
+
+		// When
+		int applied = changeFeed.applyRemoteChanges();
+
+		// Then
+		assertEquals("Expect one change for each entity changed by another client", 2, applied);
+		verify(seedPacketHandler).applyRemoteChange(5L, ChangeType.DELETED);
+		verify(currentlyGrowingHandler).applyRemoteChange(7L, ChangeType.CREATED);
+		verify(seedPacketHandler, never()).applyRemoteChange(6L, ChangeType.UPDATED);
+
+		// And the next poll reads on from the last entry
+		when(changeLogRepository.findTop500ByIdGreaterThanOrderById(14L)).thenReturn(Collections.emptyList());
+		assertEquals("Expect nothing more to be applied", 0, changeFeed.applyRemoteChanges());
+	}
+
+
+	/**
+	 * Tests that an entry skipped over, e.g. committed after a later entry, is applied once it appears.
+	 */
+	@Test
+	public void testSkippedEntriesAreAppliedLater() {
+
+		// Given
+		when(changeLogRepository.findTop500ByIdGreaterThanOrderById(10L)).thenReturn(asList(
+				entry(12, "SeedPacket", 5, ChangeType.UPDATED, OTHER_CLIENT)));
+		changeFeed.applyRemoteChanges();
+
+		when(changeLogRepository.findByIdIn(asList(11L))).thenReturn(asList(
+				entry(11, "CurrentlyGrowing", 7, ChangeType.UPDATED, OTHER_CLIENT)));
+		when(changeLogRepository.findTop500ByIdGreaterThanOrderById(12L)).thenReturn(Collections.emptyList());
+
+		// When
+		int applied = changeFeed.applyRemoteChanges();
+
+		// Then
+		assertEquals("Expect the skipped entry to be applied", 1, applied);
+		verify(currentlyGrowingHandler).applyRemoteChange(7L, ChangeType.UPDATED);
+
+		// And it is not looked for again
+		changeFeed.applyRemoteChanges();
+		verify(changeLogRepository).findByIdIn(any());
+		verify(currentlyGrowingHandler).applyRemoteChange(anyLong(), any());
+		verify(currentlyGrowingHandler).getEntityType();
+		verifyNoMoreInteractions(currentlyGrowingHandler);
+	}
+
+
+	/**
+	 * Tests that a change made by this client to many entities at once is recorded as a single entry,
+	 * and that a bulk change applied from another client is not logged again.
+	 */
+	@Test
+	public void testBulkChangesAreLogged() {
+
+		// When
+		changeFeed.onEntitiesChanged(new BulkChangeEvent<>(SeedPacket.class));
+		changeFeed.onEntitiesChanged(new BulkChangeEvent<>(SeedPacket.class, true));
+
+		// Then
+		ArgumentCaptor<ChangeLogEntry> entry = ArgumentCaptor.forClass(ChangeLogEntry.class);
+		verify(changeLogRepository).save(entry.capture());
+		assertEquals("Expect the class of entity to be logged", "SeedPacket", entry.getValue().getEntityType());
+		assertEquals("Expect the entry to be for every entity", Long.valueOf(ChangeLogEntry.ALL_ENTITIES), entry.getValue().getEntityId());
+		assertEquals("Expect this client to be logged", changeFeed.getClientId(), entry.getValue().getClientId());
+	}
+
+
+	/**
+	 * Tests that a bulk change made by another client is handed to the handler to reload everything,
+	 * rather than applied as a change to one entity.
+	 */
+	@Test
+	public void testRemoteBulkChangesAreApplied() {
+
+		// Given
+		when(changeLogRepository.findTop500ByIdGreaterThanOrderById(10L)).thenReturn(asList(
+				entry(11, "SeedPacket", 5, ChangeType.UPDATED, OTHER_CLIENT),
+				entry(12, "SeedPacket", ChangeLogEntry.ALL_ENTITIES, ChangeType.UPDATED, OTHER_CLIENT),
+				entry(13, "SeedPacket", ChangeLogEntry.ALL_ENTITIES, ChangeType.UPDATED, OTHER_CLIENT)));
+
+		// When
+		int applied = changeFeed.applyRemoteChanges();
+
+		// Then
+		assertEquals("Expect the bulk changes to be applied once", 2, applied);
+		verify(seedPacketHandler).applyRemoteBulkChange();
+		verify(seedPacketHandler).applyRemoteChange(5L, ChangeType.UPDATED);
+		verify(seedPacketHandler, never()).applyRemoteChange(ChangeLogEntry.ALL_ENTITIES, ChangeType.UPDATED);
+	}
+
+
+	/*
+	 * Private helper method to create an entry in the change log.
+	 */
+	private ChangeLogEntry entry(long id, String entityType, long entityId, ChangeType changeType, String clientId) {
+		ChangeLogEntry entry = new ChangeLogEntry();
+		entry.setId(id);
+		entry.setEntityType(entityType);
+		entry.setEntityId(entityId);
+		entry.setChangeType(changeType);
+		entry.setClientId(clientId);
+		return entry;
+	}
+
+}
@@ -0,0 +1,170 @@
+package application.changes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import application.async.DatabaseExecutor;
+import application.cache.ReferenceDataCache;
+import application.clock.ClockService;
+import application.integration.support.SeedPacketBuilder;
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketCache;
+import application.seeds.SeedPacketCalendarIndex;
+import application.seeds.SeedPacketNameResolver;
+import application.seeds.SeedPacketSearchService;
+import application.seeds.SeedPacketService;
+import application.type.Type;
+import application.type.TypeService;
+
+
+/**
+ * Tests that the {@link ChangeFeed} records each change in the transaction which makes it, against a
+ * database migrated by Flyway, so that a change and its entry in the change log are committed or rolled
+ * back together. Each service call commits its own transaction, as it does in the application.
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({ ChangeFeed.class, DatabaseExecutor.class, SeedPacketService.class, SeedPacketCache.class, SeedPacketCalendarIndex.class,
+		SeedPacketSearchService.class, SeedPacketNameResolver.class, TypeService.class, ReferenceDataCache.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TestChangeFeedPersistence {
+
+	@MockBean private ClockService clockService;
+
+	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private TypeService typeService;
+	@Autowired private PlatformTransactionManager transactionManager;
+	@Autowired private JdbcTemplate jdbcTemplate;
+
+
+	@Before
+	public void init() {
+		when(clockService.getClock()).thenReturn(Clock.systemDefaultZone());
+	}
+
+
+	@After
+	public void tearDown() {
+		jdbcTemplate.update("delete from change_log");
+		jdbcTemplate.update("delete from seed_packet");
+		jdbcTemplate.update("delete from type");
+	}
+
+
+	/**
+	 * Tests that each change committed is recorded in the change log.
+	 */
+	@Test
+	public void testChangesAreLogged() {
+
+		// Given
+		SeedPacket seedPacket = new SeedPacketBuilder().withName("Tomato").withType("Tomato").build();
+		Type type = new Type();
+		type.setName("Squash");
+
+		// When
+		seedPacketService.save(seedPacket);
+		seedPacket.setNumberRemaining(10);
+		seedPacketService.save(seedPacket);
+		typeService.save(type);
+
+		// Then
+		assertEquals("Expect the seed packet to be saved", 1, count("seed_packet"));
+		assertEquals("Expect the creation and update to be logged", 2, logEntries("SeedPacket"));
+		assertEquals("Expect the type to be logged", 1, logEntries("Type"));
+
+		// When
+		seedPacketService.delete(seedPacket);
+
+		// Then
+		assertEquals("Expect the seed packet to be deleted", 0, count("seed_packet"));
+		assertEquals("Expect the deletion to be logged", 3, logEntries("SeedPacket"));
+	}
+
+
+	/**
+	 * Tests that a change rolled back by the caller's transaction is not logged.
+	 */
+	@Test
+	public void testRolledBackChangeIsNotLogged() {
+
+		// Given
+		SeedPacket seedPacket = new SeedPacketBuilder().withName("Tomato").withType("Tomato").build();
+
+		// When
+		new TransactionTemplate(transactionManager).execute(status -> {
+			seedPacketService.save(seedPacket);
+			status.setRollbackOnly();
+			return null;
+		});
+
+		// Then
+		assertEquals("Expect the seed packet not to be saved", 0, count("seed_packet"));
+		assertEquals("Expect nothing to be logged", 0, count("change_log"));
+		assertFalse("Expect the seed packet not to be cached", seedPacketService.exists("Tomato"));
+	}
+
+
+	/**
+	 * Tests that a change which cannot be logged is rolled back, rather than being missed by the other
+	 * clients.
+	 */
+	@Test
+	public void testChangeIsRolledBackIfNotLogged() {
+
+		// Given
+		SeedPacket seedPacket = new SeedPacketBuilder().withName("Tomato").withType("Tomato").build();
+		when(clockService.getClock()).thenThrow(new IllegalStateException("Clock unavailable"));
+
+		// When
+		try {
+			seedPacketService.save(seedPacket);
+			fail("Expect the seed packet not to be saved");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		// Then
+		assertEquals("Expect the seed packet not to be saved", 0, count("seed_packet"));
+		assertEquals("Expect nothing to be logged", 0, count("change_log"));
+	}
+
+
+	/*
+	 * Private helper method to count the entries in the change log for a class of entity.
+	 */
+	private int logEntries(String entityType) {
+		return jdbcTemplate.queryForObject("select count(*) from change_log where entity_type = ?", Integer.class, entityType);
+	}
+
+
+	/*
+	 * Private helper method to count the rows in a table.
+	 */
+	private int count(String table) {
+		return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+	}
+
+}
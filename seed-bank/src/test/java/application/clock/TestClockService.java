@@ -0,0 +1,115 @@
+package application.clock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+
+/**
+ * Tests for the {@link ClockService}.
+ */
+public class TestClockService {
+
+	@Mock private ApplicationEventPublisher eventPublisher;
+
+	private MovableClock clock = new MovableClock(Instant.parse("2020-01-31T23:00:00Z"));
+	private ClockService clockService;
+
+
+	/**
+	 * Initialises the mock objects, and creates the service an hour before midnight.
+	 */
+	@Before
+	public void init() {
+		initMocks(this);
+		clockService = new ClockService(clock);
+		setField(clockService, "eventPublisher", eventPublisher);
+	}
+
+
+	/**
+	 * Tests that no event is published until the date changes.
+	 */
+	@Test
+	public void testNoEventOnTheSameDay() {
+
+		// Given
+		clock.instant = Instant.parse("2020-01-31T23:59:59Z");
+
+		// When
+		clockService.checkDate();
+
+		// Then
+		verify(eventPublisher, never()).publishEvent(any(DateChangedEvent.class));
+		assertEquals("Expect the date to be read from the clock", LocalDate.of(2020, 1, 31), clockService.today());
+	}
+
+
+	/**
+	 * Tests that a single event is published at midnight, flagging the change of month.
+	 */
+	@Test
+	public void testEventAtMidnight() {
+
+		// Given
+		clock.instant = Instant.parse("2020-02-01T00:00:00Z");
+		ArgumentCaptor<DateChangedEvent> event = ArgumentCaptor.forClass(DateChangedEvent.class);
+
+		// When
+		clockService.checkDate();
+		clockService.checkDate();
+
+		// Then
+		verify(eventPublisher).publishEvent(event.capture());
+		assertEquals("Expect the previous date", LocalDate.of(2020, 1, 31), event.getValue().getPreviousDate());
+		assertEquals("Expect the new date", LocalDate.of(2020, 2, 1), event.getValue().getDate());
+		assertTrue("Expect a new month", event.getValue().isNewMonth());
+		assertFalse("Expect the same year", event.getValue().isNewYear());
+	}
+
+
+	/*
+	 * A clock which can be moved on by the tests.
+	 */
+	private static class MovableClock extends Clock {
+
+		private Instant instant;
+
+		MovableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+
+}
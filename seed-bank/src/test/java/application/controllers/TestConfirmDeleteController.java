@@ -11,7 +11,7 @@ import org.mockito.Mock;
 import org.testfx.framework.junit.ApplicationTest;
 import org.testfx.util.WaitForAsyncUtils;
 
-import application.seeds.SeedPacket;
+import application.seeds.SeedPacketSummary;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -24,9 +24,9 @@ import javafx.scene.control.TableView.TableViewSelectionModel;
  */
 public class TestConfirmDeleteController extends ApplicationTest {	
 
-	@Mock private SeedPacket seedPacket;
-	@Mock private TableViewSelectionModel<SeedPacket> selectionModel;
-	@Mock private TableView<SeedPacket> seedPacketTable;
+	@Mock private SeedPacketSummary seedPacket;
+	@Mock private TableViewSelectionModel<SeedPacketSummary> selectionModel;
+	@Mock private TableView<SeedPacketSummary> seedPacketTable;
 	@Mock private Label labelConfirmDelete;
 	@Mock private Button confirmButton;
 	@Mock private Button cancelButton;
@@ -0,0 +1,142 @@
+package application.controllers;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import application.async.DatabaseExecutor;
+import application.currentlygrowing.CurrentlyGrowing;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+
+/**
+ * Tests for the {@link CurrentlyGrowingList}.
+ */
+public class TestCurrentlyGrowingList {
+
+	private CurrentlyGrowingList currentlyGrowingList = new CurrentlyGrowingList();
+
+	private CurrentlyGrowing tomato = record(1L, LocalDate.of(2020, 3, 1));
+	private CurrentlyGrowing pepper = record(2L, LocalDate.of(2020, 2, 1));
+	private CurrentlyGrowing basil = record(3L, LocalDate.of(2020, 4, 1));
+
+	private SortedList<CurrentlyGrowing> sownIndoors;
+	private FilteredList<CurrentlyGrowing> germinatedIndoors;
+
+
+	/**
+	 * Fills the list, and creates views over it for two of the phases.
+	 */
+	@Before
+	public void init() {
+		setField(currentlyGrowingList, "databaseExecutor", new DatabaseExecutor(Runnable::run, Runnable::run));
+		currentlyGrowingList.setAll(asList(tomato, pepper, basil));
+		sownIndoors = new SortedList<>(new FilteredList<>(currentlyGrowingList.getRecords(), 
+				p -> p.getDateGerminated() == null && p.isIndoors()), Comparator.comparing(CurrentlyGrowing::getDateSown));
+		germinatedIndoors = new FilteredList<>(currentlyGrowingList.getRecords(), 
+				p -> p.getDateGerminated() != null && p.getDateEstablished() == null && p.isIndoors());
+	}
+
+
+	/**
+	 * Tests that progressing a record moves it between the views, keeping their sort order.
+	 */
+	@Test
+	public void testUpdatedRecordMovesBetweenViews() {
+
+		// Given
+		tomato.setDateGerminated(LocalDate.of(2020, 3, 10));
+
+		// When
+		currentlyGrowingList.updated(tomato);
+
+		// Then
+		assertEquals("Expect the tomato to have left the sown view", asList(pepper, basil), sownIndoors);
+		assertEquals("Expect the tomato to have joined the germinated view", singletonList(tomato), germinatedIndoors);
+
+		// Given
+		tomato.setDateEstablished(LocalDate.of(2020, 3, 20));
+
+		// When
+		currentlyGrowingList.updated(tomato);
+
+		// Then
+		assertTrue("Expect a second change to the same record to be reported", germinatedIndoors.isEmpty());
+	}
+
+
+	/**
+	 * Tests that only the changed record is reported, and only if it has moved.
+	 */
+	@Test
+	public void testOnlyPlacementChangesAreReported() {
+
+		// Given
+		List<CurrentlyGrowing> updates = new ArrayList<>();
+		currentlyGrowingList.getRecords().addListener((ListChangeListener<CurrentlyGrowing>) change -> {
+			while (change.next()) {
+				if (change.wasUpdated()) {
+					updates.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+				}
+			}
+		});
+
+		// When
+		basil.setNotes("On the kitchen windowsill");
+		currentlyGrowingList.updated(basil);
+		basil.setIndoors(false);
+		currentlyGrowingList.updated(basil);
+
+		// Then
+		assertEquals("Expect only the move outdoors to be reported", singletonList(basil), updates);
+		assertEquals("Expect the basil to have left the indoors view", asList(pepper, tomato), sownIndoors);
+	}
+
+
+	/**
+	 * Tests that records created, progressed and deleted elsewhere are applied to the list.
+	 */
+	@Test
+	public void testChangesAreApplied() {
+
+		// Given
+		CurrentlyGrowing chilli = record(4L, LocalDate.of(2020, 1, 1));
+		pepper.setDateGerminated(LocalDate.of(2020, 2, 10));
+
+		// When
+		currentlyGrowingList.onCurrentlyGrowingChanged(new EntityChangedEvent<>(CurrentlyGrowing.class, chilli, ChangeType.CREATED));
+		currentlyGrowingList.onCurrentlyGrowingChanged(new EntityChangedEvent<>(CurrentlyGrowing.class, pepper, ChangeType.UPDATED));
+		currentlyGrowingList.onCurrentlyGrowingChanged(new EntityChangedEvent<>(CurrentlyGrowing.class, record(3L, null), ChangeType.DELETED));
+
+		// Then
+		assertEquals("Expect the new record added and the progressed and deleted records gone", asList(chilli, tomato), sownIndoors);
+		assertEquals("Expect the progressed record to have moved", singletonList(pepper), germinatedIndoors);
+	}
+
+
+	/*
+	 * Private helper method to create a record sown indoors on the specified date.
+	 */
+	private static CurrentlyGrowing record(Long id, LocalDate dateSown) {
+		CurrentlyGrowing record = new CurrentlyGrowing();
+		record.setId(id);
+		record.setIndoors(true);
+		record.setDateSown(dateSown);
+		return record;
+	}
+
+}
@@ -9,12 +9,15 @@ import static java.time.Month.JUNE;
 import static java.time.Month.MARCH;
 import static java.time.Month.MAY;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import java.time.Month;
 import java.util.ArrayList;
@@ -29,10 +32,13 @@ import org.mockito.Spy;
 import org.testfx.framework.junit.ApplicationTest;
 
 import application.Mode;
+import application.async.DatabaseExecutor;
 import application.manufacturer.Manufacturer;
 import application.manufacturer.ManufacturerService;
 import application.seeds.SeedPacket;
 import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+import application.seeds.SeedPacketValidator;
 import application.type.Type;
 import application.type.TypeService;
 import javafx.collections.ObservableList;
@@ -75,14 +81,17 @@ public class TestEditSeedPacketController extends ApplicationTest {
 
 	@Mock private Button saveButton;
 	@Mock private Button cancelButton;
-	@Mock private TableView<SeedPacket> seedPacketTable;
-	@Mock private ObservableList<SeedPacket> listOfSeedPackets;
-	@Mock private TableViewSelectionModel<SeedPacket> selectionModel;
+	@Mock private SeedPacketSummary seedPacketSummary;
+	@Mock private TableView<SeedPacketSummary> seedPacketTable;
+	@Mock private ObservableList<SeedPacketSummary> listOfSeedPackets;
+	@Mock private TableViewSelectionModel<SeedPacketSummary> selectionModel;
 	@Mock private ObservableMap<KeyCombination, Runnable> accelerators;
 	@Mock private Scene scene;
 	@Mock private ManufacturerService manufacturerService;
 	@Mock private SeedPacketService seedPacketService;
+	@Spy private SeedPacketValidator seedPacketValidator = new SeedPacketValidator();
 	@Mock private TypeService typeService;
+	@Spy private DatabaseExecutor databaseExecutor = new DatabaseExecutor(Runnable::run, Runnable::run);
 
 	private static final String NAME_FOR_MAPPING = "Name";
 	private static final String LATIN_NAME_FOR_MAPPING = "LATIN NAME";
@@ -123,7 +132,8 @@ public class TestEditSeedPacketController extends ApplicationTest {
 		when(manufacturerService.loadAll()).thenReturn(manufacturers);
 		when(typeService.loadAll()).thenReturn(types);
 		when(seedPacketTable.getSelectionModel()).thenReturn(selectionModel);
-		when(selectionModel.getSelectedItem()).thenReturn(seedPacket);
+		when(selectionModel.getSelectedItem()).thenReturn(seedPacketSummary);
+		when(seedPacketSummary.getId()).thenReturn(SEED_PACKET_ID);
 		when(seedPacket.getId()).thenReturn(SEED_PACKET_ID);
 		when(seedPacketService.loadById(SEED_PACKET_ID)).thenReturn(Optional.of(seedPacket));
 		when(saveButton.getScene()).thenReturn(scene);
@@ -223,7 +233,7 @@ public class TestEditSeedPacketController extends ApplicationTest {
 		assertTrue("Description should not be editable", !description.isEditable());
 		assertTrue("Description should be disabled", description.isDisabled());
 
-		verify(saveButton).setDisable(true);
+		verify(saveButton, times(2)).setDisable(true); // Whilst loading, and then for viewing
 	}
 
 
@@ -274,6 +284,40 @@ public class TestEditSeedPacketController extends ApplicationTest {
 	}
 
 
+	/**
+	 * Tests that the seed packet, manufacturers and types are loaded on the database thread, with the 
+	 * fields disabled and showing that they are loading until they arrive.
+	 */
+	@Test
+	public void testLoadedOnTheDatabaseThread() {
+
+		// Given
+		List<Runnable> queued = new ArrayList<>();
+		setField(editSeedPacketController, "databaseExecutor", new DatabaseExecutor(queued::add, Runnable::run));
+		setUpSeedPacketModel();
+
+		// When
+		editSeedPacketController.initData(seedPacketTable, Mode.EDIT);
+
+		// Then
+		verify(seedPacketService, never()).loadById(SEED_PACKET_ID);
+		verify(manufacturerService, never()).loadAll();
+		verify(typeService, never()).loadAll();
+		assertEquals("Expect the seed packet to be shown as loading", "Loading...", name.getPromptText());
+		assertEquals("Expect the types to be shown as loading", "Loading...", typeCombo.getPromptText());
+		assertTrue("Latin Name should be disabled whilst loading", latinName.isDisabled());
+
+		// When
+		queued.forEach(Runnable::run);
+
+		// Then
+		assertEquals("Name is incorrect", NAME_FOR_MAPPING, name.getText());
+		assertEquals("Type is incorrect", TYPE_FOR_MAPPING, typeCombo.getValue());
+		assertFalse("Latin Name should not be disabled once loaded", latinName.isDisabled());
+		verify(saveButton).setDisable(false);
+	}
+
+
 	/**
 	 * Tests that the model is correctly mapped to the fields
 	 */
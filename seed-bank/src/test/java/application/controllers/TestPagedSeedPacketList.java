@@ -0,0 +1,176 @@
+package application.controllers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+
+import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+import javafx.beans.property.SimpleIntegerProperty;
+
+
+/**
+ * Tests for the {@link PagedSeedPacketList}.
+ */
+public class TestPagedSeedPacketList {
+
+	@Mock private SeedPacketService seedPacketService;
+
+	private List<Runnable> backgroundTasks = new ArrayList<>();
+	private Executor backgroundExecutor = backgroundTasks::add;
+	private Executor fxExecutor = Runnable::run;
+	private SimpleIntegerProperty revision = new SimpleIntegerProperty();
+
+
+	/**
+	 * Initialises the mock objects, with a catalog of 25 seed packets served in pages of 10.
+	 */
+	@Before
+	public void init() {
+		initMocks(this);
+		when(seedPacketService.count()).thenReturn(25L);
+		when(seedPacketService.loadSummaryPage(anyInt(), eq(10), any(Sort.class))).thenAnswer(invocation -> {
+			int page = invocation.getArgument(0);
+			List<SeedPacketSummary> content = new ArrayList<>();
+			for (int i = page * 10; i < Math.min(page * 10 + 10, 25); i++) {
+				content.add(seedPacketSummary((long) i));
+			}
+			return new PageImpl<>(content);
+		});
+	}
+
+
+	/**
+	 * Tests that rows are only fetched a page at a time in the background, once requested.
+	 */
+	@Test
+	public void testRowsAreFetchedLazily() {
+
+		// Given
+		PagedSeedPacketList seedPackets = new PagedSeedPacketList(
+				seedPacketService, revision, 10, backgroundExecutor, fxExecutor);
+		runBackgroundTasks();
+
+		// When
+		SeedPacketSummary beforeLoading = seedPackets.get(12);
+		seedPackets.get(15); // Same page, so should not be fetched twice
+		runBackgroundTasks();
+
+		// Then
+		assertEquals("Expect the size to be the number of seed packets in the database", 25, seedPackets.size());
+		assertNull("Expect the row to be empty until its page is fetched", beforeLoading);
+		assertEquals("Expect the row to be populated once its page is fetched", Long.valueOf(12), seedPackets.get(12).getId());
+		verify(seedPacketService, times(1)).loadSummaryPage(eq(1), eq(10), any(Sort.class));
+		verify(seedPacketService, times(0)).loadSummaryPage(eq(0), eq(10), any(Sort.class));
+	}
+
+
+	/**
+	 * Tests that sorting reloads the list, passing the sort order to the database.
+	 */
+	@Test
+	public void testSortIsPassedToTheDatabase() {
+
+		// Given
+		PagedSeedPacketList seedPackets = new PagedSeedPacketList(
+				seedPacketService, revision, 10, backgroundExecutor, fxExecutor);
+		runBackgroundTasks();
+		Sort sort = Sort.by("name").descending();
+
+		// When
+		seedPackets.sort(sort);
+		runBackgroundTasks();
+		seedPackets.get(0);
+		runBackgroundTasks();
+
+		// Then
+		verify(seedPacketService).loadSummaryPage(0, 10, sort);
+	}
+
+
+	/**
+	 * Tests that seed packets cannot be added to the list, as it is read from the database.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void testAddIsUnsupported() {
+
+		// Given
+		PagedSeedPacketList seedPackets = new PagedSeedPacketList(
+				seedPacketService, revision, 10, backgroundExecutor, fxExecutor);
+		runBackgroundTasks();
+
+		// When
+		seedPackets.add(seedPacketSummary(25L));
+	}
+
+
+	/**
+	 * Tests that seed packets cannot be removed from the list, as it is read from the database.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void testRemoveIsUnsupported() {
+
+		// Given
+		PagedSeedPacketList seedPackets = new PagedSeedPacketList(
+				seedPacketService, revision, 10, backgroundExecutor, fxExecutor);
+		runBackgroundTasks();
+
+		// When
+		seedPackets.remove(seedPacketSummary(1L));
+	}
+
+
+	/**
+	 * Tests that changes made to the seed packets elsewhere, e.g. a seed packet being saved, reload the list.
+	 */
+	@Test
+	public void testChangesReloadTheList() {
+
+		// Given
+		new PagedSeedPacketList(seedPacketService, revision, 10, backgroundExecutor, fxExecutor);
+		runBackgroundTasks();
+
+		// When
+		revision.set(revision.get() + 1);
+		runBackgroundTasks();
+
+		// Then
+		verify(seedPacketService, times(2)).count();
+	}
+
+
+	/*
+	 * Private helper method to run any tasks submitted to the background executor.
+	 */
+	private void runBackgroundTasks() {
+		List<Runnable> tasks = new ArrayList<>(backgroundTasks);
+		backgroundTasks.clear();
+		tasks.forEach(Runnable::run);
+	}
+
+
+	/*
+	 * Private helper method to create a summary of a seed packet with the specified ID.
+	 */
+	private static SeedPacketSummary seedPacketSummary(Long id) {
+		return new SeedPacketSummary(id, "Seed Packet " + id, null, null, null, null, null, 
+				null, null, null, null, null, null, null, null);
+	}
+
+}
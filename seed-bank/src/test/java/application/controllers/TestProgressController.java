@@ -10,9 +10,11 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.testfx.framework.junit.ApplicationTest;
 import org.testfx.util.WaitForAsyncUtils;
 
+import application.clock.ClockService;
 import application.currentlygrowing.CurrentlyGrowing;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ObservableMap;
@@ -44,6 +46,7 @@ public class TestProgressController extends ApplicationTest {
 	@Mock private TextField progressNumberField;
 	@Mock private Scene scene;
 	@Mock private ObservableMap<KeyCombination, Runnable> accelerators;
+	@Spy private ClockService clockService = new ClockService();
 
 
 
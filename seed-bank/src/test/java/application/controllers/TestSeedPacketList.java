@@ -0,0 +1,108 @@
+package application.controllers;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import application.async.DatabaseExecutor;
+import application.events.BulkChangeEvent;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+
+
+/**
+ * Tests for the {@link SeedPacketList}.
+ */
+public class TestSeedPacketList {
+
+	private SeedPacketList seedPacketList = new SeedPacketList();
+
+
+	/**
+	 * Fills the list, handing changes straight over to the list rather than the JavaFX Application Thread.
+	 */
+	@Before
+	public void init() {
+		setField(seedPacketList, "databaseExecutor", new DatabaseExecutor(Runnable::run, Runnable::run));
+		seedPacketList.setAll(asList(SeedPacketSummary.of(seedPacket(1L, "Carrot")), SeedPacketSummary.of(seedPacket(2L, "Parsnip"))));
+	}
+
+
+	/**
+	 * Tests that created, updated and deleted seed packets are applied to the list in place.
+	 */
+	@Test
+	public void testChangesAreApplied() {
+
+		// When
+		seedPacketList.onSeedPacketChanged(new EntityChangedEvent<>(SeedPacket.class, seedPacket(3L, "Beetroot"), ChangeType.CREATED));
+		seedPacketList.onSeedPacketChanged(new EntityChangedEvent<>(SeedPacket.class, seedPacket(1L, "Carrot Nantes"), ChangeType.UPDATED));
+		seedPacketList.onSeedPacketChanged(new EntityChangedEvent<>(SeedPacket.class, seedPacket(2L, "Parsnip"), ChangeType.DELETED));
+
+		// Then
+		assertEquals("Expect the renamed seed packet to keep its place, and the new one to be added", 
+				asList("Carrot Nantes", "Beetroot"), 
+				asList(seedPacketList.getSeedPackets().get(0).getName(), seedPacketList.getSeedPackets().get(1).getName()));
+		assertEquals("Expect the deleted seed packet to be removed", 2, seedPacketList.getSeedPackets().size());
+	}
+
+
+	/**
+	 * Tests that a paged list holds no seed packets, but still counts each change in its revision.
+	 */
+	@Test
+	public void testPagedListOnlyCountsChanges() {
+
+		// Given
+		seedPacketList.setPaged();
+
+		// When
+		seedPacketList.onSeedPacketChanged(new EntityChangedEvent<>(SeedPacket.class, seedPacket(3L, "Beetroot"), ChangeType.CREATED));
+		seedPacketList.onSeedPacketChanged(new EntityChangedEvent<>(SeedPacket.class, seedPacket(1L, "Carrot"), ChangeType.DELETED));
+
+		// Then
+		assertEquals("Expect no seed packets to be held", 0, seedPacketList.getSeedPackets().size());
+		assertEquals("Expect both changes to be counted", 2, seedPacketList.revisionProperty().get());
+	}
+
+
+	/**
+	 * Tests that the whole list is reloaded after a bulk change, such as an import.
+	 */
+	@Test
+	public void testBulkChangesReloadTheList() {
+
+		// Given
+		SeedPacketService seedPacketService = mock(SeedPacketService.class);
+		setField(seedPacketList, "seedPacketService", seedPacketService);
+		when(seedPacketService.loadAllSummaries()).thenReturn(asList(SeedPacketSummary.of(seedPacket(1L, "Carrot")), 
+				SeedPacketSummary.of(seedPacket(2L, "Parsnip")), SeedPacketSummary.of(seedPacket(3L, "Beetroot"))));
+
+		// When
+		seedPacketList.onSeedPacketsChanged(new BulkChangeEvent<>(SeedPacket.class));
+
+		// Then
+		assertEquals("Expect the imported seed packet to be loaded", 3, seedPacketList.getSeedPackets().size());
+		assertEquals("Expect the reload to be counted", 1, seedPacketList.revisionProperty().get());
+	}
+
+
+	/*
+	 * Private helper method to create a seed packet with the specified ID and name.
+	 */
+	private static SeedPacket seedPacket(Long id, String name) {
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(id);
+		seedPacket.setName(name);
+		return seedPacket;
+	}
+
+}
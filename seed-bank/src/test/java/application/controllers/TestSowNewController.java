@@ -2,16 +2,19 @@ package application.controllers;
 
 import static java.time.LocalDate.now;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -22,11 +25,14 @@ import org.mockito.Spy;
 import org.testfx.framework.junit.ApplicationTest;
 
 import application.Mode;
+import application.async.DatabaseExecutor;
+import application.clock.ClockService;
 import application.currentlygrowing.CurrentlyGrowing;
-import application.currentlygrowing.CurrentlyGrowingService;
+import application.growing.GrowingLifecycleService;
 import application.seeds.SeedPacket;
+import application.seeds.SeedPacketName;
 import application.seeds.SeedPacketService;
-import javafx.collections.ObservableList;
+import application.seeds.SeedPacketSummary;
 import javafx.collections.ObservableMap;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -46,7 +52,7 @@ import javafx.scene.layout.HBox;
  */
 public class TestSowNewController extends ApplicationTest {
 
-	@Spy private ComboBox<SeedPacket> seedComboBox;
+	@Spy private ComboBox<SeedPacketName> seedComboBox;
 	@Spy private RadioButton indoorsRadio;
 	@Spy private RadioButton outdoorsRadio;
 	@Spy private DatePicker dateSown;
@@ -61,19 +67,22 @@ public class TestSowNewController extends ApplicationTest {
 	@Spy private TextField locationStored;
 	@Spy private TextArea notes;
 	@Spy private CurrentlyGrowing currentlyGrowingRecord;
-	@Spy private CurrentlyGrowingService currentlyGrowingService;
+	@Spy private DatabaseExecutor databaseExecutor = new DatabaseExecutor(Runnable::run, Runnable::run);
+	@Spy private ClockService clockService = new ClockService();
+	@Spy private SeedPacketList seedPacketList = new SeedPacketList();
 
 	@Mock private Button saveNewButton;
 	@Mock private Button cancelButton;
-	@Mock private ObservableList<CurrentlyGrowing> currentlyGrowing;
 	@Mock private TableView<CurrentlyGrowing> table;
 	@Mock private TableViewSelectionModel<CurrentlyGrowing> selectionModel;
 	@Mock private ObservableMap<KeyCombination, Runnable> accelerators;
 	@Mock private Scene scene;
 	@Mock private SeedPacketService seedPacketService;
+	@Mock private GrowingLifecycleService growingLifecycleService;
 	@Mock private SeedPacket seedPacket;
 
-	private List<SeedPacket> seedPackets = new ArrayList<SeedPacket>();
+	private SeedPacketSummary summary = new SeedPacketSummary(SEED_PACKET_ID, "name", null, null, 10, 5, null, 
+			null, null, null, null, null, null, null, null);
 
 	@InjectMocks
 	private SowNewController sowNewController;
@@ -93,9 +102,8 @@ public class TestSowNewController extends ApplicationTest {
 	public void init() {
 		initMocks(this);
 
-		seedPackets.add(seedPacket);
+		seedPacketList.setAll(Collections.singletonList(summary));
 
-		when(seedPacketService.loadAll()).thenReturn(seedPackets);
 		when(seedPacketService.loadById(SEED_PACKET_ID)).thenReturn(Optional.of(seedPacket));
 		when(seedPacket.getName()).thenReturn("name");
 		when(seedPacket.getId()).thenReturn(SEED_PACKET_ID);
@@ -114,7 +122,7 @@ public class TestSowNewController extends ApplicationTest {
 	public void testAddNewMode() {
 
 		// When
-		sowNewController.initData(currentlyGrowing, table, Mode.ADD_NEW);
+		sowNewController.initData(table, Mode.ADD_NEW);
 
 		// Then
 		verify(selectionModel, never()).getSelectedItem(); // Currently growing record should NOT be loaded
@@ -141,7 +149,7 @@ public class TestSowNewController extends ApplicationTest {
 	public void testViewMode() {
 		
 		// When
-		sowNewController.initData(currentlyGrowing, table, Mode.VIEW);
+		sowNewController.initData(table, Mode.VIEW);
 
 		// Then
 		verify(selectionModel).getSelectedItem(); // The currently growing record should be loaded
@@ -172,7 +180,7 @@ public class TestSowNewController extends ApplicationTest {
 	public void testEditMode() {
 
 		// When
-		sowNewController.initData(currentlyGrowing, table, Mode.EDIT);
+		sowNewController.initData(table, Mode.EDIT);
 
 		// Then
 		verify(selectionModel).getSelectedItem(); // The currently growing record should be loaded
@@ -210,7 +218,7 @@ public class TestSowNewController extends ApplicationTest {
 		assertEquals("Notes should currently be empty", "", notes.getText());
 
 		// When
-		sowNewController.initData(currentlyGrowing, table, Mode.VIEW);
+		sowNewController.initData(table, Mode.VIEW);
 
 		// Then assert that the fields NOW reflect the model
 		assertEquals("Seed Packet is incorrect", (Long) SEED_PACKET_ID, seedComboBox.getValue().getId());
@@ -227,32 +235,84 @@ public class TestSowNewController extends ApplicationTest {
 
 
 	/**
-	 * Tests that the input values from the fields are appropriately mapped to the model 
-	 * for saving.
+	 * Tests that Edit mode changes a copy of the record, so that the record shown in the tables is left 
+	 * as it was should the save fail.
 	 */
 	@Test
-	public void testFieldsCorrectlyMappedToModel() {
+	public void testEditModeEditsACopy() {
 
 		// Given
-		setUpInputFieldValues();
-
-		// Check a few of the model fields to assert that they have not yet been set from the input values
-		assertNull("Seed Packet should currently be empty", currentlyGrowingRecord.getSeedPacket());
-		assertNull("Number sown should currently be empty", currentlyGrowingRecord.getNumberSown());
+		setUpCurrentlyGrowingModel();
+		sowNewController.initData(table, Mode.EDIT);
 
 		// When
+		notes.setText("Changed");
 		sowNewController.mapFieldsToModel();
 
-		// Then assert that the model values have NOW been updated with the values input into the fields
-		assertTrue("Setting is incorrect", currentlyGrowingRecord.isIndoors());
-		assertEquals("Location is incorrect", LOCATION_STORED, currentlyGrowingRecord.getLocation());
-		assertEquals("Number sown is incorrect", NUMBER_SOWN, currentlyGrowingRecord.getNumberSown());
-		assertEquals("Date sown is incorrect", DATE_SOWN, currentlyGrowingRecord.getDateSown());
-		assertEquals("Number germinated is incorrect", (Integer) (NUMBER_SOWN-1), currentlyGrowingRecord.getNumberGerminated());
-		assertEquals("Date germinated is incorrect", DATE_SOWN.plusDays(1), currentlyGrowingRecord.getDateGerminated());
-		assertEquals("Number established is incorrect", (Integer) (NUMBER_SOWN-2), currentlyGrowingRecord.getNumberEstablished());
-		assertEquals("Date established is incorrect", DATE_SOWN.plusDays(2), currentlyGrowingRecord.getDateEstablished());
-		assertEquals("Notes is incorrect", NOTES, currentlyGrowingRecord.getNotes());
+		// Then
+		assertEquals("Expect the record in the tables to be unchanged", NOTES, currentlyGrowingRecord.getNotes());
+	}
+
+
+	/**
+	 * Tests that the seed packets to choose from are taken from the summaries of the seed library 
+	 * already in memory, rather than loading every seed packet.
+	 */
+	@Test
+	public void testSeedPacketsAreListedFromTheSeedLibrary() {
+
+		// When
+		sowNewController.initData(table, Mode.ADD_NEW);
+
+		// Then
+		assertEquals("Expect the summary to be listed", Collections.singletonList(summary), seedComboBox.getItems());
+		verify(seedPacketService, never()).loadAll();
+		verify(seedPacketService, never()).loadNamesStartingWith(anyString(), anyInt());
+	}
+
+
+	/**
+	 * Tests that when the seed library is paged, the seed packets are found by typing the start of a 
+	 * name, loading a bounded number of names rather than the catalog.
+	 */
+	@Test
+	public void testPagedSeedPacketsAreFoundByName() {
+
+		// Given
+		seedPacketList.setPaged();
+		setField(sowNewController, "maximumTypeAheadResults", 100);
+		when(seedPacketService.loadNamesStartingWith("na", 100)).thenReturn(Collections.singletonList(summary));
+		sowNewController.initData(table, Mode.ADD_NEW);
+
+		// When
+		seedComboBox.getEditor().setText("na");
+
+		// Then
+		assertTrue("Expect the seed packet to be typed", seedComboBox.isEditable());
+		assertEquals("Expect the matching name to be listed", Collections.singletonList(summary), seedComboBox.getItems());
+		assertEquals("Expect the typed name to be kept", "na", seedComboBox.getEditor().getText());
+		verify(seedPacketService, never()).loadAll();
+	}
+
+
+	/**
+	 * Tests that when the seed library is paged, just the seed packet of the record viewed is loaded.
+	 */
+	@Test
+	public void testPagedRecordLoadsItsSeedPacket() {
+
+		// Given
+		seedPacketList.setPaged();
+		setUpCurrentlyGrowingModel();
+
+		// When
+		sowNewController.initData(table, Mode.VIEW);
+
+		// Then
+		assertEquals("Seed Packet is incorrect", (Long) SEED_PACKET_ID, seedComboBox.getValue().getId());
+		assertFalse("Expect the seed packet not to be typed", seedComboBox.isEditable());
+		verify(seedPacketService).loadById(SEED_PACKET_ID);
+		verify(seedPacketService, never()).loadNamesStartingWith(anyString(), anyInt());
 	}
 
 
@@ -279,7 +339,7 @@ public class TestSowNewController extends ApplicationTest {
 	 * model for testing.
 	 */
 	private void setUpInputFieldValues() {
-		seedComboBox.setValue(seedPacket);
+		seedComboBox.setValue(summary);
 		indoorsRadio.setSelected(true);
 		locationStored.setText(LOCATION_STORED);
 		dateSown.setValue(DATE_SOWN);
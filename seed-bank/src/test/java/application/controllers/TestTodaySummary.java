@@ -0,0 +1,183 @@
+package application.controllers;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static javafx.collections.FXCollections.observableArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.seeds.CalendarWindow;
+import application.seeds.SeedPacketCalendarIndex;
+import application.seeds.SeedPacketSummary;
+import javafx.collections.ObservableList;
+
+
+/**
+ * Tests for the {@link TodaySummary}.
+ */
+public class TestTodaySummary {
+
+	private SeedPacketSummary tomato = seedPacket(1L, "Tomato", Month.MARCH, Month.APRIL, 2030, 10);
+	private SeedPacketSummary pea = seedPacket(2L, "Pea", Month.APRIL, Month.JUNE, 2019, 0);
+	private SeedPacketSummary carrot = seedPacket(3L, "Carrot", Month.MARCH, Month.MAY, 2020, 5);
+
+	private ObservableList<SeedPacketSummary> seedPackets;
+	private ObservableList<CurrentlyGrowing> currentlyGrowing;
+	private SeedPacketCalendarIndex seedPacketCalendarIndex = new SeedPacketCalendarIndex();
+	private TodaySummary todaySummary;
+
+
+	/**
+	 * Creates the summary over two seed packets, one of which is growing. The calendar index is 
+	 * updated before each change to the seed packets, as the SeedPacketService does.
+	 */
+	@Before
+	public void init() {
+		seedPackets = observableArrayList(tomato, pea);
+		currentlyGrowing = observableArrayList(sowing(1L));
+		seedPacketCalendarIndex.rebuild(seedPackets);
+		todaySummary = new TodaySummary(seedPackets, currentlyGrowing, seedPacketCalendarIndex, LocalDate.of(2020, Month.MARCH, 15));
+	}
+
+
+	/**
+	 * Tests the lists and counts calculated when the summary is created.
+	 */
+	@Test
+	public void testInitialSummary() {
+		assertEquals("Expect the tomato to be in window", singletonList(tomato), todaySummary.getCanBeSownIndoors());
+		assertEquals("Expect the tomato to be growing", singletonList(tomato), todaySummary.getCurrentlyGrowingSeedPackets());
+		assertEquals("Expect two seed packets", 2, todaySummary.seedPacketCount().get());
+		assertEquals("Expect one sowing", 1, todaySummary.currentlyGrowingCount().get());
+		assertEquals("Expect the pea to be expired", 1, todaySummary.expiredCountProperty().get());
+		assertEquals("Expect the pea to be empty", 1, todaySummary.emptyCountProperty().get());
+	}
+
+
+	/**
+	 * Tests that adding, replacing and removing seed packets updates the lists and counts.
+	 */
+	@Test
+	public void testSeedPacketChangesAreApplied() {
+
+		// When
+		seedPacketCalendarIndex.update(carrot);
+		seedPackets.add(carrot);
+
+		// Then
+		assertEquals("Expect the carrot to be in window, sorted by name", asList(carrot, tomato), todaySummary.getCanBeSownIndoors());
+
+		// When
+		SeedPacketSummary replacedPea = seedPacket(2L, "Pea", Month.APRIL, Month.JUNE, 2025, 20);
+		seedPacketCalendarIndex.update(replacedPea);
+		seedPackets.remove(pea);
+		seedPackets.add(replacedPea);
+
+		// Then
+		assertEquals("Expect the replaced pea to be no longer expired", 0, todaySummary.expiredCountProperty().get());
+		assertEquals("Expect the replaced pea to be no longer empty", 0, todaySummary.emptyCountProperty().get());
+
+		// When
+		seedPacketCalendarIndex.remove(tomato);
+		seedPackets.remove(tomato);
+
+		// Then
+		assertEquals("Expect the tomato to have left the lists", singletonList(carrot), todaySummary.getCanBeSownIndoors());
+		assertEquals("Expect nothing growing from a known packet", emptyList(), todaySummary.getCurrentlyGrowingSeedPackets());
+	}
+
+
+	/**
+	 * Tests that a seed packet is listed as growing until its last sowing is removed.
+	 */
+	@Test
+	public void testSowingChangesAreApplied() {
+
+		// Given
+		CurrentlyGrowing secondTomato = sowing(1L);
+
+		// When
+		currentlyGrowing.addAll(secondTomato, sowing(2L));
+		currentlyGrowing.remove(0);
+
+		// Then
+		assertEquals("Expect both packets to be growing", asList(pea, tomato), todaySummary.getCurrentlyGrowingSeedPackets());
+
+		// When
+		currentlyGrowing.remove(secondTomato);
+
+		// Then
+		assertEquals("Expect only the pea to be growing", singletonList(pea), todaySummary.getCurrentlyGrowingSeedPackets());
+		assertEquals("Expect one sowing", 1, todaySummary.currentlyGrowingCount().get());
+	}
+
+
+	/**
+	 * Tests that moving to a new month and year re-evaluates the windows and expiry.
+	 */
+	@Test
+	public void testSetToday() {
+
+		// When
+		todaySummary.setToday(LocalDate.of(2031, Month.MAY, 1));
+
+		// Then
+		assertEquals("Expect only the pea to be in window", singletonList(pea), todaySummary.getCanBeSownIndoors());
+		assertEquals("Expect both packets to be expired", 2, todaySummary.expiredCountProperty().get());
+	}
+
+
+	/**
+	 * Tests that a new month's sowing lists are looked up from the calendar index, rather than by 
+	 * testing every seed packet.
+	 */
+	@Test
+	public void testNewMonthIsLookedUpFromTheIndex() {
+
+		// Given
+		SeedPacketCalendarIndex indexSpy = spy(seedPacketCalendarIndex);
+		todaySummary = new TodaySummary(seedPackets, currentlyGrowing, indexSpy, LocalDate.of(2020, Month.MARCH, 15));
+		clearInvocations(indexSpy);
+
+		// When
+		todaySummary.setToday(LocalDate.of(2020, Month.JUNE, 1));
+
+		// Then
+		verify(indexSpy, never()).isInWindow(any(), any(), any());
+		verify(indexSpy).getIdsInWindow(CalendarWindow.SOWING_INDOORS, Month.JUNE);
+		verify(indexSpy).getIdsInWindow(CalendarWindow.SOWING_OUTDOORS, Month.JUNE);
+		assertEquals("Expect only the pea to be in window", singletonList(pea), todaySummary.getCanBeSownOutdoors());
+	}
+
+
+	/*
+	 * Private helper method to create a summary sown indoors and outdoors over the months specified.
+	 */
+	private static SeedPacketSummary seedPacket(Long id, String name, Month from, Month until, Integer expirationDate, Integer numberRemaining) {
+		return new SeedPacketSummary(id, name, null, null, 10, numberRemaining, expirationDate, 
+				from, until, from, until, null, null, null, null);
+	}
+
+
+	/*
+	 * Private helper method to create a currently growing record for the seed packet.
+	 */
+	private static CurrentlyGrowing sowing(Long seedPacketId) {
+		CurrentlyGrowing record = new CurrentlyGrowing();
+		record.setSeedPacket(seedPacketId);
+		return record;
+	}
+
+}
@@ -1,7 +1,12 @@
 package application.currentlygrowing;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -11,8 +16,13 @@ import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
 
 
 /**
@@ -21,6 +31,7 @@ import org.mockito.Mock;
 public class TestCurrentlyGrowingService  {
 
 	@Mock private CurrentlyGrowingRepository currentlyGrowingRepository;
+	@Mock private ApplicationEventPublisher eventPublisher;
 	
 	@InjectMocks private CurrentlyGrowingService currentlyGrowingService;
 	
@@ -28,6 +39,7 @@ public class TestCurrentlyGrowingService  {
 	@Before
 	public void init() {
 	    initMocks(this);
+	    when(currentlyGrowingRepository.save(any(CurrentlyGrowing.class))).then(returnsFirstArg());
 	}
 	
 	
@@ -46,6 +58,7 @@ public class TestCurrentlyGrowingService  {
 		
 		// Then
 		verify(currentlyGrowingRepository).save(currentlyGrowingRecordToBeSaved);	
+		verify(currentlyGrowingRepository).flush();
 	}
 	
 	
@@ -103,5 +116,34 @@ public class TestCurrentlyGrowingService  {
 		// Then
 		verify(currentlyGrowingRepository).existsBySeedPacket(seedPacketId);
 	}
+
+	
+	/**
+	 * Tests that an {@link EntityChangedEvent} is published for each change, once it has been made.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testChangesArePublished() {
+		
+		// Given
+		CurrentlyGrowing currentlyGrowingRecord = new CurrentlyGrowing();
+		when(currentlyGrowingRepository.save(currentlyGrowingRecord)).thenAnswer(invocation -> {
+			currentlyGrowingRecord.setId(1L);
+			return currentlyGrowingRecord;
+		});
+		ArgumentCaptor<EntityChangedEvent<CurrentlyGrowing>> events = ArgumentCaptor.forClass(EntityChangedEvent.class);
+		
+		// When
+		currentlyGrowingService.save(currentlyGrowingRecord);
+		currentlyGrowingService.save(currentlyGrowingRecord);
+		currentlyGrowingService.delete(currentlyGrowingRecord);
+		
+		// Then
+		verify(eventPublisher, times(3)).publishEvent(events.capture());
+		assertEquals("Expect the record to be created, updated then deleted", 
+				asList(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.DELETED), 
+				events.getAllValues().stream().map(EntityChangedEvent::getChangeType).collect(toList()));
+		assertEquals("Expect the event to carry the record", currentlyGrowingRecord, events.getValue().getEntity());
+	}
 		
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+package application.export;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Month;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import application.currentlygrowing.CurrentlyGrowingRepository;
+import application.previouslygrowing.PreviouslyGrowing;
+import application.previouslygrowing.PreviouslyGrowingRepository;
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketRepository;
+
+
+/**
+ * Tests for the {@link ExportService}.
+ */
+public class TestExportService {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	@Mock private SeedPacketRepository seedPacketRepository;
+	@Mock private CurrentlyGrowingRepository currentlyGrowingRepository;
+	@Mock private PreviouslyGrowingRepository previouslyGrowingRepository;
+	@Mock private EntityManager entityManager;
+
+	@InjectMocks private ExportService exportService;
+
+	private SeedPacket sweetPea = seedPacket(1L, "Sweet Pea", "Scented, \"old fashioned\" climber");
+	private SeedPacket lavender = seedPacket(2L, "Lavender", null);
+
+
+	/**
+	 * Initialises the mock objects.
+	 */
+	@Before
+	public void init() {
+		initMocks(this);
+		when(seedPacketRepository.streamAll()).thenReturn(Stream.of(sweetPea, lavender));
+	}
+
+
+	/**
+	 * Tests that seed packets are written as CSV, quoting values where required, and that each row is
+	 * detached once written.
+	 */
+	@Test
+	public void testExportSeedPacketsAsCsv() throws IOException {
+
+		// When
+		Path file = exportService.exportSeedPackets(folder.getRoot().toPath().resolve("seed_packet.csv"), ExportFormat.CSV, false);
+
+		// Then
+		List<String> lines = Files.readAllLines(file, UTF_8);
+		assertEquals("Expect a header and a line per row", 3, lines.size());
+		assertEquals("id,name,latin_name,type,variety,manufacturer,manufacturer_code,pack_size,number_remaining,"
+				+ "expiration_date,sowing_indoors_start_month,sowing_indoors_end_month,sowing_outdoors_start_month,"
+				+ "sowing_outdoors_end_month,harvest_start_month,harvest_end_month,flowering_start_month,"
+				+ "flowering_end_month,keywords,description", lines.get(0));
+		assertEquals("1,Sweet Pea,,Flower,,,,50,20,2021,MARCH,APRIL,,,,,JUNE,SEPTEMBER,,"
+				+ "\"Scented, \"\"old fashioned\"\" climber\"", lines.get(1));
+		verify(entityManager).detach(sweetPea);
+		verify(entityManager).detach(lavender);
+	}
+
+
+	/**
+	 * Tests that seed packets are written as an object per line, with typed values.
+	 */
+	@Test
+	public void testExportSeedPacketsAsNdjson() throws IOException {
+
+		// When
+		Path file = exportService.exportSeedPackets(folder.getRoot().toPath().resolve("seed_packet.ndjson"), ExportFormat.NDJSON, false);
+
+		// Then
+		List<String> lines = Files.readAllLines(file, UTF_8);
+		assertEquals("Expect a line per row", 2, lines.size());
+		assertEquals("{\"id\":2,\"name\":\"Lavender\",\"latin_name\":null,\"type\":\"Flower\",\"variety\":null,"
+				+ "\"manufacturer\":null,\"manufacturer_code\":null,\"pack_size\":50,\"number_remaining\":20,"
+				+ "\"expiration_date\":2021,\"sowing_indoors_start_month\":\"MARCH\","
+				+ "\"sowing_indoors_end_month\":\"APRIL\",\"sowing_outdoors_start_month\":null,"
+				+ "\"sowing_outdoors_end_month\":null,\"harvest_start_month\":null,\"harvest_end_month\":null,"
+				+ "\"flowering_start_month\":\"JUNE\",\"flowering_end_month\":\"SEPTEMBER\",\"keywords\":null,"
+				+ "\"description\":null}", lines.get(1));
+	}
+
+
+	/**
+	 * Tests that exporting everything writes a compressed file per table.
+	 */
+	@Test
+	public void testExportAllCompressed() throws IOException {
+
+		// Given
+		PreviouslyGrowing previouslyGrowing = new PreviouslyGrowing();
+		previouslyGrowing.setId(7L);
+		previouslyGrowing.setSeedPacket(1L);
+		previouslyGrowing.setStarRating(4);
+		when(currentlyGrowingRepository.streamAll()).thenReturn(Stream.empty());
+		when(previouslyGrowingRepository.streamAll()).thenReturn(Stream.of(previouslyGrowing));
+
+		// When
+		List<Path> files = exportService.exportAll(folder.getRoot().toPath().resolve("export"), ExportFormat.CSV, true);
+
+		// Then
+		assertEquals("Expect a file per table", 3, files.size());
+		assertEquals("seed_packet.csv.gz", files.get(0).getFileName().toString());
+		assertEquals("Expect the seed packets", 3, readCompressed(files.get(0)).size());
+		assertEquals("Expect only the header", 1, readCompressed(files.get(1)).size());
+		assertEquals("7,1,false,,,,,,,,,,,4,false,", readCompressed(files.get(2)).get(1));
+	}
+
+
+	/*
+	 * Private helper method to read the lines of a compressed file.
+	 */
+	private static List<String> readCompressed(Path file) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), UTF_8))) {
+			return reader.lines().collect(Collectors.toList());
+		}
+	}
+
+
+	/*
+	 * Private helper method to create a seed packet.
+	 */
+	private static SeedPacket seedPacket(Long id, String name, String description) {
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(id);
+		seedPacket.setName(name);
+		seedPacket.setType("Flower");
+		seedPacket.setPackSize(50);
+		seedPacket.setNumberRemaining(20);
+		seedPacket.setExpirationDate(2021);
+		seedPacket.setSowingIndoorsStartMonth(Month.MARCH);
+		seedPacket.setSowingIndoorsEndMonth(Month.APRIL);
+		seedPacket.setFloweringStartMonth(Month.JUNE);
+		seedPacket.setFloweringEndMonth(Month.SEPTEMBER);
+		seedPacket.setDescription(description);
+		return seedPacket;
+	}
+
+}
@@ -0,0 +1,329 @@
+package application.growing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.currentlygrowing.CurrentlyGrowingService;
+import application.integration.support.SeedPacketBuilder;
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketCache;
+import application.seeds.SeedPacketCalendarIndex;
+import application.seeds.SeedPacketNameResolver;
+import application.seeds.SeedPacketSearchService;
+import application.seeds.SeedPacketService;
+
+
+/**
+ * Tests for the {@link GrowingLifecycleService} against a database migrated by Flyway, so that the
+ * native statements and the optimistic locking are run for real. Each service call commits its own
+ * transaction, as it does in the application, and the services are proxied by class as they are in the
+ * application.
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({ GrowingLifecycleService.class, CurrentlyGrowingService.class, SeedPacketService.class, SeedPacketCache.class,
+		SeedPacketCalendarIndex.class, SeedPacketSearchService.class, SeedPacketNameResolver.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TestGrowingLifecyclePersistence {
+
+	private static final LocalDate TODAY = LocalDate.of(2020, 6, 1);
+
+	@Autowired private GrowingLifecycleService growingLifecycleService;
+	@Autowired private SeedPacketService seedPacketService;
+	@Autowired private JdbcTemplate jdbcTemplate;
+
+
+	@After
+	public void tearDown() {
+		jdbcTemplate.update("delete from previously_growing");
+		jdbcTemplate.update("delete from currently_growing");
+		jdbcTemplate.update("delete from seed_packet");
+	}
+
+
+	/**
+	 * Tests that a record can be edited again after being edited, i.e. that the version carried back
+	 * from each save is the one committed.
+	 */
+	@Test
+	public void testRecordCanBeEditedTwice() {
+
+		// Given
+		CurrentlyGrowing currentlyGrowing = record(seedPacket("Tomato", 20));
+		growingLifecycleService.sow(currentlyGrowing, 5);
+
+		// When
+		currentlyGrowing.setNotes("Germinating");
+		growingLifecycleService.sow(currentlyGrowing, 0);
+		currentlyGrowing.setNotes("Potted on");
+		growingLifecycleService.sow(currentlyGrowing, 0);
+
+		// Then
+		assertEquals("Expect both edits to be saved", "Potted on", jdbcTemplate.queryForObject(
+				"select notes from currently_growing where id = ?", String.class, currentlyGrowing.getId()));
+		assertEquals("Expect the record to hold the version saved", jdbcTemplate.queryForObject(
+				"select version from currently_growing where id = ?", Long.class, currentlyGrowing.getId()), currentlyGrowing.getVersion());
+	}
+
+
+	/**
+	 * Tests that sowing deducts the seeds sown from the packet in the database, and increments the
+	 * version of the packet.
+	 */
+	@Test
+	public void testSowDeductsSeeds() {
+
+		// Given
+		SeedPacket seedPacket = seedPacket("Tomato", 20);
+
+		// When
+		growingLifecycleService.sow(record(seedPacket), 5);
+
+		// Then
+		assertEquals("Expect the seeds sown to be deducted", Integer.valueOf(15), numberRemaining(seedPacket));
+		assertEquals("Expect the version to be incremented", Long.valueOf(seedPacket.getVersion() + 1), version(seedPacket));
+	}
+
+
+	/**
+	 * Tests that sowing more seeds than are thought to remain leaves none, rather than a negative number.
+	 */
+	@Test
+	public void testDeductionStopsAtZero() {
+
+		// Given
+		SeedPacket seedPacket = seedPacket("Tomato", 3);
+
+		// When
+		growingLifecycleService.sow(record(seedPacket), 5);
+
+		// Then
+		assertEquals("Expect no seeds to remain", Integer.valueOf(0), numberRemaining(seedPacket));
+	}
+
+
+	/**
+	 * Tests that reducing the number sown when editing a record returns the difference to the packet.
+	 */
+	@Test
+	public void testEditingReturnsSeeds() {
+
+		// Given
+		SeedPacket seedPacket = seedPacket("Tomato", 20);
+		CurrentlyGrowing currentlyGrowing = record(seedPacket);
+		growingLifecycleService.sow(currentlyGrowing, 5);
+
+		// When
+		currentlyGrowing.setNumberSown(2);
+		growingLifecycleService.sow(currentlyGrowing, -3);
+
+		// Then
+		assertEquals("Expect the difference to be returned", Integer.valueOf(18), numberRemaining(seedPacket));
+	}
+
+
+	/**
+	 * Tests that packets without a number remaining are left alone, while the record is still saved.
+	 */
+	@Test
+	public void testPacketWithoutNumberRemainingIsLeftAlone() {
+
+		// Given
+		SeedPacket seedPacket = seedPacket("Tomato", null);
+		CurrentlyGrowing currentlyGrowing = record(seedPacket);
+
+		// When
+		growingLifecycleService.sow(currentlyGrowing, 5);
+
+		// Then
+		assertNull("Expect the number remaining to stay unknown", numberRemaining(seedPacket));
+		assertEquals("Expect the version to be unchanged", seedPacket.getVersion(), version(seedPacket));
+		assertNotNull("Expect the record to be saved", currentlyGrowing.getId());
+	}
+
+
+	/**
+	 * Tests that a seed packet read before seeds were deducted from it cannot then be saved over the
+	 * deduction.
+	 */
+	@Test(expected = ObjectOptimisticLockingFailureException.class)
+	public void testStaleSeedPacketIsRejected() {
+
+		// Given
+		SeedPacket seedPacket = seedPacket("Tomato", 20);
+		growingLifecycleService.sow(record(seedPacket), 5);
+
+		// When
+		seedPacket.setNumberRemaining(20);
+		seedPacketService.save(seedPacket);
+	}
+
+
+	/**
+	 * Tests that finishing a record moves it to the previously growing records, keeping its ID and
+	 * values, and recording the outcome.
+	 */
+	@Test
+	public void testFinish() {
+
+		// Given
+		CurrentlyGrowing currentlyGrowing = record(seedPacket("Tomato", 20));
+		currentlyGrowing.setIndoors(true);
+		currentlyGrowing.setLocation("Greenhouse");
+		currentlyGrowing.setNotes("Potted on");
+		growingLifecycleService.sow(currentlyGrowing, 5);
+
+		// When
+		boolean finished = growingLifecycleService.finish(currentlyGrowing.getId(), new GrowingOutcome(TODAY, true, 4, "Cropped well", null));
+
+		// Then
+		assertTrue("Expect the record to be finished", finished);
+		assertEquals("Expect the record to be removed", 0, count("currently_growing"));
+		Map<String, Object> row = jdbcTemplate.queryForMap("select * from previously_growing where id = ?", currentlyGrowing.getId());
+		assertEquals("Expect the seed packet to be copied", currentlyGrowing.getSeedPacket().longValue(), ((Number) row.get("seed_packet")).longValue());
+		assertEquals("Expect the number sown to be copied", 5, ((Number) row.get("number_sown")).intValue());
+		assertEquals("Expect the date sown to be copied", Date.valueOf(TODAY), row.get("date_sown"));
+		assertEquals("Expect the location to be copied", "Greenhouse", row.get("location"));
+		assertEquals("Expect the notes to be copied", "Potted on", row.get("notes"));
+		assertEquals("Expect the record to stay indoors", true, row.get("indoors"));
+		assertEquals("Expect the date closed to be recorded", Date.valueOf(TODAY), row.get("date_closed"));
+		assertEquals("Expect the outcome to be recorded", true, row.get("was_successful"));
+		assertEquals("Expect the rating to be recorded", 4, ((Number) row.get("star_rating")).intValue());
+		assertEquals("Expect the notes on performance to be recorded", "Cropped well", row.get("performance_notes"));
+		assertNull("Expect no cause of failure", row.get("cause_of_failure"));
+	}
+
+
+	/**
+	 * Tests that more records than fit in one statement are all finished.
+	 */
+	@Test
+	public void testFinishAllAcrossStatements() {
+
+		// Given
+		List<Long> ids = records(seedPacket("Tomato", null), 1001);
+
+		// When
+		int finished = growingLifecycleService.finishAll(ids, new GrowingOutcome(TODAY, false, null, null, "Frost"));
+
+		// Then
+		assertEquals("Expect every record to be finished", 1001, finished);
+		assertEquals("Expect every record to be removed", 0, count("currently_growing"));
+		assertEquals("Expect every record to be moved", 1001, count("previously_growing"));
+		assertEquals("Expect the IDs to be kept", Long.valueOf(ids.get(1000)), jdbcTemplate.queryForObject(
+				"select max(id) from previously_growing", Long.class));
+	}
+
+
+	/**
+	 * Tests that if any record cannot be moved, e.g. as a previously growing record already has its ID,
+	 * none are, even those in statements which had already been run.
+	 */
+	@Test
+	public void testFinishAllIsAllOrNothing() {
+
+		// Given
+		List<Long> ids = records(seedPacket("Tomato", null), 1001);
+		jdbcTemplate.update("insert into previously_growing (id, seed_packet, indoors, was_successful) values (?, 1, false, true)", ids.get(1000));
+
+		// When
+		try {
+			growingLifecycleService.finishAll(ids, new GrowingOutcome(TODAY, true, null, null, null));
+			fail("Expect the records not to be finished");
+		} catch (DataIntegrityViolationException e) {
+			// expected
+		}
+
+		// Then
+		assertEquals("Expect every record to still be growing", 1001, count("currently_growing"));
+		assertEquals("Expect no records to be moved", 1, count("previously_growing"));
+	}
+
+
+	/*
+	 * Private helper method to save a seed packet.
+	 */
+	private SeedPacket seedPacket(String name, Integer numberRemaining) {
+		SeedPacket seedPacket = new SeedPacketBuilder().withName(name).withType(name).build();
+		seedPacket.setNumberRemaining(numberRemaining);
+		seedPacketService.save(seedPacket);
+		return seedPacket;
+	}
+
+
+	/*
+	 * Private helper method to create a currently growing record, sown from a seed packet.
+	 */
+	private CurrentlyGrowing record(SeedPacket seedPacket) {
+		CurrentlyGrowing currentlyGrowing = new CurrentlyGrowing();
+		currentlyGrowing.setSeedPacket(seedPacket.getId());
+		currentlyGrowing.setNumberSown(5);
+		currentlyGrowing.setDateSown(TODAY);
+		return currentlyGrowing;
+	}
+
+
+	/*
+	 * Private helper method to read the number of seeds remaining in a packet from the database.
+	 */
+	private Integer numberRemaining(SeedPacket seedPacket) {
+		return jdbcTemplate.queryForObject("select number_remaining from seed_packet where id = ?", Integer.class, seedPacket.getId());
+	}
+
+
+	/*
+	 * Private helper method to read the version of a packet from the database.
+	 */
+	private Long version(SeedPacket seedPacket) {
+		return jdbcTemplate.queryForObject("select version from seed_packet where id = ?", Long.class, seedPacket.getId());
+	}
+
+
+	/*
+	 * Private helper method to insert many currently growing records at once.
+	 * @return The IDs of the records, in order
+	 */
+	private List<Long> records(SeedPacket seedPacket, int count) {
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			rows.add(new Object[] { seedPacket.getId(), Date.valueOf(TODAY) });
+		}
+		jdbcTemplate.batchUpdate("insert into currently_growing (seed_packet, indoors, number_sown, date_sown) values (?, false, 1, ?)", rows);
+		return jdbcTemplate.queryForList("select id from currently_growing order by id", Long.class);
+	}
+
+
+	/*
+	 * Private helper method to count the rows in a table.
+	 */
+	private int count(String table) {
+		return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+	}
+
+}
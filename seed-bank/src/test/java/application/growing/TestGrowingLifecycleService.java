@@ -0,0 +1,235 @@
+package application.growing;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.currentlygrowing.CurrentlyGrowingRepository;
+import application.currentlygrowing.CurrentlyGrowingService;
+import application.events.ChangeType;
+import application.events.EntityChangedEvent;
+import application.previouslygrowing.PreviouslyGrowing;
+import application.previouslygrowing.PreviouslyGrowingRepository;
+import application.seeds.SeedPacketService;
+
+
+/**
+ * Tests for the {@link GrowingLifecycleService}.
+ */
+public class TestGrowingLifecycleService {
+
+	private static final LocalDate TODAY = LocalDate.of(2020, 6, 1);
+
+	@Mock private CurrentlyGrowingRepository currentlyGrowingRepository;
+	@Mock private PreviouslyGrowingRepository previouslyGrowingRepository;
+	@Mock private CurrentlyGrowingService currentlyGrowingService;
+	@Mock private SeedPacketService seedPacketService;
+	@Mock private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks private GrowingLifecycleService growingLifecycleService;
+
+	private final GrowingOutcome outcome = new GrowingOutcome(TODAY, true, 4, "Cropped well", null);
+
+
+	@Before
+	public void init() {
+		initMocks(this);
+	}
+
+
+	/**
+	 * Tests that the {@link GrowingLifecycleService#sow(CurrentlyGrowing, int)} method saves the record
+	 * and deducts the seeds sown from its packet.
+	 */
+	@Test
+	public void testSow() {
+
+		// Given
+		CurrentlyGrowing currentlyGrowing = record(null);
+
+		// When
+		growingLifecycleService.sow(currentlyGrowing, 12);
+
+		// Then
+		verify(currentlyGrowingService).save(currentlyGrowing);
+		verify(seedPacketService).deductSeeds(10L, 12);
+	}
+
+
+	/**
+	 * Tests that editing a record without changing the number sown leaves the packet alone.
+	 */
+	@Test
+	public void testSowWithNothingToDeduct() {
+
+		// When
+		growingLifecycleService.sow(record(1L), 0);
+
+		// Then
+		verify(seedPacketService, never()).deductSeeds(any(), anyInt());
+	}
+
+
+	/**
+	 * Tests that the {@link GrowingLifecycleService#finish(Long, GrowingOutcome)} method moves the record
+	 * with one insert and one delete, and publishes the changes.
+	 */
+	@Test
+	public void testFinish() {
+
+		// Given
+		CurrentlyGrowing currentlyGrowing = record(1L);
+		when(currentlyGrowingRepository.findAllById(asList(1L))).thenReturn(asList(currentlyGrowing));
+		when(previouslyGrowingRepository.insertFromCurrentlyGrowing(asList(1L), TODAY, "Cropped well", 4, true, null)).thenReturn(1);
+		when(currentlyGrowingRepository.deleteByIdIn(asList(1L))).thenReturn(1);
+
+		// When
+		boolean finished = growingLifecycleService.finish(1L, outcome);
+
+		// Then
+		assertTrue("Expect the record to be finished", finished);
+		verify(previouslyGrowingRepository).insertFromCurrentlyGrowing(asList(1L), TODAY, "Cropped well", 4, true, null);
+		verify(currentlyGrowingRepository).deleteByIdIn(asList(1L));
+		verify(previouslyGrowingRepository, never()).save(any());
+		verify(currentlyGrowingRepository, never()).delete(any());
+
+		List<EntityChangedEvent<?>> events = publishedEvents(2);
+		assertEquals("Expect the currently growing record to be deleted", ChangeType.DELETED, events.get(0).getChangeType());
+		assertEquals("Expect the deleted record to be the one finished", currentlyGrowing, events.get(0).getEntity());
+		assertEquals("Expect a previously growing record to be created", ChangeType.CREATED, events.get(1).getChangeType());
+		PreviouslyGrowing previouslyGrowing = (PreviouslyGrowing) events.get(1).getEntity();
+		assertEquals("Expect the ID to be kept", Long.valueOf(1), previouslyGrowing.getId());
+		assertEquals("Expect the seed packet to be copied", Long.valueOf(10), previouslyGrowing.getSeedPacket());
+		assertEquals("Expect the outcome to be recorded", TODAY, previouslyGrowing.getDateClosed());
+		assertEquals("Expect the outcome to be recorded", "Cropped well", previouslyGrowing.getPerformanceNotes());
+	}
+
+
+	/**
+	 * Tests that finishing a record which is no longer currently growing does nothing.
+	 */
+	@Test
+	public void testFinishUnknownRecord() {
+
+		// Given
+		when(currentlyGrowingRepository.findAllById(asList(1L))).thenReturn(Collections.emptyList());
+
+		// When
+		boolean finished = growingLifecycleService.finish(1L, outcome);
+
+		// Then
+		assertFalse("Expect nothing to be finished", finished);
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+
+	/**
+	 * Tests that the {@link GrowingLifecycleService#finishAll(java.util.Collection, GrowingOutcome)} method
+	 * moves the records with one insert and one delete, ignoring duplicate IDs.
+	 */
+	@Test
+	public void testFinishAll() {
+
+		// Given
+		List<Long> ids = asList(1L, 2L, 3L);
+		when(currentlyGrowingRepository.findAllById(ids)).thenReturn(asList(record(1L), record(2L), record(3L)));
+		when(previouslyGrowingRepository.insertFromCurrentlyGrowing(ids, TODAY, "Cropped well", 4, true, null)).thenReturn(3);
+
+		// When
+		int finished = growingLifecycleService.finishAll(asList(1L, 2L, 3L, 2L), outcome);
+
+		// Then
+		assertEquals("Expect every record to be finished", 3, finished);
+		verify(previouslyGrowingRepository).insertFromCurrentlyGrowing(ids, TODAY, "Cropped well", 4, true, null);
+		verify(currentlyGrowingRepository).deleteByIdIn(ids);
+		publishedEvents(6);
+	}
+
+
+	/**
+	 * Tests that finishing no records does not touch the database.
+	 */
+	@Test
+	public void testFinishAllNone() {
+
+		// When
+		int finished = growingLifecycleService.finishAll(Collections.emptyList(), outcome);
+
+		// Then
+		assertEquals("Expect nothing to be finished", 0, finished);
+		verify(previouslyGrowingRepository, never()).insertFromCurrentlyGrowing(anyCollection(), any(), any(), any(), anyBoolean(), isNull());
+		verify(currentlyGrowingRepository, never()).deleteByIdIn(anyCollection());
+	}
+
+
+	/**
+	 * Tests that large batches are split across statements, so the IN lists stay bounded.
+	 */
+	@Test
+	public void testFinishAllSplitsLargeBatches() {
+
+		// Given
+		List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().collect(toList());
+		when(previouslyGrowingRepository.insertFromCurrentlyGrowing(anyCollection(), eq(TODAY), eq("Cropped well"), eq(4), eq(true), isNull()))
+				.thenReturn(1000, 1000, 500);
+
+		// When
+		int finished = growingLifecycleService.finishAll(ids, outcome);
+
+		// Then
+		assertEquals("Expect every record to be finished", 2500, finished);
+		verify(previouslyGrowingRepository, times(3)).insertFromCurrentlyGrowing(anyCollection(), eq(TODAY), eq("Cropped well"), eq(4), eq(true), isNull());
+		verify(currentlyGrowingRepository, times(3)).deleteByIdIn(anyCollection());
+	}
+
+
+	/*
+	 * Private helper method to create a currently growing record.
+	 */
+	private CurrentlyGrowing record(Long id) {
+		CurrentlyGrowing currentlyGrowing = new CurrentlyGrowing();
+		currentlyGrowing.setId(id);
+		currentlyGrowing.setSeedPacket(10L);
+		currentlyGrowing.setNumberSown(12);
+		currentlyGrowing.setDateSown(TODAY.minusMonths(3));
+		return currentlyGrowing;
+	}
+
+
+	/*
+	 * Private helper method to capture the change events published.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<EntityChangedEvent<?>> publishedEvents(int expected) {
+		ArgumentCaptor<EntityChangedEvent<?>> events = ArgumentCaptor.forClass(EntityChangedEvent.class);
+		verify(eventPublisher, times(expected)).publishEvent(events.capture());
+		return events.getAllValues();
+	}
+
+}
@@ -25,6 +25,7 @@ import application.manufacturer.Manufacturer;
 import application.manufacturer.ManufacturerService;
 import application.seeds.SeedPacket;
 import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
 import application.type.Type;
 import application.type.TypeService;
 import javafx.scene.Node;
@@ -159,8 +160,8 @@ public class TestSeedPacketRepositoryManagement extends TestApplicationBase {
 
 		// Grab the TableView
 		@SuppressWarnings("unchecked")
-		TableView<SeedPacket> seedPacketTable = 
-		(TableView<SeedPacket>) Stage.getWindows().get(0).getScene()
+		TableView<SeedPacketSummary> seedPacketTable = 
+		(TableView<SeedPacketSummary>) Stage.getWindows().get(0).getScene()
 		.lookup("#seedPacketTable");
 
 		// Select the first entry (seedPacket1)
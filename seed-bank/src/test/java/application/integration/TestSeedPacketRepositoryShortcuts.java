@@ -13,8 +13,8 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.testfx.api.FxRobot;
 
 import application.TestApplicationBase;
-import application.seeds.SeedPacket;
 import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
 import application.type.Type;
 import application.type.TypeService;
 import javafx.scene.Node;
@@ -85,8 +85,8 @@ public class TestSeedPacketRepositoryShortcuts extends TestApplicationBase {
 
 		//  TEST Cmd+V OPENS 'VIEW' POP-UP
 		@SuppressWarnings("unchecked") // Grab the TableView
-		TableView<SeedPacket> seedPacketTable = 
-		(TableView<SeedPacket>) Stage.getWindows().get(0).getScene()
+		TableView<SeedPacketSummary> seedPacketTable = 
+		(TableView<SeedPacketSummary>) Stage.getWindows().get(0).getScene()
 		.lookup("#seedPacketTable");
 
 		seedPacketTable.getSelectionModel().select(0); 	// Select the first (currently only) entry
@@ -13,6 +13,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+import application.cache.ReferenceDataCache;
 
 
 /**
@@ -21,6 +24,8 @@ import org.mockito.Mock;
 public class TestManufacturerService  {
 
 	@Mock private ManufacturerRepository manufacturerRepository;
+	@Mock private ReferenceDataCache referenceDataCache;
+	@Mock private ApplicationEventPublisher eventPublisher;
 	
 	@InjectMocks private ManufacturerService manufacturerService;
 	
@@ -45,7 +50,8 @@ public class TestManufacturerService  {
 		manufacturerService.save(manufacturerToBeSaved);
 		
 		// Then
-		verify(manufacturerRepository).save(manufacturerToBeSaved);	
+		verify(manufacturerRepository).save(manufacturerToBeSaved);
+		verify(referenceDataCache).evict(Manufacturer.class, ManufacturerRepository.FIND_ALL_CACHE_REGION);	
 	}
 	
 	
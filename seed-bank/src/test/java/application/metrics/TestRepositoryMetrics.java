@@ -0,0 +1,109 @@
+package application.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+
+/**
+ * Tests for the {@link RepositoryMetrics}.
+ */
+public class TestRepositoryMetrics {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SeedPacketRepository seedPacketRepository = mock(SeedPacketRepository.class);
+
+	private RepositoryMetrics repositoryMetrics = new RepositoryMetrics();
+
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void init() {
+		ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+		when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+		setField(repositoryMetrics, "meterRegistry", meterRegistryProvider);
+	}
+
+
+	/**
+	 * Tests that calls to a timed repository are recorded, tagged with the repository, method and caller.
+	 */
+	@Test
+	public void testCallsAreTimed() {
+
+		// Given
+		SeedPacket seedPacket = new SeedPacket();
+		when(seedPacketRepository.findById(1L)).thenReturn(Optional.of(seedPacket));
+		SeedPacketRepository timed = (SeedPacketRepository) repositoryMetrics.postProcessAfterInitialization(seedPacketRepository, "seedPacketRepository");
+
+		// When
+		Optional<SeedPacket> found = timed.findById(1L);
+		timed.findById(1L);
+
+		// Then
+		assertSame("Expect the call to reach the repository", seedPacket, found.get());
+		Timer timer = meterRegistry.find(RepositoryMetrics.TIMER_NAME)
+				.tags("repository", "SeedPacketRepository", "method", "findById", "caller", "unknown", "exception", "none")
+				.timer();
+		assertNotNull("Expect the calls to be timed", timer);
+		assertEquals("Expect both calls to be counted", 2, timer.count());
+	}
+
+
+	/**
+	 * Tests that failed calls are recorded with the exception thrown, and the exception passed on.
+	 */
+	@Test
+	public void testFailuresAreTimed() {
+
+		// Given
+		when(seedPacketRepository.findById(1L)).thenThrow(new IllegalStateException("Connection lost"));
+		SeedPacketRepository timed = (SeedPacketRepository) repositoryMetrics.postProcessAfterInitialization(seedPacketRepository, "seedPacketRepository");
+
+		// When
+		try {
+			timed.findById(1L);
+			fail("Expect the exception to be passed on");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		// Then
+		assertNotNull("Expect the failure to be timed", meterRegistry.find(RepositoryMetrics.TIMER_NAME)
+				.tags("method", "findById", "exception", "IllegalStateException").timer());
+	}
+
+
+	/**
+	 * Tests that other beans are left alone.
+	 */
+	@Test
+	public void testOtherBeansAreNotTimed() {
+
+		// Given
+		Object bean = new Object();
+
+		// When
+		Object processed = repositoryMetrics.postProcessAfterInitialization(bean, "bean");
+
+		// Then
+		assertSame(bean, processed);
+	}
+
+}
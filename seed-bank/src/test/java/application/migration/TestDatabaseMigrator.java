@@ -0,0 +1,108 @@
+package application.migration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+
+/**
+ * Tests for the {@link DatabaseMigrator}, copying between two in-memory databases.
+ */
+public class TestDatabaseMigrator {
+
+	private DriverManagerDataSource source;
+	private DriverManagerDataSource target;
+	private DatabaseMigrator databaseMigrator;
+
+
+	@Before
+	public void init() {
+		source = dataSource();
+		target = dataSource();
+		databaseMigrator = new DatabaseMigrator(source, target, 2);
+	}
+
+
+	/**
+	 * Tests that every table is copied, in batches, keeping the IDs of the rows.
+	 */
+	@Test
+	public void testTablesAreCopied() throws Exception {
+
+		// Given
+		JdbcTemplate from = new JdbcTemplate(source);
+		databaseMigrator.migrate(false);
+		from.update("insert into type (id, name, family, edible, ornamental) values (3, 'Tomato', 'Solanaceae', true, false)");
+		from.update("insert into manufacturer (id, name, url) values (4, 'Suttons', null)");
+		for (int id = 1; id <= 5; id++) {
+			from.update("insert into seed_packet (id, name, type, number_remaining) values (?, ?, 'Tomato', 10)", id, "Tomato " + id);
+		}
+		from.update("insert into currently_growing (id, seed_packet, indoors, number_sown, date_sown) values (7, 1, true, 6, '2020-03-01')");
+		from.update("insert into previously_growing (id, seed_packet, indoors, was_successful, date_closed) values (6, 2, false, true, '2019-09-01')");
+
+		// When
+		Map<String, Long> copied = databaseMigrator.migrate(false);
+
+		// Then
+		assertEquals("Expect every seed packet to be copied", Long.valueOf(5), copied.get("seed_packet"));
+		assertEquals("Expect every table to be copied", DatabaseMigrator.TABLES.size(), copied.size());
+
+		JdbcTemplate to = new JdbcTemplate(target);
+		assertEquals("Tomato 5", to.queryForObject("select name from seed_packet where id = 5", String.class));
+		assertEquals(Integer.valueOf(6), to.queryForObject("select number_sown from currently_growing where id = 7", Integer.class));
+		assertTrue("Expect the outcome to be copied", to.queryForObject("select was_successful from previously_growing where id = 6", Boolean.class));
+		assertEquals("Suttons", to.queryForObject("select name from manufacturer where id = 4", String.class));
+
+		// And the generated IDs carry on after the copied rows
+		to.update("insert into type (name, edible, ornamental) values ('Pepper', true, false)");
+		assertEquals(Long.valueOf(4), to.queryForObject("select id from type where name = 'Pepper'", Long.class));
+	}
+
+
+	/**
+	 * Tests that rows already in the target are not overwritten unless replacing.
+	 */
+	@Test
+	public void testTargetMustBeEmptyUnlessReplacing() throws Exception {
+
+		// Given
+		databaseMigrator.migrate(false);
+		new JdbcTemplate(target).update("insert into manufacturer (id, name) values (1, 'Old')");
+		new JdbcTemplate(source).update("insert into manufacturer (id, name) values (1, 'New')");
+
+		// When
+		try {
+			databaseMigrator.migrate(false);
+			fail("Expect the migration to be refused");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		// Then
+		JdbcTemplate to = new JdbcTemplate(target);
+		assertEquals("Expect the target to be left alone", "Old", to.queryForObject("select name from manufacturer", String.class));
+
+		// When
+		databaseMigrator.migrate(true);
+
+		// Then
+		assertEquals("Expect the target to be replaced", "New", to.queryForObject("select name from manufacturer", String.class));
+	}
+
+
+	/*
+	 * Private helper method to create an empty in-memory database.
+	 */
+	private DriverManagerDataSource dataSource() {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+	}
+
+}
@@ -0,0 +1,84 @@
+package application.migration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import application.integration.support.SeedPacketBuilder;
+import application.seeds.SeedPacket;
+import application.seeds.SeedPacketIdInitialiser;
+import application.seeds.SeedPacketRepository;
+
+
+/**
+ * Tests that a database created by Hibernate before the Flyway migrations were introduced is baselined
+ * and migrated up to the latest version, and that the entities then validate against it.
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:pre-flyway;MODE=MySQL;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/pre-flyway-schema.sql'",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.flyway.baseline-on-migrate=true",
+		"spring.flyway.baseline-version=1" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SeedPacketIdInitialiser.class)
+public class TestSchemaMigrations {
+
+	@Autowired private Flyway flyway;
+	@Autowired private JdbcTemplate jdbcTemplate;
+	@Autowired private SeedPacketIdInitialiser seedPacketIdInitialiser;
+	@Autowired private SeedPacketRepository seedPacketRepository;
+
+
+	/**
+	 * Tests that the existing schema is baselined at version 1, and every later migration applied.
+	 */
+	@Test
+	public void testBaselinedDatabaseIsMigratedToLatest() {
+
+		// When
+		List<String> versions = jdbcTemplate.queryForList(
+				"select \"version\" from \"flyway_schema_history\" order by \"installed_rank\"", String.class);
+
+		// Then
+		assertEquals("Expect the existing schema to be baselined", "1", versions.get(0));
+		assertEquals("Expect every migration to be applied",
+				flyway.info().all()[flyway.info().all().length - 1].getVersion().getVersion(), versions.get(versions.size() - 1));
+		assertEquals("Expect no migrations to be pending", 0, flyway.info().pending().length);
+	}
+
+
+	/**
+	 * Tests that seed packets saved before the id_generator table existed are not clashed with by new
+	 * seed packets, whose IDs are allocated from the table. Not run in a transaction, as the IDs are 
+	 * allocated in a transaction of their own.
+	 */
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void testSeedPacketIdsAreAllocatedAfterExistingPackets() {
+
+		// Given
+		jdbcTemplate.update("insert into seed_packet (id, name, type) values (7, 'Tomato', 'Tomato')");
+		seedPacketIdInitialiser.initialise();
+
+		// When
+		SeedPacket seedPacket = seedPacketRepository.save(new SeedPacketBuilder().withName("Pepper").withType("Pepper").build());
+
+		// Then
+		assertTrue("Expect the ID to be allocated after the existing packet", seedPacket.getId() > 7);
+	}
+
+}
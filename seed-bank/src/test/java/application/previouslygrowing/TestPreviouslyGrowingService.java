@@ -13,6 +13,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 
 /**
@@ -21,6 +22,7 @@ import org.mockito.Mock;
 public class TestPreviouslyGrowingService  {
 
 	@Mock private PreviouslyGrowingRepository previouslyGrowingRepository;
+	@Mock private ApplicationEventPublisher eventPublisher;
 	
 	@InjectMocks private PreviouslyGrowingService previouslyGrowingService;
 	
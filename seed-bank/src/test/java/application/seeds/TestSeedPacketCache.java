@@ -0,0 +1,137 @@
+package application.seeds;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+
+/**
+ * Tests for the {@link SeedPacketCache}.
+ */
+public class TestSeedPacketCache {
+
+
+	/**
+	 * Tests that a cached {@link SeedPacket} can be looked up by both ID and name, and that the
+	 * hit and miss counters are updated accordingly.
+	 */
+	@Test
+	public void testLookupByIdAndName() {
+
+		// Given
+		SeedPacketCache cache = new SeedPacketCache(true, 10);
+		SeedPacket seedPacket = seedPacket(1L, "Carrot");
+
+		// When
+		cache.put(seedPacket);
+
+		// Then
+		assertEquals("Expect SeedPacket to be found by ID", "Carrot", cache.getById(1L).get().getName());
+		assertEquals("Expect SeedPacket to be found by name", Long.valueOf(1L), cache.getByName("Carrot").get().getId());
+		assertFalse("Expect unknown ID to miss", cache.getById(2L).isPresent());
+		assertEquals("Expect two hits", 2, cache.getHits());
+		assertEquals("Expect one miss", 1, cache.getMisses());
+	}
+
+
+	/**
+	 * Tests that the least recently used {@link SeedPacket} is evicted once the cache is full.
+	 */
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+
+		// Given
+		SeedPacketCache cache = new SeedPacketCache(true, 2);
+		cache.put(seedPacket(1L, "Carrot"));
+		cache.put(seedPacket(2L, "Parsnip"));
+		cache.getById(1L); // Carrot is now the most recently used
+
+		// When
+		cache.put(seedPacket(3L, "Beetroot"));
+
+		// Then
+		assertEquals("Expect the cache to remain at its maximum size", 2, cache.size());
+		assertTrue("Expect Carrot to be retained", cache.getById(1L).isPresent());
+		assertFalse("Expect Parsnip to be evicted by ID", cache.getById(2L).isPresent());
+		assertFalse("Expect Parsnip to be evicted by name", cache.getByName("Parsnip").isPresent());
+		assertEquals("Expect one eviction", 1, cache.getEvictions());
+	}
+
+
+	/**
+	 * Tests that renaming a cached {@link SeedPacket} removes the old name from the index.
+	 */
+	@Test
+	public void testRename() {
+
+		// Given
+		SeedPacketCache cache = new SeedPacketCache(true, 10);
+		cache.put(seedPacket(1L, "Carrot"));
+
+		// When
+		cache.put(seedPacket(1L, "Carrot Nantes"));
+
+		// Then
+		assertFalse("Expect the old name to be removed", cache.getByName("Carrot").isPresent());
+		assertTrue("Expect the new name to be found", cache.getByName("Carrot Nantes").isPresent());
+	}
+
+
+	/**
+	 * Tests that changing a {@link SeedPacket} after caching it, or after looking it up, does not
+	 * change the cached copy, e.g. when an edit is cancelled.
+	 */
+	@Test
+	public void testCachedCopyIsNotChanged() {
+
+		// Given
+		SeedPacketCache cache = new SeedPacketCache(true, 10);
+		SeedPacket seedPacket = seedPacket(1L, "Carrot");
+		seedPacket.setNumberRemaining(10);
+		cache.put(seedPacket);
+
+		// When
+		seedPacket.setNumberRemaining(5);
+		SeedPacket lookedUp = cache.getById(1L).get();
+		lookedUp.setNumberRemaining(0);
+		lookedUp.setName("Parsnip");
+
+		// Then
+		assertNotSame("Expect a copy to be returned", seedPacket, lookedUp);
+		assertEquals("Expect the cached number remaining to be unchanged", Integer.valueOf(10), cache.getById(1L).get().getNumberRemaining());
+		assertEquals("Expect the cached name to be unchanged", "Carrot", cache.getByName("Carrot").get().getName());
+	}
+
+
+	/**
+	 * Tests that nothing is cached when the cache is switched off.
+	 */
+	@Test
+	public void testDisabled() {
+
+		// Given
+		SeedPacketCache cache = new SeedPacketCache(false, 10);
+
+		// When
+		cache.put(seedPacket(1L, "Carrot"));
+
+		// Then
+		assertEquals("Expect the cache to be empty", 0, cache.size());
+		assertFalse("Expect lookups to miss", cache.getById(1L).isPresent());
+	}
+
+
+	/*
+	 * Private helper method to create a seed packet with the specified ID and name.
+	 */
+	private SeedPacket seedPacket(Long id, String name) {
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(id);
+		seedPacket.setName(name);
+		return seedPacket;
+	}
+
+}
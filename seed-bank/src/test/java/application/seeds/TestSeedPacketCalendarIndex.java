@@ -0,0 +1,126 @@
+package application.seeds;
+
+import static application.seeds.CalendarWindow.HARVEST;
+import static application.seeds.CalendarWindow.SOWING_INDOORS;
+import static application.seeds.CalendarWindow.SOWING_OUTDOORS;
+import static java.time.Month.APRIL;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.FEBRUARY;
+import static java.time.Month.JANUARY;
+import static java.time.Month.JULY;
+import static java.time.Month.JUNE;
+import static java.time.Month.MARCH;
+import static java.time.Month.NOVEMBER;
+import static java.time.Month.OCTOBER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+
+/**
+ * Tests for the {@link SeedPacketCalendarIndex} and the {@link CalendarWindow} month masks.
+ */
+public class TestSeedPacketCalendarIndex {
+
+
+	/**
+	 * Tests the month mask of a window within a single year.
+	 */
+	@Test
+	public void testMask() {
+		assertEquals("Expect March to June", 0b000000111100, CalendarWindow.mask(MARCH, JUNE));
+		assertEquals("Expect a single month", 0b000001000000, CalendarWindow.mask(JULY, JULY));
+		assertEquals("Expect the whole year", 0xFFF, CalendarWindow.mask(JANUARY, DECEMBER));
+		assertEquals("Expect an unset window to be empty", 0, CalendarWindow.mask(null, null));
+	}
+
+
+	/**
+	 * Tests the month mask of a window which wraps the new year.
+	 */
+	@Test
+	public void testMaskWrappingTheNewYear() {
+
+		// When
+		int mask = CalendarWindow.mask(NOVEMBER, FEBRUARY);
+
+		// Then
+		assertTrue("Expect November to be included", CalendarWindow.includes(mask, NOVEMBER));
+		assertTrue("Expect December to be included", CalendarWindow.includes(mask, DECEMBER));
+		assertTrue("Expect January to be included", CalendarWindow.includes(mask, JANUARY));
+		assertTrue("Expect February to be included", CalendarWindow.includes(mask, FEBRUARY));
+		assertFalse("Expect March to be excluded", CalendarWindow.includes(mask, MARCH));
+		assertFalse("Expect October to be excluded", CalendarWindow.includes(mask, OCTOBER));
+	}
+
+
+	/**
+	 * Tests that seed packets can be looked up by month once indexed.
+	 */
+	@Test
+	public void testLookupByMonth() {
+
+		// Given
+		SeedPacketCalendarIndex index = new SeedPacketCalendarIndex();
+		SeedPacket tomato = seedPacket(1L, MARCH, APRIL);
+		SeedPacket broadBean = seedPacket(2L, NOVEMBER, FEBRUARY);
+
+		// When
+		index.rebuild(Arrays.asList(tomato, broadBean));
+
+		// Then
+		assertEquals("Expect only the tomato in March", Collections.singleton(1L), index.getIdsInWindow(SOWING_INDOORS, MARCH));
+		assertEquals("Expect only the broad bean in January", Collections.singleton(2L), index.getIdsInWindow(SOWING_INDOORS, JANUARY));
+		assertEquals("Expect nothing in July", 0, index.getIdsInWindow(SOWING_INDOORS, JULY).size());
+		assertEquals("Expect nothing outdoors", 0, index.getIdsInWindow(SOWING_OUTDOORS, MARCH).size());
+		assertTrue("Expect the broad bean in December", index.isInWindow(2L, SOWING_INDOORS, DECEMBER));
+		assertFalse("Expect no harvest window", index.isInWindow(2L, HARVEST, DECEMBER));
+	}
+
+
+	/**
+	 * Tests that updating and removing a seed packet re-indexes it incrementally.
+	 */
+	@Test
+	public void testUpdateAndRemove() {
+
+		// Given
+		SeedPacketCalendarIndex index = new SeedPacketCalendarIndex();
+		SeedPacket seedPacket = seedPacket(1L, MARCH, APRIL);
+		index.update(seedPacket);
+
+		// When
+		seedPacket.setSowingIndoorsStartMonth(JUNE);
+		seedPacket.setSowingIndoorsEndMonth(JULY);
+		index.update(seedPacket);
+
+		// Then
+		assertEquals("Expect the seed packet to have left March", 0, index.getIdsInWindow(SOWING_INDOORS, MARCH).size());
+		assertEquals("Expect the seed packet to have joined June", 1, index.getIdsInWindow(SOWING_INDOORS, JUNE).size());
+
+		// When
+		index.remove(seedPacket);
+
+		// Then
+		assertEquals("Expect the seed packet to have been removed", 0, index.getIdsInWindow(SOWING_INDOORS, JUNE).size());
+	}
+
+
+	/*
+	 * Private helper method to create a seed packet with the specified indoor sowing window.
+	 */
+	private SeedPacket seedPacket(Long id, Month start, Month end) {
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(id);
+		seedPacket.setSowingIndoorsStartMonth(start);
+		seedPacket.setSowingIndoorsEndMonth(end);
+		return seedPacket;
+	}
+
+}
@@ -0,0 +1,108 @@
+package application.seeds;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import application.statistics.SeedBankSnapshot;
+import application.statistics.SeedBankStatistics;
+
+
+/**
+ * Tests for the {@link SeedPacketFilter}.
+ */
+public class TestSeedPacketFilter {
+
+	private static final LocalDate TODAY = LocalDate.of(2020, Month.APRIL, 15);
+
+	private SeedPacketSummary carrot = seedPacket(1L, "Vegetable", "Suttons", Month.MARCH, Month.MAY, 2022, 100, 50);
+	private SeedPacketSummary parsnip = seedPacket(2L, "Vegetable", "Kings", Month.FEBRUARY, Month.MARCH, 2019, 100, 0);
+	private SeedPacketSummary sweetPea = seedPacket(3L, "Flower", "Suttons", Month.OCTOBER, Month.APRIL, null, null, null);
+
+	private List<SeedPacketSummary> seedPackets = asList(carrot, parsnip, sweetPea);
+
+
+	/**
+	 * Tests that a filter with no criteria matches every seed packet.
+	 */
+	@Test
+	public void testEmptyFilterMatchesEverything() {
+
+		// Given
+		SeedPacketFilter filter = new SeedPacketFilter(null, null, null, null, false, false);
+
+		// Then
+		assertTrue("Expect the filter to be empty", filter.isEmpty());
+		assertEquals("Expect every seed packet to match", seedPackets, apply(filter));
+	}
+
+
+	/**
+	 * Tests that each criterion is applied, and that a seed packet must match all of them.
+	 */
+	@Test
+	public void testCriteria() {
+		assertEquals("Expect the type to be matched", asList(carrot, parsnip), 
+				apply(new SeedPacketFilter("Vegetable", null, null, null, false, false)));
+		assertEquals("Expect both the type and manufacturer to be matched", asList(carrot), 
+				apply(new SeedPacketFilter("Vegetable", "Suttons", null, null, false, false)));
+		assertEquals("Expect the window to include the current month, wrapping the new year", asList(carrot, sweetPea), 
+				apply(new SeedPacketFilter(null, null, CalendarWindow.SOWING_INDOORS, null, false, false)));
+		assertEquals("Expect the window to include the chosen month", asList(carrot), 
+				apply(new SeedPacketFilter(null, null, CalendarWindow.SOWING_INDOORS, Month.MAY, false, false)));
+		assertEquals("Expect only the expired seed packet", asList(parsnip), 
+				apply(new SeedPacketFilter(null, null, null, null, true, false)));
+		assertEquals("Expect only the used up seed packet", asList(parsnip), 
+				apply(new SeedPacketFilter(null, null, null, null, false, true)));
+	}
+
+
+	/**
+	 * Tests that the expired and empty filters match the seed packets counted by the today tab, a pack 
+	 * whose number remaining has not been recorded not being empty.
+	 */
+	@Test
+	public void testExpiredAndEmptyMatchTheStatistics() {
+
+		// Given
+		SeedPacketSummary unrecorded = seedPacket(4L, "Vegetable", "Kings", null, null, 2030, 100, null);
+		seedPackets = asList(carrot, parsnip, sweetPea, unrecorded);
+		SeedBankStatistics statistics = SeedBankStatistics.of(SeedBankSnapshot.of(seedPackets), TODAY);
+
+		// Then
+		assertEquals("Expect the unrecorded pack not to be empty", asList(parsnip), 
+				apply(new SeedPacketFilter(null, null, null, null, false, true)));
+		assertEquals("Expect the same number of empty packs", statistics.getEmpty(), 
+				apply(new SeedPacketFilter(null, null, null, null, false, true)).size());
+		assertEquals("Expect the same number of expired packs", statistics.getExpired(), 
+				apply(new SeedPacketFilter(null, null, null, null, true, false)).size());
+	}
+
+
+	/*
+	 * Private helper method to apply a filter to the seed packets.
+	 */
+	private List<SeedPacketSummary> apply(SeedPacketFilter filter) {
+		Predicate<SeedPacketSummary> predicate = filter.compile(TODAY);
+		return seedPackets.stream().filter(predicate).collect(toList());
+	}
+
+
+	/*
+	 * Private helper method to create a seed packet summary with the fields which can be filtered.
+	 */
+	private static SeedPacketSummary seedPacket(Long id, String type, String manufacturer, Month indoorsFrom, 
+			Month indoorsUntil, Integer expirationDate, Integer packSize, Integer numberRemaining) {
+		return new SeedPacketSummary(id, "Seed packet " + id, type, manufacturer, packSize, numberRemaining, 
+				expirationDate, indoorsFrom, indoorsUntil, null, null, null, null, null, null);
+	}
+
+}
@@ -0,0 +1,224 @@
+package application.seeds;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.io.StringReader;
+import java.time.Month;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.hibernate.Session;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+
+/**
+ * Tests for the {@link SeedPacketImportService}.
+ */
+public class TestSeedPacketImportService {
+
+	@Mock private SeedPacketRepository seedPacketRepository;
+	@Mock private SeedPacketService seedPacketService;
+	@Mock private PlatformTransactionManager transactionManager;
+	@Mock private TransactionStatus transactionStatus;
+	@Mock private EntityManager entityManager;
+	@Mock private Session session;
+	@Spy private SeedPacketValidator seedPacketValidator = new SeedPacketValidator();
+	@Spy private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+	@InjectMocks private SeedPacketImportService seedPacketImportService;
+
+	private static final String HEADER = "name,type,pack_size,number_remaining,expiration_date,"
+			+ "harvest_start_month,harvest_end_month,description\n";
+
+
+	/**
+	 * Initialises the mock objects, writing in chunks of 2 and committing every 4 rows.
+	 */
+	@Before
+	public void init() {
+		initMocks(this);
+		setField(seedPacketImportService, "chunkSize", 2);
+		setField(seedPacketImportService, "commitInterval", 4);
+		when(seedPacketRepository.findAllNames()).thenReturn(Collections.singletonList("Existing"));
+		when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+		when(entityManager.unwrap(Session.class)).thenReturn(session);
+	}
+
+
+	/**
+	 * Tests that valid rows of a CSV catalog are written in batches, and invalid rows are reported.
+	 */
+	@Test
+	public void testImportCsv() throws Exception {
+
+		// Given
+		String csv = HEADER
+				+ "Pea 1,Vegetable,10,5,2030,June,August,\"Climbing, with \"\"sugar\"\" pods\nSown in spring\"\n"
+				+ "Pea 2,Vegetable,,,,,,\n"
+				+ "Pea 3,Vegetable,ten,,,,,\n"          // Invalid pack size
+				+ "Existing,Vegetable,,,,,,\n"          // Already in the database
+				+ "Pea 4,,,,,,,\n"                      // No type
+				+ "\n"
+				+ "Pea 5,Vegetable,,,,6,,\n"             // Incomplete harvest window
+				+ "Pea 2,Vegetable,,,,,,\n"             // Duplicated in the file
+				+ "Pea 6,Vegetable,,,,,,\n"
+				+ "Pea 7,Vegetable,,,,,,\n"
+				+ "Pea 8,Vegetable,,,,,,\r\n"
+				+ "Pea 9,Vegetable,,,,,,";
+
+		// When
+		SeedPacketImportReport report = seedPacketImportService.importCatalog(CatalogReader.csv(new StringReader(csv)));
+
+		// Then
+		assertEquals("Expect every row to be read, ignoring blank lines", 11, report.getRowsRead());
+		assertEquals("Expect the valid rows to be imported", 6, report.getRowsImported());
+		assertEquals("Expect the invalid rows to be reported", asList(3, 4, 5, 6, 7), 
+				report.getErrors().stream().map(SeedPacketImportReport.RowError::getRow).collect(toList()));
+		assertEquals(asList("ten is not a valid pack size."), report.getErrors().get(0).getMessages());
+		assertEquals(asList("Existing already exists in the database."), report.getErrors().get(1).getMessages());
+		assertEquals(asList("Type must be set"), report.getErrors().get(2).getMessages());
+		assertEquals(asList("Harvesting times are incomplete."), report.getErrors().get(3).getMessages());
+		assertEquals(asList("Pea 2 appears more than once in the catalog."), report.getErrors().get(4).getMessages());
+
+		ArgumentCaptor<SeedPacket> captor = ArgumentCaptor.forClass(SeedPacket.class);
+		verify(entityManager, times(6)).persist(captor.capture());
+		SeedPacket first = captor.getAllValues().get(0);
+		assertEquals("Climbing, with \"sugar\" pods\nSown in spring", first.getDescription());
+		assertEquals(Integer.valueOf(10), first.getPackSize());
+		assertEquals(Month.JUNE, first.getHarvestStartMonth());
+		assertEquals(Integer.valueOf(0), captor.getAllValues().get(1).getPackSize());
+
+		verify(transactionManager, times(2)).commit(transactionStatus); // The first four valid rows, then the remaining two
+		verify(session, times(2)).setJdbcBatchSize(2);
+		verify(seedPacketService).refreshIndexes();
+	}
+
+
+	/**
+	 * Tests that a JSON catalog, either an array or newline delimited, is imported.
+	 */
+	@Test
+	public void testImportJson() throws Exception {
+
+		// Given
+		String array = "[{\"name\": \"Lavender\", \"type\": \"Herb\", \"packSize\": 50, \"floweringStartMonth\": \"JUNE\", "
+				+ "\"floweringEndMonth\": 8, \"id\": 99}, {\"name\": \"Thyme\", \"type\": \"Herb\", \"packSize\": null}]";
+		String ndjson = "{\"name\": \"Sage\", \"type\": \"Herb\"}\n{\"name\": \"Mint\", \"type\": \"Herb\", \"harvestStartMonth\": \"Summer\"}\n";
+
+		// When
+		SeedPacketImportReport arrayReport = seedPacketImportService.importCatalog(CatalogReader.json(new StringReader(array)));
+		SeedPacketImportReport ndjsonReport = seedPacketImportService.importCatalog(CatalogReader.json(new StringReader(ndjson)));
+
+		// Then
+		assertEquals("Expect both rows to be imported", 2, arrayReport.getRowsImported());
+		assertEquals("Expect the valid row to be imported", 1, ndjsonReport.getRowsImported());
+		assertEquals(asList("Summer is not a valid month."), 
+				ndjsonReport.getErrors().get(0).getMessages());
+
+		ArgumentCaptor<SeedPacket> captor = ArgumentCaptor.forClass(SeedPacket.class);
+		verify(entityManager, times(3)).persist(captor.capture());
+		SeedPacket lavender = captor.getAllValues().get(0);
+		assertEquals(null, lavender.getId());
+		assertEquals(Integer.valueOf(50), lavender.getPackSize());
+		assertEquals(Month.AUGUST, lavender.getFloweringEndMonth());
+	}
+
+
+	/**
+	 * Tests that names are compared ignoring case, as the database compares them.
+	 */
+	@Test
+	public void testNamesIgnoreCase() throws Exception {
+
+		// Given
+		String csv = HEADER + "existing,Vegetable,,,,,,
+Pea 1,Vegetable,,,,,,
+PEA 1,Vegetable,,,,,,
+";
+
+		// When
+		SeedPacketImportReport report = seedPacketImportService.importCatalog(CatalogReader.csv(new StringReader(csv)));
+
+		// Then
+		assertEquals("Expect only the new name to be imported", 1, report.getRowsImported());
+		assertEquals(asList("existing already exists in the database."), report.getErrors().get(0).getMessages());
+		assertEquals(asList("PEA 1 appears more than once in the catalog."), report.getErrors().get(1).getMessages());
+	}
+
+
+	/**
+	 * Tests that if the database rejects a batch, it is retried a chunk and then a row at a time, so that 
+	 * only the offending row is reported as not imported.
+	 */
+	@Test
+	public void testRejectedRowsAreRetried() throws Exception {
+
+		// Given
+		doThrow(new PersistenceException("Duplicate entry")).when(entityManager).persist(argThat((SeedPacket seedPacket) -> "Pea 3".equals(seedPacket.getName())));
+		String csv = HEADER + "Pea 1,Vegetable,,,,,,
+Pea 2,Vegetable,,,,,,
+Pea 3,Vegetable,,,,,,
+Pea 4,Vegetable,,,,,,
+";
+
+		// When
+		SeedPacketImportReport report = seedPacketImportService.importCatalog(CatalogReader.csv(new StringReader(csv)));
+
+		// Then
+		assertEquals("Expect the other rows to be imported", 3, report.getRowsImported());
+		assertEquals("Expect only the offending row to be reported", asList(3), 
+				report.getErrors().stream().map(SeedPacketImportReport.RowError::getRow).collect(toList()));
+		assertEquals(asList("Not imported as the database rejected it: Duplicate entry"), report.getErrors().get(0).getMessages());
+		verify(transactionManager, times(2)).commit(transactionStatus); // The first chunk, then the last row of the second
+		verify(seedPacketService).refreshIndexes();
+	}
+
+
+	/**
+	 * Tests that if no transaction can be started, the rows are reported as not imported, without retrying 
+	 * them.
+	 */
+	@Test
+	public void testRejectedBatch() throws Exception {
+
+		// Given
+		doThrow(new CannotCreateTransactionException("Database unavailable")).when(transactionManager).getTransaction(any());
+		String csv = HEADER + "Pea 1,Vegetable,,,,,,\nPea 2,Vegetable,,,,,,\n";
+
+		// When
+		SeedPacketImportReport report = seedPacketImportService.importCatalog(CatalogReader.csv(new StringReader(csv)));
+
+		// Then
+		assertEquals(0, report.getRowsImported());
+		List<SeedPacketImportReport.RowError> errors = report.getErrors();
+		assertEquals(2, errors.size());
+		assertEquals(2, errors.get(1).getRow());
+		verify(transactionManager).getTransaction(any());
+		verify(seedPacketService, never()).refreshIndexes();
+	}
+
+}
@@ -0,0 +1,65 @@
+package application.seeds;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+
+/**
+ * Tests for the {@link SeedPacketNameResolver}.
+ */
+public class TestSeedPacketNameResolver {
+
+
+	/**
+	 * Tests that rebuilding the resolver replaces all of the names it knows.
+	 */
+	@Test
+	public void testRebuild() {
+
+		// Given
+		SeedPacketNameResolver resolver = new SeedPacketNameResolver();
+		resolver.put(9L, "Deleted elsewhere");
+
+		// When
+		resolver.rebuild(Arrays.asList(summary(1L, "Carrot"), summary(2L, "Parsnip")));
+
+		// Then
+		assertEquals("Expect both names to be loaded", 2, resolver.size());
+		assertEquals("Expect Carrot to be resolved", "Carrot", resolver.getName(1L).get());
+		assertFalse("Expect the previous names to be discarded", resolver.getName(9L).isPresent());
+	}
+
+
+	/**
+	 * Tests that renamed and deleted seed packets are resolved accordingly.
+	 */
+	@Test
+	public void testRenameAndRemove() {
+
+		// Given
+		SeedPacketNameResolver resolver = new SeedPacketNameResolver();
+		resolver.rebuild(Arrays.asList(summary(1L, "Carrot"), summary(2L, "Parsnip")));
+
+		// When
+		resolver.put(1L, "Carrot Nantes");
+		resolver.remove(2L);
+
+		// Then
+		assertEquals("Expect the new name to be resolved", "Carrot Nantes", resolver.getName(1L).get());
+		assertFalse("Expect the deleted seed packet not to be resolved", resolver.getName(2L).isPresent());
+		assertFalse("Expect a missing ID not to be resolved", resolver.getName(null).isPresent());
+	}
+
+
+	/*
+	 * Private helper method to create a seed packet summary with the specified ID and name.
+	 */
+	private static SeedPacketSummary summary(Long id, String name) {
+		return new SeedPacketSummary(id, name, null, null, null, null, null, null, null, null, null, null, null, null, null);
+	}
+
+}
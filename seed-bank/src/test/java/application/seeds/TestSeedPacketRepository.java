@@ -0,0 +1,137 @@
+package application.seeds;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import application.integration.support.SeedPacketBuilder;
+
+
+/**
+ * Tests for the queries of the {@link SeedPacketRepository} used when the catalog is paged, against a
+ * database migrated by Flyway, so that the months are compared as they are stored.
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+public class TestSeedPacketRepository {
+
+	private static final LocalDate TODAY = LocalDate.of(2020, Month.DECEMBER, 1);
+
+	@Autowired private SeedPacketRepository seedPacketRepository;
+
+
+	/**
+	 * Saves a tomato sown indoors from February to April, a broad bean sown outdoors from November to
+	 * February, expired and empty, and a pea with no calendar.
+	 */
+	@Before
+	public void init() {
+		SeedPacket tomato = new SeedPacketBuilder().withName("Tomato").withType("Tomato").withPackSize(20).withNumberRemaining(10).build();
+		tomato.setSowingIndoorsStartMonth(Month.FEBRUARY);
+		tomato.setSowingIndoorsEndMonth(Month.APRIL);
+		tomato.setExpirationDate(2030);
+		seedPacketRepository.save(tomato);
+
+		SeedPacket broadBean = new SeedPacketBuilder().withName("Broad Bean").withType("Bean").withPackSize(20).withNumberRemaining(0).build();
+		broadBean.setSowingOutdoorsStartMonth(Month.NOVEMBER);
+		broadBean.setSowingOutdoorsEndMonth(Month.FEBRUARY);
+		broadBean.setExpirationDate(2019);
+		seedPacketRepository.save(broadBean);
+
+		seedPacketRepository.save(new SeedPacketBuilder().withName("Pea").withType("Pea").build());
+	}
+
+
+	/**
+	 * Tests that windows are matched in the months they include, including windows which wrap the new year.
+	 */
+	@Test
+	public void testFindSummariesInWindow() {
+
+		// Then
+		assertEquals("Expect the tomato in its window", singletonList("Tomato"),
+				names(seedPacketRepository.findSummariesInWindow(CalendarWindow.SOWING_INDOORS, Month.MARCH)));
+		assertEquals("Expect nothing outside the window", asList(),
+				names(seedPacketRepository.findSummariesInWindow(CalendarWindow.SOWING_INDOORS, Month.MAY)));
+		assertEquals("Expect the broad bean in December", singletonList("Broad Bean"),
+				names(seedPacketRepository.findSummariesInWindow(CalendarWindow.SOWING_OUTDOORS, Month.DECEMBER)));
+		assertEquals("Expect the broad bean in January", singletonList("Broad Bean"),
+				names(seedPacketRepository.findSummariesInWindow(CalendarWindow.SOWING_OUTDOORS, Month.JANUARY)));
+		assertEquals("Expect nothing between the ends of a wrapped window", asList(),
+				names(seedPacketRepository.findSummariesInWindow(CalendarWindow.SOWING_OUTDOORS, Month.JUNE)));
+	}
+
+
+	/**
+	 * Tests that only the criteria set are applied, and the summaries returned sorted by name.
+	 */
+	@Test
+	public void testFindSummaries() {
+
+		// Then
+		assertEquals("Expect every seed packet without criteria, sorted by name", asList("Broad Bean", "Pea", "Tomato"),
+				names(seedPacketRepository.findSummaries(new SeedPacketFilter(null, null, null, null, false, false), null, TODAY, 10)));
+		assertEquals("Expect the type to be matched", singletonList("Pea"),
+				names(seedPacketRepository.findSummaries(new SeedPacketFilter("Pea", null, null, null, false, false), null, TODAY, 10)));
+		assertEquals("Expect the current month to be used for the window", singletonList("Broad Bean"),
+				names(seedPacketRepository.findSummaries(new SeedPacketFilter(null, null, CalendarWindow.SOWING_OUTDOORS, null, false, false), null, TODAY, 10)));
+		assertEquals("Expect the expired seed packets", singletonList("Broad Bean"),
+				names(seedPacketRepository.findSummaries(new SeedPacketFilter(null, null, null, null, true, false), null, TODAY, 10)));
+		assertEquals("Expect the empty seed packets", singletonList("Broad Bean"),
+				names(seedPacketRepository.findSummaries(new SeedPacketFilter(null, null, null, null, false, true), null, TODAY, 10)));
+		assertEquals("Expect the limit to be applied", singletonList("Broad Bean"),
+				names(seedPacketRepository.findSummaries(new SeedPacketFilter(null, null, null, null, false, false), null, TODAY, 1)));
+	}
+
+
+	/**
+	 * Tests that the counts and distinct values match those of the seed packets saved.
+	 */
+	@Test
+	public void testCounts() {
+
+		// Then
+		assertEquals("Expect the broad bean to be expired", 1, seedPacketRepository.countExpiredBefore(TODAY.getYear()));
+		assertEquals("Expect the broad bean to be empty", 1, seedPacketRepository.countEmpty());
+		assertEquals("Expect the types in order", asList("Bean", "Pea", "Tomato"), seedPacketRepository.findDistinctTypes());
+	}
+
+
+	/**
+	 * Tests that names are matched from their start ignoring case, with the wildcards escaped, and that 
+	 * no more than a page of names is returned.
+	 */
+	@Test
+	public void testFindNamesLike() {
+
+		// Then
+		assertEquals("Expect the name to be matched ignoring case", singletonList("Broad Bean"), 
+				names(seedPacketRepository.findNamesLike("b%", PageRequest.of(0, 10))));
+		assertEquals("Expect only the first page, sorted by name", asList("Broad Bean", "Pea"), 
+				names(seedPacketRepository.findNamesLike("%", PageRequest.of(0, 2))));
+		assertEquals("Expect an escaped wildcard to be matched literally", asList(), 
+				names(seedPacketRepository.findNamesLike("!%%", PageRequest.of(0, 10))));
+	}
+
+
+	/*
+	 * Private helper method to list the names of the seed packets.
+	 */
+	private static List<String> names(List<? extends SeedPacketName> seedPackets) {
+		return seedPackets.stream().map(SeedPacketName::getName).collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,150 @@
+package application.seeds;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+
+/**
+ * Tests for the {@link SeedPacketSearchService}.
+ */
+public class TestSeedPacketSearchService {
+
+	@Mock private SeedPacketRepository seedPacketRepository;
+
+	@InjectMocks private SeedPacketSearchService seedPacketSearchService;
+
+	private SeedPacket sweetPea = seedPacket(1L, "Sweet Pea", "Lathyrus odoratus", "climbing, scented", "A fragrant annual climber.");
+	private SeedPacket runnerBean = seedPacket(2L, "Runner Bean", "Phaseolus coccineus", "climbing, edible", "Vigorous climbing bean.");
+	private SeedPacket lavender = seedPacket(3L, "Lavender", "Lavandula angustifolia", "drought tolerant, scented", "Perennial shrub.");
+
+
+	/**
+	 * Initialises the mock objects, and indexes the seed packets.
+	 */
+	@Before
+	public void init() {
+		initMocks(this);
+		seedPacketSearchService.rebuild(asList(sweetPea, runnerBean, lavender));
+	}
+
+
+	/**
+	 * Tests that a search matches the start of words across all of the indexed fields.
+	 */
+	@Test
+	public void testPrefixSearch() {
+		assertEquals("Expect both climbers to be found, equally ranked", asList(1L, 2L), seedPacketSearchService.search("climb"));
+		assertEquals("Expect the latin name to be searched", asList(3L), seedPacketSearchService.search("lavand"));
+		assertEquals("Expect the keywords to be searched", asList(3L), seedPacketSearchService.search("drought"));
+	}
+
+
+	/**
+	 * Tests that every word of the query must match.
+	 */
+	@Test
+	public void testAllWordsMustMatch() {
+		assertEquals("Expect only the scented climber", asList(1L), seedPacketSearchService.search("Scented, CLIMBING"));
+		assertTrue("Expect no matches", seedPacketSearchService.search("scented bean").isEmpty());
+	}
+
+
+	/**
+	 * Tests that matches on the name are ranked above matches elsewhere.
+	 */
+	@Test
+	public void testRanking() {
+
+		// Given
+		SeedPacket beanSalad = seedPacket(4L, "Salad Leaves", null, null, "Pairs well with a bean.");
+		seedPacketSearchService.index(beanSalad);
+
+		// When / Then
+		assertEquals("Expect the name match first", asList(2L, 4L), seedPacketSearchService.search("bean"));
+	}
+
+
+	/**
+	 * Tests that re-indexing and removing a seed packet updates the index incrementally.
+	 */
+	@Test
+	public void testIndexAndRemove() {
+
+		// Given
+		lavender.setKeywords("bee friendly");
+
+		// When
+		seedPacketSearchService.index(lavender);
+
+		// Then
+		assertTrue("Expect the old keywords to be removed", seedPacketSearchService.search("drought").isEmpty());
+		assertEquals("Expect the new keywords to be found", asList(3L), seedPacketSearchService.search("bee"));
+
+		// When
+		seedPacketSearchService.remove(lavender);
+
+		// Then
+		assertTrue("Expect the seed packet to be removed", seedPacketSearchService.search("lavender").isEmpty());
+	}
+
+
+	/**
+	 * Tests that searches find nothing until the index has been built, rather than building it on 
+	 * demand, and that it is built from just the text of the seed packets.
+	 */
+	@Test
+	public void testIndexIsNotReadyUntilBuilt() {
+
+		// Given
+		SeedPacketSearchService unindexedSearchService = new SeedPacketSearchService();
+		setField(unindexedSearchService, "seedPacketRepository", seedPacketRepository);
+		when(seedPacketRepository.findAllText()).thenReturn(Collections.singletonList(lavender));
+
+		// When
+		List<Long> beforeBuilding = unindexedSearchService.search("lavender");
+
+		// Then
+		assertFalse("Expect the index not to be ready", unindexedSearchService.isReady());
+		assertTrue("Expect nothing to be found", beforeBuilding.isEmpty());
+		verify(seedPacketRepository, never()).findAllText();
+		verify(seedPacketRepository, never()).findAll();
+
+		// When
+		unindexedSearchService.rebuild();
+
+		// Then
+		assertTrue("Expect the index to be ready", unindexedSearchService.isReady());
+		assertTrue("Expect waiting callers to be released", unindexedSearchService.whenReady().isDone());
+		assertEquals("Expect the seed packet to be found", asList(3L), unindexedSearchService.search("perennial"));
+	}
+
+
+	/*
+	 * Private helper method to create a seed packet with the specified text fields.
+	 */
+	private static SeedPacket seedPacket(Long id, String name, String latinName, String keywords, String description) {
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(id);
+		seedPacket.setName(name);
+		seedPacket.setLatinName(latinName);
+		seedPacket.setKeywords(keywords);
+		seedPacket.setDescription(description);
+		return seedPacket;
+	}
+
+}
@@ -1,19 +1,36 @@
 package application.seeds;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
+import java.time.Month;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import application.events.BulkChangeEvent;
+import application.events.ChangeType;
 import application.seeds.SeedPacket;
 import application.seeds.SeedPacketRepository;
 import application.seeds.SeedPacketService;
@@ -25,6 +42,11 @@ import application.seeds.SeedPacketService;
 public class TestSeedPacketService  {
 
 	@Mock private SeedPacketRepository seedPacketRepository;
+	@Mock private ApplicationEventPublisher eventPublisher;
+	@Spy private SeedPacketCache seedPacketCache = new SeedPacketCache(true, 100);
+	@Spy private SeedPacketCalendarIndex seedPacketCalendarIndex = new SeedPacketCalendarIndex();
+	@Spy private SeedPacketSearchService seedPacketSearchService = new SeedPacketSearchService();
+	@Spy private SeedPacketNameResolver seedPacketNameResolver = new SeedPacketNameResolver();
 	
 	@InjectMocks private SeedPacketService seedPacketService;
 	
@@ -34,6 +56,7 @@ public class TestSeedPacketService  {
 	@Before
 	public void init() {
 	    initMocks(this);
+	    when(seedPacketRepository.save(any(SeedPacket.class))).then(returnsFirstArg());
 	}
 	
 	
@@ -56,7 +79,8 @@ public class TestSeedPacketService  {
 	
 	
 	/**
-	 * Tests that the {@link SeedPacketService#loadAll()} method functions correctly.
+	 * Tests that the {@link SeedPacketService#loadAll()} method functions correctly, leaving the cache 
+	 * and indexes as they are.
 	 */
 	@Test
 	public void testLoadAll() {
@@ -74,6 +98,7 @@ public class TestSeedPacketService  {
 		verify(seedPacketRepository).findAll();
 		assertEquals("Expect only one entry to be returned", 1, loadedSeedPackets.size());
 		assertEquals("Expect SeedPacket to be returned", seedPacketInRepository, loadedSeedPackets.get(0));	
+		verifyZeroInteractions(seedPacketCache, seedPacketCalendarIndex, seedPacketSearchService, seedPacketNameResolver);
 	}
 	
 	
@@ -135,4 +160,223 @@ public class TestSeedPacketService  {
 		verify(seedPacketRepository).findById(id);
 	}
 	
-}
\ No newline at end of file
+	
+	/**
+	 * Tests that once a {@link SeedPacket} has been loaded, subsequent lookups by ID and name are 
+	 * answered from the cache rather than the database.
+	 */
+	@Test
+	public void testLoadByIdIsCached() {
+		
+		// Given
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(id);
+		seedPacket.setName(name);
+		when(seedPacketRepository.findById(id)).thenReturn(Optional.of(seedPacket));
+		
+		// When
+		seedPacketService.loadById(id);
+		Optional<SeedPacket> loadedById = seedPacketService.loadById(id);
+		SeedPacket loadedByName = seedPacketService.loadByName(name);
+		boolean exists = seedPacketService.exists(name);
+		
+		// Then
+		verify(seedPacketRepository).findById(id);
+		verify(seedPacketRepository, never()).findByName(name);
+		verify(seedPacketRepository, never()).existsByName(name);
+		assertEquals("Expect the cached SeedPacket to be returned by ID", name, loadedById.get().getName());
+		assertEquals("Expect the cached SeedPacket to be returned by name", id, loadedByName.getId());
+		assertTrue("Expect the cached SeedPacket to exist", exists);
+		assertEquals("Expect three cache hits", 3, seedPacketCache.getHits());
+	}
+	
+	
+	/**
+	 * Tests that deleting a {@link SeedPacket} removes it from the cache.
+	 */
+	@Test
+	public void testDeleteEvictsFromCache() {
+		
+		// Given
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(id);
+		seedPacket.setName(name);
+		seedPacketService.save(seedPacket);
+		
+		// When
+		seedPacketService.delete(seedPacket);
+		seedPacketService.loadById(id);
+		
+		// Then
+		verify(seedPacketRepository).findById(id);
+		assertEquals("Expect the cache to be empty", 0, seedPacketCache.size());
+	}
+	
+	
+	/**
+	 * Tests that the {@link SeedPacketService#loadAllSummaries()} method loads the summaries in a single
+	 * query, without loading the full seed packets, and uses them to rebuild the calendar index.
+	 */
+	@Test
+	public void testLoadAllSummaries() {
+		
+		// Given
+		SeedPacketSummary summary = new SeedPacketSummary(id, name, "Type", null, 10, 5, 2030, 
+				Month.MARCH, Month.APRIL, null, null, null, null, null, null);
+		when(seedPacketRepository.findAllSummaries()).thenReturn(Collections.singletonList(summary));
+		
+		// When
+		List<SeedPacketSummary> summaries = seedPacketService.loadAllSummaries();
+		
+		// Then
+		verify(seedPacketRepository, never()).findAll();
+		assertEquals("Expect the summary to be returned", Collections.singletonList(summary), summaries);
+		assertEquals("Expect the calendar index to be rebuilt from the summaries", 
+				Collections.singleton(id), seedPacketCalendarIndex.getIdsInWindow(CalendarWindow.SOWING_INDOORS, Month.APRIL));
+		assertEquals("Expect the names to be loaded from the summaries", name, seedPacketNameResolver.getName(id).get());
+	}
+	
+	
+	/**
+	 * Tests that the {@link SeedPacketService#refreshIndexes()} method rebuilds the indexes from the 
+	 * database, and publishes a bulk change so that the seed packets shown are reloaded.
+	 */
+	@Test
+	public void testRefreshIndexes() {
+		
+		// Given
+		SeedPacketSummary summary = new SeedPacketSummary(id, name, "Type", null, 10, 5, 2030, 
+				Month.MARCH, Month.APRIL, null, null, null, null, null, null);
+		when(seedPacketRepository.findAllSummaries()).thenReturn(Collections.singletonList(summary));
+		setField(seedPacketSearchService, "seedPacketRepository", seedPacketRepository);
+		
+		// When
+		seedPacketService.refreshIndexes();
+		
+		// Then
+		assertEquals("Expect the names to be rebuilt", name, seedPacketNameResolver.getName(id).get());
+		assertTrue("Expect the search index to be rebuilt", seedPacketSearchService.isReady());
+		verify(eventPublisher).publishEvent(argThat((BulkChangeEvent<?> event) -> !event.isRemote()));
+	}
+
+
+	/**
+	 * Tests that the {@link SeedPacketService#applyRemoteBulkChange()} method rebuilds the indexes 
+	 * once another client has imported seed packets, and publishes the bulk change as remote so that 
+	 * it is not logged again.
+	 */
+	@Test
+	public void testApplyRemoteBulkChange() {
+		
+		// Given
+		SeedPacketSummary summary = new SeedPacketSummary(id, name, "Type", null, 10, 5, 2030, 
+				Month.MARCH, Month.APRIL, null, null, null, null, null, null);
+		when(seedPacketRepository.findAllSummaries()).thenReturn(Collections.singletonList(summary));
+		setField(seedPacketSearchService, "seedPacketRepository", seedPacketRepository);
+		
+		// When
+		seedPacketService.applyRemoteBulkChange();
+		
+		// Then
+		assertEquals("Expect the names to be rebuilt", name, seedPacketNameResolver.getName(id).get());
+		assertTrue("Expect the search index to be rebuilt", seedPacketSearchService.isReady());
+		verify(eventPublisher).publishEvent(argThat((BulkChangeEvent<?> event) -> event.isRemote()));
+	}
+	
+
+
+	/**
+	 * Tests that the {@link SeedPacketService#deductSeeds(Long, int)} method deducts the seeds in the 
+	 * database, and replaces the cached copy of the packet with the updated one once the transaction 
+	 * has committed.
+	 */
+	@Test
+	public void testDeductSeeds() {
+		
+		// Given
+		SeedPacket staleSeedPacket = new SeedPacket();
+		staleSeedPacket.setId(id);
+		staleSeedPacket.setName(name);
+		staleSeedPacket.setNumberRemaining(10);
+		seedPacketService.save(staleSeedPacket);
+		
+		SeedPacket updatedSeedPacket = new SeedPacket();
+		updatedSeedPacket.setId(id);
+		updatedSeedPacket.setName(name);
+		updatedSeedPacket.setNumberRemaining(6);
+		when(seedPacketRepository.deductNumberRemaining(id, 4)).thenReturn(1);
+		when(seedPacketRepository.findById(id)).thenReturn(Optional.of(updatedSeedPacket));
+		
+		// When
+		TransactionSynchronizationManager.initSynchronization();
+		Optional<SeedPacket> deducted;
+		try {
+			deducted = seedPacketService.deductSeeds(id, 4);
+			
+			// Then
+			assertEquals("Expect the cached packet to be unchanged until committed", Integer.valueOf(10), 
+					seedPacketService.loadById(id).get().getNumberRemaining());
+			
+			// When
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		
+		// Then
+		verify(seedPacketRepository).deductNumberRemaining(id, 4);
+		verify(seedPacketRepository, never()).save(updatedSeedPacket);
+		assertEquals("Expect the updated packet to be returned", updatedSeedPacket, deducted.get());
+		assertEquals("Expect the updated packet to be cached", Integer.valueOf(6), seedPacketService.loadById(id).get().getNumberRemaining());
+	}
+	
+	
+	/**
+	 * Tests that deducting seeds from a packet with no number remaining recorded changes nothing.
+	 */
+	@Test
+	public void testDeductSeedsWithoutNumberRemaining() {
+		
+		// Given
+		when(seedPacketRepository.deductNumberRemaining(id, 4)).thenReturn(0);
+		
+		// When
+		Optional<SeedPacket> deducted = seedPacketService.deductSeeds(id, 4);
+		
+		// Then
+		assertFalse("Expect no packet to be updated", deducted.isPresent());
+		verify(seedPacketRepository, never()).findById(id);
+	}
+	
+
+	/**
+	 * Tests that a seed packet changed by another client is reloaded into the cache and indexes, and 
+	 * removed from them once deleted.
+	 */
+	@Test
+	public void testApplyRemoteChange() {
+		
+		// Given
+		SeedPacket seedPacket = new SeedPacket();
+		seedPacket.setId(id);
+		seedPacket.setName(name);
+		when(seedPacketRepository.findById(id)).thenReturn(Optional.of(seedPacket));
+		
+		// When
+		seedPacketService.applyRemoteChange(id, ChangeType.UPDATED);
+		
+		// Then
+		assertEquals("Expect the packet to be cached", name, seedPacketService.loadById(id).get().getName());
+		verify(seedPacketRepository).findById(id);
+		assertEquals("Expect the name to be known", name, seedPacketNameResolver.getName(id).get());
+		
+		// When
+		seedPacketService.applyRemoteChange(id, ChangeType.DELETED);
+		
+		// Then
+		assertEquals("Expect the packet to be evicted", 0, seedPacketCache.size());
+		assertFalse("Expect the name to be removed", seedPacketNameResolver.getName(id).isPresent());
+		verify(seedPacketRepository, never()).save(any(SeedPacket.class));
+	}
+	
+}
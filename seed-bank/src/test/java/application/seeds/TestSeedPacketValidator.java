@@ -0,0 +1,84 @@
+package application.seeds;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Month;
+
+import org.junit.Test;
+
+
+/**
+ * Tests for the {@link SeedPacketValidator}.
+ */
+public class TestSeedPacketValidator {
+
+	private SeedPacketValidator seedPacketValidator = new SeedPacketValidator();
+
+
+	/**
+	 * Tests that valid input, including input with no optional values set, passes validation.
+	 */
+	@Test
+	public void testValidInput() {
+
+		// Given
+		SeedPacketInput input = new SeedPacketInput();
+		input.setName("Sweet Pea");
+		input.setPackSize("20");
+		input.setNumberRemaining("20");
+		input.setExpirationDate("2030");
+		input.setHarvestStartMonth(Month.JUNE);
+		input.setHarvestEndMonth(Month.AUGUST);
+
+		// When / Then
+		assertTrue("Expect no failures", seedPacketValidator.validate(input, false).isEmpty());
+		assertTrue("Expect no failures", seedPacketValidator.validate(new SeedPacketInput(), false).isEmpty());
+	}
+
+
+	/**
+	 * Tests that each of the rules is applied, with the same messages as the edit form has always displayed.
+	 */
+	@Test
+	public void testInvalidInput() {
+
+		// Given
+		SeedPacketInput input = new SeedPacketInput();
+		input.setName("Sweet Pea");
+		input.setPackSize("ten");
+		input.setNumberRemaining("-1");
+		input.setExpirationDate("1999");
+		input.setSowingIndoorsStartMonth(Month.MARCH);
+		input.setFloweringEndMonth(Month.JULY);
+
+		// When / Then
+		assertEquals("Expect a failure for each rule broken", asList(
+				"Sweet Pea already exists in the database.",
+				"ten is not a valid pack size.",
+				"-1 is not a valid number remaining.",
+				"1999 is not a valid year.",
+				"Sowing indoor times are incomplete.",
+				"Flowering times are incomplete."), 
+				seedPacketValidator.validate(input, true));
+	}
+
+
+	/**
+	 * Tests that the number of seeds remaining cannot exceed the pack size.
+	 */
+	@Test
+	public void testMoreSeedsRemainingThanPackSize() {
+
+		// Given
+		SeedPacketInput input = new SeedPacketInput();
+		input.setPackSize("10");
+		input.setNumberRemaining("11");
+
+		// When / Then
+		assertEquals(asList("There are more seeds remaining than the pack should contain!"), 
+				seedPacketValidator.validate(input, false));
+	}
+
+}
@@ -0,0 +1,175 @@
+package application.startup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import application.currentlygrowing.CurrentlyGrowing;
+import application.currentlygrowing.CurrentlyGrowingService;
+import application.seeds.SeedPacketSearchService;
+import application.seeds.SeedPacketService;
+import application.seeds.SeedPacketSummary;
+
+
+/**
+ * Tests for the {@link InitialDataLoader}.
+ */
+public class TestInitialDataLoader {
+
+	@Mock private SeedPacketService seedPacketService;
+	@Mock private CurrentlyGrowingService currentlyGrowingService;
+	@Mock private SeedPacketSearchService seedPacketSearchService;
+	@Mock private SeedPacketSummary seedPacketSummary;
+
+	@InjectMocks private InitialDataLoader initialDataLoader;
+
+
+	/**
+	 * Initialises the mock objects.
+	 */
+	@Before
+	public void init() {
+		initMocks(this);
+	}
+
+
+	/**
+	 * Tests that the seed packets and currently growing records are fetched concurrently, by having 
+	 * each query wait for the other to start.
+	 */
+	@Test
+	public void testQueriesRunConcurrently() throws Exception {
+
+		// Given
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		CurrentlyGrowing currentlyGrowing = new CurrentlyGrowing();
+		when(seedPacketService.loadAllSummaries()).thenAnswer(invocation -> {
+			bothStarted.countDown();
+			bothStarted.await(5, TimeUnit.SECONDS);
+			return Collections.singletonList(seedPacketSummary);
+		});
+		when(currentlyGrowingService.loadAll()).thenAnswer(invocation -> {
+			bothStarted.countDown();
+			bothStarted.await(5, TimeUnit.SECONDS);
+			return Collections.singletonList(currentlyGrowing);
+		});
+
+		// When
+		InitialData initialData = initialDataLoader.load().get(2, TimeUnit.SECONDS);
+
+		// Then
+		assertEquals("Expect the seed packets", Collections.singletonList(seedPacketSummary), initialData.getSeedPackets());
+		assertEquals("Expect the currently growing records", Collections.singletonList(currentlyGrowing), initialData.getCurrentlyGrowing());
+	}
+
+
+	/**
+	 * Tests that the initial data is only fetched once.
+	 */
+	@Test
+	public void testLoadIsOnlyRunOnce() throws Exception {
+
+		// Given
+		when(seedPacketService.loadAllSummaries()).thenReturn(Collections.emptyList());
+		when(currentlyGrowingService.loadAll()).thenReturn(Collections.emptyList());
+
+		// When
+		InitialData first = initialDataLoader.load().get(2, TimeUnit.SECONDS);
+		InitialData second = initialDataLoader.load().get(2, TimeUnit.SECONDS);
+
+		// Then
+		assertSame("Expect the same data", first, second);
+		verify(seedPacketService, times(1)).loadAllSummaries();
+		verify(currentlyGrowingService, times(1)).loadAll();
+	}
+
+
+
+	/**
+	 * Tests that catalogs of at least the paged threshold are not loaded, so that they can be paged 
+	 * from the database instead.
+	 */
+	@Test
+	public void testLargeCatalogsArePaged() throws Exception {
+
+		// Given
+		setField(initialDataLoader, "pagedThreshold", 1000);
+		when(seedPacketService.count()).thenReturn(1000L);
+		when(currentlyGrowingService.loadAll()).thenReturn(Collections.emptyList());
+
+		// When
+		InitialData initialData = initialDataLoader.load().get(2, TimeUnit.SECONDS);
+
+		// Then
+		assertTrue("Expect the seed packets to be paged", initialData.isPaged());
+		assertTrue("Expect no seed packets to be loaded", initialData.getSeedPackets().isEmpty());
+		verify(seedPacketService, never()).loadAllSummaries();
+	}
+
+
+	/**
+	 * Tests that catalogs below the paged threshold are loaded into memory.
+	 */
+	@Test
+	public void testSmallCatalogsAreLoaded() throws Exception {
+
+		// Given
+		setField(initialDataLoader, "pagedThreshold", 1000);
+		when(seedPacketService.count()).thenReturn(999L);
+		when(seedPacketService.loadAllSummaries()).thenReturn(Collections.singletonList(seedPacketSummary));
+		when(currentlyGrowingService.loadAll()).thenReturn(Collections.emptyList());
+
+		// When
+		InitialData initialData = initialDataLoader.load().get(2, TimeUnit.SECONDS);
+
+		// Then
+		assertFalse("Expect the seed packets not to be paged", initialData.isPaged());
+		assertEquals("Expect the seed packets", Collections.singletonList(seedPacketSummary), initialData.getSeedPackets());
+	}
+
+
+
+	/**
+	 * Tests that the search index is built in the background at start up, without holding up the 
+	 * initial data.
+	 */
+	@Test
+	public void testSearchIndexIsBuilt() throws Exception {
+
+		// Given
+		CountDownLatch initialDataLoaded = new CountDownLatch(1);
+		CountDownLatch searchIndexBuilt = new CountDownLatch(1);
+		when(seedPacketService.loadAllSummaries()).thenReturn(Collections.emptyList());
+		when(currentlyGrowingService.loadAll()).thenReturn(Collections.emptyList());
+		doAnswer(invocation -> {
+			initialDataLoaded.await(5, TimeUnit.SECONDS);
+			searchIndexBuilt.countDown();
+			return null;
+		}).when(seedPacketSearchService).rebuild();
+
+		// When
+		initialDataLoader.load().get(2, TimeUnit.SECONDS);
+		initialDataLoaded.countDown();
+
+		// Then
+		assertTrue("Expect the search index to be built", searchIndexBuilt.await(2, TimeUnit.SECONDS));
+	}
+
+}
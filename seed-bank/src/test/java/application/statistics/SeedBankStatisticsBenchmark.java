@@ -0,0 +1,146 @@
+package application.statistics;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import application.seeds.SeedPacketSummary;
+
+
+/**
+ * Benchmarks the {@link SeedBankStatistics} against the separate streams the today tab used to run 
+ * over the seed packets, one per statistic. Not run as part of the build; run it with:
+ *
+ * <pre>
+ * mvn test-compile exec:java
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeedBankStatisticsBenchmark {
+
+	private static final LocalDate TODAY = LocalDate.of(2020, Month.APRIL, 15);
+
+	@Param({ "10000", "100000", "1000000" })
+	private int seedPackets;
+
+	private List<SeedPacketSummary> summaries;
+	private SeedBankSnapshot snapshot;
+
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(SeedBankStatisticsBenchmark.class.getSimpleName()).build()).run();
+	}
+
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		Month[] months = Month.values();
+		summaries = new ArrayList<>(seedPackets);
+		for (long id = 0; id < seedPackets; id++) {
+			summaries.add(new SeedPacketSummary(id, "Seed packet " + id, null, null, 100, random.nextInt(4) == 0 ? 0 : 50, 
+					2015 + random.nextInt(10), months[random.nextInt(12)], months[random.nextInt(12)], 
+					months[random.nextInt(12)], months[random.nextInt(12)], null, null, null, null));
+		}
+		snapshot = SeedBankSnapshot.of(summaries);
+	}
+
+
+	/**
+	 * The previous approach: a stream per statistic over the seed packets, as run by the today tab's 
+	 * initialiseSummaries before the {@link SeedBankStatistics} replaced it, with the sowing windows 
+	 * compared month by month.
+	 */
+	@Benchmark
+	public void multipleStreams(Blackhole blackhole) {
+		List<SeedPacketSummary> seedPackets = summaries;
+		LocalDate now = TODAY;
+
+		blackhole.consume(seedPackets.size());
+
+		// Ready to sow indoors
+		long numberReadyToSowIndoors = seedPackets.stream()
+				.filter(s -> s.getSowingIndoorsStartMonth() != null) // exclude any where sowing times not set
+				.filter(s -> s.getSowingIndoorsStartMonth().compareTo(now.getMonth()) <= 0 	
+				&&	s.getSowingIndoorsEndMonth().compareTo(now.getMonth()) >= 0)
+				.count();
+
+		blackhole.consume(numberReadyToSowIndoors);
+
+		// Ready to sow outdoors
+		long numberReadyToSowOutdoors = seedPackets.stream()
+				.filter(s -> s.getSowingOutdoorsStartMonth() != null) // exclude any where sowing times not set
+				.filter(s -> s.getSowingOutdoorsStartMonth().compareTo(now.getMonth()) <= 0 	
+				&&	s.getSowingOutdoorsEndMonth().compareTo(now.getMonth()) >= 0)
+				.count();
+
+		blackhole.consume(numberReadyToSowOutdoors);
+
+		// Expired
+		long numberOfExpiredPacks = seedPackets.stream()
+				.filter(s -> s.getExpirationDate() != 0) // exclude any where expiration date not set
+				.filter(s -> s.getExpirationDate().compareTo(now.getYear()) < 0)
+				.count();
+
+		blackhole.consume(numberOfExpiredPacks);
+
+		// Empty
+		long numberOfEmptyPacks = seedPackets.stream()
+				.filter(s -> s.getPackSize() > 0 && s.getNumberRemaining() == 0)
+				.count();
+
+		blackhole.consume(numberOfEmptyPacks);
+	}
+
+
+	/**
+	 * A single pass, including taking the snapshot.
+	 */
+	@Benchmark
+	public SeedBankStatistics snapshotAndSinglePass() {
+		return SeedBankStatistics.of(SeedBankSnapshot.of(summaries), TODAY);
+	}
+
+
+	/**
+	 * A single pass over a snapshot already taken.
+	 */
+	@Benchmark
+	public SeedBankStatistics singlePass() {
+		return SeedBankStatistics.of(snapshot, TODAY);
+	}
+
+
+	/**
+	 * A single pass over a snapshot already taken, counted in parallel.
+	 */
+	@Benchmark
+	public SeedBankStatistics parallelSinglePass() {
+		return SeedBankStatistics.of(snapshot, TODAY, true);
+	}
+
+}
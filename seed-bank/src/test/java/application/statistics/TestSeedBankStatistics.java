@@ -0,0 +1,83 @@
+package application.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import application.seeds.SeedPacketSummary;
+
+
+/**
+ * Tests for the {@link SeedBankStatistics}.
+ */
+public class TestSeedBankStatistics {
+
+	private static final LocalDate TODAY = LocalDate.of(2020, Month.MARCH, 15);
+
+
+	/**
+	 * Tests that each statistic is counted, treating unset values as never expired or empty.
+	 */
+	@Test
+	public void testStatistics() {
+
+		// Given
+		SeedBankSnapshot snapshot = SeedBankSnapshot.of(Arrays.asList(
+				seedPacket(1L, Month.FEBRUARY, Month.APRIL, null, null, 2030, 100, 20), 
+				seedPacket(2L, null, null, Month.MARCH, Month.MARCH, 2019, 100, 0), 
+				seedPacket(3L, Month.NOVEMBER, Month.MARCH, Month.APRIL, Month.MAY, 0, 0, 0), 
+				seedPacket(4L, null, null, null, null, null, null, null)));
+
+		// When
+		SeedBankStatistics statistics = SeedBankStatistics.of(snapshot, TODAY);
+
+		// Then
+		assertEquals("Expect every seed packet to be counted", 4, statistics.getSeedPackets());
+		assertEquals("Expect the windows including March to be counted, wrapping the new year", 2, statistics.getCanBeSownIndoors());
+		assertEquals("Expect the single month window to be counted", 1, statistics.getCanBeSownOutdoors());
+		assertEquals("Expect only the set, past expiration year to be counted", 1, statistics.getExpired());
+		assertEquals("Expect only the used up pack to be counted", 1, statistics.getEmpty());
+	}
+
+
+	/**
+	 * Tests that counting in parallel gives the same statistics as counting sequentially.
+	 */
+	@Test
+	public void testParallelMatchesSequential() {
+
+		// Given
+		Month[] months = Month.values();
+		List<SeedPacketSummary> seedPackets = new ArrayList<>();
+		for (int i = 0; i < SeedBankStatistics.PARALLEL_CHUNK_SIZE * 3 + 7; i++) {
+			seedPackets.add(seedPacket((long) i, months[i % 12], months[(i / 12) % 12], months[(i / 7) % 12], months[(i / 3) % 12], 
+					2010 + i % 20, 10, i % 5));
+		}
+		SeedBankSnapshot snapshot = SeedBankSnapshot.of(seedPackets);
+
+		// When
+		SeedBankStatistics sequential = SeedBankStatistics.of(snapshot, TODAY);
+		SeedBankStatistics parallel = SeedBankStatistics.of(snapshot, TODAY, true);
+
+		// Then
+		assertEquals("Expect the same statistics", sequential.toString(), parallel.toString());
+		assertEquals("Expect every seed packet to be counted", seedPackets.size(), parallel.getSeedPackets());
+	}
+
+
+	/*
+	 * Private helper method to create a seed packet summary with the fields counted.
+	 */
+	private static SeedPacketSummary seedPacket(Long id, Month indoorsFrom, Month indoorsUntil, Month outdoorsFrom, 
+			Month outdoorsUntil, Integer expirationDate, Integer packSize, Integer numberRemaining) {
+		return new SeedPacketSummary(id, "Seed packet " + id, null, null, packSize, numberRemaining, expirationDate, 
+				indoorsFrom, indoorsUntil, outdoorsFrom, outdoorsUntil, null, null, null, null);
+	}
+
+}
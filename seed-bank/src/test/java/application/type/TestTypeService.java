@@ -13,6 +13,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+import application.cache.ReferenceDataCache;
 
 
 /**
@@ -21,6 +24,8 @@ import org.mockito.Mock;
 public class TestTypeService  {
 
 	@Mock private TypeRepository typeRepository;
+	@Mock private ReferenceDataCache referenceDataCache;
+	@Mock private ApplicationEventPublisher eventPublisher;
 	
 	@InjectMocks private TypeService typeService;
 	
@@ -45,7 +50,8 @@ public class TestTypeService  {
 		typeService.save(typeToBeSaved);
 		
 		// Then
-		verify(typeRepository).save(typeToBeSaved);	
+		verify(typeRepository).save(typeToBeSaved);
+		verify(referenceDataCache).evict(Type.class, TypeRepository.FIND_ALL_CACHE_REGION);	
 	}
 	
 	
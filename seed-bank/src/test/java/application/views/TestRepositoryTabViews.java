@@ -68,6 +68,7 @@ public class TestRepositoryTabViews extends ApplicationTest {
 				verifyThat("#viewButton", isVisible());
 				verifyThat("#editButton", isVisible());
 				verifyThat("#deleteButton", isVisible());
+				verifyThat("#importButton", isVisible());
 			}		
 		});
 	}
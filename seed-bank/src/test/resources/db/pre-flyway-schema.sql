@@ -0,0 +1,76 @@
+-- The schema of a database created by Hibernate with ddl-auto=update, before the Flyway migrations were introduced
+
+create table if not exists seed_packet (
+	id bigint not null auto_increment,
+	name varchar(255),
+	latin_name varchar(255),
+	type varchar(255),
+	variety varchar(255),
+	manufacturer varchar(255),
+	manufacturer_code varchar(255),
+	pack_size integer,
+	number_remaining integer,
+	expiration_date integer,
+	sowing_indoors_start_month integer,
+	sowing_indoors_end_month integer,
+	sowing_outdoors_start_month integer,
+	sowing_outdoors_end_month integer,
+	harvest_start_month integer,
+	harvest_end_month integer,
+	flowering_start_month integer,
+	flowering_end_month integer,
+	keywords varchar(255),
+	description varchar(255),
+	primary key (id)
+);
+
+create table if not exists currently_growing (
+	id bigint not null auto_increment,
+	seed_packet bigint,
+	indoors bit not null,
+	number_sown integer,
+	date_sown date,
+	number_germinated integer,
+	date_germinated date,
+	number_established integer,
+	date_established date,
+	location varchar(255),
+	notes varchar(255),
+	primary key (id)
+);
+
+create table if not exists previously_growing (
+	id bigint not null,
+	seed_packet bigint,
+	indoors bit not null,
+	number_sown integer,
+	date_sown date,
+	number_germinated integer,
+	date_germinated date,
+	number_established integer,
+	date_established date,
+	location varchar(255),
+	notes varchar(255),
+	date_closed date,
+	performance_notes varchar(255),
+	star_rating integer,
+	was_successful bit not null,
+	cause_of_failure varchar(255),
+	primary key (id)
+);
+
+create table if not exists type (
+	id bigint not null auto_increment,
+	name varchar(255),
+	family varchar(255),
+	edible bit not null,
+	ornamental bit not null,
+	primary key (id)
+);
+
+create table if not exists manufacturer (
+	id bigint not null auto_increment,
+	name varchar(255),
+	url varchar(255),
+	primary key (id)
+);